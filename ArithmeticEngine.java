@@ -0,0 +1,79 @@
+/**
+ * A service-provider interface for the arithmetic kernels of {@code HugeInteger}.
+ *
+ * An engine operates on magnitudes: arrays of decimal digits in little-endian order (the least
+ * significant digit is in the zeroth element) without trailing zeros, where the empty array is
+ * zero. The input arrays must not be modified and the results must be new arrays in the same form.
+ * An engine doesn't know about signs nor about the limit of 40 digits, so it can be used for
+ * operands and results of any length; the callers apply signs and overflow policies.
+ *
+ * The engines are chosen per operation and operand size by {@code ArithmeticEngines}. Engines
+ * can be registered there or provided through {@code java.util.ServiceLoader}, in which case
+ * they need a public constructor without arguments. Engines must be thread-safe.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+public interface ArithmeticEngine
+{
+    /**
+     * The operations of an engine.
+     */
+    enum Operation
+    {
+        ADD, SUBTRACT, MULTIPLY, DIVIDE, REMAINDER
+    }
+
+    /**
+     * This method returns the name of the engine, used in reports.
+     *
+     * @return The name.
+     */
+    String name();
+
+    /**
+     * This method returns the sum of two magnitudes.
+     *
+     * @param int[] The first magnitude.
+     * @param int[] The second magnitude.
+     * @return The sum.
+     */
+    int[] add(int[] firstAddend, int[] secondAddend);
+
+    /**
+     * This method returns the difference of two magnitudes.
+     *
+     * @param int[] The minuend. It must not be less than the subtrahend.
+     * @param int[] The subtrahend.
+     * @return The difference.
+     */
+    int[] subtract(int[] minuend, int[] subtrahend);
+
+    /**
+     * This method returns the product of two magnitudes.
+     *
+     * @param int[] The multiplier.
+     * @param int[] The multiplicand.
+     * @return The product.
+     */
+    int[] multiply(int[] multiplier, int[] multiplicand);
+
+    /**
+     * This method returns the quotient of the integer division of two magnitudes.
+     *
+     * @param int[] The dividend.
+     * @param int[] The divisor. It must not be zero.
+     * @return The quotient.
+     */
+    int[] divide(int[] dividend, int[] divisor);
+
+    /**
+     * This method returns the remainder of the integer division of two magnitudes.
+     *
+     * @param int[] The dividend.
+     * @param int[] The divisor. It must not be zero.
+     * @return The remainder.
+     */
+    int[] remainder(int[] dividend, int[] divisor);
+}
@@ -0,0 +1,73 @@
+/**
+ * Tests of the interface ArithmeticEngine.
+ * 
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class ArithmeticEngineTest {
+
+    static int[] magnitude(BigInteger value) {
+        String digits = value.signum() == 0 ? "" : value.toString();
+        int[] magnitude = new int[digits.length()];
+        
+        for (int n = 0; n < magnitude.length; n++) {
+            magnitude[n] = digits.charAt(magnitude.length - 1 - n) - '0';
+        }
+        
+        return magnitude;
+    }
+    
+    private static BigInteger random(Random random, int maxDigits) {
+        return new BigInteger(1 + random.nextInt(maxDigits * 10 / 3), random);
+    }
+    
+    private static void assertOperations(ArithmeticEngine engine, BigInteger first, BigInteger second) {
+        BigInteger larger = first.max(second);
+        BigInteger smaller = first.min(second);
+        String message = engine.name() + ": " + first + ", " + second;
+        
+        assertArrayEquals(message, magnitude(first.add(second)), engine.add(magnitude(first), magnitude(second)));
+        assertArrayEquals(message, magnitude(larger.subtract(smaller)), engine.subtract(magnitude(larger), magnitude(smaller)));
+        assertArrayEquals(message, magnitude(first.multiply(second)), engine.multiply(magnitude(first), magnitude(second)));
+        
+        if (second.signum() != 0) {
+            assertArrayEquals(message, magnitude(first.divide(second)), engine.divide(magnitude(first), magnitude(second)));
+            assertArrayEquals(message, magnitude(first.remainder(second)), engine.remainder(magnitude(first), magnitude(second)));
+        }
+    }
+    
+    @Test
+    public void testRandomOperands() {
+        Random random = new Random(1);
+        
+        for (ArithmeticEngine engine : ArithmeticEngines.engines()) {
+            for (int n = 0; n < 2000; n++) {
+                int maxDigits = n % 10 == 0 ? 300 : 45;
+                assertOperations(engine, random(random, maxDigits), random(random, maxDigits));
+            }
+        }
+    }
+    
+    @Test
+    public void testEdgeOperands() {
+        BigInteger nines = BigInteger.TEN.pow(45).subtract(BigInteger.ONE);
+        BigInteger[] values = {BigInteger.ZERO, BigInteger.ONE, BigInteger.TEN.pow(9), BigInteger.TEN.pow(18).subtract(BigInteger.ONE),
+            nines, nines.multiply(nines), new BigInteger("500000000000000000000000000"), new BigInteger("999999999")};
+        
+        for (ArithmeticEngine engine : ArithmeticEngines.engines()) {
+            for (BigInteger first : values) {
+                for (BigInteger second : values) {
+                    assertOperations(engine, first, second);
+                }
+            }
+        }
+    }
+}
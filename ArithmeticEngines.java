@@ -0,0 +1,325 @@
+/**
+ * The registry of the {@code ArithmeticEngines} and the policy that selects one for every operation.
+ *
+ * The policy divides the operands in size classes by the length, in digits, of the longest operand,
+ * and keeps one engine per operation and size class. The default policy was calibrated with
+ * {@code calibrate()}: the schoolbook kernels for additions, subtractions and multiplications of up
+ * to 10 digits, the packed-limb kernels for longer multiplications and for every division, and
+ * Karatsuba's algorithm for multiplications of more than 640 digits. The last class multiplies with
+ * the NTT engine, which switches from Karatsuba's algorithm to transforms at 25000 digits. The
+ * {@code BigInteger} engine converts through strings and is never the fastest, but it's a reference
+ * for new engines. {@code calibrate()} measures every registered engine on the current machine and
+ * installs the fastest one of every class.
+ *
+ * The engines found by {@code java.util.ServiceLoader} are registered when the class is loaded.
+ * The policy is replaced as a whole, so selecting an engine is a lock-free read of an array.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public final class ArithmeticEngines
+{
+    /**
+     * The upper bounds, in digits, of the size classes of the policy. The last class has no bound.
+     */
+    static final int[] SIZE_CLASSES = {10, 20, 40, 80, 160, 320, 640, 1280, Integer.MAX_VALUE};
+
+    public static final ArithmeticEngine SCHOOLBOOK = new SchoolbookEngine();
+    public static final ArithmeticEngine PACKED_LIMBS = new PackedLimbEngine();
+    public static final ArithmeticEngine BIG_INTEGER = new BigIntegerEngine();
+    public static final ArithmeticEngine KARATSUBA = new KaratsubaEngine();
+    public static final ArithmeticEngine NTT = new NttEngine();
+
+    private static final CopyOnWriteArrayList<ArithmeticEngine> ENGINES = new CopyOnWriteArrayList<>();
+
+    /**
+     * The selected engine of every operation and size class.
+     */
+    private static volatile ArithmeticEngine[][] policy;
+
+    static
+    {
+        ENGINES.add(SCHOOLBOOK);
+        ENGINES.add(PACKED_LIMBS);
+        ENGINES.add(BIG_INTEGER);
+        ENGINES.add(KARATSUBA);
+        ENGINES.add(NTT);
+
+        for (ArithmeticEngine engine : ServiceLoader.load(ArithmeticEngine.class))
+        {
+            ENGINES.add(engine);
+        }
+
+        reset();
+    }
+
+    // Constructors for class ArithmeticEngines.
+
+    /**
+     * This private constructor prevents the instantiation of the class.
+     */
+    private ArithmeticEngines()
+    {
+    }
+
+    // Private methods of class ArithmeticEngines.
+
+    /**
+     * This private static method returns the size class of an operation.
+     *
+     * @param int The length of the longest operand.
+     * @return The index of the size class.
+     */
+    private static int sizeClass(int length)
+    {
+        int result = 0;
+
+        for (; length > SIZE_CLASSES[result]; result++)
+            ;
+
+        return result;
+    }
+
+    /**
+     * This private static method returns a random magnitude.
+     *
+     * @param Random The source of randomness.
+     * @param int The number of digits.
+     * @return The magnitude, without trailing zeros.
+     */
+    private static int[] randomMagnitude(Random random, int length)
+    {
+        int[] result = new int[length];
+
+        for (int n = 0; n < length; n++)
+        {
+            result[n] = random.nextInt(10);
+        }
+
+        if (length > 0)
+        {
+            result[length - 1] = 1 + random.nextInt(9);
+        }
+
+        return result;
+    }
+
+    /**
+     * This private static method runs an operation of an engine.
+     *
+     * @param ArithmeticEngine The engine.
+     * @param Operation The operation.
+     * @param int[] The first operand.
+     * @param int[] The second operand, not greater than the first one.
+     * @return The result.
+     */
+    private static int[] run(ArithmeticEngine engine, ArithmeticEngine.Operation operation, int[] first, int[] second)
+    {
+        int[] result;
+
+        switch (operation)
+        {
+            case ADD:
+                result = engine.add(first, second);
+                break;
+            case SUBTRACT:
+                result = engine.subtract(first, second);
+                break;
+            case MULTIPLY:
+                result = engine.multiply(first, second);
+                break;
+            case DIVIDE:
+                result = engine.divide(first, second);
+                break;
+            default:
+                result = engine.remainder(first, second);
+                break;
+        }
+
+        return result;
+    }
+
+    /**
+     * This private static method measures the average time of an operation of an engine.
+     *
+     * @param ArithmeticEngine The engine.
+     * @param Operation The operation.
+     * @param int[][] The first operands.
+     * @param int[][] The second operands.
+     * @param long The minimum time of the measurement in nanoseconds.
+     * @return The average time of an operation in nanoseconds.
+     */
+    private static double measure(ArithmeticEngine engine, ArithmeticEngine.Operation operation, int[][] first,
+                                  int[][] second, long duration)
+    {
+        int checksum = 0;
+        long count = 0;
+        long start = System.nanoTime();
+        long elapsed;
+
+        do
+        {
+            for (int n = 0; n < first.length; n++)
+            {
+                checksum += run(engine, operation, first[n], second[n]).length;
+            }
+
+            count += first.length;
+            elapsed = System.nanoTime() - start;
+        }
+        while (elapsed < duration);
+
+        // The checksum keeps the JIT from removing the operations.
+        return (double) elapsed / count + (checksum == Integer.MIN_VALUE ? 1 : 0);
+    }
+
+    // Static methods of class ArithmeticEngines.
+
+    /**
+     * This static method returns the engine selected for an operation.
+     *
+     * @param Operation The operation.
+     * @param int The length in digits of the first operand.
+     * @param int The length in digits of the second operand.
+     * @return The selected engine.
+     */
+    public static ArithmeticEngine select(ArithmeticEngine.Operation operation, int firstLength, int secondLength)
+    {
+        return policy[operation.ordinal()][sizeClass(Math.max(firstLength, secondLength))];
+    }
+
+    /**
+     * This static method returns the registered engines.
+     *
+     * @return An unmodifiable list with the engines.
+     */
+    public static List<ArithmeticEngine> engines()
+    {
+        return List.copyOf(ENGINES);
+    }
+
+    /**
+     * This static method registers an engine, so that {@code calibrate} measures it.
+     *
+     * @param ArithmeticEngine The engine.
+     */
+    public static void register(ArithmeticEngine engine)
+    {
+        ENGINES.addIfAbsent(engine);
+    }
+
+    /**
+     * This static method selects an engine for an operation from a size on, replacing the previous selection.
+     *
+     * @param Operation The operation.
+     * @param int The minimum length in digits of the longest operand from which the engine is used.
+     * @param ArithmeticEngine The engine.
+     */
+    public static synchronized void setEngine(ArithmeticEngine.Operation operation, int minLength, ArithmeticEngine engine)
+    {
+        ArithmeticEngine[][] next = policy.clone();
+        next[operation.ordinal()] = next[operation.ordinal()].clone();
+
+        for (int sizeClass = sizeClass(minLength); sizeClass < SIZE_CLASSES.length; sizeClass++)
+        {
+            next[operation.ordinal()][sizeClass] = engine;
+        }
+
+        policy = next;
+    }
+
+    /**
+     * This static method selects one engine for every operation and size.
+     *
+     * @param ArithmeticEngine The engine.
+     */
+    public static synchronized void use(ArithmeticEngine engine)
+    {
+        for (ArithmeticEngine.Operation operation : ArithmeticEngine.Operation.values())
+        {
+            setEngine(operation, 0, engine);
+        }
+    }
+
+    /**
+     * This static method restores the default policy.
+     */
+    public static synchronized void reset()
+    {
+        ArithmeticEngine[][] next = new ArithmeticEngine[ArithmeticEngine.Operation.values().length][SIZE_CLASSES.length];
+
+        for (ArithmeticEngine[] engines : next)
+        {
+            Arrays.fill(engines, SCHOOLBOOK);
+        }
+
+        policy = next;
+        setEngine(ArithmeticEngine.Operation.MULTIPLY, 11, PACKED_LIMBS);
+        setEngine(ArithmeticEngine.Operation.MULTIPLY, 641, KARATSUBA);
+        setEngine(ArithmeticEngine.Operation.MULTIPLY, 1281, NTT);
+        setEngine(ArithmeticEngine.Operation.DIVIDE, 0, PACKED_LIMBS);
+        setEngine(ArithmeticEngine.Operation.REMAINDER, 0, PACKED_LIMBS);
+    }
+
+    /**
+     * This static method measures every registered engine on random operands of the upper bound of
+     * every size class (and 2560 digits for the last class) and selects the fastest engine of every
+     * operation and class. Divisions are measured with divisors of half the length of the dividend.
+     *
+     * @param long The time of every measurement in milliseconds.
+     * @return A report with the average time of every engine, operation and size, in nanoseconds.
+     */
+    public static synchronized String calibrate(long milliseconds)
+    {
+        Random random = new Random(42);
+        StringBuilder report = new StringBuilder();
+        List<ArithmeticEngine> engines = new ArrayList<>(ENGINES);
+
+        for (ArithmeticEngine.Operation operation : ArithmeticEngine.Operation.values())
+        {
+            for (int sizeClass = 0; sizeClass < SIZE_CLASSES.length; sizeClass++)
+            {
+                int length = sizeClass < SIZE_CLASSES.length - 1 ? SIZE_CLASSES[sizeClass] : 2 * SIZE_CLASSES[sizeClass - 1];
+                boolean isDivision = operation == ArithmeticEngine.Operation.DIVIDE
+                                     || operation == ArithmeticEngine.Operation.REMAINDER;
+                int[][] first = new int[16][];
+                int[][] second = new int[16][];
+
+                for (int n = 0; n < first.length; n++)
+                {
+                    first[n] = randomMagnitude(random, length);
+                    second[n] = randomMagnitude(random, isDivision ? (length + 1) / 2 : length - 1);
+                }
+
+                ArithmeticEngine fastest = null;
+                double fastestTime = Double.MAX_VALUE;
+                report.append(String.format("%-10s %6d digits", operation, length));
+
+                for (ArithmeticEngine engine : engines)
+                {
+                    double time = measure(engine, operation, first, second, milliseconds * 1_000_000);
+                    report.append(String.format(" %14s %12.1f", engine.name(), time));
+
+                    if (time < fastestTime)
+                    {
+                        fastest = engine;
+                        fastestTime = time;
+                    }
+                }
+
+                report.append(String.format("  -> %s%n", fastest.name()));
+                setEngine(operation, sizeClass == 0 ? 0 : SIZE_CLASSES[sizeClass - 1] + 1, fastest);
+            }
+        }
+
+        return report.toString();
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * Tests of the class ArithmeticEngines.
+ * 
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ArithmeticEnginesTest {
+
+    @Before
+    public void resetPolicy() {
+        ArithmeticEngines.reset();
+    }
+    
+    @Test
+    public void testDefaultPolicy() {
+        assertSame(ArithmeticEngines.SCHOOLBOOK, ArithmeticEngines.select(ArithmeticEngine.Operation.ADD, 40, 40));
+        assertSame(ArithmeticEngines.SCHOOLBOOK, ArithmeticEngines.select(ArithmeticEngine.Operation.MULTIPLY, 2, 10));
+        assertSame(ArithmeticEngines.PACKED_LIMBS, ArithmeticEngines.select(ArithmeticEngine.Operation.MULTIPLY, 11, 3));
+        assertSame(ArithmeticEngines.PACKED_LIMBS, ArithmeticEngines.select(ArithmeticEngine.Operation.MULTIPLY, 640, 640));
+        assertSame(ArithmeticEngines.KARATSUBA, ArithmeticEngines.select(ArithmeticEngine.Operation.MULTIPLY, 1000, 1000));
+        assertSame(ArithmeticEngines.NTT, ArithmeticEngines.select(ArithmeticEngine.Operation.MULTIPLY, 5000, 5000));
+        assertSame(ArithmeticEngines.PACKED_LIMBS, ArithmeticEngines.select(ArithmeticEngine.Operation.DIVIDE, 2, 1));
+    }
+    
+    @Test
+    public void testSetEngine() {
+        ArithmeticEngines.setEngine(ArithmeticEngine.Operation.ADD, 21, ArithmeticEngines.BIG_INTEGER);
+        
+        assertSame(ArithmeticEngines.SCHOOLBOOK, ArithmeticEngines.select(ArithmeticEngine.Operation.ADD, 20, 20));
+        assertSame(ArithmeticEngines.BIG_INTEGER, ArithmeticEngines.select(ArithmeticEngine.Operation.ADD, 1, 21));
+        assertSame(ArithmeticEngines.SCHOOLBOOK, ArithmeticEngines.select(ArithmeticEngine.Operation.SUBTRACT, 40, 40));
+    }
+    
+    @Test
+    public void testHugeIntegerWithEveryEngine() {
+        HugeInteger first = new HugeInteger("-987654321098765432109876543");
+        HugeInteger second = new HugeInteger("123456789012");
+        BigInteger bigFirst = new BigInteger(first.toString());
+        BigInteger bigSecond = new BigInteger(second.toString());
+        
+        for (ArithmeticEngine engine : ArithmeticEngines.engines()) {
+            ArithmeticEngines.use(engine);
+            
+            assertEquals(engine.name(), bigFirst.add(bigSecond).toString(), first.add(second).toString());
+            assertEquals(engine.name(), bigFirst.subtract(bigSecond).toString(), first.subtract(second).toString());
+            assertEquals(engine.name(), bigFirst.multiply(bigSecond).toString(), first.multiply(second).toString());
+            assertEquals(engine.name(), bigFirst.divide(bigSecond).toString(), first.divide(second).toString());
+            assertEquals(engine.name(), bigFirst.remainder(bigSecond).toString(), first.remainder(second).toString());
+        }
+    }
+    
+    @Test
+    public void testCalibrate() {
+        String report = ArithmeticEngines.calibrate(1);
+        
+        assertEquals(5 * 9, report.split("\n").length);
+        assertTrue(report.contains("MULTIPLY"));
+        
+        for (ArithmeticEngine.Operation operation : ArithmeticEngine.Operation.values()) {
+            assertTrue(ArithmeticEngines.engines().contains(ArithmeticEngines.select(operation, 100, 100)));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * An {@code ArithmeticEngine} that delegates to {@code java.math.BigInteger}. {@code BigInteger}
+ * multiplies and divides long operands with sub-quadratic algorithms (Karatsuba, Toom-Cook and
+ * Burnikel-Ziegler), but the operands and the results are converted through strings, which costs
+ * more than the operations, so it's never the fastest engine. It's a reference for new engines.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.math.BigInteger;
+
+public class BigIntegerEngine implements ArithmeticEngine
+{
+    // Private methods of class BigIntegerEngine.
+
+    /**
+     * This private static method converts a magnitude to a {@code BigInteger}.
+     *
+     * @param int[] The magnitude.
+     * @return The {@code BigInteger}.
+     */
+    private static BigInteger toBigInteger(int[] magnitude)
+    {
+        BigInteger result = BigInteger.ZERO;
+
+        if (magnitude.length > 0)
+        {
+            char[] characters = new char[magnitude.length];
+
+            for (int n = 0; n < magnitude.length; n++)
+            {
+                characters[magnitude.length - 1 - n] = (char) ('0' + magnitude[n]);
+            }
+
+            result = new BigInteger(new String(characters));
+        }
+
+        return result;
+    }
+
+    /**
+     * This private static method converts a non-negative {@code BigInteger} to a magnitude.
+     *
+     * @param BigInteger The {@code BigInteger}.
+     * @return The magnitude.
+     */
+    private static int[] toMagnitude(BigInteger value)
+    {
+        int[] result = new int[0];
+
+        if (value.signum() != 0)
+        {
+            String characters = value.toString();
+            result = new int[characters.length()];
+
+            for (int n = 0; n < result.length; n++)
+            {
+                result[n] = characters.charAt(result.length - 1 - n) - '0';
+            }
+        }
+
+        return result;
+    }
+
+    // Public methods of class BigIntegerEngine.
+
+    @Override
+    public String name()
+    {
+        return "BigInteger";
+    }
+
+    @Override
+    public int[] add(int[] firstAddend, int[] secondAddend)
+    {
+        return toMagnitude(toBigInteger(firstAddend).add(toBigInteger(secondAddend)));
+    }
+
+    @Override
+    public int[] subtract(int[] minuend, int[] subtrahend)
+    {
+        return toMagnitude(toBigInteger(minuend).subtract(toBigInteger(subtrahend)));
+    }
+
+    @Override
+    public int[] multiply(int[] multiplier, int[] multiplicand)
+    {
+        return toMagnitude(toBigInteger(multiplier).multiply(toBigInteger(multiplicand)));
+    }
+
+    @Override
+    public int[] divide(int[] dividend, int[] divisor)
+    {
+        return toMagnitude(toBigInteger(dividend).divide(toBigInteger(divisor)));
+    }
+
+    @Override
+    public int[] remainder(int[] dividend, int[] divisor)
+    {
+        return toMagnitude(toBigInteger(dividend).remainder(toBigInteger(divisor)));
+    }
+}
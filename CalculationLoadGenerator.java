@@ -0,0 +1,149 @@
+/**
+ * A load generator for {@code CalculationServer}.
+ *
+ * Run with {@code java CalculationLoadGenerator [connections [requests [depth [port]]]]}. Every
+ * connection sends its requests in windows of {@code depth} pipelined requests and waits for their
+ * responses before sending the next window. The latency of a request is the time from the write of
+ * its window to the arrival of its response. Without a port, an embedded server is started on a
+ * free port. The report gives the throughput and the median and 99th percentile latencies.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.Random;
+
+public class CalculationLoadGenerator
+{
+    private static final byte[] OPERATIONS = {
+        CalculationProtocol.ADD, CalculationProtocol.SUBTRACT, CalculationProtocol.MULTIPLY,
+        CalculationProtocol.DIVIDE, CalculationProtocol.REMAINDER
+    };
+
+    // Private methods of class CalculationLoadGenerator.
+
+    /**
+     * This private static method returns a random {@code HugeInteger} of up to 20 digits, so that
+     * products don't overflow.
+     *
+     * @param Random The source of randomness.
+     * @return The {@code HugeInteger}.
+     */
+    private static HugeInteger randomValue(Random random)
+    {
+        StringBuilder digits = new StringBuilder(random.nextBoolean() ? "-" : "");
+
+        for (int count = 1 + random.nextInt(20); count > 0; count--)
+        {
+            digits.append((char) ('1' + random.nextInt(9)));
+        }
+
+        return new HugeInteger(digits.toString());
+    }
+
+    /**
+     * This private static method runs one connection of the load.
+     *
+     * @param int The port of the server.
+     * @param int The number of requests.
+     * @param int The number of pipelined requests of a window.
+     * @param long[] The latencies of the requests, in nanoseconds.
+     * @param long The seed of the random operands.
+     */
+    private static void run(int port, int requests, int depth, long[] latencies, long seed)
+    {
+        Random random = new Random(seed);
+        byte[] buffer = new byte[256];
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port))
+        {
+            socket.setTcpNoDelay(true);
+            DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+            for (int sent = 0; sent < requests; sent += depth)
+            {
+                int window = Math.min(depth, requests - sent);
+
+                for (int n = 0; n < window; n++)
+                {
+                    output.writeByte(OPERATIONS[random.nextInt(OPERATIONS.length)]);
+                    CalculationProtocol.writeValue(output, randomValue(random));
+                    CalculationProtocol.writeValue(output, randomValue(random));
+                }
+
+                long start = System.nanoTime();
+                output.flush();
+
+                for (int n = 0; n < window; n++)
+                {
+                    input.readByte();
+                    CalculationProtocol.readValue(input, buffer);
+                    latencies[sent + n] = System.nanoTime() - start;
+                }
+            }
+        }
+        catch (IOException exception)
+        {
+            throw new IllegalStateException("Connection failed: " + exception.getMessage(), exception);
+        }
+    }
+
+    // Static methods of class CalculationLoadGenerator.
+
+    /**
+     * This static method runs the load and prints the report.
+     *
+     * @param String[] The number of connections, requests per connection, pipeline depth and port.
+     * @throws Exception If the server can't be started or a connection fails.
+     */
+    public static void main(String[] args) throws Exception
+    {
+        int connections = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+        int depth = args.length > 2 ? Integer.parseInt(args[2]) : 64;
+        CalculationServer server = args.length > 3 ? null : new CalculationServer(0);
+        int port = server == null ? Integer.parseInt(args[3]) : server.getPort();
+
+        try
+        {
+            long[][] latencies = new long[connections][requests];
+            Thread[] threads = new Thread[connections];
+            long start = System.nanoTime();
+
+            for (int n = 0; n < connections; n++)
+            {
+                int connection = n;
+                threads[n] = new Thread(() -> run(port, requests, depth, latencies[connection], connection));
+                threads[n].start();
+            }
+
+            for (Thread thread : threads)
+            {
+                thread.join();
+            }
+
+            long elapsed = System.nanoTime() - start;
+            long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+            System.out.printf("%d connections, %d requests, pipeline depth %d%n", connections, all.length, depth);
+            System.out.printf("throughput %.0f requests/s%n", all.length * 1e9 / elapsed);
+            System.out.printf("latency p50 %.1f us, p99 %.1f us%n",
+                              all[all.length / 2] / 1e3, all[(int) (all.length * 0.99)] / 1e3);
+        }
+        finally
+        {
+            if (server != null)
+            {
+                server.close();
+            }
+        }
+    }
+}
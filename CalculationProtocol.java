@@ -0,0 +1,94 @@
+/**
+ * The binary protocol of {@code CalculationServer}.
+ *
+ * A request is one operation byte followed by two values, and a response is one status byte
+ * followed by one value. A value is one unsigned length byte followed by that many bytes of the
+ * two's-complement representation of a {@code HugeInteger}, as given by {@code toByteArray},
+ * so any process that can read a big-endian two's-complement integer can use the server.
+ * When the status is not {@code OK} the value of the response is zero.
+ *
+ * Requests may be pipelined: a client can send many requests before reading the responses, which
+ * arrive in the order of the requests.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+final class CalculationProtocol
+{
+    static final byte ADD = 1;
+    static final byte SUBTRACT = 2;
+    static final byte MULTIPLY = 3;
+    static final byte DIVIDE = 4;
+    static final byte REMAINDER = 5;
+
+    static final byte OK = 0;
+    static final byte OVERFLOW = 1;
+    static final byte DIVISION_BY_ZERO = 2;
+    static final byte INVALID = 3;
+
+    /**
+     * The length of the longest encoded value: 40 decimal digits and a sign bit fit in 17 bytes.
+     */
+    static final int MAX_VALUE_LENGTH = 17;
+
+    // Constructors for class CalculationProtocol.
+
+    /**
+     * This private constructor prevents the instantiation of the class.
+     */
+    private CalculationProtocol()
+    {
+    }
+
+    // Static methods of class CalculationProtocol.
+
+    /**
+     * This static method writes a value.
+     *
+     * @param DataOutputStream The output.
+     * @param HugeInteger The value.
+     * @throws IOException If the output can't be written.
+     */
+    static void writeValue(DataOutputStream output, HugeInteger value) throws IOException
+    {
+        byte[] bytes = value.toByteArray();
+        output.writeByte(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * This static method reads a value. The bytes of an invalid value are consumed, so the next
+     * value can still be read.
+     *
+     * @param DataInputStream The input.
+     * @param byte[] A buffer of at least 255 bytes.
+     * @return The value, or {@code null} if the value is empty, too long or exceeds 40 digits.
+     * @throws IOException If the input can't be read or ends before the value.
+     */
+    static HugeInteger readValue(DataInputStream input, byte[] buffer) throws IOException
+    {
+        int length = input.readUnsignedByte();
+        input.readFully(buffer, 0, length);
+        HugeInteger result = null;
+
+        if (length > 0 && length <= MAX_VALUE_LENGTH)
+        {
+            try
+            {
+                result = HugeInteger.fromByteArray(Arrays.copyOf(buffer, length));
+            }
+            catch (NumberFormatException exception)
+            {
+                result = null;
+            }
+        }
+
+        return result;
+    }
+}
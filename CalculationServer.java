@@ -0,0 +1,306 @@
+/**
+ * A small server that performs {@code HugeInteger} arithmetic for other processes over a loopback
+ * TCP socket, with the binary protocol of {@code CalculationProtocol}.
+ *
+ * Every connection is served by its own thread: a virtual thread when the JVM supports them
+ * (Java 21 and later), a daemon platform thread otherwise. The server reads requests in batches:
+ * after a blocking read of one request it takes every other request already buffered, up to
+ * {@code MAX_BATCH}, runs the consecutive requests of the same operation in one loop and writes
+ * all the responses with one flush. A pipelining client thus pays one system call per batch
+ * instead of one per request. Overflows are reported with a status, as in the {@code try}
+ * methods of {@code HugeInteger}, without throwing exceptions.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class CalculationServer implements AutoCloseable
+{
+    /**
+     * The greatest number of requests run and answered together.
+     */
+    static final int MAX_BATCH = 256;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * {@code Thread.ofVirtual()} and {@code Thread.Builder.unstarted(Runnable)}, or {@code null} if
+     * the JVM has no virtual threads.
+     */
+    private static final Method OF_VIRTUAL;
+    private static final Method UNSTARTED;
+
+    static
+    {
+        Method ofVirtual = null;
+        Method unstarted = null;
+
+        try
+        {
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            unstarted = Class.forName("java.lang.Thread$Builder").getMethod("unstarted", Runnable.class);
+        }
+        catch (ReflectiveOperationException exception)
+        {
+            ofVirtual = null;
+        }
+
+        OF_VIRTUAL = ofVirtual;
+        UNSTARTED = unstarted;
+    }
+
+    private final ServerSocket serverSocket;
+    private final Set<Socket> connections;
+    private volatile boolean isClosed;
+
+    // Constructors for class CalculationServer.
+
+    /**
+     * This constructor binds the server to the input port of the loopback address and starts accepting connections.
+     *
+     * @param int The port, or 0 for any free port.
+     * @throws IOException If the port can't be bound.
+     */
+    public CalculationServer(int port) throws IOException
+    {
+        serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        connections = ConcurrentHashMap.newKeySet();
+        isClosed = false;
+        newThread(this::acceptConnections).start();
+    }
+
+    // Private methods of class CalculationServer.
+
+    /**
+     * This private method accepts connections until the server is closed.
+     */
+    private void acceptConnections()
+    {
+        try
+        {
+            while (!isClosed)
+            {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                connections.add(socket);
+                newThread(() -> serve(socket)).start();
+            }
+        }
+        catch (IOException exception)
+        {
+            // The server socket was closed.
+        }
+    }
+
+    /**
+     * This private method serves the requests of a connection until the client closes it.
+     *
+     * @param Socket The connection.
+     */
+    private void serve(Socket socket)
+    {
+        byte[] operations = new byte[MAX_BATCH];
+        HugeInteger[] first = new HugeInteger[MAX_BATCH];
+        HugeInteger[] second = new HugeInteger[MAX_BATCH];
+        HugeInteger[] results = new HugeInteger[MAX_BATCH];
+        byte[] statuses = new byte[MAX_BATCH];
+        byte[] buffer = new byte[256];
+
+        try (socket)
+        {
+            DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE));
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE));
+
+            while (true)
+            {
+                // The first request of a batch blocks; the others are taken only if they are already buffered.
+                int count = 0;
+
+                do
+                {
+                    operations[count] = input.readByte();
+                    first[count] = CalculationProtocol.readValue(input, buffer);
+                    second[count] = CalculationProtocol.readValue(input, buffer);
+                    statuses[count] = first[count] == null || second[count] == null ? CalculationProtocol.INVALID
+                                                                                    : CalculationProtocol.OK;
+                    count++;
+                }
+                while (count < MAX_BATCH && input.available() > 0);
+
+                execute(operations, first, second, count, results, statuses);
+
+                for (int n = 0; n < count; n++)
+                {
+                    output.writeByte(statuses[n]);
+                    CalculationProtocol.writeValue(output, statuses[n] == CalculationProtocol.OK ? results[n] : HugeInteger.ZERO);
+                }
+
+                output.flush();
+            }
+        }
+        catch (EOFException | SocketException exception)
+        {
+            // The client closed the connection, or the server was closed.
+        }
+        catch (IOException exception)
+        {
+            // The connection failed: nothing can be answered.
+        }
+        finally
+        {
+            connections.remove(socket);
+        }
+    }
+
+    // Static methods of class CalculationServer.
+
+    /**
+     * This static method creates a thread for a task: a virtual thread if the JVM supports them,
+     * a daemon platform thread otherwise.
+     *
+     * @param Runnable The task.
+     * @return The unstarted thread.
+     */
+    static Thread newThread(Runnable task)
+    {
+        Thread result = null;
+
+        if (OF_VIRTUAL != null)
+        {
+            try
+            {
+                result = (Thread) UNSTARTED.invoke(OF_VIRTUAL.invoke(null), task);
+            }
+            catch (ReflectiveOperationException | RuntimeException exception)
+            {
+                // Virtual threads are a preview feature that is not enabled.
+                result = null;
+            }
+        }
+
+        if (result == null)
+        {
+            result = new Thread(task);
+            result.setDaemon(true);
+        }
+
+        return result;
+    }
+
+    /**
+     * This static method runs a batch of requests. The consecutive requests of the same operation
+     * are run in one loop.
+     *
+     * @param byte[] The operations.
+     * @param HugeInteger[] The first operands.
+     * @param HugeInteger[] The second operands.
+     * @param int The number of requests.
+     * @param HugeInteger[] The results.
+     * @param byte[] The statuses. Requests whose status is not {@code OK} are not run.
+     */
+    static void execute(byte[] operations, HugeInteger[] first, HugeInteger[] second, int count,
+                        HugeInteger[] results, byte[] statuses)
+    {
+        for (int start = 0, end; start < count; start = end)
+        {
+            byte operation = operations[start];
+
+            for (end = start + 1; end < count && operations[end] == operation; end++)
+                ;
+
+            switch (operation)
+            {
+                case CalculationProtocol.ADD:
+                    for (int n = start; n < end; n++)
+                    {
+                        results[n] = statuses[n] == CalculationProtocol.OK ? first[n].tryAdd(second[n]) : null;
+                    }
+                    break;
+                case CalculationProtocol.SUBTRACT:
+                    for (int n = start; n < end; n++)
+                    {
+                        results[n] = statuses[n] == CalculationProtocol.OK ? first[n].trySubtract(second[n]) : null;
+                    }
+                    break;
+                case CalculationProtocol.MULTIPLY:
+                    for (int n = start; n < end; n++)
+                    {
+                        results[n] = statuses[n] == CalculationProtocol.OK ? first[n].tryMultiply(second[n]) : null;
+                    }
+                    break;
+                case CalculationProtocol.DIVIDE:
+                case CalculationProtocol.REMAINDER:
+                    for (int n = start; n < end; n++)
+                    {
+                        if (statuses[n] == CalculationProtocol.OK && second[n].isZero())
+                        {
+                            statuses[n] = CalculationProtocol.DIVISION_BY_ZERO;
+                        }
+                        else if (statuses[n] == CalculationProtocol.OK)
+                        {
+                            results[n] = operation == CalculationProtocol.DIVIDE ? first[n].divide(second[n])
+                                                                                 : first[n].remainder(second[n]);
+                        }
+                    }
+                    break;
+                default:
+                    for (int n = start; n < end; n++)
+                    {
+                        statuses[n] = CalculationProtocol.INVALID;
+                    }
+                    break;
+            }
+
+            for (int n = start; n < end; n++)
+            {
+                if (statuses[n] == CalculationProtocol.OK && results[n] == null)
+                {
+                    statuses[n] = CalculationProtocol.OVERFLOW;
+                }
+            }
+        }
+    }
+
+    // Public methods of class CalculationServer.
+
+    /**
+     * This public method returns the port where the server accepts connections.
+     *
+     * @return The port.
+     */
+    public int getPort()
+    {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * This public method stops accepting connections and closes every open connection.
+     *
+     * @throws IOException If the server socket can't be closed.
+     */
+    @Override
+    public void close() throws IOException
+    {
+        isClosed = true;
+        serverSocket.close();
+
+        for (Socket socket : connections)
+        {
+            socket.close();
+        }
+    }
+}
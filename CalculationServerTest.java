@@ -0,0 +1,80 @@
+/**
+ * Tests of the class CalculationServer.
+ * 
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+
+import org.junit.Test;
+
+public class CalculationServerTest {
+
+    private static void writeRequest(DataOutputStream output, byte operation, String first, String second) throws IOException {
+        output.writeByte(operation);
+        CalculationProtocol.writeValue(output, new HugeInteger(first));
+        CalculationProtocol.writeValue(output, new HugeInteger(second));
+    }
+    
+    private static String readResponse(DataInputStream input) throws IOException {
+        byte status = input.readByte();
+        HugeInteger value = CalculationProtocol.readValue(input, new byte[256]);
+        return status == CalculationProtocol.OK ? value.toString() : "status " + status;
+    }
+    
+    @Test
+    public void testPipelinedRequests() throws IOException {
+        try (CalculationServer server = new CalculationServer(0);
+             Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            DataOutputStream output = new DataOutputStream(socket.getOutputStream());
+            DataInputStream input = new DataInputStream(socket.getInputStream());
+            String max = HugeInteger.MAX_VALUE.toString();
+            
+            writeRequest(output, CalculationProtocol.ADD, "1239", "1");
+            writeRequest(output, CalculationProtocol.ADD, "-1240", "1");
+            writeRequest(output, CalculationProtocol.SUBTRACT, "1239", "1240");
+            writeRequest(output, CalculationProtocol.MULTIPLY, "-1240", "1239");
+            writeRequest(output, CalculationProtocol.DIVIDE, "1536360", "1239");
+            writeRequest(output, CalculationProtocol.REMAINDER, max, "1240");
+            writeRequest(output, CalculationProtocol.ADD, max, "1");
+            writeRequest(output, CalculationProtocol.DIVIDE, "1", "0");
+            writeRequest(output, (byte) 42, "1", "1");
+            output.flush();
+            
+            assertEquals("1240", readResponse(input));
+            assertEquals("-1239", readResponse(input));
+            assertEquals("-1", readResponse(input));
+            assertEquals("-1536360", readResponse(input));
+            assertEquals("1240", readResponse(input));
+            assertEquals("159", readResponse(input));
+            assertEquals("status " + CalculationProtocol.OVERFLOW, readResponse(input));
+            assertEquals("status " + CalculationProtocol.DIVISION_BY_ZERO, readResponse(input));
+            assertEquals("status " + CalculationProtocol.INVALID, readResponse(input));
+        }
+    }
+    
+    @Test
+    public void testInvalidValue() throws IOException {
+        try (CalculationServer server = new CalculationServer(0);
+             Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            DataOutputStream output = new DataOutputStream(socket.getOutputStream());
+            DataInputStream input = new DataInputStream(socket.getInputStream());
+            
+            output.writeByte(CalculationProtocol.ADD);
+            output.writeByte(0);
+            CalculationProtocol.writeValue(output, HugeInteger.ONE);
+            writeRequest(output, CalculationProtocol.ADD, "2", "3");
+            output.flush();
+            
+            assertEquals("status " + CalculationProtocol.INVALID, readResponse(input));
+            assertEquals("5", readResponse(input));
+        }
+    }
+}
@@ -0,0 +1,398 @@
+/**
+ * Reduces a stream of decimal digits modulo a {@code HugeInteger} or a long, without building
+ * the number that the digits represent.
+ *
+ * The digits can arrive in chunks, from {@code CharSequences}, {@code InputStreams} or
+ * {@code ReadableByteChannels}, in any combination. As in the constructors of {@code HugeInteger},
+ * the first chunk may start with one minus or plus sign and every other character must be a decimal
+ * digit. The reducer keeps only the running residue, the sign and the digit count, so it works in
+ * constant memory whatever the length of the stream. The residue follows the semantics of
+ * {@code HugeInteger.remainder}: it has the signum of the streamed value.
+ *
+ * A {@code DigitStreamReducer} is not thread-safe.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+public class DigitStreamReducer
+{
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The absolute value of a {@code HugeInteger} modulus, or {@code null} if the modulus fits in a long.
+     */
+    private final HugeInteger hugeModulus;
+
+    /**
+     * The absolute value of the modulus if it fits in a long.
+     */
+    private final long modulus;
+
+    /**
+     * The greatest power of ten by which a residue can be multiplied without overflowing a long.
+     */
+    private final long maxPendingPower;
+
+    /**
+     * The running residue of the absolute value when the modulus fits in a long.
+     */
+    private long residue;
+
+    /**
+     * The digits that were not reduced yet when the modulus fits in a long, and ten to the number of them.
+     */
+    private long pendingValue;
+    private long pendingPower;
+
+    /**
+     * The running residue of the absolute value when the modulus doesn't fit in a long.
+     */
+    private final MutableHugeInteger hugeResidue;
+
+    private boolean isNegative;
+    private boolean isStarted;
+    private long digitCount;
+    private boolean hasDigits;
+
+    private byte[] bytes;
+    private ByteBuffer byteBuffer;
+
+    // Constructors for class DigitStreamReducer.
+
+    /**
+     * This constructor initializes a reducer modulo the input {@code HugeInteger}. Only the absolute
+     * value of the modulus is used.
+     *
+     * @param HugeInteger The modulus.
+     * @throws ArithmeticException Division by zero if the modulus is zero.
+     */
+    public DigitStreamReducer(HugeInteger modulus)
+    {
+        if (modulus.isZero())
+        {
+            throw new ArithmeticException("Division by Zero.");
+        }
+
+        if (modulus.digitCount() <= 18)
+        {
+            // A modulus that fits in a long is reduced with long arithmetic.
+            long value = 0;
+
+            for (int position = modulus.digitCount() - 1; position >= 0; position--)
+            {
+                value = 10 * value + modulus.digitAt(position);
+            }
+
+            this.hugeModulus = null;
+            this.modulus = value;
+            this.hugeResidue = null;
+        }
+        else
+        {
+            this.hugeModulus = HugeInteger.abs(modulus);
+            this.modulus = 0;
+            this.hugeResidue = new MutableHugeInteger();
+        }
+
+        this.maxPendingPower = this.modulus == 0 ? 1 : Long.MAX_VALUE / this.modulus;
+        reset();
+    }
+
+    /**
+     * This constructor initializes a reducer modulo the input long. Only the absolute value of the
+     * modulus is used.
+     *
+     * @param long The modulus.
+     * @throws ArithmeticException Division by zero if the modulus is zero.
+     */
+    public DigitStreamReducer(long modulus)
+    {
+        if (modulus == 0)
+        {
+            throw new ArithmeticException("Division by Zero.");
+        }
+
+        if (modulus == Long.MIN_VALUE)
+        {
+            this.hugeModulus = new HugeInteger("9223372036854775808");
+            this.modulus = 0;
+            this.hugeResidue = new MutableHugeInteger();
+        }
+        else
+        {
+            this.hugeModulus = null;
+            this.modulus = Math.abs(modulus);
+            this.hugeResidue = null;
+        }
+
+        this.maxPendingPower = this.modulus == 0 ? 1 : Long.MAX_VALUE / this.modulus;
+        reset();
+    }
+
+    // Private methods of class DigitStreamReducer.
+
+    /**
+     * This private method consumes one character of the stream.
+     *
+     * @param char The character.
+     * @throws NumberFormatException If the character is not a digit nor a sign at the start of the stream.
+     */
+    private void accept(char character)
+    {
+        if (character >= '0' && character <= '9')
+        {
+            acceptDigit(character - '0');
+        }
+        else if (!isStarted && (character == '-' || character == '+'))
+        {
+            isNegative = character == '-';
+        }
+        else
+        {
+            throw new NumberFormatException("Invalid Number");
+        }
+
+        isStarted = true;
+    }
+
+    /**
+     * This private method adds one digit to the running residue.
+     *
+     * @param int The digit.
+     */
+    private void acceptDigit(int digit)
+    {
+        hasDigits = true;
+
+        if (digitCount > 0 || digit != 0)
+        {
+            digitCount++;
+        }
+
+        if (hugeModulus != null)
+        {
+            // residue = (10 * residue + digit) mod m: the result is below 10 * m, so at most nine subtractions.
+            hugeResidue.appendDigit(digit);
+
+            while (hugeResidue.compareAbsoluteValue(hugeModulus) >= 0)
+            {
+                hugeResidue.subtractInPlace(hugeModulus);
+            }
+        }
+        else if (pendingPower <= maxPendingPower / 10)
+        {
+            // Digits are gathered while residue * 10^k + pending can't overflow, then reduced at once.
+            pendingValue = 10 * pendingValue + digit;
+            pendingPower *= 10;
+        }
+        else
+        {
+            flush();
+            pendingValue = digit;
+            pendingPower = 10;
+        }
+    }
+
+    /**
+     * This private method reduces the pending digits into the residue when the modulus fits in a long.
+     */
+    private void flush()
+    {
+        if (pendingPower > maxPendingPower)
+        {
+            // Only for a modulus above Long.MAX_VALUE / 10: the single pending digit is reduced by additions.
+            long times10 = addModulo(residue, residue);
+            times10 = addModulo(times10, times10);
+            times10 = addModulo(addModulo(times10, times10), addModulo(residue, residue));
+            residue = addModulo(times10, pendingValue % modulus);
+        }
+        else if (pendingPower > 1)
+        {
+            residue = (residue * pendingPower + pendingValue) % modulus;
+        }
+
+        pendingValue = 0;
+        pendingPower = 1;
+    }
+
+    /**
+     * This private method adds two residues modulo the long modulus without overflowing.
+     *
+     * @param long The first residue, less than the modulus.
+     * @param long The second residue, less than the modulus.
+     * @return The sum of the residues modulo the modulus.
+     */
+    private long addModulo(long first, long second)
+    {
+        return first >= modulus - second ? first - (modulus - second) : first + second;
+    }
+
+    // Public methods of class DigitStreamReducer.
+
+    /**
+     * This public method consumes the characters of the input chunk.
+     *
+     * @param CharSequence The chunk.
+     * @throws NumberFormatException If the chunk contains an invalid character.
+     */
+    public void accept(CharSequence chunk)
+    {
+        for (int index = 0; index < chunk.length(); index++)
+        {
+            accept(chunk.charAt(index));
+        }
+    }
+
+    /**
+     * This public method consumes the characters of the input stream until its end. Characters are
+     * read as ASCII bytes through a buffer that is reused between calls. The stream is not closed.
+     *
+     * @param InputStream The stream.
+     * @throws IOException If the stream can't be read.
+     * @throws NumberFormatException If the stream contains an invalid character.
+     */
+    public void accept(InputStream stream) throws IOException
+    {
+        if (bytes == null)
+        {
+            bytes = new byte[BUFFER_SIZE];
+        }
+
+        for (int count = stream.read(bytes); count >= 0; count = stream.read(bytes))
+        {
+            for (int index = 0; index < count; index++)
+            {
+                accept((char) (bytes[index] & 0xff));
+            }
+        }
+    }
+
+    /**
+     * This public method consumes the characters of the input channel until its end. Characters are
+     * read as ASCII bytes through a buffer that is reused between calls. The channel is not closed.
+     *
+     * @param ReadableByteChannel The channel.
+     * @throws IOException If the channel can't be read.
+     * @throws NumberFormatException If the channel contains an invalid character.
+     */
+    public void accept(ReadableByteChannel channel) throws IOException
+    {
+        if (byteBuffer == null)
+        {
+            byteBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+        }
+
+        byteBuffer.clear();
+
+        while (channel.read(byteBuffer) >= 0)
+        {
+            byteBuffer.flip();
+
+            while (byteBuffer.hasRemaining())
+            {
+                accept((char) (byteBuffer.get() & 0xff));
+            }
+
+            byteBuffer.clear();
+        }
+    }
+
+    /**
+     * This public method resets the reducer to the start of a new stream.
+     */
+    public void reset()
+    {
+        residue = 0;
+        pendingValue = 0;
+        pendingPower = 1;
+        isNegative = false;
+        isStarted = false;
+        hasDigits = false;
+        digitCount = 0;
+
+        if (hugeResidue != null)
+        {
+            hugeResidue.setZero();
+        }
+    }
+
+    /**
+     * This public method returns the number of significant digits consumed so far, that is, the digits
+     * after the leading zeros.
+     *
+     * @return The number of significant digits.
+     */
+    public long digitCount()
+    {
+        return digitCount;
+    }
+
+    /**
+     * This public method returns the signum of the value consumed so far.
+     *
+     * @return {@code -1} for a negative value, {@code 1} for a positive value and {@code 0} for zero.
+     */
+    public int getSignum()
+    {
+        return digitCount == 0 ? 0 : (isNegative ? -1 : 1);
+    }
+
+    /**
+     * This public method returns the residue of the value consumed so far as a long. It has the signum
+     * of the value, as in {@code HugeInteger.remainder}.
+     *
+     * @return The residue.
+     * @throws NumberFormatException If no digit was consumed.
+     * @throws ArithmeticException If the modulus doesn't fit in a long.
+     */
+    public long longResidue()
+    {
+        if (!hasDigits)
+        {
+            throw new NumberFormatException("Empty string");
+        }
+
+        if (hugeModulus != null)
+        {
+            throw new ArithmeticException("The residue doesn't fit in a long");
+        }
+
+        flush();
+        return isNegative ? -residue : residue;
+    }
+
+    /**
+     * This public method returns the residue of the value consumed so far as a {@code HugeInteger}.
+     * It has the signum of the value, as in {@code HugeInteger.remainder}.
+     *
+     * @return The residue.
+     * @throws NumberFormatException If no digit was consumed.
+     */
+    public HugeInteger residue()
+    {
+        HugeInteger result;
+
+        if (hugeModulus == null)
+        {
+            long value = longResidue();
+            result = value == 0 ? HugeInteger.ZERO : new HugeInteger(Long.toString(value));
+        }
+        else if (!hasDigits)
+        {
+            throw new NumberFormatException("Empty string");
+        }
+        else
+        {
+            result = hugeResidue.toHugeInteger();
+            result = isNegative ? HugeInteger.opposite(result) : result;
+        }
+
+        return result;
+    }
+}
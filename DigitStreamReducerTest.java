@@ -0,0 +1,94 @@
+/**
+ * Tests of the class DigitStreamReducer.
+ * 
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import static org.junit.Assert.assertEquals;
+ 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+ 
+import org.junit.Test;
+ 
+public class DigitStreamReducerTest {
+     
+    private static String MAX_NUM = "9999999999999999999999999999999999999999";
+    private static String LONG_NUMBER = "-000" + MAX_NUM + "1239" + MAX_NUM + "1240";
+ 
+    @Test
+    public void testHugeModulus() {
+        HugeInteger modulus = new HugeInteger("98765432109876543210987");
+        DigitStreamReducer reducer = new DigitStreamReducer(modulus);
+        reducer.accept("-1536360");
+        reducer.accept(MAX_NUM.substring(8));
+        HugeInteger value = new HugeInteger("-1536360" + MAX_NUM.substring(8));
+        assertEquals(value.remainder(modulus).toString(), reducer.residue().toString());
+        assertEquals(39, reducer.digitCount());
+        assertEquals(-1, reducer.getSignum());
+    }
+ 
+    @Test
+    public void testLongModulus() {
+        DigitStreamReducer reducer = new DigitStreamReducer(97L);
+        reducer.accept("+" + MAX_NUM);
+        assertEquals(new HugeInteger(MAX_NUM).remainder(new HugeInteger("97")).toString(), String.valueOf(reducer.longResidue()));
+        assertEquals(1, reducer.getSignum());
+    }
+ 
+    @Test
+    public void testLongStream() throws IOException {
+        DigitStreamReducer byLong = new DigitStreamReducer(Long.MAX_VALUE);
+        DigitStreamReducer byHuge = new DigitStreamReducer(new HugeInteger(String.valueOf(Long.MAX_VALUE)));
+        DigitStreamReducer bySmall = new DigitStreamReducer(new HugeInteger("11"));
+        byte[] bytes = LONG_NUMBER.getBytes(StandardCharsets.US_ASCII);
+        byLong.accept(new ByteArrayInputStream(bytes));
+        byHuge.accept(Channels.newChannel(new ByteArrayInputStream(bytes)));
+        bySmall.accept(LONG_NUMBER);
+        assertEquals(byHuge.residue().toString(), byLong.residue().toString());
+        assertEquals(88, byLong.digitCount());
+        BigInteger value = new BigInteger(LONG_NUMBER);
+        assertEquals(value.remainder(BigInteger.valueOf(Long.MAX_VALUE)).toString(), byLong.residue().toString());
+        assertEquals(value.remainder(BigInteger.valueOf(11)).longValue(), bySmall.longResidue());
+    }
+ 
+    @Test
+    public void testZero() {
+        DigitStreamReducer reducer = new DigitStreamReducer(7L);
+        reducer.accept("-000");
+        assertEquals("0", reducer.residue().toString());
+        assertEquals(0, reducer.getSignum());
+        assertEquals(0, reducer.digitCount());
+    }
+ 
+    @Test
+    public void testReset() {
+        DigitStreamReducer reducer = new DigitStreamReducer(new HugeInteger("-1240"));
+        reducer.accept("1536361");
+        assertEquals("1", reducer.residue().toString());
+        reducer.reset();
+        reducer.accept("-1239");
+        assertEquals("-1239", reducer.residue().toString());
+    }
+ 
+    @Test(expected=NumberFormatException.class)
+    public void testInvalidCharacter() {
+        new DigitStreamReducer(7L).accept("12-3");
+    }
+ 
+    @Test(expected=NumberFormatException.class)
+    public void testEmpty() {
+        DigitStreamReducer reducer = new DigitStreamReducer(7L);
+        reducer.accept("-");
+        reducer.residue();
+    }
+ 
+    @Test(expected=ArithmeticException.class)
+    public void testZeroModulus() {
+        new DigitStreamReducer(HugeInteger.ZERO);
+    }
+}
@@ -0,0 +1,272 @@
+/**
+ * Accumulates sums and dot products of {@code HugeIntegers} and longs.
+ *
+ * Values are added into unnormalized columns of decimal digits (one long per column), so that
+ * an addition doesn't propagate carries nor create objects. Carries are only propagated when the
+ * result is requested with {@code toHugeInteger()}, or when a column gets close to the capacity
+ * of a long. Intermediate sums may exceed 40 digits; only the final result must fit in a
+ * {@code HugeInteger}.
+ *
+ * An accumulator is not thread-safe. To sum from several threads give each thread its own
+ * accumulator and combine them with {@code merge}, or use {@code collector()} with a parallel stream.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.util.Arrays;
+import java.util.stream.Collector;
+
+public class HugeAccumulator
+{
+    /**
+     * The number of columns. Products of two {@code HugeIntegers} have up to 80 digits and the
+     * last column keeps the carries beyond them.
+     */
+    private static final int COLUMNS = 2 * HugeInteger.MAX_DIGITS + 1;
+
+    /**
+     * The load above which the columns are normalized before adding more values.
+     */
+    private static final long MAX_LOAD = Long.MAX_VALUE / 4;
+
+    /**
+     * The columns in little-endian order: the least significant column is in the zeroth element.
+     * The value of the accumulator is the sum of every column multiplied by its power of ten.
+     */
+    private final long[] columns;
+
+    /**
+     * An upper bound of the absolute value of every column except the last.
+     */
+    private long load;
+
+    // Constructors for class HugeAccumulator.
+
+    /**
+     * This constructor initializes the accumulator to zero.
+     */
+    public HugeAccumulator()
+    {
+        columns = new long[COLUMNS];
+        load = 0;
+    }
+
+    // Private methods of class HugeAccumulator.
+
+    /**
+     * This private method reserves room in the columns for an addition that adds at most the input
+     * amount to a column, normalizing the columns first if needed.
+     *
+     * @param long The maximum absolute value that the addition adds to a column.
+     */
+    private void reserve(long amount)
+    {
+        if (load > MAX_LOAD - amount)
+        {
+            normalize();
+        }
+
+        load += amount;
+    }
+
+    /**
+     * This private method propagates the carries of the columns, leaving every column but the last
+     * in the range of 0 to 9. The last column keeps the (signed) carry beyond the others.
+     */
+    private void normalize()
+    {
+        long carry = 0;
+
+        for (int n = 0; n < COLUMNS - 1; n++)
+        {
+            long sum = columns[n] + carry;
+            columns[n] = Math.floorMod(sum, 10L);
+            carry = Math.floorDiv(sum, 10L);
+        }
+
+        columns[COLUMNS - 1] += carry;
+        load = 9;
+    }
+
+    // Static methods of class HugeAccumulator.
+
+    /**
+     * This static method returns a {@code Collector} that sums the {@code HugeIntegers} of a stream.
+     * Parallel streams accumulate into one accumulator per thread and merge them at the end.
+     *
+     * @return A {@code Collector} which sums {@code HugeIntegers} into a {@code HugeInteger}.
+     */
+    public static Collector<HugeInteger, HugeAccumulator, HugeInteger> collector()
+    {
+        return Collector.of(HugeAccumulator::new, HugeAccumulator::add, (first, second) ->
+        {
+            first.merge(second);
+            return first;
+        }, HugeAccumulator::toHugeInteger, Collector.Characteristics.UNORDERED);
+    }
+
+    // Public methods of class HugeAccumulator.
+
+    /**
+     * This public method adds the input {@code HugeInteger} to the accumulator.
+     *
+     * @param HugeInteger The {@code HugeInteger} to be added.
+     */
+    public void add(HugeInteger addend)
+    {
+        reserve(9);
+        int signum = addend.getSignum();
+        int[] digits = addend.digits;
+
+        for (int n = 0; n < digits.length; n++)
+        {
+            columns[n] += signum * digits[n];
+        }
+    }
+
+    /**
+     * This public method subtracts the input {@code HugeInteger} from the accumulator.
+     *
+     * @param HugeInteger The {@code HugeInteger} to be subtracted.
+     */
+    public void subtract(HugeInteger subtrahend)
+    {
+        reserve(9);
+        int signum = subtrahend.getSignum();
+        int[] digits = subtrahend.digits;
+
+        for (int n = 0; n < digits.length; n++)
+        {
+            columns[n] -= signum * digits[n];
+        }
+    }
+
+    /**
+     * This public method adds the input long to the accumulator.
+     *
+     * @param long The value to be added.
+     */
+    public void add(long addend)
+    {
+        reserve(9);
+
+        // The remainders have the signum of the addend, so every digit is added with its signum.
+        for (int n = 0; addend != 0; n++)
+        {
+            columns[n] += addend % 10;
+            addend /= 10;
+        }
+    }
+
+    /**
+     * This public method adds the product of the two input {@code HugeIntegers} to the accumulator.
+     * The product is accumulated digit by digit, so it's never built as a {@code HugeInteger} and
+     * it may exceed 40 digits.
+     *
+     * @param HugeInteger The multiplier.
+     * @param HugeInteger The multiplicand.
+     */
+    public void addProduct(HugeInteger multiplier, HugeInteger multiplicand)
+    {
+        int signum = multiplier.getSignum() * multiplicand.getSignum();
+
+        if (signum != 0)
+        {
+            int[] first = multiplier.digits;
+            int[] second = multiplicand.digits;
+            reserve(81L * Math.min(first.length, second.length));
+
+            for (int i = 0; i < second.length; i++)
+            {
+                int factor = signum * second[i];
+
+                for (int j = 0; j < first.length; j++)
+                {
+                    columns[i + j] += factor * first[j];
+                }
+            }
+        }
+    }
+
+    /**
+     * This public method adds to this accumulator the value of the input accumulator.
+     * The value of the input accumulator is not modified.
+     *
+     * @param HugeAccumulator The accumulator to be merged into this one.
+     */
+    public void merge(HugeAccumulator other)
+    {
+        if (other.load > MAX_LOAD / 2)
+        {
+            other.normalize();
+        }
+
+        reserve(other.load);
+
+        for (int n = 0; n < COLUMNS; n++)
+        {
+            columns[n] += other.columns[n];
+        }
+    }
+
+    /**
+     * This public method resets the accumulator to zero.
+     */
+    public void reset()
+    {
+        Arrays.fill(columns, 0);
+        load = 0;
+    }
+
+    /**
+     * This public method returns the accumulated value as a {@code HugeInteger}. Overflow is handled
+     * according to the {@code OverflowPolicy} of the current context.
+     *
+     * @return A {@code HugeInteger} with the accumulated value.
+     * @throws ArithmeticException If the accumulated value is greater than 40 digits and the policy is {@code THROW}.
+     */
+    public HugeInteger toHugeInteger()
+    {
+        normalize();
+        int signum = 1;
+
+        if (columns[COLUMNS - 1] < 0)
+        {
+            // The value is negative: negate every column and normalize again to get its absolute value.
+            for (int n = 0; n < COLUMNS; n++)
+            {
+                columns[n] = -columns[n];
+            }
+
+            normalize();
+            signum = -1;
+        }
+
+        int[] digits = new int[COLUMNS - 1];
+        boolean isTooLarge = columns[COLUMNS - 1] != 0;
+
+        for (int n = 0; n < COLUMNS - 1; n++)
+        {
+            digits[n] = (int) columns[n];
+        }
+
+        if (signum == -1)
+        {
+            // Restore the accumulator to its (negative) value.
+            for (int n = 0; n < COLUMNS; n++)
+            {
+                columns[n] = -columns[n];
+            }
+        }
+
+        if (isTooLarge)
+        {
+            // The value exceeds 80 digits: only the policy can decide the result.
+            digits = Arrays.copyOf(digits, HugeInteger.MAX_DIGITS + 1);
+            digits[HugeInteger.MAX_DIGITS] = 1;
+        }
+
+        return HugeInteger.valueOf(signum, digits, OverflowPolicy.current());
+    }
+}
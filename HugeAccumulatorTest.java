@@ -0,0 +1,91 @@
+/**
+ * Tests of the class HugeAccumulator.
+ * 
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import static org.junit.Assert.assertEquals;
+ 
+import java.util.stream.Stream;
+ 
+import org.junit.Test;
+ 
+public class HugeAccumulatorTest {
+     
+    private static String MAX_NUM = "9999999999999999999999999999999999999999";
+    private static String MIN_NUM = "-" + MAX_NUM;
+ 
+    @Test
+    public void testEmpty() {
+        assertEquals("0", new HugeAccumulator().toHugeInteger().toString());
+    }
+ 
+    @Test
+    public void testAdd() {
+        HugeAccumulator accumulator = new HugeAccumulator();
+        accumulator.add(new HugeInteger("1239"));
+        accumulator.add(new HugeInteger("-1240"));
+        accumulator.add(1000L);
+        accumulator.add(-10L);
+        assertEquals("989", accumulator.toHugeInteger().toString());
+        accumulator.subtract(new HugeInteger("1000"));
+        assertEquals("-11", accumulator.toHugeInteger().toString());
+    }
+ 
+    @Test
+    public void testAddLongLimits() {
+        HugeAccumulator accumulator = new HugeAccumulator();
+        accumulator.add(Long.MIN_VALUE);
+        accumulator.add(Long.MIN_VALUE);
+        assertEquals("-18446744073709551616", accumulator.toHugeInteger().toString());
+    }
+ 
+    @Test
+    public void testIntermediateOverflow() {
+        HugeAccumulator accumulator = new HugeAccumulator();
+        accumulator.add(new HugeInteger(MAX_NUM));
+        accumulator.add(new HugeInteger(MAX_NUM));
+        accumulator.add(new HugeInteger(MIN_NUM));
+        assertEquals(MAX_NUM, accumulator.toHugeInteger().toString());
+    }
+ 
+    @Test(expected=ArithmeticException.class)
+    public void testOverflow() {
+        HugeAccumulator accumulator = new HugeAccumulator();
+        accumulator.add(new HugeInteger(MAX_NUM));
+        accumulator.add(1L);
+        accumulator.toHugeInteger();
+    }
+ 
+    @Test
+    public void testAddProduct() {
+        HugeAccumulator accumulator = new HugeAccumulator();
+        accumulator.addProduct(new HugeInteger("1240"), new HugeInteger("1239"));
+        accumulator.addProduct(new HugeInteger("-2"), new HugeInteger("180"));
+        assertEquals("1536000", accumulator.toHugeInteger().toString());
+        accumulator.addProduct(new HugeInteger(MAX_NUM), new HugeInteger(MAX_NUM));
+        accumulator.addProduct(new HugeInteger(MIN_NUM), new HugeInteger(MAX_NUM));
+        assertEquals("1536000", accumulator.toHugeInteger().toString());
+    }
+ 
+    @Test
+    public void testMerge() {
+        HugeAccumulator first = new HugeAccumulator();
+        HugeAccumulator second = new HugeAccumulator();
+        first.add(new HugeInteger("1239"));
+        second.add(new HugeInteger("-1240"));
+        first.merge(second);
+        assertEquals("-1", first.toHugeInteger().toString());
+        assertEquals("-1240", second.toHugeInteger().toString());
+    }
+ 
+    @Test
+    public void testCollector() {
+        HugeInteger sum = Stream.iterate(HugeInteger.ONE, value -> value.add(HugeInteger.ONE))
+            .limit(1000)
+            .parallel()
+            .collect(HugeAccumulator.collector());
+        assertEquals("500500", sum.toString());
+    }
+}
@@ -0,0 +1,776 @@
+/**
+ * An immutable fixed-point decimal number, an unscaled {@code HugeInteger} of up to 40 digits
+ * multiplied by {@code 10^-scale}.
+ *
+ * A {@code HugeDecimal} represents amounts such as money in minor units without the overhead of
+ * {@code BigDecimal}. The scale of a sum or a difference is the greater scale of the operands: when
+ * both scales are equal the unscaled values are added directly, and otherwise the operand with the
+ * smaller scale is rescaled by shifting its digits, which costs as much as copying them. Products are
+ * exact, with the sum of the scales, or rounded to a scale; quotients are always rounded to a scale,
+ * with an explicit {@code RoundingMode}, so no operation rounds silently. A rounded product or
+ * quotient whose operands have at most 18 digits is computed with longs, and a quotient by a divisor
+ * of at most 9 digits by a short division, 9 digits at a time. Otherwise the intermediate
+ * values may exceed 40 digits, but the results can't: an overflow is handled according to the
+ * {@code OverflowPolicy} of the current context.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+public final class HugeDecimal
+{
+    public static final HugeDecimal ZERO = new HugeDecimal(HugeInteger.ZERO, 0);
+    public static final HugeDecimal ONE = new HugeDecimal(HugeInteger.ONE, 0);
+
+    /**
+     * The greatest shift of a rescale that can leave a non-zero value within the capacity of the
+     * intermediate values of a rounded division. Greater shifts give the same quotient.
+     */
+    private static final int MAX_SHIFT = 2 * HugeInteger.MAX_DIGITS + 2;
+
+    /**
+     * The greatest number of digits of the operands of a rounded product or quotient computed with longs,
+     * and the powers of ten that fit in a long.
+     */
+    private static final int LONG_DIGITS = 18;
+    private static final long[] POWERS_OF_TEN = new long[LONG_DIGITS + 1];
+
+    /**
+     * The greatest number of digits of a divisor of a short division, and the number of digits of the
+     * dividend divided at a time, so that the partial dividends fit in a long.
+     */
+    private static final int SHORT_DIVISOR_DIGITS = 9;
+    private static final long CHUNK = 1_000_000_000L;
+
+    /**
+     * The greatest absolute value of the exponent of the leading digit of a String representation without
+     * an exponent. Beyond it the representation is in scientific notation, so its length is bounded.
+     */
+    private static final int MAX_PLAIN_EXPONENT = 1_000;
+
+    static
+    {
+        POWERS_OF_TEN[0] = 1;
+
+        for (int n = 1; n <= LONG_DIGITS; n++)
+        {
+            POWERS_OF_TEN[n] = 10 * POWERS_OF_TEN[n - 1];
+        }
+    }
+
+    private final HugeInteger unscaledValue;
+    private final int scale;
+
+    // Constructors for class HugeDecimal.
+
+    /**
+     * This constructor initializes a {@code HugeDecimal} with the value {@code unscaledValue * 10^-scale}.
+     *
+     * @param HugeInteger The unscaled value.
+     * @param int The scale, the number of digits after the decimal point. It may be negative.
+     * @throws NullPointerException If the unscaled value is {@code null}.
+     */
+    public HugeDecimal(HugeInteger unscaledValue, int scale)
+    {
+        if (unscaledValue == null)
+        {
+            throw new NullPointerException("Unscaled value is null");
+        }
+
+        this.unscaledValue = unscaledValue;
+        this.scale = scale;
+    }
+
+    /**
+     * This constructor translates a decimal string, an optional sign followed by digits with an optional
+     * decimal point and an optional exponent, into a {@code HugeDecimal}. The scale is the number of digits
+     * after the point minus the exponent, so {@code "-12.50"} has the unscaled value {@code -1250} and the
+     * scale 2, and {@code "1.5E-2000"} has the unscaled value {@code 15} and the scale 2001. Leading zeros
+     * are ignored, and the trailing zeros beyond 40 significant digits are taken into the scale, so every
+     * String returned by {@code toString} is accepted.
+     *
+     * @param String The decimal string, with an exponent introduced by {@code E} or {@code e}.
+     * @throws NumberFormatException If the string is not a valid decimal number, its significant digits
+     *                               exceed 40, or its scale doesn't fit in an int.
+     */
+    public HugeDecimal(String value)
+    {
+        int exponentMark = Math.max(value.indexOf('E'), value.indexOf('e'));
+        String significand = exponentMark < 0 ? value : value.substring(0, exponentMark);
+        long exponent = exponentMark < 0 ? 0 : Long.parseLong(value.substring(exponentMark + 1));
+        boolean isSigned = !significand.isEmpty() && (significand.charAt(0) == '-' || significand.charAt(0) == '+');
+        int start = isSigned ? 1 : 0;
+        int point = significand.indexOf('.');
+
+        if (start == significand.length() || point >= 0 && (significand.indexOf('.', point + 1) >= 0
+                                                            || point == significand.length() - 1 || point == start))
+        {
+            throw new NumberFormatException("Invalid Number");
+        }
+
+        StringBuilder digits = new StringBuilder(significand.length());
+
+        for (int index = start; index < significand.length(); index++)
+        {
+            char digit = significand.charAt(index);
+
+            if (index != point && (digit < '0' || digit > '9'))
+            {
+                throw new NumberFormatException("Invalid Number");
+            }
+
+            if (index != point && (digit != '0' || digits.length() > 0))
+            {
+                digits.append(digit);
+            }
+        }
+
+        long scale = (point < 0 ? 0 : significand.length() - point - 1) - exponent;
+        int length = digits.length();
+
+        for (; length > HugeInteger.MAX_DIGITS && digits.charAt(length - 1) == '0'; length--)
+        {
+            scale--;
+        }
+
+        if (scale != (int) scale)
+        {
+            throw new NumberFormatException("Scale overflow: " + scale);
+        }
+
+        digits.setLength(length);
+        boolean isNegative = significand.charAt(0) == '-';
+        this.unscaledValue = length == 0 ? HugeInteger.ZERO : new HugeInteger(isNegative ? "-" + digits : digits.toString());
+        this.scale = (int) scale;
+    }
+
+    // Private methods of class HugeDecimal.
+
+    /**
+     * This private static method checks that a scale computed in a long fits in an int.
+     *
+     * @param long The scale.
+     * @return The scale as an int.
+     * @throws ArithmeticException If the scale doesn't fit in an int.
+     */
+    private static int checkScale(long scale)
+    {
+        if (scale != (int) scale)
+        {
+            throw new ArithmeticException("Scale overflow: " + scale);
+        }
+
+        return (int) scale;
+    }
+
+    /**
+     * This private static method returns the value of a {@code HugeInteger} of at most 18 digits as a long.
+     *
+     * @param HugeInteger The value.
+     * @return The value as a long.
+     */
+    private static long longValue(HugeInteger value)
+    {
+        long result = 0;
+
+        for (int index = value.digits.length - 1; index >= 0; index--)
+        {
+            result = 10 * result + value.digits[index];
+        }
+
+        return value.getSignum() * result;
+    }
+
+    /**
+     * This private static method decides if a truncated quotient must be rounded away from zero, from the
+     * position of the remainder relative to half the divisor.
+     *
+     * @param RoundingMode The rounding mode.
+     * @param int The signum of the exact quotient.
+     * @param boolean {@code true} if the remainder is zero.
+     * @param int The signum of {@code |2 * remainder| - |divisor|}.
+     * @param boolean {@code true} if the truncated quotient is odd.
+     * @return {@code true} if the absolute value of the quotient must be incremented.
+     * @throws ArithmeticException If the rounding mode is {@code UNNECESSARY} and the remainder is not zero.
+     */
+    private static boolean isRoundedAway(RoundingMode roundingMode, int signum, boolean isExact, int half, boolean isOdd)
+    {
+        // Half the divisor is a first discarded digit of 5, and any excess over it a non-zero digit after it.
+        int firstDiscarded = isExact || half < 0 ? 0 : 5;
+        boolean restNonZero = !isExact && half != 0;
+        return HugeInteger.isRoundedAway(roundingMode, signum, firstDiscarded, restNonZero, isOdd);
+    }
+
+    /**
+     * This private static method divides two longs and rounds the quotient according to the input rounding mode.
+     *
+     * @param long The dividend, of at most 18 digits.
+     * @param long The divisor, of at most 18 digits and not zero.
+     * @param RoundingMode The rounding mode to apply to the quotient.
+     * @return The rounded quotient.
+     * @throws ArithmeticException If the rounding mode is {@code UNNECESSARY} and the division is not exact.
+     */
+    private static HugeInteger divideAndRound(long dividend, long divisor, RoundingMode roundingMode)
+    {
+        long quotient = dividend / divisor;
+        long remainder = Math.abs(dividend - quotient * divisor);
+        int half = Long.compare(remainder, Math.abs(divisor) - remainder);
+        int signum = Long.signum(dividend) * Long.signum(divisor);
+
+        if (isRoundedAway(roundingMode, signum, remainder == 0, half, quotient % 2 != 0))
+        {
+            quotient += signum;
+        }
+
+        return HugeInteger.valueOf(quotient);
+    }
+
+    /**
+     * This private static method divides a {@code HugeInteger} multiplied by a power of ten by a divisor of at most
+     * 9 digits, 9 digits of the dividend at a time, and rounds the quotient according to the input rounding mode.
+     *
+     * @param HugeInteger The dividend.
+     * @param int The non-negative exponent of the power of ten that multiplies the dividend.
+     * @param long The divisor, not zero.
+     * @param RoundingMode The rounding mode to apply to the quotient.
+     * @return The rounded quotient.
+     * @throws ArithmeticException If the rounding mode is {@code UNNECESSARY} and the division is not exact,
+     *                             or if the quotient is greater than 40 digits and the policy is {@code THROW}.
+     */
+    private static HugeInteger divideAndRound(HugeInteger dividend, int shift, long divisor, RoundingMode roundingMode)
+    {
+        int[] digits = dividend.digits;
+        int length = digits.length + shift;
+        long absoluteDivisor = Math.abs(divisor);
+        int[] quotient = new int[length + 1];
+        long remainder = 0;
+
+        // The chunks are aligned to the units digit; the digits below the shift are zeros.
+        for (int top = (length + SHORT_DIVISOR_DIGITS - 1) / SHORT_DIVISOR_DIGITS * SHORT_DIVISOR_DIGITS; top > 0; top -= SHORT_DIVISOR_DIGITS)
+        {
+            long chunk = 0;
+
+            for (int index = top - 1; index >= top - SHORT_DIVISOR_DIGITS; index--)
+            {
+                chunk = 10 * chunk + (index >= shift && index < length ? digits[index - shift] : 0);
+            }
+
+            long partial = remainder * CHUNK + chunk;
+            long chunkQuotient = partial / absoluteDivisor;
+            remainder = partial - chunkQuotient * absoluteDivisor;
+
+            for (int index = top - SHORT_DIVISOR_DIGITS; index < top; index++, chunkQuotient /= 10)
+            {
+                if (index < length)
+                {
+                    quotient[index] = (int) (chunkQuotient % 10);
+                }
+            }
+        }
+
+        int signum = dividend.getSignum() * Long.signum(divisor);
+        int half = Long.compare(remainder, absoluteDivisor - remainder);
+
+        if (isRoundedAway(roundingMode, signum, remainder == 0, half, quotient[0] % 2 != 0))
+        {
+            int index = 0;
+
+            for (; quotient[index] == 9; index++)
+            {
+                quotient[index] = 0;
+            }
+
+            quotient[index]++;
+        }
+
+        return HugeInteger.valueOf(signum, quotient, OverflowPolicy.current());
+    }
+
+    /**
+     * This private static method returns a power of ten as a {@code MutableHugeInteger}.
+     *
+     * @param int The non-negative exponent.
+     * @return A new {@code MutableHugeInteger} with the value {@code 10^exponent}.
+     */
+    private static MutableHugeInteger powerOfTen(int exponent)
+    {
+        MutableHugeInteger result = new MutableHugeInteger(HugeInteger.ONE);
+        result.shiftDecimalInPlace(exponent);
+        return result;
+    }
+
+    /**
+     * This private static method divides two {@code MutableHugeIntegers} of any length and rounds the quotient
+     * according to the input rounding mode.
+     *
+     * @param MutableHugeInteger The dividend.
+     * @param MutableHugeInteger The divisor, not zero.
+     * @param RoundingMode The rounding mode to apply to the quotient.
+     * @return The rounded quotient.
+     * @throws ArithmeticException If the rounding mode is {@code UNNECESSARY} and the division is not exact,
+     *                             or if the quotient is greater than 40 digits and the policy is {@code THROW}.
+     */
+    private static HugeInteger divideAndRound(MutableHugeInteger dividend, MutableHugeInteger divisor, RoundingMode roundingMode)
+    {
+        int signum = dividend.getSignum() * divisor.getSignum();
+        MutableHugeInteger quotient = new MutableHugeInteger();
+        quotient.set(dividend);
+        quotient.divideInPlace(divisor);
+
+        // The remainder has the signum of the dividend, because the quotient is truncated towards zero.
+        MutableHugeInteger product = new MutableHugeInteger();
+        product.set(quotient);
+        product.multiplyInPlace(divisor);
+        MutableHugeInteger remainder = new MutableHugeInteger();
+        remainder.set(dividend);
+        remainder.subtractInPlace(product);
+
+        // The signum of |2 * remainder| - |divisor| tells if the remainder is below, at or above half the divisor.
+        MutableHugeInteger twice = product;
+        twice.set(remainder);
+        twice.addInPlace(remainder);
+
+        if (remainder.getSignum() == divisor.getSignum())
+        {
+            twice.subtractInPlace(divisor);
+        }
+        else
+        {
+            twice.addInPlace(divisor);
+        }
+
+        int half = remainder.getSignum() * twice.getSignum();
+        HugeInteger result = quotient.toHugeInteger();
+
+        if (isRoundedAway(roundingMode, signum, remainder.isZero(), half, result.mod10() % 2 != 0))
+        {
+            result = result.add(signum > 0 ? HugeInteger.ONE : HugeInteger.MINUS_ONE);
+        }
+
+        return result;
+    }
+
+    /**
+     * This private method returns the unscaled value of this {@code HugeDecimal} rescaled to a greater or equal
+     * scale, by shifting its digits.
+     *
+     * @param int The new scale, not less than the scale of this {@code HugeDecimal}.
+     * @return The unscaled value at the new scale.
+     * @throws ArithmeticException If the result is greater than 40 digits and the policy is {@code THROW}.
+     */
+    private HugeInteger unscaledValueAt(int newScale)
+    {
+        long shift = (long) newScale - scale;
+        return shift == 0 ? unscaledValue : unscaledValue.shiftDecimalLeft((int) Math.min(shift, MAX_SHIFT));
+    }
+
+    /**
+     * This private method compares this {@code HugeDecimal} with another one, aligning their scales in a
+     * {@code MutableHugeInteger} so that no rescale overflows.
+     *
+     * @param HugeDecimal The other {@code HugeDecimal}.
+     * @return {@code -1}, {@code 0} or {@code 1} as this {@code HugeDecimal} is less than, equal to or greater than the other.
+     */
+    private int compare(HugeDecimal other)
+    {
+        int result;
+
+        if (scale == other.scale)
+        {
+            result = unscaledValue.isLessThan(other.unscaledValue) ? -1 : (other.unscaledValue.isLessThan(unscaledValue) ? 1 : 0);
+        }
+        else if (unscaledValue.getSignum() != other.unscaledValue.getSignum())
+        {
+            result = Integer.compare(unscaledValue.getSignum(), other.unscaledValue.getSignum());
+        }
+        else
+        {
+            // Both values have the same signum, so the shift of the one with the smaller scale can be capped.
+            long shift = (long) scale - other.scale;
+            int cappedShift = (int) Math.max(-MAX_SHIFT, Math.min(shift, MAX_SHIFT));
+            MutableHugeInteger difference = new MutableHugeInteger(other.unscaledValue);
+            difference.shiftDecimalInPlace(Math.max(cappedShift, 0));
+            MutableHugeInteger value = new MutableHugeInteger(unscaledValue);
+            value.shiftDecimalInPlace(Math.max(-cappedShift, 0));
+            value.subtractInPlace(difference);
+            result = value.getSignum();
+        }
+
+        return result;
+    }
+
+    // Static methods of class HugeDecimal.
+
+    /**
+     * This static method returns a {@code HugeDecimal} with the value of a {@code BigDecimal}.
+     *
+     * @param BigDecimal The value, whose unscaled value must have at most 40 digits.
+     * @return A {@code HugeDecimal} with the same unscaled value and scale.
+     * @throws NumberFormatException If the unscaled value has more than 40 digits.
+     */
+    public static HugeDecimal valueOf(BigDecimal value)
+    {
+        return new HugeDecimal(new HugeInteger(value.unscaledValue().toString()), value.scale());
+    }
+
+    // Public methods of class HugeDecimal.
+
+    /**
+     * This public method returns the unscaled value of this {@code HugeDecimal}.
+     *
+     * @return The unscaled value.
+     */
+    public HugeInteger unscaledValue()
+    {
+        return unscaledValue;
+    }
+
+    /**
+     * This public method returns the scale of this {@code HugeDecimal}.
+     *
+     * @return The number of digits after the decimal point, which may be negative.
+     */
+    public int scale()
+    {
+        return scale;
+    }
+
+    /**
+     * This public method returns the value of the signum function of this {@code HugeDecimal}.
+     *
+     * @return {@code -1} for a negative value, {@code 1} for a positive value and {@code 0} for zero.
+     */
+    public int getSignum()
+    {
+        return unscaledValue.getSignum();
+    }
+
+    /**
+     * This public method returns {@code true} if this {@code HugeDecimal} is equal to zero, at any scale.
+     *
+     * @return {@code true} if the unscaled value is zero.
+     */
+    public boolean isZero()
+    {
+        return unscaledValue.isZero();
+    }
+
+    /**
+     * This public method returns {@code true} if this {@code HugeDecimal} is numerically equal to the input one,
+     * whatever their scales, so {@code 2.0} is equal to {@code 2.00}.
+     *
+     * @param HugeDecimal The {@code HugeDecimal} to compare.
+     * @return {@code true} if both values are equal.
+     */
+    public boolean isEqualTo(HugeDecimal comparedHugeDecimal)
+    {
+        return compare(comparedHugeDecimal) == 0;
+    }
+
+    /**
+     * This public method returns {@code true} if this {@code HugeDecimal} is less than the input one.
+     *
+     * @param HugeDecimal The {@code HugeDecimal} to compare.
+     * @return {@code true} if this value is less than the other.
+     */
+    public boolean isLessThan(HugeDecimal comparedHugeDecimal)
+    {
+        return compare(comparedHugeDecimal) < 0;
+    }
+
+    /**
+     * This public method returns {@code true} if this {@code HugeDecimal} is greater than the input one.
+     *
+     * @param HugeDecimal The {@code HugeDecimal} to compare.
+     * @return {@code true} if this value is greater than the other.
+     */
+    public boolean isGreaterThan(HugeDecimal comparedHugeDecimal)
+    {
+        return compare(comparedHugeDecimal) > 0;
+    }
+
+    /**
+     * This public method returns a {@code HugeDecimal} with the same value at another scale. A greater scale
+     * shifts the digits of the unscaled value to the left; a smaller one shifts them to the right and rounds.
+     *
+     * @param int The new scale.
+     * @param RoundingMode The rounding mode to apply to the discarded digits.
+     * @return A {@code HugeDecimal} with the new scale.
+     * @throws ArithmeticException If the rounding mode is {@code UNNECESSARY} and a discarded digit is not zero,
+     *                             or if the result is greater than 40 digits and the policy is {@code THROW}.
+     */
+    public HugeDecimal setScale(int newScale, RoundingMode roundingMode)
+    {
+        HugeDecimal result = this;
+
+        if (newScale > scale)
+        {
+            result = new HugeDecimal(unscaledValueAt(newScale), newScale);
+        }
+        else if (newScale < scale)
+        {
+            long shift = (long) scale - newScale;
+            int cappedShift = (int) Math.min(shift, HugeInteger.MAX_DIGITS + 1);
+            result = new HugeDecimal(unscaledValue.shiftDecimalRight(cappedShift, roundingMode), newScale);
+        }
+
+        return result;
+    }
+
+    /**
+     * This public method returns a {@code HugeDecimal} with the same value at another scale, which must not
+     * discard any non-zero digit.
+     *
+     * @param int The new scale.
+     * @return A {@code HugeDecimal} with the new scale.
+     * @throws ArithmeticException If a discarded digit is not zero, or if the result is greater than 40 digits
+     *                             and the policy is {@code THROW}.
+     */
+    public HugeDecimal setScale(int newScale)
+    {
+        return setScale(newScale, RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * This public method adds the input {@code HugeDecimal} to this one. The scale of the sum is the greater scale.
+     *
+     * @param HugeDecimal The {@code HugeDecimal} to add.
+     * @return The exact sum.
+     * @throws ArithmeticException If the result is greater than 40 digits and the policy is {@code THROW}.
+     */
+    public HugeDecimal add(HugeDecimal augend)
+    {
+        HugeDecimal result;
+
+        if (scale == augend.scale)
+        {
+            result = new HugeDecimal(unscaledValue.add(augend.unscaledValue), scale);
+        }
+        else
+        {
+            int newScale = Math.max(scale, augend.scale);
+            result = new HugeDecimal(unscaledValueAt(newScale).add(augend.unscaledValueAt(newScale)), newScale);
+        }
+
+        return result;
+    }
+
+    /**
+     * This public method subtracts the input {@code HugeDecimal} from this one. The scale of the difference
+     * is the greater scale.
+     *
+     * @param HugeDecimal The {@code HugeDecimal} to subtract.
+     * @return The exact difference.
+     * @throws ArithmeticException If the result is greater than 40 digits and the policy is {@code THROW}.
+     */
+    public HugeDecimal subtract(HugeDecimal subtrahend)
+    {
+        HugeDecimal result;
+
+        if (scale == subtrahend.scale)
+        {
+            result = new HugeDecimal(unscaledValue.subtract(subtrahend.unscaledValue), scale);
+        }
+        else
+        {
+            int newScale = Math.max(scale, subtrahend.scale);
+            result = new HugeDecimal(unscaledValueAt(newScale).subtract(subtrahend.unscaledValueAt(newScale)), newScale);
+        }
+
+        return result;
+    }
+
+    /**
+     * This public method multiplies this {@code HugeDecimal} by the input one. The scale of the product is
+     * the sum of the scales.
+     *
+     * @param HugeDecimal The {@code HugeDecimal} to multiply.
+     * @return The exact product.
+     * @throws ArithmeticException If the scale overflows an int, or if the result is greater than 40 digits
+     *                             and the policy is {@code THROW}.
+     */
+    public HugeDecimal multiply(HugeDecimal multiplicand)
+    {
+        int newScale = checkScale((long) scale + multiplicand.scale);
+        return new HugeDecimal(unscaledValue.multiply(multiplicand.unscaledValue), newScale);
+    }
+
+    /**
+     * This public method multiplies this {@code HugeDecimal} by the input one and rounds the product to a scale.
+     * The exact product may exceed 40 digits if the rounded one doesn't, as a price times a rate with many
+     * decimal places rounded to cents.
+     *
+     * @param HugeDecimal The {@code HugeDecimal} to multiply.
+     * @param int The scale of the product.
+     * @param RoundingMode The rounding mode to apply to the product.
+     * @return The rounded product.
+     * @throws ArithmeticException If the rounding mode is {@code UNNECESSARY} and the product must be rounded,
+     *                             or if the result is greater than 40 digits and the policy is {@code THROW}.
+     */
+    public HugeDecimal multiply(HugeDecimal multiplicand, int scale, RoundingMode roundingMode)
+    {
+        long exactScale = (long) this.scale + multiplicand.scale;
+        HugeInteger product = unscaledValue.tryMultiply(multiplicand.unscaledValue);
+        HugeDecimal result;
+
+        int length = unscaledValue.digitCount() + multiplicand.unscaledValue.digitCount();
+
+        if (length <= LONG_DIGITS && exactScale - scale > 0 && exactScale - scale <= LONG_DIGITS)
+        {
+            // The exact product fits in a long, and so does the power of ten that rounds it.
+            long exact = longValue(unscaledValue) * longValue(multiplicand.unscaledValue);
+            result = new HugeDecimal(divideAndRound(exact, POWERS_OF_TEN[(int) (exactScale - scale)], roundingMode), scale);
+        }
+        else if (product != null && exactScale == (int) exactScale)
+        {
+            result = new HugeDecimal(product, (int) exactScale).setScale(scale, roundingMode);
+        }
+        else if (scale >= exactScale)
+        {
+            // The exact product has more than 40 digits, and more at a greater scale.
+            result = multiply(multiplicand).setScale(scale, roundingMode);
+        }
+        else
+        {
+            MutableHugeInteger exact = new MutableHugeInteger(unscaledValue);
+            exact.multiplyInPlace(multiplicand.unscaledValue);
+            MutableHugeInteger divisor = powerOfTen((int) Math.min(exactScale - scale, MAX_SHIFT));
+            result = new HugeDecimal(divideAndRound(exact, divisor, roundingMode), scale);
+        }
+
+        return result;
+    }
+
+    /**
+     * This public method divides this {@code HugeDecimal} by the input one and rounds the quotient to a scale.
+     *
+     * @param HugeDecimal The divisor.
+     * @param int The scale of the quotient.
+     * @param RoundingMode The rounding mode to apply to the quotient.
+     * @return The rounded quotient.
+     * @throws ArithmeticException Division by zero if the divisor is zero, if the rounding mode is
+     *                             {@code UNNECESSARY} and the quotient must be rounded, or if the result
+     *                             is greater than 40 digits and the policy is {@code THROW}.
+     */
+    public HugeDecimal divide(HugeDecimal divisor, int scale, RoundingMode roundingMode)
+    {
+        if (divisor.isZero())
+        {
+            throw new ArithmeticException("Division by Zero.");
+        }
+
+        // (u1 * 10^-s1) / (u2 * 10^-s2) = (u1 * 10^(scale - s1 + s2) / u2) * 10^-scale.
+        long shift = (long) scale - this.scale + divisor.scale;
+        int cappedShift = (int) Math.max(-MAX_SHIFT, Math.min(shift, MAX_SHIFT));
+        int dividendShift = Math.max(cappedShift, 0);
+        int divisorShift = Math.max(-cappedShift, 0);
+        HugeInteger quotient;
+
+        if (unscaledValue.digitCount() + dividendShift <= LONG_DIGITS && divisor.unscaledValue.digitCount() + divisorShift <= LONG_DIGITS)
+        {
+            quotient = divideAndRound(longValue(unscaledValue) * POWERS_OF_TEN[dividendShift],
+                                      longValue(divisor.unscaledValue) * POWERS_OF_TEN[divisorShift], roundingMode);
+        }
+        else if (divisor.unscaledValue.digitCount() + divisorShift <= SHORT_DIVISOR_DIGITS)
+        {
+            quotient = divideAndRound(unscaledValue, dividendShift, longValue(divisor.unscaledValue) * POWERS_OF_TEN[divisorShift],
+                                      roundingMode);
+        }
+        else
+        {
+            MutableHugeInteger dividend = new MutableHugeInteger(unscaledValue);
+            MutableHugeInteger scaledDivisor = new MutableHugeInteger(divisor.unscaledValue);
+            dividend.shiftDecimalInPlace(dividendShift);
+            scaledDivisor.shiftDecimalInPlace(divisorShift);
+            quotient = divideAndRound(dividend, scaledDivisor, roundingMode);
+        }
+
+        return new HugeDecimal(quotient, scale);
+    }
+
+    /**
+     * This public method divides this {@code HugeDecimal} by the input one and rounds the quotient to the
+     * scale of this {@code HugeDecimal}.
+     *
+     * @param HugeDecimal The divisor.
+     * @param RoundingMode The rounding mode to apply to the quotient.
+     * @return The rounded quotient.
+     * @throws ArithmeticException Division by zero if the divisor is zero, if the rounding mode is
+     *                             {@code UNNECESSARY} and the quotient must be rounded, or if the result
+     *                             is greater than 40 digits and the policy is {@code THROW}.
+     */
+    public HugeDecimal divide(HugeDecimal divisor, RoundingMode roundingMode)
+    {
+        return divide(divisor, scale, roundingMode);
+    }
+
+    /**
+     * This public method returns a {@code BigDecimal} with the value and the scale of this {@code HugeDecimal}.
+     *
+     * @return The equivalent {@code BigDecimal}.
+     */
+    public BigDecimal toBigDecimal()
+    {
+        return new BigDecimal(new BigInteger(unscaledValue.toString()), scale);
+    }
+
+    /**
+     * This public method returns the String representation of this {@code HugeDecimal}, in plain notation
+     * unless the exponent of its leading digit exceeds 1000 in absolute value. In plain notation a positive
+     * scale places the decimal point before as many digits, and a negative one appends as many zeros, so
+     * {@code 8.92E+9} is {@code "8920000000"}. Beyond that exponent the representation is in scientific
+     * notation: the leading digit, the other digits after a point and the exponent, such as {@code "1.5E-2000"}.
+     * Either form is accepted by the string constructor.
+     *
+     * @return String representation of this {@code HugeDecimal}, as {@code "-12.50"}.
+     */
+    @Override
+    public String toString()
+    {
+        String digits = HugeInteger.abs(unscaledValue).toString();
+        StringBuilder result = new StringBuilder(unscaledValue.isNegative() ? "-" : "");
+        long exponent = digits.length() - 1 - (long) scale;
+
+        if (Math.abs(exponent) > MAX_PLAIN_EXPONENT)
+        {
+            result.append(digits.charAt(0));
+
+            if (digits.length() > 1)
+            {
+                result.append('.').append(digits, 1, digits.length());
+            }
+
+            result.append(exponent > 0 ? "E+" : "E").append(exponent);
+        }
+        else if (scale <= 0)
+        {
+            result.append(digits);
+
+            for (int n = 0; n < -(long) scale && !unscaledValue.isZero(); n++)
+            {
+                result.append('0');
+            }
+        }
+        else if (digits.length() > scale)
+        {
+            result.append(digits, 0, digits.length() - scale).append('.').append(digits, digits.length() - scale, digits.length());
+        }
+        else
+        {
+            result.append("0.");
+
+            for (int n = digits.length(); n < scale; n++)
+            {
+                result.append('0');
+            }
+
+            result.append(digits);
+        }
+
+        return result.toString();
+    }
+}
@@ -0,0 +1,286 @@
+/**
+ * Tests of the class HugeDecimal.
+ * 
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class HugeDecimalTest {
+
+    private static final RoundingMode[] MODES = {
+        RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR,
+        RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN
+    };
+    
+    private SplittableRandom random;
+    
+    @Before
+    public void setUp() {
+        random = new SplittableRandom(5);
+    }
+    
+    private HugeDecimal randomDecimal(int maxDigits) {
+        HugeInteger unscaled = HugeIntegers.random(random, 1 + random.nextInt(maxDigits));
+        return new HugeDecimal(random.nextBoolean() ? HugeInteger.opposite(unscaled) : unscaled, random.nextInt(-3, 12));
+    }
+    
+    private static void assertDecimal(BigDecimal expected, HugeDecimal actual) {
+        assertEquals(expected.toString(), expected, actual.toBigDecimal());
+    }
+    
+    @Test
+    public void testParseAndToString() {
+        String[] values = {"0", "-0", "12.50", "-12.50", "+3.0", "0.001", "-0.00012", "1234567890.1234567890123456789012345678",
+                           "9999999999999999999999999999999999999999"};
+    
+        for (String value : values) {
+            HugeDecimal decimal = new HugeDecimal(value);
+            BigDecimal expected = new BigDecimal(value);
+            assertDecimal(expected, decimal);
+            assertEquals(expected.toPlainString(), decimal.toString());
+        }
+    
+        assertEquals("123000", new HugeDecimal(new HugeInteger("123"), -3).toString());
+        assertEquals("-0.0123", new HugeDecimal(new HugeInteger("-123"), 4).toString());
+    }
+    
+    @Test
+    public void testToStringExtremeScales() {
+        String[] values = {"1E-2000000000", "-1.5E+2000000000", "1.23E+1001", "1.23E-1001", "0E-5000", "0E+5000",
+                           "1E-2147483647", "-9.999999999999999999999999999999999999999E-2147483608"};
+    
+        for (String value : values) {
+            BigDecimal expected = new BigDecimal(value);
+            assertEquals(expected.toString(), HugeDecimal.valueOf(expected).toString());
+        }
+    
+        assertEquals("1E+300000000", new HugeDecimal(HugeInteger.ONE, -300_000_000).toString());
+        assertEquals("1E+2147483648", new HugeDecimal(HugeInteger.ONE, Integer.MIN_VALUE).toString());
+        assertEquals(new BigDecimal("1E+1000").toPlainString(), new HugeDecimal(HugeInteger.ONE, -1_000).toString());
+        assertEquals(new BigDecimal("1E-1000").toPlainString(), new HugeDecimal(HugeInteger.ONE, 1_000).toString());
+    }
+    
+    @Test
+    public void testParseExponent() {
+        String[] values = {"1E3", "1e-3", "-12.50E+2", "8.92E+9", "1.5E-2000", "0E-5000", "-9.87e-1", "123E-2147483647"};
+    
+        for (String value : values) {
+            BigDecimal expected = new BigDecimal(value);
+            HugeDecimal decimal = new HugeDecimal(value);
+            assertDecimal(expected, decimal);
+            assertEquals(expected.scale(), decimal.scale());
+        }
+    
+        assertEquals("8920000000", new HugeDecimal("8.92E+9").toString());
+    }
+    
+    @Test
+    public void testToStringRoundTrip() {
+        // The plain notation ends at an exponent of 1000 of the leading digit, and the scientific one starts after it.
+        HugeInteger[] values = {HugeInteger.ONE, new HugeInteger("-15"), HugeInteger.MAX_VALUE, HugeInteger.MIN_VALUE};
+    
+        for (HugeInteger value : values) {
+            int digits = value.digitCount();
+            int[] scales = {digits - 1 - 1_000, digits - 2 - 1_000, digits - 1 + 1_000, digits + 1_000, 0, 2, -3,
+                            Integer.MIN_VALUE, Integer.MAX_VALUE};
+    
+            for (int scale : scales) {
+                HugeDecimal decimal = new HugeDecimal(value, scale);
+                HugeDecimal parsed = new HugeDecimal(decimal.toString());
+                assertTrue(parsed.isEqualTo(decimal));
+                assertEquals(decimal.toString(), parsed.toString());
+            }
+        }
+    
+        assertEquals(1_001, new HugeDecimal(HugeInteger.ONE, -1_000).toString().length());
+        assertEquals("1E+1001", new HugeDecimal(HugeInteger.ONE, -1_001).toString());
+        assertEquals(1_002, new HugeDecimal(HugeInteger.ONE, 1_000).toString().length());
+        assertEquals("1E-1001", new HugeDecimal(HugeInteger.ONE, 1_001).toString());
+        assertEquals(2_000, new HugeDecimal(new HugeDecimal(HugeInteger.ONE, 2_000).toString()).scale());
+        assertEquals(-3, new HugeDecimal(HugeInteger.MAX_VALUE.toString() + "000").scale());
+    }
+    
+    @Test
+    public void testParseLeadingZeros() {
+        assertDecimal(new BigDecimal("0.0000000000000000000000000000000000000000000000001"),
+            new HugeDecimal("0.0000000000000000000000000000000000000000000000001"));
+        assertDecimal(new BigDecimal("-12.5"), new HugeDecimal("-000000000000000000000000000000000000000000000012.5"));
+    }
+    
+    @Test(expected=NumberFormatException.class)
+    public void testParseEmptyExponent() {
+        new HugeDecimal("1.5E");
+    }
+    
+    @Test(expected=NumberFormatException.class)
+    public void testParseScaleOverflow() {
+        new HugeDecimal("0.1E-2147483648");
+    }
+    
+    @Test(expected=NumberFormatException.class)
+    public void testParseExponentOverflow() {
+        new HugeDecimal("1E-9223372036854775808");
+    }
+    
+    @Test(expected=NumberFormatException.class)
+    public void testParseTooManyDigits() {
+        new HugeDecimal("99999999999999999999999999999999999999991");
+    }
+    
+    @Test(expected=NumberFormatException.class)
+    public void testParseSignAfterZero() {
+        new HugeDecimal("0-5");
+    }
+    
+    @Test(expected=NumberFormatException.class)
+    public void testParseTwoPoints() {
+        new HugeDecimal("1.2.3");
+    }
+    
+    @Test(expected=NumberFormatException.class)
+    public void testParseTrailingPoint() {
+        new HugeDecimal("12.");
+    }
+    
+    @Test(expected=NumberFormatException.class)
+    public void testParseLeadingPoint() {
+        new HugeDecimal("-.5");
+    }
+    
+    @Test
+    public void testAddAndSubtract() {
+        for (int n = 0; n < 5_000; n++) {
+            HugeDecimal first = randomDecimal(25);
+            HugeDecimal second = randomDecimal(25);
+            assertDecimal(first.toBigDecimal().add(second.toBigDecimal()), first.add(second));
+            assertDecimal(first.toBigDecimal().subtract(second.toBigDecimal()), first.subtract(second));
+        }
+    
+        HugeDecimal cents = new HugeDecimal("10.25");
+        assertDecimal(new BigDecimal("20.50"), cents.add(cents));
+        assertDecimal(new BigDecimal("0.00"), cents.subtract(cents));
+    }
+    
+    @Test
+    public void testMultiply() {
+        for (int n = 0; n < 5_000; n++) {
+            HugeDecimal first = randomDecimal(20);
+            HugeDecimal second = randomDecimal(20);
+            assertDecimal(first.toBigDecimal().multiply(second.toBigDecimal()), first.multiply(second));
+        }
+    }
+    
+    @Test
+    public void testMultiplyAndRound() {
+        for (int n = 0; n < 5_000; n++) {
+            // The exact products may have up to 50 digits.
+            HugeDecimal first = randomDecimal(25);
+            HugeDecimal second = randomDecimal(25);
+            RoundingMode mode = MODES[random.nextInt(MODES.length)];
+            int scale = first.scale() + second.scale() - 10 + random.nextInt(12);
+            BigDecimal expected = first.toBigDecimal().multiply(second.toBigDecimal()).setScale(scale, mode);
+    
+            if (expected.unscaledValue().abs().toString().length() <= 40) {
+                assertDecimal(expected, first.multiply(second, scale, mode));
+            }
+        }
+    
+        HugeDecimal price = new HugeDecimal("19.99");
+        HugeDecimal rate = new HugeDecimal("0.0725");
+        assertDecimal(new BigDecimal("1.45"), price.multiply(rate, 2, RoundingMode.HALF_EVEN));
+    }
+    
+    @Test
+    public void testDivide() {
+        for (int n = 0; n < 5_000; n++) {
+            HugeDecimal first = randomDecimal(30);
+            HugeDecimal second = randomDecimal(20);
+            RoundingMode mode = MODES[random.nextInt(MODES.length)];
+            int scale = random.nextInt(-2, 15);
+    
+            if (second.isZero()) {
+                continue;
+            }
+            BigDecimal expected = first.toBigDecimal().divide(second.toBigDecimal(), scale, mode);
+    
+            if (expected.unscaledValue().abs().toString().length() <= 40) {
+                assertDecimal(expected, first.divide(second, scale, mode));
+            }
+        }
+    
+        for (RoundingMode mode : MODES) {
+            for (String dividend : new String[] {"5", "15", "25", "-5", "-15", "7", "-7", "3", "-3"}) {
+                BigDecimal expected = new BigDecimal(dividend).divide(BigDecimal.TEN, 0, mode);
+                assertDecimal(expected, new HugeDecimal(dividend).divide(new HugeDecimal("10"), mode));
+            }
+        }
+    
+        assertDecimal(new BigDecimal("0.333"), new HugeDecimal("1.000").divide(new HugeDecimal("3"), RoundingMode.HALF_UP));
+        assertDecimal(new BigDecimal("0"), new HugeDecimal("1").divide(new HugeDecimal(new HugeInteger("3"), -60), 0, RoundingMode.HALF_UP));
+    }
+    
+    @Test(expected=ArithmeticException.class)
+    public void testDivideByZero() {
+        HugeDecimal.ONE.divide(new HugeDecimal("0.00"), 2, RoundingMode.HALF_UP);
+    }
+    
+    @Test(expected=ArithmeticException.class)
+    public void testDivideRoundingNecessary() {
+        HugeDecimal.ONE.divide(new HugeDecimal("3"), 2, RoundingMode.UNNECESSARY);
+    }
+    
+    @Test
+    public void testSetScale() {
+        for (int n = 0; n < 5_000; n++) {
+            HugeDecimal value = randomDecimal(30);
+            RoundingMode mode = MODES[random.nextInt(MODES.length)];
+            int scale = value.scale() - 35 + random.nextInt(45);
+            BigDecimal expected = value.toBigDecimal().setScale(scale, mode);
+    
+            if (expected.unscaledValue().abs().toString().length() <= 40) {
+                assertDecimal(expected, value.setScale(scale, mode));
+            }
+        }
+    
+        assertDecimal(new BigDecimal("12.500"), new HugeDecimal("12.5").setScale(3));
+    }
+    
+    @Test(expected=ArithmeticException.class)
+    public void testSetScaleRoundingNecessary() {
+        new HugeDecimal("12.55").setScale(1);
+    }
+    
+    @Test
+    public void testCompare() {
+        for (int n = 0; n < 5_000; n++) {
+            HugeDecimal first = randomDecimal(25);
+            HugeDecimal second = random.nextInt(4) == 0 ? first.setScale(first.scale() + random.nextInt(10)) : randomDecimal(25);
+            int expected = first.toBigDecimal().compareTo(second.toBigDecimal());
+            assertEquals(expected == 0, first.isEqualTo(second));
+            assertEquals(expected < 0, first.isLessThan(second));
+            assertEquals(expected > 0, first.isGreaterThan(second));
+        }
+    
+        HugeDecimal tiny = new HugeDecimal(HugeInteger.MAX_VALUE, 1_000);
+        HugeDecimal large = new HugeDecimal(HugeInteger.ONE, -1_000);
+        assertTrue(tiny.isLessThan(large));
+        assertTrue(new HugeDecimal("2.0").isEqualTo(new HugeDecimal("2.00")));
+    }
+    
+    @Test
+    public void testValueOf() {
+        BigDecimal value = new BigDecimal("-98765432109876543210.0123456789");
+        assertDecimal(value, HugeDecimal.valueOf(value));
+        assertEquals(value.scale(), HugeDecimal.valueOf(value).scale());
+    }
+}
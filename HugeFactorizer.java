@@ -0,0 +1,712 @@
+/**
+ * A factorizer of {@code HugeIntegers} into primes.
+ *
+ * The small factors are removed by trial division by the primes less than {@code 2^16}, and the perfect
+ * powers are reduced to their roots. Every composite cofactor is then split by workers that run in a
+ * {@code ForkJoinPool} until one of them finds a factor: each worker first tries two walks of Pollard's
+ * rho method in Brent's form, which find factors of up to about ten digits, and then elliptic curves of
+ * Lenstra's method (ECM), which find factors of up to twenty digits. The walks and the curves of the
+ * workers have different parameters, so they are independent.
+ *
+ * The rho walks multiply the differences of their sequences together and take one GCD per batch of
+ * them. The curves are Montgomery curves with Suyama's parametrization, whose order is a multiple of 12;
+ * their first stage multiplies a point by every prime power up to a bound {@code B1}, with Montgomery's
+ * ladder, and their second stage looks for a last prime factor of the order up to {@code 100 B1}, with
+ * baby and giant steps. All the modular products are computed in Montgomery form by {@code HugeModulus}.
+ *
+ * A factorization is abandoned when its time budget is exhausted or when its cancellation hook returns
+ * {@code true}, which the workers check between batches.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+public final class HugeFactorizer
+{
+    /**
+     * The primes up to this limit divide the numbers before the other methods.
+     */
+    private static final int TRIAL_DIVISION_LIMIT = 1 << 16;
+
+    /**
+     * The number of rho walks of a worker, and their number of steps.
+     */
+    private static final int RHO_WALKS = 2;
+    private static final int RHO_STEPS = 1 << 18;
+
+    /**
+     * The number of steps of a rho walk, or of primes of a curve, between two checks of the GCD and the stop
+     * conditions.
+     */
+    private static final int BATCH = 256;
+
+    /**
+     * The first-stage bounds of the curves, and the index of the first curve of every bound but the first.
+     * The second-stage bound is {@code 100 B1}.
+     */
+    private static final int[] B1_BOUNDS = {2_000, 11_000, 50_000};
+    private static final int[] CURVES = {25, 90};
+    private static final int B2_FACTOR = 100;
+
+    /**
+     * The distance between the giant steps of the second stage.
+     */
+    private static final int GIANT_STEP = 210;
+
+    /**
+     * The certainty of the primality tests of the factors.
+     */
+    private static final int CERTAINTY = 100;
+
+    private final ForkJoinPool pool;
+    private final long timeBudgetMillis;
+
+    // Constructors for class HugeFactorizer.
+
+    /**
+     * This constructor initializes a factorizer that runs in the common {@code ForkJoinPool}, with no time budget.
+     */
+    public HugeFactorizer()
+    {
+        this(ForkJoinPool.commonPool(), Long.MAX_VALUE);
+    }
+
+    /**
+     * This constructor initializes a factorizer that runs in the input pool, with a time budget per factorization.
+     *
+     * @param ForkJoinPool The pool of the workers.
+     * @param long The time budget of a factorization in milliseconds.
+     * @throws NullPointerException If the pool is {@code null}.
+     * @throws IllegalArgumentException If the time budget is not positive.
+     */
+    public HugeFactorizer(ForkJoinPool pool, long timeBudgetMillis)
+    {
+        if (pool == null)
+        {
+            throw new NullPointerException("pool");
+        }
+
+        if (timeBudgetMillis < 1)
+        {
+            throw new IllegalArgumentException("Non-positive time budget: " + timeBudgetMillis);
+        }
+
+        this.pool = pool;
+        this.timeBudgetMillis = timeBudgetMillis;
+    }
+
+    /**
+     * The primes up to the greatest second-stage bound, computed when they're first used.
+     */
+    private static final class Primes
+    {
+        private static final int LIMIT = B2_FACTOR * B1_BOUNDS[B1_BOUNDS.length - 1];
+
+        /**
+         * The primes in ascending order, and a bit per odd number that is set if it's prime.
+         */
+        private static final int[] PRIMES;
+        private static final long[] ODD_PRIMES = new long[LIMIT / 128 + 1];
+
+        static
+        {
+            boolean[] isComposite = new boolean[LIMIT + 1];
+            int[] primes = new int[LIMIT / 10];
+            int count = 0;
+            primes[count++] = 2;
+
+            for (int n = 3; n <= LIMIT; n += 2)
+            {
+                if (!isComposite[n])
+                {
+                    primes[count++] = n;
+                    ODD_PRIMES[n >>> 7] |= 1L << (n >>> 1);
+
+                    for (long multiple = (long) n * n; multiple <= LIMIT; multiple += 2 * n)
+                    {
+                        isComposite[(int) multiple] = true;
+                    }
+                }
+            }
+
+            PRIMES = Arrays.copyOf(primes, count);
+        }
+
+        // Static methods of class Primes.
+
+        /**
+         * This static method returns whether an odd number up to the limit is prime.
+         *
+         * @param int The odd number.
+         * @return {@code true} if the number is prime.
+         */
+        static boolean isOddPrime(int n)
+        {
+            return (ODD_PRIMES[n >>> 7] & 1L << (n >>> 1)) != 0;
+        }
+    }
+
+    /**
+     * The search of a factor of a composite number by a worker, which stops when a factor is found by any
+     * worker, the deadline is reached or the factorization is cancelled.
+     */
+    private static final class Search
+    {
+        private final HugeModulus modulus;
+        private final int[] limbs;
+        private final AtomicReference<int[]> factor;
+        private final long deadline;
+        private final BooleanSupplier isCancelled;
+
+        /**
+         * The parameters of a curve: {@code (A + 2) / 4} as a numerator and a denominator.
+         */
+        private int[] a24Numerator;
+        private int[] a24Denominator;
+
+        // Constructors for class Search.
+
+        /**
+         * This constructor initializes a search.
+         *
+         * @param int[] The limbs of the composite number, odd and without factors less than {@code 2^16}.
+         * @param AtomicReference<int[]> The factor found by any worker.
+         * @param long The deadline, in the time of {@code System.nanoTime}.
+         * @param BooleanSupplier The cancellation hook.
+         */
+        Search(int[] limbs, AtomicReference<int[]> factor, long deadline, BooleanSupplier isCancelled)
+        {
+            this.modulus = new HugeModulus(limbs);
+            this.limbs = modulus.modulus();
+            this.factor = factor;
+            this.deadline = deadline;
+            this.isCancelled = isCancelled;
+        }
+
+        // Private methods of class Search.
+
+        /**
+         * This private method returns whether the search must stop.
+         *
+         * @return {@code true} if a factor was found or the factorization is over.
+         */
+        private boolean isStopped()
+        {
+            return factor.get() != null || System.nanoTime() - deadline > 0 || isCancelled.getAsBoolean();
+        }
+
+        /**
+         * This private method publishes the GCD of a residue and the number if it's a proper factor.
+         *
+         * @param int[] The residue.
+         * @return {@code true} if the GCD is not 1, a factor or the number itself.
+         */
+        private boolean check(int[] value)
+        {
+            int[] divisor = HugeModulus.gcd(value, limbs);
+            boolean isOne = divisor[0] == 1 && HugeModulus.isZero(Arrays.copyOfRange(divisor, 1, divisor.length));
+
+            if (!isOne && !Arrays.equals(divisor, limbs))
+            {
+                factor.compareAndSet(null, divisor);
+            }
+
+            return !isOne;
+        }
+
+        /**
+         * This private method runs a walk of Pollard's rho method in Brent's form, with the map
+         * {@code x -> x^2 + c}.
+         *
+         * @param long The constant of the map.
+         */
+        private void rho(long constant)
+        {
+            int[] c = modulus.toMontgomery(constant);
+            int[] y = modulus.toMontgomery(2);
+            int[] x = y.clone();
+            int[] saved = y.clone();
+            int[] product = modulus.one();
+            int[] difference = new int[limbs.length];
+            boolean isFound = false;
+
+            for (int power = 1, steps = 0; !isFound && steps < RHO_STEPS && !isStopped(); power *= 2)
+            {
+                System.arraycopy(y, 0, x, 0, y.length);
+
+                for (int n = 0; n < power; n++)
+                {
+                    modulus.multiply(y, y, y);
+                    modulus.add(y, c, y);
+                }
+
+                for (int done = 0; done < power && !isFound && !isStopped(); done += BATCH)
+                {
+                    System.arraycopy(y, 0, saved, 0, y.length);
+
+                    for (int n = 0; n < Math.min(BATCH, power - done); n++)
+                    {
+                        modulus.multiply(y, y, y);
+                        modulus.add(y, c, y);
+                        modulus.subtract(x, y, difference);
+                        modulus.multiply(product, difference, product);
+                    }
+
+                    steps += BATCH;
+                    isFound = check(product);
+                }
+            }
+
+            // The product of the batch is 0: the steps are repeated one by one from its start.
+            if (isFound && factor.get() == null)
+            {
+                boolean isDivisor = false;
+
+                for (int n = 0; n < BATCH && !isDivisor; n++)
+                {
+                    modulus.multiply(saved, saved, saved);
+                    modulus.add(saved, c, saved);
+                    modulus.subtract(x, saved, difference);
+                    isDivisor = check(difference);
+                }
+            }
+        }
+
+        /**
+         * This private method doubles a point of the current curve, in projective coordinates {@code X:Z}.
+         *
+         * @param int[][] The point.
+         * @return The double.
+         */
+        private int[][] twice(int[][] point)
+        {
+            int[] sum = new int[limbs.length];
+            int[] difference = new int[limbs.length];
+            modulus.add(point[0], point[1], sum);
+            modulus.subtract(point[0], point[1], difference);
+            modulus.multiply(sum, sum, sum);
+            modulus.multiply(difference, difference, difference);
+
+            // 4 X Z = (X + Z)^2 - (X - Z)^2, and the coordinates are multiplied by the denominator of (A + 2) / 4.
+            int[] product = new int[limbs.length];
+            modulus.subtract(sum, difference, product);
+            modulus.multiply(difference, a24Denominator, difference);
+            int[] x = modulus.multiply(sum, difference);
+            modulus.multiply(a24Numerator, product, sum);
+            modulus.add(sum, difference, sum);
+            int[] z = modulus.multiply(product, sum);
+            return new int[][] {x, z};
+        }
+
+        /**
+         * This private method adds two points of the current curve whose difference is known.
+         *
+         * @param int[][] The first point.
+         * @param int[][] The second point.
+         * @param int[][] The difference of the points, which must not be the point at infinity.
+         * @return The sum.
+         */
+        private int[][] add(int[][] first, int[][] second, int[][] difference)
+        {
+            int[] u = new int[limbs.length];
+            int[] w = new int[limbs.length];
+            int[] t = new int[limbs.length];
+            modulus.subtract(first[0], first[1], u);
+            modulus.add(second[0], second[1], t);
+            modulus.multiply(u, t, u);
+            modulus.add(first[0], first[1], w);
+            modulus.subtract(second[0], second[1], t);
+            modulus.multiply(w, t, w);
+            modulus.add(u, w, t);
+            modulus.multiply(t, t, t);
+            int[] x = modulus.multiply(difference[1], t);
+            modulus.subtract(u, w, t);
+            modulus.multiply(t, t, t);
+            int[] z = modulus.multiply(difference[0], t);
+            return new int[][] {x, z};
+        }
+
+        /**
+         * This private method multiplies a point of the current curve by a positive number, with
+         * Montgomery's ladder.
+         *
+         * @param int[][] The point.
+         * @param long The multiplier.
+         * @return The product.
+         */
+        private int[][] multiply(int[][] point, long multiplier)
+        {
+            int[][] low = point;
+            int[][] high = twice(point);
+
+            for (int bit = 62 - Long.numberOfLeadingZeros(multiplier); bit >= 0; bit--)
+            {
+                if ((multiplier >>> bit & 1) != 0)
+                {
+                    low = add(low, high, point);
+                    high = twice(high);
+                }
+                else
+                {
+                    high = add(low, high, point);
+                    low = twice(low);
+                }
+            }
+
+            return low;
+        }
+
+        /**
+         * This private method runs both stages of the elliptic curve method on one curve.
+         *
+         * @param long Suyama's parameter of the curve, greater than 5.
+         * @param int The first-stage bound.
+         */
+        private void curve(long sigma, int b1)
+        {
+            // u = sigma^2 - 5, v = 4 sigma, the point is (u^3 : v^3) and (A + 2) / 4 = (v - u)^3 (3u + v) / (16 u^3 v).
+            int[] u = modulus.toMontgomery(sigma * sigma - 5);
+            int[] v = modulus.toMontgomery(4 * sigma);
+            int[] t = new int[limbs.length];
+            int[] uCube = modulus.multiply(modulus.multiply(u, u), u);
+            int[] vCube = modulus.multiply(modulus.multiply(v, v), v);
+            modulus.subtract(v, u, t);
+            a24Numerator = modulus.multiply(modulus.multiply(t, t), t);
+            modulus.add(u, u, t);
+            modulus.add(t, u, t);
+            modulus.add(t, v, t);
+            modulus.multiply(a24Numerator, t, a24Numerator);
+            a24Denominator = modulus.multiply(modulus.multiply(uCube, v), modulus.toMontgomery(16));
+            int[][] point = {uCube, vCube};
+            boolean isFound = false;
+
+            // First stage: the point is multiplied by the greatest power of every prime up to B1.
+            for (int index = 0; index < Primes.PRIMES.length && Primes.PRIMES[index] <= b1 && !isFound; index++)
+            {
+                long prime = Primes.PRIMES[index];
+                long power = prime;
+
+                for (; power * prime <= b1; power *= prime)
+                    ;
+
+                point = multiply(point, power);
+
+                if (index % BATCH == BATCH - 1)
+                {
+                    isFound = isStopped() || check(point[1]);
+                }
+            }
+
+            isFound = isFound || check(point[1]);
+
+            if (!isFound)
+            {
+                secondStage(point, b1);
+            }
+        }
+
+        /**
+         * This private method runs the second stage of the elliptic curve method: a prime {@code q} from B1
+         * to {@code 100 B1} is {@code j D + b} or {@code j D - b}, with the giant step {@code D} and a baby
+         * step {@code b}, and {@code q Q} is the point at infinity modulo a factor if {@code j D Q} and
+         * {@code b Q} have the same {@code x} coordinate, so the differences of the coordinates of those
+         * pairs are multiplied together.
+         *
+         * @param int[][] The point of the first stage.
+         * @param int The first-stage bound.
+         */
+        private void secondStage(int[][] point, int b1)
+        {
+            int b2 = B2_FACTOR * b1;
+            int[][][] babies = new int[GIANT_STEP / 2][][];
+            int[][] twice = twice(point);
+            babies[1] = point;
+            babies[3] = add(twice, point, point);
+
+            for (int b = 5; b < babies.length; b += 2)
+            {
+                babies[b] = add(babies[b - 2], twice, babies[b - 4]);
+            }
+
+            int first = b1 / GIANT_STEP + 1;
+            int[][] step = multiply(point, GIANT_STEP);
+            int[][] previous = multiply(point, (long) (first - 1) * GIANT_STEP);
+            int[][] giant = multiply(point, (long) first * GIANT_STEP);
+            int[] product = modulus.one();
+            int[] cross = new int[limbs.length];
+            int[] other = new int[limbs.length];
+            boolean isFound = false;
+
+            for (int j = first; (long) j * GIANT_STEP - GIANT_STEP / 2 <= b2 && !isFound; j++)
+            {
+                int center = j * GIANT_STEP;
+
+                for (int b = 1; b < babies.length; b += 2)
+                {
+                    boolean isPrime = (center + b <= b2 && Primes.isOddPrime(center + b))
+                                      || (center - b > b1 && center - b <= b2 && Primes.isOddPrime(center - b));
+
+                    if (isPrime && babies[b] != null && b % 3 != 0 && b % 5 != 0 && b % 7 != 0)
+                    {
+                        modulus.multiply(giant[0], babies[b][1], cross);
+                        modulus.multiply(babies[b][0], giant[1], other);
+                        modulus.subtract(cross, other, cross);
+                        modulus.multiply(product, cross, product);
+                    }
+                }
+
+                int[][] next = add(giant, step, previous);
+                previous = giant;
+                giant = next;
+
+                if (j % BATCH == 0)
+                {
+                    isFound = isStopped() || check(product);
+                }
+            }
+
+            if (!isFound)
+            {
+                check(product);
+            }
+        }
+
+        // Methods of class Search.
+
+        /**
+         * This method searches a factor until one is found or the factorization is over.
+         *
+         * @param int The index of the worker.
+         * @param int The number of workers.
+         */
+        void run(int worker, int workers)
+        {
+            for (int walk = 0; walk < RHO_WALKS && !isStopped(); walk++)
+            {
+                rho(1 + walk * workers + worker);
+            }
+
+            for (long curve = worker; !isStopped(); curve += workers)
+            {
+                int bound = 0;
+
+                for (; bound < CURVES.length && curve >= CURVES[bound]; bound++)
+                    ;
+
+                curve(6 + curve, B1_BOUNDS[bound]);
+            }
+        }
+    }
+
+    // Private methods of class HugeFactorizer.
+
+    /**
+     * This private static method returns the integer root of a positive {@code HugeInteger}, rounded down,
+     * with Newton's method started from the root of its double value.
+     *
+     * @param HugeInteger The number.
+     * @param int The degree of the root, at least 2.
+     * @return The root.
+     */
+    private static HugeInteger root(HugeInteger value, int degree)
+    {
+        HugeInteger result = new HugeInteger(String.format(java.util.Locale.ROOT, "%.0f",
+                                             Math.floor(Math.pow(Double.parseDouble(value.toString()), 1.0 / degree))));
+        HugeInteger degreeValue = HugeInteger.valueOf(degree);
+        HugeInteger lessOne = HugeInteger.valueOf(degree - 1);
+
+        for (int n = 0; n < 3 && !result.isZero(); n++)
+        {
+            HugeInteger power = power(result, degree - 1);
+            result = power == null ? result : result.multiply(lessOne).add(value.divide(power)).divide(degreeValue);
+        }
+
+        // The root is corrected by one unit in either direction.
+        for (HugeInteger power = power(result, degree); power == null || power.isGreaterThan(value); power = power(result, degree))
+        {
+            result = result.subtract(HugeInteger.ONE);
+        }
+
+        for (HugeInteger power = power(result.add(HugeInteger.ONE), degree); power != null && power.isLessThanOrEqualTo(value);
+             power = power(result.add(HugeInteger.ONE), degree))
+        {
+            result = result.add(HugeInteger.ONE);
+        }
+
+        return result;
+    }
+
+    /**
+     * This private static method raises a {@code HugeInteger} to a power.
+     *
+     * @param HugeInteger The base.
+     * @param int The exponent, not negative.
+     * @return The power, or {@code null} if it exceeds 40 digits.
+     */
+    private static HugeInteger power(HugeInteger base, int exponent)
+    {
+        HugeInteger result = HugeInteger.ONE;
+
+        for (int n = 0; n < exponent && result != null; n++)
+        {
+            result = result.tryMultiply(base);
+        }
+
+        return result;
+    }
+
+    /**
+     * This private method splits a composite number in two factors, running a search in every worker of the pool.
+     *
+     * @param HugeInteger The number, odd, not a perfect power and without factors less than {@code 2^16}.
+     * @param long The deadline, in the time of {@code System.nanoTime}.
+     * @param BooleanSupplier The cancellation hook.
+     * @return A proper factor of the number.
+     * @throws CancellationException If the deadline is reached or the factorization is cancelled.
+     */
+    private HugeInteger split(HugeInteger value, long deadline, BooleanSupplier isCancelled)
+    {
+        int[] limbs = HugeModulus.toLimbs(value);
+        AtomicReference<int[]> factor = new AtomicReference<>();
+        int workers = pool.getParallelism();
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+
+        for (int worker = 0; worker < workers; worker++)
+        {
+            int index = worker;
+            tasks.add(pool.submit(() -> new Search(limbs, factor, deadline, isCancelled).run(index, workers)));
+        }
+
+        for (ForkJoinTask<?> task : tasks)
+        {
+            task.join();
+        }
+
+        if (factor.get() == null)
+        {
+            throw new CancellationException(isCancelled.getAsBoolean() ? "Factorization cancelled: " + value
+                                                                       : "Time budget exceeded: " + value);
+        }
+
+        return HugeModulus.toHugeInteger(factor.get());
+    }
+
+    // Public methods of class HugeFactorizer.
+
+    /**
+     * This public method factors a {@code HugeInteger} into primes.
+     *
+     * @param HugeInteger The number, not zero.
+     * @return The prime factors in ascending order, repeated as many times as they divide the number, after
+     *         -1 if the number is negative. The factors of 1 are an empty list.
+     * @throws IllegalArgumentException If the number is zero.
+     * @throws CancellationException If the time budget is exhausted.
+     */
+    public List<HugeInteger> factor(HugeInteger value)
+    {
+        return factor(value, () -> false);
+    }
+
+    /**
+     * This public method factors a {@code HugeInteger} into primes, unless a cancellation hook asks to stop.
+     *
+     * @param HugeInteger The number, not zero.
+     * @param BooleanSupplier The cancellation hook, which is called regularly by the workers and must be
+     *                        thread-safe. The factorization is abandoned when it returns {@code true}.
+     * @return The prime factors in ascending order, repeated as many times as they divide the number, after
+     *         -1 if the number is negative. The factors of 1 are an empty list.
+     * @throws IllegalArgumentException If the number is zero.
+     * @throws CancellationException If the time budget is exhausted or the hook returns {@code true}.
+     */
+    public List<HugeInteger> factor(HugeInteger value, BooleanSupplier isCancelled)
+    {
+        if (value.isZero())
+        {
+            throw new IllegalArgumentException("Zero has no factorization");
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + Math.min(timeBudgetMillis, Long.MAX_VALUE / 2_000_000) * 1_000_000;
+        List<HugeInteger> primes = new ArrayList<>();
+        HugeInteger rest = HugeInteger.abs(value);
+
+        int[] limbs = HugeModulus.toLimbs(rest);
+
+        for (int index = 0; index < Primes.PRIMES.length && Primes.PRIMES[index] < TRIAL_DIVISION_LIMIT; index++)
+        {
+            int prime = Primes.PRIMES[index];
+
+            while (HugeModulus.remainder(limbs, prime) == 0 && !rest.isOne())
+            {
+                HugeInteger primeValue = HugeInteger.valueOf(prime);
+                primes.add(primeValue);
+                rest = rest.divide(primeValue);
+                limbs = HugeModulus.toLimbs(rest);
+            }
+        }
+
+        Deque<HugeInteger> composites = new ArrayDeque<>();
+
+        if (!rest.isOne())
+        {
+            composites.push(rest);
+        }
+
+        while (!composites.isEmpty())
+        {
+            HugeInteger composite = composites.pop();
+
+            if (composite.isProbablePrime(CERTAINTY))
+            {
+                primes.add(composite);
+            }
+            else
+            {
+                // A factor is at least 2^16, so a perfect power has an exponent of at most 8.
+                boolean isPower = false;
+
+                for (int degree : new int[] {2, 3, 5, 7})
+                {
+                    HugeInteger root = isPower ? null : root(composite, degree);
+
+                    if (root != null && composite.isEqualTo(power(root, degree)))
+                    {
+                        isPower = true;
+
+                        for (int n = 0; n < degree; n++)
+                        {
+                            composites.push(root);
+                        }
+                    }
+                }
+
+                if (!isPower)
+                {
+                    HugeInteger factor = split(composite, deadline, isCancelled);
+                    composites.push(factor);
+                    composites.push(composite.divide(factor));
+                }
+            }
+        }
+
+        primes.sort((first, second) -> first.isLessThan(second) ? -1 : first.isEqualTo(second) ? 0 : 1);
+
+        if (value.isNegative())
+        {
+            primes.add(0, HugeInteger.MINUS_ONE);
+        }
+
+        return primes;
+    }
+}
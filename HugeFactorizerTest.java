@@ -0,0 +1,100 @@
+/**
+ * Tests of the class HugeFactorizer.
+ * 
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class HugeFactorizerTest {
+
+    private HugeFactorizer factorizer;
+    
+    @Before
+    public void setUp() {
+        factorizer = new HugeFactorizer();
+    }
+    
+    private static String[] strings(List<HugeInteger> factors) {
+        return factors.stream().map(HugeInteger::toString).toArray(String[]::new);
+    }
+    
+    @Test
+    public void testSmallNumbers() {
+        for (long n = 1; n <= 2000; n++) {
+            List<HugeInteger> factors = factorizer.factor(HugeInteger.valueOf(n));
+            long product = 1;
+            long previous = 1;
+            
+            for (HugeInteger factor : factors) {
+                long value = Long.parseLong(factor.toString());
+                assertTrue("n = " + n, value >= previous && factor.isProbablePrime(50));
+                product *= value;
+                previous = value;
+            }
+            
+            assertEquals(n, product);
+        }
+    }
+    
+    @Test
+    public void testSemiprimes() {
+        // The factor of 10 digits is found by the rho walks, those of 13 and 19 digits by the curves.
+        assertArrayEquals(new String[] {"9999999929", "1000000000000000000000000103"},
+            strings(factorizer.factor(new HugeInteger("9999999929").multiply(new HugeInteger("1000000000000000000000000103")))));
+        assertArrayEquals(new String[] {"1000000000039", "1000000000000000000000000103"},
+            strings(factorizer.factor(new HugeInteger("1000000000039").multiply(new HugeInteger("1000000000000000000000000103")))));
+        assertArrayEquals(new String[] {"1000000000000000003", "1000000000000000000117"},
+            strings(factorizer.factor(new HugeInteger("1000000000000000003").multiply(new HugeInteger("1000000000000000000117")))));
+    }
+    
+    @Test
+    public void testPowersAndSigns() {
+        String[] twos = new String[132];
+        Arrays.fill(twos, "2");
+        assertArrayEquals(twos, strings(factorizer.factor(new HugeInteger("5444517870735015415413993718908291383296"))));
+        assertArrayEquals(new String[] {"-1", "1000000000000000003", "1000000000000000003"},
+            strings(factorizer.factor(HugeInteger.opposite(new HugeInteger("1000000000000000006000000000000000009")))));
+        assertArrayEquals(new String[] {"-1"}, strings(factorizer.factor(HugeInteger.MINUS_ONE)));
+        assertEquals(0, factorizer.factor(HugeInteger.ONE).size());
+        assertArrayEquals(new String[] {"170141183460469231731687303715884105727"},
+            strings(HugeIntegers.factor(new HugeInteger("170141183460469231731687303715884105727"))));
+    }
+    
+    @Test(expected=CancellationException.class)
+    public void testCancellation() {
+        factorizer.factor(new HugeInteger("1000000000000000003").multiply(new HugeInteger("1000000000000000000117")), () -> true);
+    }
+    
+    @Test(expected=CancellationException.class)
+    public void testTimeBudget() {
+        new HugeFactorizer(ForkJoinPool.commonPool(), 1)
+            .factor(new HugeInteger("43282517251456332737").multiply(new HugeInteger("67129920416651341133")));
+    }
+    
+    @Test(expected=IllegalArgumentException.class)
+    public void testZero() {
+        factorizer.factor(HugeInteger.ZERO);
+    }
+    
+    @Test(expected=IllegalArgumentException.class)
+    public void testNonPositiveTimeBudget() {
+        new HugeFactorizer(ForkJoinPool.commonPool(), 0);
+    }
+    
+    @Test(expected=NullPointerException.class)
+    public void testNullPool() {
+        new HugeFactorizer(null, 1000);
+    }
+}
@@ -5,6 +5,7 @@
  * @version 3.0
  */
 
+import java.math.RoundingMode;
 import java.util.Arrays;
 
 public class HugeInteger
@@ -28,6 +29,18 @@ public class HugeInteger
     public static final HugeInteger ONE = new HugeInteger ("1");
     public static final HugeInteger MINUS_ONE = new HugeInteger ("-1");
     public static final HugeInteger ZERO = new HugeInteger ();
+    
+    /** 
+     * Final fields (contants) representing the greatest and the least values
+     * that can be stored by a {@code HugeInteger}: plus and minus forty nines.
+     */
+    public static final HugeInteger MAX_VALUE = new HugeInteger ("9999999999999999999999999999999999999999");
+    public static final HugeInteger MIN_VALUE = new HugeInteger ("-9999999999999999999999999999999999999999");
+    
+    /** 
+     * The maximum number of digits of a {@code HugeInteger}.
+     */
+    static final int MAX_DIGITS = 40;
 
     // Constructors for class HugeInteger.
     
@@ -76,6 +89,9 @@ public class HugeInteger
      */ 
     public HugeInteger(String digitsBigEndian) 
     {
+        HugeIntegerEvent.Parse event = new HugeIntegerEvent.Parse();
+        event.begin();
+        
         validateString(digitsBigEndian);
         boolean isNegative = false;
             
@@ -105,7 +121,9 @@ public class HugeInteger
                 int originalIndex = digitsBigEndian.length() - finalIndex - 1;
                 digits[finalIndex] = Character.getNumericValue(digitsBigEndian.charAt(originalIndex));
             }
-        }        
+        }
+        
+        event.record(digits.length, signum, 0, 0);
     }
     
     /**
@@ -301,26 +319,6 @@ public class HugeInteger
         
     }
     
-    /**
-     * This private method eliminate the trailing zeros (if any) from the input array.
-     * 
-     * @param int[] The input array. Is assumed to be in little-endian order: the least significant digit 
-     *              is in the zeroth element.
-     * @return An integer array which is a copy of the input array without trailing zeros.
-     */
-    private int[] stripTrailingZerosArray(int[] digitsLittleEndian) 
-    {
-        int numberLength = digitsLittleEndian.length;
-        int firstNonZero = numberLength - 1;
-        
-        // Find first non-zero integer in array.
-        for (; firstNonZero >= 0 && digitsLittleEndian[firstNonZero] == 0; firstNonZero--)
-            ;
-        
-        return firstNonZero == numberLength - 1 ? digitsLittleEndian : Arrays.copyOfRange(digitsLittleEndian, 0, firstNonZero + 1);
-        
-    }
-    
     /**
      * This private method eliminates the leading zeros (if any) from the input String.
      * 
@@ -376,8 +374,64 @@ public class HugeInteger
     }
     
     /**
-     * This private method sums the absolute values of the {@code HugeIntegers} represented by the
-     * two input digits arrays.
+     * This private static method compares two absolute values represented by digits arrays of which only
+     * the first elements are significant. It works as {@code compareAbsoluteValues} for arrays taken
+     * from the {@code ScratchArena}.
+     * 
+     * @param int[] The array representing the first absolute value in little-endian order.
+     * @param int The number of significant digits of the first array. The last of them must not be zero.
+     * @param int[] The array representing the second absolute value in little-endian order.
+     * @param int The number of significant digits of the second array. The last of them must not be zero.
+     * @return {@code -1} if the first absolute value is less than the second, {@code 0} if they
+     *         are equal and {@code 1} if the first is greater than the second.
+     */
+    private static int compareAbsoluteValues(int[] firstNumber, int firstLength, int[] secondNumber, int secondLength)
+    {
+        int comparisonResult;
+        
+        if (firstLength == secondLength)
+        {
+            int firstNotEqual  = firstLength - 1;            
+            
+            for (; firstNotEqual >= 0 && firstNumber[firstNotEqual] == secondNumber[firstNotEqual]; firstNotEqual--)
+                ;
+            
+            if (firstNotEqual < 0)
+            {
+                comparisonResult = 0;
+            }
+            else
+            {
+                comparisonResult = firstNumber[firstNotEqual] < secondNumber[firstNotEqual] ? -1 : 1;
+            }
+        }
+        else
+        {
+            comparisonResult = firstLength < secondLength ? -1 : 1;
+        }
+        
+        return comparisonResult;
+    }
+    
+    /**
+     * This private static method copies a result computed in an array of the {@code ScratchArena} to an
+     * array of its exact length, without the trailing zeros.
+     * 
+     * @param int[] The array holding the result in little-endian order.
+     * @param int The number of elements of the array that belong to the result.
+     * @return A new array in little-endian order with the significant digits of the result.
+     */
+    private static int[] copyResult(int[] scratch, int length)
+    {
+        for (; length > 0 && scratch[length - 1] == 0; length--)
+            ;
+        
+        return Arrays.copyOf(scratch, length);
+    }
+    
+    /**
+     * This package-private static method sums the absolute values of the {@code HugeIntegers} represented by the
+     * two input digits arrays. It's the addition of the schoolbook {@code ArithmeticEngine}.
      * 
      * @param int[] The array representing the absolute value of the first {@code HugeInteger}. Is assumed to be
      *              in little-endian order: the least significant digit is in the zeroth element.
@@ -385,54 +439,44 @@ public class HugeInteger
      *              in little-endian order: the least significant digit is in the zeroth element.
      * @return An array in little-endian order which is the result of the sum of the two input arrays.
      */
-    private int[] intAdd(int[] firstAddend, int[] secondAddend) 
+    static int[] intAdd(int[] firstAddend, int[] secondAddend) 
     {
-        int carry = 0;
-        int maxLength = Math.max(firstAddend.length, secondAddend.length);
-        int firstDigit = 0;
-        int secondDigit = 0;
-        int[] result = new int[maxLength + 1];
+        ScratchArena arena = ScratchArena.get();
+        int mark = arena.mark();
+        int[] result;
         
-        for (int n = 0; n < maxLength; n++) 
+        try
         {
-            if (n < firstAddend.length) 
-            {
-                firstDigit = firstAddend[n];
-            }
-            else 
-            {
-                firstDigit = 0;
-            }
-                
-            if (n < secondAddend.length) 
-            {
-                secondDigit = secondAddend[n];
-            }
-            else 
+            int carry = 0;
+            int maxLength = Math.max(firstAddend.length, secondAddend.length);
+            int firstDigit = 0;
+            int secondDigit = 0;
+            int[] sum = arena.borrow(maxLength + 1);
+            
+            for (int n = 0; n < maxLength; n++) 
             {
-                secondDigit = 0;
+                firstDigit = n < firstAddend.length ? firstAddend[n] : 0;
+                secondDigit = n < secondAddend.length ? secondAddend[n] : 0;
+                    
+                int digitSum = firstDigit + secondDigit + carry;
+                carry = digitSum > 9 ? 1 : 0; 
+                sum[n] = digitSum - 10 * carry;
             }
-                
-            int sum = firstDigit + secondDigit + carry;
-            carry = sum > 9 ? 1 : 0; 
-            result[n] = sum % 10;
-        }
-                
-        if (carry == 1) 
-        {
-            result[maxLength] = 1;
+            
+            sum[maxLength] = carry;
+            result = copyResult(sum, maxLength + 1);
         }
-        else 
+        finally
         {
-            result = stripTrailingZerosArray(result);
+            arena.release(mark);
         }
             
         return result;
     }
     
     /**
-     * This private method subtracts the absolute values of the {@code HugeIntegers} represented by the
-     * two input digits arrays.
+     * This package-private static method subtracts the absolute values of the {@code HugeIntegers} represented by the
+     * two input digits arrays. It's the subtraction of the schoolbook {@code ArithmeticEngine}.
      * 
      * @param int[] The array representing the absolute value of the first {@code HugeInteger}. Is assumed to be
      *              in little-endian order: the least significant digit is in the zeroth element.
@@ -440,13 +484,11 @@ public class HugeInteger
      *              in little-endian order: the least significant digit is in the zeroth element.
      * @return An array in little-endian order which is the result of the subtraction of the two input arrays.
      */
-    private int[] intSubtract(int[] minuend, int[] subtrahend, int compare) 
+    static int[] intSubtract(int[] minuend, int[] subtrahend, int compare) 
     {
-        int carry = 0;
-        int maxLength = Math.max(minuend.length, subtrahend.length);
-        int firstDigit = 0;
-        int secondDigit = 0;
-        int[] result = new int[maxLength];
+        ScratchArena arena = ScratchArena.get();
+        int mark = arena.mark();
+        int[] result;
         
         if (subtrahend.length > minuend.length || compare == -1) 
         {
@@ -455,27 +497,30 @@ public class HugeInteger
             subtrahend = temp;
         }
         
-        for (int n = 0; n < maxLength; n++) 
+        try
         {
-            firstDigit = minuend[n];
-                
-            if (n < subtrahend.length) 
-            {
-                secondDigit = subtrahend[n];
-            }
-            else 
+            int carry = 0;
+            int maxLength = minuend.length;
+            int firstDigit = 0;
+            int secondDigit = 0;
+            int[] difference = arena.borrow(maxLength);
+            
+            for (int n = 0; n < maxLength; n++) 
             {
-                secondDigit = 0;
+                firstDigit = minuend[n];
+                secondDigit = n < subtrahend.length ? subtrahend[n] : 0;
+                
+                int diff = firstDigit - secondDigit - carry;
+                carry = diff < 0 ? 1 : 0;
+                difference[n] = diff + 10 * carry;
             }
             
-            int diff = firstDigit - secondDigit - carry;
-            
-            carry = diff < 0 ? 1 : 0;
-
-            result[n] = (diff + 10) % 10;
+            result = copyResult(difference, maxLength);
+        }
+        finally
+        {
+            arena.release(mark);
         }
-       
-        result = stripTrailingZerosArray(result);
             
         return result;
     }
@@ -487,16 +532,18 @@ public class HugeInteger
      *              in little-endian order: the least significant digit is in the zeroth element.
      * @param int[] The array representing the absolute value of the second {@code HugeInteger}. Is assumed to be
      *              in little-endian order: the least significant digit is in the zeroth element.
+     * @param OverflowPolicy The policy to apply if the sum overflows, or {@code null} to return {@code null} instead.
      * @return A {@code hugeInteger} representing the sum of the input arrays with the signum of this {@code HugeInteger}.
-     * @throws ArithmeticException If the resulting sum exceeds the capacity of a {@HugeInteger}.
+     * @throws ArithmeticException If the resulting sum exceeds the capacity of a {@HugeInteger} and the policy is {@code THROW}.
      */
-    private HugeInteger getAddition(int[] firstAddend, int[] secondAddend)
+    private HugeInteger getAddition(int[] firstAddend, int[] secondAddend, OverflowPolicy policy)
     {
-        int[] addition = intAdd(firstAddend, secondAddend);
-        if (addition.length > 40)
+        int[] addition = ArithmeticEngines.select(ArithmeticEngine.Operation.ADD, firstAddend.length, secondAddend.length)
+                                          .add(firstAddend, secondAddend);
+        if (addition.length > MAX_DIGITS)
         {
-            // If the sum has more than 40 digits than throw exception.
-            throw new ArithmeticException("Overflow! The result exceeds the capacity of a HugeInteger.");
+            // If the sum has more than 40 digits than apply the overflow policy.
+            return getOverflow(getSignum(), addition, policy);
         }
         else
         {
@@ -505,6 +552,101 @@ public class HugeInteger
         }            
     }
     
+    /**
+     * This private method applies an overflow policy to a result that exceeds the capacity of a {@code HugeInteger}.
+     * 
+     * @param int The signum of the result.
+     * @param int[] The array representing the absolute value of the result. Is assumed to be in little-endian order:
+     *              the least significant digit is in the zeroth element. It may be {@code null} if the result was not
+     *              computed, in which case the policy must not be {@code WRAP}.
+     * @param OverflowPolicy The policy to apply, or {@code null} to return {@code null}.
+     * @return A {@code HugeInteger} according to the policy or {@code null} if the policy is {@code null}.
+     * @throws ArithmeticException If the policy is {@code THROW}.
+     */
+    private static HugeInteger getOverflow(int signum, int[] digitsLittleEndian, OverflowPolicy policy)
+    {
+        HugeInteger result;
+        
+        if (policy == null)
+        {
+            result = null;
+        }
+        else if (policy == OverflowPolicy.SATURATE)
+        {
+            result = signum == 1 ? MAX_VALUE : MIN_VALUE;
+        }
+        else if (policy == OverflowPolicy.WRAP)
+        {
+            // Keep the 40 least significant digits.
+            int length = Math.min(digitsLittleEndian.length, MAX_DIGITS);
+            
+            for (; length > 0 && digitsLittleEndian[length - 1] == 0; length--)
+                ;
+            
+            result = length == 0 ? new HugeInteger() : new HugeInteger(signum, Arrays.copyOf(digitsLittleEndian, length));
+        }
+        else
+        {
+            throw new ArithmeticException("Overflow! The result exceeds the capacity of a HugeInteger.");
+        }
+        
+        return result;
+    }
+    
+    /**
+     * This private method verifies that an overflow policy provided to a public method is not {@code null}.
+     * 
+     * @param OverflowPolicy The policy to verify.
+     * @return The input policy.
+     * @throws NullPointerException If the policy is {@code null}.
+     */
+    private static OverflowPolicy checkPolicy(OverflowPolicy policy)
+    {
+        if (policy == null)
+        {
+            throw new NullPointerException("Overflow policy is null");
+        }
+        
+        return policy;
+    }
+    
+    /**
+     * This package-private static method creates a {@code HugeInteger} from a signum and an array of decimal
+     * digits in little-endian order computed by a companion class. Trailing zeros are ignored and the overflow
+     * policy is applied if the array has more than 40 significant digits. The input array may be kept by the
+     * new {@code HugeInteger}, so it must not be modified afterwards.
+     * 
+     * @param int The signum of the value. It's ignored if all digits are zero.
+     * @param int[] The input array. It's assumed to be in little-endian order and to contain only digits from 0 to 9.
+     * @param OverflowPolicy The policy to apply if the value exceeds 40 digits.
+     * @return A {@code HugeInteger} with the value represented by the inputs.
+     * @throws ArithmeticException If the value is greater than 40 digits and the policy is {@code THROW}.
+     */
+    static HugeInteger valueOf(int signum, int[] digitsLittleEndian, OverflowPolicy policy)
+    {
+        int length = digitsLittleEndian.length;
+        
+        for (; length > 0 && digitsLittleEndian[length - 1] == 0; length--)
+            ;
+        
+        HugeInteger result;
+        
+        if (length == 0 || signum == 0)
+        {
+            result = new HugeInteger();
+        }
+        else if (length > MAX_DIGITS)
+        {
+            result = getOverflow(signum, digitsLittleEndian, policy);
+        }
+        else
+        {
+            result = new HugeInteger(signum, length == digitsLittleEndian.length ? digitsLittleEndian : Arrays.copyOf(digitsLittleEndian, length));
+        }
+        
+        return result;
+    }
+    
     /**
      * This private method gets the subtraction of the absolute values of two {@code hugeIntegers}.
      * 
@@ -526,8 +668,9 @@ public class HugeInteger
         }
         else
         {
-            // If the numbers are not equal than subtract them.
-            int[] subtraction = intSubtract (minuend, subtrahend, compare);
+            // If the numbers are not equal than subtract the smallest from the greatest.
+            ArithmeticEngine engine = ArithmeticEngines.select(ArithmeticEngine.Operation.SUBTRACT, minuend.length, subtrahend.length);
+            int[] subtraction = compare == 1 ? engine.subtract(minuend, subtrahend) : engine.subtract(subtrahend, minuend);
             
             // Create a HugeInteger with the subtraction and the signum of the greatest.
             result = new HugeInteger(compare * getSignum(), subtraction);
@@ -537,8 +680,8 @@ public class HugeInteger
     }
     
     /**
-     * This private method multiplies the absolute values of the {@code HugeIntegers} represented by the
-     * two input digits arrays.
+     * This package-private static method multiplies the absolute values of the {@code HugeIntegers} represented by the
+     * two input digits arrays. It's the multiplication of the schoolbook {@code ArithmeticEngine}.
      * 
      * @param int[] The array representing the absolute value of the first {@code HugeInteger}. Is assumed to be
      *              in little-endian order: the least significant digit is in the zeroth element.
@@ -546,135 +689,737 @@ public class HugeInteger
      *              in little-endian order: the least significant digit is in the zeroth element.
      * @return An array in little-endian order which is the result of the multiplication of the two input arrays.
      */
-    private int[] intMultiply(int[] multiplier, int[] multiplicand) 
+    static int[] intMultiply(int[] multiplier, int[] multiplicand) 
     {
-        int multiplierLength = multiplier.length;
-        int multiplicandLength = multiplicand.length;
-        int totalLength = multiplierLength + multiplicandLength;
-        int[][] multiplicationArray = new int[multiplicandLength][totalLength];
+        ScratchArena arena = ScratchArena.get();
+        int mark = arena.mark();
+        int[] result;
         
-        for (int i = 0; i < multiplicandLength; i++) 
+        try
         {
-            for (int j = 0; j < multiplierLength; j++) 
+            int multiplierLength = multiplier.length;
+            int multiplicandLength = multiplicand.length;
+            int totalLength = multiplierLength + multiplicandLength;
+            int[] columns = arena.borrow(totalLength);
+            
+            // Accumulate the partial products in their columns and propagate the carries once.
+            for (int i = 0; i < multiplicandLength; i++) 
+            {
+                for (int j = 0; j < multiplierLength; j++) 
+                {
+                    columns[i + j] += multiplier[j] * multiplicand[i];
+                }
+            }
+            
+            int carry = 0;
+            
+            for (int i = 0; i < totalLength; i++) 
             {
-                multiplicationArray[i][i + j] = multiplier[j] * multiplicand[i];
+                int sum = columns[i] + carry;
+                carry = sum / 10;
+                columns[i] = sum - 10 * carry;
             }
+            
+            result = copyResult(columns, totalLength);
+        }
+        finally
+        {
+            arena.release(mark);
         }
         
-        int[] result = new int[totalLength];
-        int carry = 0;
+        return result;
+    }
+    
+    /**
+     * This private method multiplies the absolute values of the {@code HugeIntegers} represented by the
+     * two input digits arrays, computing only the 40 least significant digits of the product.
+     * 
+     * @param int[] The array representing the absolute value of the first {@code HugeInteger}. Is assumed to be
+     *              in little-endian order: the least significant digit is in the zeroth element.
+     * @param int[] The array representing the absolute value of the second {@code HugeInteger}. Is assumed to be
+     *              in little-endian order: the least significant digit is in the zeroth element.
+     * @return An array in little-endian order with the 40 least significant digits of the product, without trailing zeros.
+     */
+    private int[] intMultiplyTruncated(int[] multiplier, int[] multiplicand) 
+    {
+        ScratchArena arena = ScratchArena.get();
+        int mark = arena.mark();
+        int[] result;
         
-        for (int i = 0; i < totalLength; i++) 
+        try
         {
-            int sum = carry;
+            int[] columns = arena.borrow(MAX_DIGITS);
+            int carry = 0;
             
-            for (int j = 0; j < multiplicandLength; j++) 
+            for (int i = 0; i < MAX_DIGITS; i++) 
             {
-                sum += multiplicationArray[j][i];
-            }
+                int sum = carry;
+                int first = Math.max(0, i - multiplicand.length + 1);
+                int last = Math.min(i, multiplier.length - 1);
                 
-            result[i] = sum % 10; 
-            carry = sum / 10;
+                for (int j = first; j <= last; j++) 
+                {
+                    sum += multiplier[j] * multiplicand[i - j];
+                }
+                    
+                carry = sum / 10;
+                columns[i] = sum - 10 * carry;
+            }
+            
+            result = copyResult(columns, MAX_DIGITS);
+        }
+        finally
+        {
+            arena.release(mark);
         }
         
-        return stripTrailingZerosArray(result);
+        return result;
     }
     
     /**
-     * This private method does the integer division of the absolute values of the {@code HugeIntegers}
-     * represented by the two input digits arrays.
+     * This private method computes in a single pass the product of the absolute values of the {@code HugeIntegers}
+     * represented by the first two input digits arrays, plus or minus the absolute value represented by the third.
+     * The partial products and the addend are accumulated in the same columns and carries are propagated once.
      * 
-     * @param int[] The array representing the absolute value of the first {@code HugeInteger}. Is assumed to be
+     * @param int[] The array representing the absolute value of the multiplier. Is assumed to be
      *              in little-endian order: the least significant digit is in the zeroth element.
-     * @param int[] The array representing the absolute value of the second {@code HugeInteger}. Is assumed to be
+     * @param int[] The array representing the absolute value of the multiplicand. Is assumed to be
      *              in little-endian order: the least significant digit is in the zeroth element.
-     * @return An array in little-endian order which is the result of the integer division of the two input arrays.
+     * @param int[] The array representing the absolute value of the addend. Is assumed to be
+     *              in little-endian order: the least significant digit is in the zeroth element.
+     * @param int {@code 1} to add the addend to the product, {@code -1} to subtract it.
+     * @param int[] The array that receives the absolute value of the result in little-endian order. Its first
+     *              elements must be zero.
+     * @param int The number of elements of the result array to use. It must be greater than the lengths of the
+     *            addend and of the product.
+     * @return The signum of the result relative to the product: {@code 1} if the result has the signum of the product,
+     *         {@code -1} if it has the opposite signum and {@code 0} if the result is zero.
      */
-    private int[] intDivide(int[] dividend, int[] divisor) 
+    private int intMultiplyAdd(int[] multiplier, int[] multiplicand, int[] addend, int addendSign, int[] result, int length) 
     {
-        int index = dividend.length - divisor.length;
-        int[] parcel = Arrays.copyOfRange(dividend, index, dividend.length);
-        int[] remainder;
-        StringBuilder stringBuffer = new StringBuilder(dividend.length);
+        for (int i = 0; i < multiplicand.length; i++) 
+        {
+            for (int j = 0; j < multiplier.length; j++) 
+            {
+                result[i + j] += multiplier[j] * multiplicand[i];
+            }
+        }
+        
+        for (int n = 0; n < addend.length; n++) 
+        {
+            result[n] += addendSign * addend[n];
+        }
         
+        int carry = 0;
+        boolean isZero = true;
         
-        if (compareAbsoluteValues(parcel, divisor) == -1)
+        for (int n = 0; n < length; n++) 
         {
-            parcel = Arrays.copyOfRange(dividend, --index, dividend.length);
+            int sum = result[n] + carry;
+            result[n] = Math.floorMod(sum, 10);
+            carry = Math.floorDiv(sum, 10);
+            isZero = isZero && result[n] == 0;
         }
         
-        while (index >= 0)
+        int sign = isZero ? 0 : 1;
+        
+        if (carry < 0)
         {
-            index--;
-            int[] buffer = divisor;
-            int[] quotientDigit = new int[] {0};
+            // The addend was greater than the product. The array holds the ten's complement of the result.
+            int n = 0;
             
-            while (compareAbsoluteValues(parcel, buffer) > -1)
-            {
-                buffer = intAdd(buffer, divisor);
-                quotientDigit = intAdd(quotientDigit, ONE.digits);
-            }
+            for (; result[n] == 0; n++)
+                ;
             
-            stringBuffer.append(quotientDigit[0]);
-            remainder = intSubtract(parcel, intMultiply(quotientDigit, divisor), 1);
-            parcel = new int[remainder.length + 1];
+            result[n] = 10 - result[n];
             
-            if (index > -1)
+            for (n++; n < length; n++)
             {
-                parcel[0] = dividend[index];
-            
-                for (int n = 0; n < remainder.length; n++)
-                {
-                    parcel[n + 1] = remainder[n];
-                }
+                result[n] = 9 - result[n];
             }
+            
+            sign = -1;
         }
         
-        String quotientString = stringBuffer.toString();
-        int[] quotient = new int[quotientString.length()];
-        
-        for (int n = 0; n < quotientString.length(); n++)
-        {
-            quotient[quotient.length - 1 - n] = Character.getNumericValue(quotientString.charAt(n));
-        }
-        
-        return quotient;
+        return sign;
     }
     
-    // Static methods of class HugeInteger.
-    
     /**
-     * This static method creates a new {@code HugeInteger} from a string containing the decimal 
-     * representation of a {@code HugeInteger}.
+     * This private method gets the product of this {@code HugeInteger} by the input {@code HugeInteger} plus
+     * the {@code HugeInteger} represented by the input signum and digits array. Overflow is only verified
+     * on the final result.
      * 
-     * @param String The input String. Is assumed to be in big-endian order: the most significant digit 
-     *               is in the zeroth element, if no sign present, or in the first element, if sign is present.
-     * @return A new {@code HugeInteger} with the value represented by the input string.
+     * @param HugeInteger The {@code HugeInteger} to multiply this {@code HugeInteger}.
+     * @param int The signum of the addend.
+     * @param int[] The array representing the absolute value of the addend. Is assumed to be
+     *              in little-endian order: the least significant digit is in the zeroth element.
+     * @param OverflowPolicy The policy to apply if the result exceeds 40 digits.
+     * @return A {@code HugeInteger} which is the result of the multiplication and the addition.
+     * @throws ArithmeticException If the result is greater than 40 digits and the policy is {@code THROW}.
      */
-    public static HugeInteger parse(String digitsBigEndian) 
+    private HugeInteger getMultiplyAdd(HugeInteger multiplicand, int addendSignum, int[] addend, OverflowPolicy policy)
     {
-        return new HugeInteger(digitsBigEndian);
+        HugeInteger result;
+        int productSignum = getSignum() * multiplicand.getSignum();
+        
+        if (productSignum == 0)
+        {
+            // If the product is zero then the result is the addend.
+            result = addendSignum == 0 ? new HugeInteger() : new HugeInteger(addendSignum, addend);
+        }
+        else
+        {
+            ScratchArena arena = ScratchArena.get();
+            int mark = arena.mark();
+            int sign;
+            int[] resultDigits;
+            
+            try
+            {
+                int length = Math.max(digits.length + multiplicand.digits.length, addend.length) + 1;
+                int[] columns = arena.borrow(length);
+                sign = intMultiplyAdd(digits, multiplicand.digits, addend, productSignum * addendSignum, columns, length);
+                resultDigits = copyResult(columns, length);
+            }
+            finally
+            {
+                arena.release(mark);
+            }
+            
+            if (sign == 0)
+            {
+                result = new HugeInteger();
+            }
+            else if (resultDigits.length > MAX_DIGITS)
+            {
+                result = getOverflow(sign * productSignum, resultDigits, policy);
+            }
+            else
+            {
+                result = new HugeInteger(sign * productSignum, resultDigits);
+            }
+        }
+        
+        return result;
     }
     
     /**
-     * This static method creates a new {@code HugeInteger} from an array of decimal digits (integers)
-     * containing the representation of a {@code HugeInteger}.
+     * This private static method does the long division of the absolute values represented by the two input
+     * digits arrays. One digit of the dividend is brought down at a time and the divisor is subtracted from the
+     * partial remainder while possible, which gives each quotient digit with at most nine subtractions and no
+     * temporary arrays.
      * 
-     * @param int[] The input array. Is assumed to be in big-endian order: the most significant digit 
-     *              is in the zeroth element.
-     * @return A new {@code HugeInteger} with the value represented by the input array.
+     * @param int[] The array representing the absolute value of the dividend in little-endian order.
+     * @param int[] The array representing the absolute value of the divisor in little-endian order. It must not be empty.
+     * @param int[] The array that receives the quotient in little-endian order. Its length must be at least the
+     *              length of the dividend.
+     * @param int[] The array that receives the remainder in little-endian order. Its length must be greater than
+     *              the length of the divisor.
+     * @return The number of significant digits of the remainder.
      */
-    public static HugeInteger parse(int[] digitsBigEndian) 
+    private static int longDivide(int[] dividend, int[] divisor, int[] quotient, int[] remainder) 
     {
-        return new HugeInteger(digitsBigEndian);
+        int remainderLength = 0;
+        
+        for (int index = dividend.length - 1; index >= 0; index--)
+        {
+            // Bring down the next digit of the dividend.
+            if (remainderLength > 0 || dividend[index] != 0)
+            {
+                System.arraycopy(remainder, 0, remainder, 1, remainderLength);
+                remainder[0] = dividend[index];
+                remainderLength++;
+            }
+            
+            int quotientDigit = 0;
+            
+            while (compareAbsoluteValues(remainder, remainderLength, divisor, divisor.length) > -1)
+            {
+                int carry = 0;
+                
+                for (int n = 0; n < remainderLength; n++)
+                {
+                    int diff = remainder[n] - (n < divisor.length ? divisor[n] : 0) - carry;
+                    carry = diff < 0 ? 1 : 0;
+                    remainder[n] = diff + 10 * carry;
+                }
+                
+                for (; remainderLength > 0 && remainder[remainderLength - 1] == 0; remainderLength--)
+                    ;
+                
+                quotientDigit++;
+            }
+            
+            quotient[index] = quotientDigit;
+        }
+        
+        return remainderLength;
     }
     
     /**
-     * This static method creates a new {@code HugeInteger} from an array of decimal digits (integers)
-     * containing the representation of a {@code HugeInteger} and a specified signum.
+     * This package-private static method does the integer division of the absolute values of the {@code HugeIntegers}
+     * represented by the two input digits arrays. It's the division of the schoolbook {@code ArithmeticEngine}.
      * 
-     * @param int[] The input array. Is assumed to be in big-endian order: the most significant digit 
-     *              is in the zeroth element.
+     * @param int[] The array representing the absolute value of the first {@code HugeInteger}. Is assumed to be
+     *              in little-endian order: the least significant digit is in the zeroth element.
+     * @param int[] The array representing the absolute value of the second {@code HugeInteger}. Is assumed to be
+     *              in little-endian order: the least significant digit is in the zeroth element.
+     * @return An array in little-endian order which is the result of the integer division of the two input arrays.
+     */
+    static int[] intDivide(int[] dividend, int[] divisor) 
+    {
+        ScratchArena arena = ScratchArena.get();
+        int mark = arena.mark();
+        int[] result;
+        
+        try
+        {
+            int[] quotient = arena.borrow(dividend.length);
+            longDivide(dividend, divisor, quotient, arena.borrow(divisor.length + 1));
+            result = copyResult(quotient, dividend.length);
+        }
+        finally
+        {
+            arena.release(mark);
+        }
+        
+        return result;
+    }
+    
+    /**
+     * This package-private static method gets the remainder of the integer division of the absolute values of the
+     * {@code HugeIntegers} represented by the two input digits arrays. It's the remainder of the schoolbook
+     * {@code ArithmeticEngine}.
+     * 
+     * @param int[] The array representing the absolute value of the first {@code HugeInteger}. Is assumed to be
+     *              in little-endian order: the least significant digit is in the zeroth element.
+     * @param int[] The array representing the absolute value of the second {@code HugeInteger}. Is assumed to be
+     *              in little-endian order: the least significant digit is in the zeroth element.
+     * @return An array in little-endian order which is the remainder of the integer division of the two input arrays.
+     */
+    static int[] intRemainder(int[] dividend, int[] divisor) 
+    {
+        ScratchArena arena = ScratchArena.get();
+        int mark = arena.mark();
+        int[] result;
+        
+        try
+        {
+            int[] remainder = arena.borrow(divisor.length + 1);
+            int remainderLength = longDivide(dividend, divisor, arena.borrow(dividend.length), remainder);
+            result = copyResult(remainder, remainderLength);
+        }
+        finally
+        {
+            arena.release(mark);
+        }
+        
+        return result;
+    }
+    
+    /**
+     * This private method returns the exponent {@code k} if the absolute value of this {@code HugeInteger}
+     * is a power of ten, {@code 10^k}, and {@code -1} if it is not.
+     * 
+     * @return The exponent of the power of ten or {@code -1}.
+     */
+    private int powerOfTenExponent()
+    {
+        int exponent = digits.length - 1;
+        
+        if (exponent < 0 || digits[exponent] != 1)
+        {
+            exponent = -1;
+        }
+        else
+        {
+            for (int n = 0; n < digits.length - 1 && exponent >= 0; n++)
+            {
+                if (digits[n] != 0)
+                {
+                    exponent = -1;
+                }
+            }
+        }
+        
+        return exponent;
+    }
+    
+    /**
+     * This private method multiplies the absolute value of this {@code HugeInteger} by a power of ten
+     * by shifting its digits.
+     * 
+     * @param int The signum of the result.
+     * @param int The non-negative exponent of the power of ten.
+     * @param OverflowPolicy The policy to apply if the result exceeds 40 digits, or {@code null} to return {@code null}.
+     * @return A {@code HugeInteger} with the shifted absolute value and the input signum.
+     */
+    private HugeInteger getShiftLeft(int resultSignum, int exponent, OverflowPolicy policy)
+    {
+        HugeInteger result;
+        
+        if (isZero())
+        {
+            result = new HugeInteger();
+        }
+        else if (exponent > MAX_DIGITS - digits.length)
+        {
+            // Only the digits that remain within the 40 least significant are needed to wrap.
+            int[] wrapped = null;
+            
+            if (policy == OverflowPolicy.WRAP && exponent < MAX_DIGITS)
+            {
+                wrapped = new int[MAX_DIGITS];
+                System.arraycopy(digits, 0, wrapped, exponent, Math.min(digits.length, MAX_DIGITS - exponent));
+            }
+            else if (policy == OverflowPolicy.WRAP)
+            {
+                wrapped = new int[0];
+            }
+            
+            result = getOverflow(resultSignum, wrapped, policy);
+        }
+        else
+        {
+            int[] shifted = new int[digits.length + exponent];
+            System.arraycopy(digits, 0, shifted, exponent, digits.length);
+            result = new HugeInteger(resultSignum, shifted);
+        }
+        
+        return result;
+    }
+    
+    /**
+     * This private method divides the absolute value of this {@code HugeInteger} by a power of ten by
+     * shifting its digits, and rounds the quotient according to the input rounding mode.
+     * 
+     * @param int The signum of the result before rounding. It decides the direction of {@code CEILING} and {@code FLOOR}.
+     * @param int The non-negative exponent of the power of ten.
+     * @param RoundingMode The rounding mode to apply to the discarded digits.
+     * @return A {@code HugeInteger} with the shifted absolute value and the input signum.
+     * @throws ArithmeticException If the rounding mode is {@code UNNECESSARY} and a discarded digit is not zero.
+     */
+    private HugeInteger getShiftRight(int resultSignum, int exponent, RoundingMode roundingMode)
+    {
+        int length = digits.length;
+        int keptLength = Math.max(length - exponent, 0);
+        int discardedLength = length - keptLength;
+        
+        // The most significant discarded digit decides the half modes; the others only matter if they are all zero.
+        int firstDiscarded = exponent <= length && exponent > 0 ? digits[exponent - 1] : 0;
+        boolean restNonZero = false;
+        
+        for (int n = 0; n < discardedLength && !restNonZero; n++)
+        {
+            restNonZero = digits[n] != 0 && (n != exponent - 1);
+        }
+        
+        boolean keptIsOdd = keptLength > 0 && digits[exponent] % 2 == 1;
+        boolean increment = isRoundedAway(roundingMode, resultSignum, firstDiscarded, restNonZero, keptIsOdd);
+        int[] quotient = new int[keptLength + (increment ? 1 : 0)];
+        
+        if (keptLength > 0)
+        {
+            System.arraycopy(digits, exponent, quotient, 0, keptLength);
+        }
+        
+        if (increment)
+        {
+            int n = 0;
+            
+            for (; quotient[n] == 9; n++)
+            {
+                quotient[n] = 0;
+            }
+            
+            quotient[n]++;
+        }
+        
+        return valueOf(resultSignum, quotient, OverflowPolicy.THROW);
+    }
+    
+    /**
+     * This package-private static method decides if a quotient whose remainder was discarded must be rounded
+     * away from zero, that is, if its absolute value must be incremented.
+     * 
+     * @param RoundingMode The rounding mode.
+     * @param int The signum of the exact quotient.
+     * @param int The most significant discarded digit.
+     * @param boolean {@code true} if any of the other discarded digits is not zero.
+     * @param boolean {@code true} if the least significant kept digit is odd.
+     * @return {@code true} if the absolute value of the quotient must be incremented and {@code false} if not.
+     * @throws ArithmeticException If the rounding mode is {@code UNNECESSARY} and a discarded digit is not zero.
+     */
+    static boolean isRoundedAway(RoundingMode roundingMode, int signum, int firstDiscarded, boolean restNonZero, boolean keptIsOdd)
+    {
+        boolean isInexact = firstDiscarded != 0 || restNonZero;
+        boolean isRoundedAway;
+        
+        switch (roundingMode)
+        {
+            case UP:
+                isRoundedAway = isInexact;
+                break;
+            case DOWN:
+                isRoundedAway = false;
+                break;
+            case CEILING:
+                isRoundedAway = isInexact && signum > 0;
+                break;
+            case FLOOR:
+                isRoundedAway = isInexact && signum < 0;
+                break;
+            case HALF_UP:
+                isRoundedAway = firstDiscarded >= 5;
+                break;
+            case HALF_DOWN:
+                isRoundedAway = firstDiscarded > 5 || (firstDiscarded == 5 && restNonZero);
+                break;
+            case HALF_EVEN:
+                isRoundedAway = firstDiscarded > 5 || (firstDiscarded == 5 && (restNonZero || keptIsOdd));
+                break;
+            default:
+                if (isInexact)
+                {
+                    throw new ArithmeticException("Rounding necessary");
+                }
+                isRoundedAway = false;
+        }
+        
+        return isRoundedAway;
+    }
+    
+    /**
+     * This private method returns the absolute value of this {@code HugeInteger} as a long. It assumes that
+     * the absolute value has at most 18 digits.
+     * 
+     * @return The absolute value as a long.
+     */
+    private long absoluteLongValue()
+    {
+        long value = 0;
+        
+        for (int index = digits.length - 1; index >= 0; index--)
+        {
+            value = 10 * value + digits[index];
+        }
+        
+        return value;
+    }
+    
+    /**
+     * This package-private static method returns a {@code HugeInteger} with the value of the input long.
+     * 
+     * @param long The value.
+     * @return A {@code HugeInteger} with the same value.
+     */
+    static HugeInteger valueOf(long value)
+    {
+        int signum = Long.signum(value);
+        int[] digitsLittleEndian = new int[19];
+        int length = 0;
+        
+        // The remainders have the signum of the value, so Long.MIN_VALUE needs no special case.
+        for (; value != 0; value /= 10)
+        {
+            digitsLittleEndian[length++] = (int) Math.abs(value % 10);
+        }
+        
+        return valueOf(signum, Arrays.copyOf(digitsLittleEndian, length), OverflowPolicy.THROW);
+    }
+    
+    /**
+     * This private static method returns the maximum number of digits in the input radix of which any
+     * string is the representation of a value that fits in a long.
+     * 
+     * @param int The radix.
+     * @return The maximum number of digits.
+     */
+    private static int longDigits(int radix)
+    {
+        int count = 0;
+        
+        for (long limit = Long.MAX_VALUE; limit >= radix; limit /= radix)
+        {
+            count++;
+        }
+        
+        return count;
+    }
+    
+    /**
+     * This private static method appends to the input buffer the representation in the input radix of the
+     * absolute value of a {@code HugeInteger}. Large values are split in two halves by the greatest cached
+     * power {@code radix^(2^k)} not greater than them, so the conversion takes a logarithmic number of
+     * divisions of balanced operands instead of one division per digit.
+     * 
+     * @param HugeInteger The non-negative value to convert.
+     * @param int The radix.
+     * @param int The minimum number of digits to append. Leading zeros are added if needed.
+     * @param StringBuilder The buffer.
+     */
+    private static void appendRadix(HugeInteger value, int radix, int minLength, StringBuilder buffer)
+    {
+        if (value.digits.length <= 18)
+        {
+            // A zero low part is written only with the leading zeros.
+            String chunk = value.isZero() && minLength > 0 ? "" : Long.toString(value.absoluteLongValue(), radix);
+            
+            for (int n = chunk.length(); n < minLength; n++)
+            {
+                buffer.append('0');
+            }
+            
+            buffer.append(chunk);
+        }
+        else
+        {
+            HugeInteger[] powers = RadixPowers.of(radix);
+            int k = powers.length - 1;
+            
+            for (; k > 0 && compareAbsoluteValues(value.digits, value.digits.length, powers[k].digits, powers[k].digits.length) < 0; k--)
+                ;
+            
+            int lowLength = 1 << k;
+            appendRadix(value.divide(powers[k]), radix, minLength - lowLength, buffer);
+            appendRadix(value.remainder(powers[k]), radix, lowLength, buffer);
+        }
+    }
+    
+    /**
+     * This private static method parses the digits in the input radix of a range of a character sequence.
+     * Long ranges are split so that the low part has {@code 2^k} digits, and the value is
+     * {@code high * radix^(2^k) + low} with the cached power.
+     * 
+     * @param CharSequence The characters.
+     * @param int The index of the first digit.
+     * @param int The index after the last digit.
+     * @param int The radix.
+     * @return A non-negative {@code HugeInteger} with the value of the digits.
+     * @throws NumberFormatException If a character is not a digit in the radix or the value exceeds 40 decimal digits.
+     */
+    private static HugeInteger parseRadix(CharSequence characters, int start, int end, int radix)
+    {
+        HugeInteger result;
+        
+        if (end - start <= longDigits(radix))
+        {
+            long value = 0;
+            
+            for (int index = start; index < end; index++)
+            {
+                int digit = Character.digit(characters.charAt(index), radix);
+                
+                if (digit < 0)
+                {
+                    throw new NumberFormatException("Invalid Number");
+                }
+                
+                value = value * radix + digit;
+            }
+            
+            result = valueOf(value);
+        }
+        else
+        {
+            HugeInteger[] powers = RadixPowers.of(radix);
+            int k = 31 - Integer.numberOfLeadingZeros(end - start - 1);
+            int split = end - (1 << k);
+            HugeInteger high = parseRadix(characters, start, split, radix);
+            HugeInteger low = parseRadix(characters, split, end, radix);
+            
+            if (high.isZero())
+            {
+                result = low;
+            }
+            else if (k >= powers.length)
+            {
+                throw new NumberFormatException("Number too large. Must have at most 40 digits.");
+            }
+            else
+            {
+                result = high.getMultiplyAdd(powers[k], 1, low.digits, null);
+                
+                if (result == null)
+                {
+                    throw new NumberFormatException("Number too large. Must have at most 40 digits.");
+                }
+            }
+        }
+        
+        return result;
+    }
+    
+    /**
+     * The powers {@code radix^(2^k)} not greater than {@code MAX_VALUE} for every radix, computed
+     * when they are first needed.
+     */
+    private static final class RadixPowers
+    {
+        private static final HugeInteger[][] TABLE = new HugeInteger[Character.MAX_RADIX + 1][];
+        
+        static
+        {
+            for (int radix = Character.MIN_RADIX; radix <= Character.MAX_RADIX; radix++)
+            {
+                HugeInteger[] powers = new HugeInteger[8];
+                int count = 0;
+                
+                for (HugeInteger power = valueOf(radix); power != null; power = power.tryMultiply(power))
+                {
+                    powers[count++] = power;
+                }
+                
+                TABLE[radix] = Arrays.copyOf(powers, count);
+            }
+        }
+        
+        /**
+         * This static method returns the powers {@code radix^(2^k)} of the input radix.
+         * 
+         * @param int The radix.
+         * @return The powers, in increasing order of {@code k}.
+         */
+        static HugeInteger[] of(int radix)
+        {
+            return TABLE[radix];
+        }
+    }
+    
+    // Static methods of class HugeInteger.
+    
+    /**
+     * This static method creates a new {@code HugeInteger} from a string containing the decimal 
+     * representation of a {@code HugeInteger}.
+     * 
+     * @param String The input String. Is assumed to be in big-endian order: the most significant digit 
+     *               is in the zeroth element, if no sign present, or in the first element, if sign is present.
+     * @return A new {@code HugeInteger} with the value represented by the input string.
+     */
+    public static HugeInteger parse(String digitsBigEndian) 
+    {
+        return new HugeInteger(digitsBigEndian);
+    }
+    
+    /**
+     * This static method creates a new {@code HugeInteger} from an array of decimal digits (integers)
+     * containing the representation of a {@code HugeInteger}.
+     * 
+     * @param int[] The input array. Is assumed to be in big-endian order: the most significant digit 
+     *              is in the zeroth element.
+     * @return A new {@code HugeInteger} with the value represented by the input array.
+     */
+    public static HugeInteger parse(int[] digitsBigEndian) 
+    {
+        return new HugeInteger(digitsBigEndian);
+    }
+    
+    /**
+     * This static method creates a new {@code HugeInteger} from an array of decimal digits (integers)
+     * containing the representation of a {@code HugeInteger} and a specified signum.
+     * 
+     * @param int[] The input array. Is assumed to be in big-endian order: the most significant digit 
+     *              is in the zeroth element.
      * @param int The value of the signum function of the {@code HugeInteger} where {@code -1} represents a 
      *            negative number, {@code 1} a positive number and {@code 0} the number zero.
      * @return A new {@code HugeInteger} with the value represented by the input array.
@@ -684,6 +1429,109 @@ public class HugeInteger
         return new HugeInteger(digitsBigEndian, signum);
     }
     
+    /**
+     * This static method creates a new {@code HugeInteger} from a character sequence containing its representation
+     * in the input radix. The sequence may contain one optional minus or plus sign followed by at least one digit of
+     * the radix, as given by {@code Character.digit}.
+     * 
+     * @param CharSequence The input characters. Are assumed to be in big-endian order.
+     * @param int The radix, from {@code Character.MIN_RADIX} to {@code Character.MAX_RADIX}.
+     * @return A new {@code HugeInteger} with the value represented by the input characters.
+     * @throws NumberFormatException If the characters are not a valid representation in the radix, the radix is out
+     *                               of range or the value exceeds 40 decimal digits.
+     */
+    public static HugeInteger parse(CharSequence digitsBigEndian, int radix) 
+    {
+        if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX)
+        {
+            throw new NumberFormatException("Invalid radix: " + radix);
+        }
+        
+        int length = digitsBigEndian.length();
+        int start = length > 0 && (digitsBigEndian.charAt(0) == '-' || digitsBigEndian.charAt(0) == '+') ? 1 : 0;
+        
+        if (start == length)
+        {
+            throw new NumberFormatException(length == 0 ? "Empty string" : "Invalid Number");
+        }
+        
+        // Skip the leading zeros, so that only significant digits are split.
+        int firstNonZero = start;
+        
+        for (; firstNonZero < length - 1 && digitsBigEndian.charAt(firstNonZero) == '0'; firstNonZero++)
+            ;
+        
+        HugeInteger result = parseRadix(digitsBigEndian, firstNonZero, length, radix);
+        return start == 1 && digitsBigEndian.charAt(0) == '-' ? opposite(result) : result;
+    }
+    
+    /**
+     * This static method creates a new {@code HugeInteger} from its two's-complement binary representation, in
+     * big-endian order, as produced by {@code toByteArray} (and by {@code java.math.BigInteger.toByteArray}).
+     * 
+     * @param byte[] The input array. The most significant byte is in the zeroth element and its highest bit is
+     *               the sign bit.
+     * @return A new {@code HugeInteger} with the value represented by the input array.
+     * @throws NumberFormatException If the array is empty or the value exceeds 40 decimal digits.
+     */
+    public static HugeInteger fromByteArray(byte[] twosComplementBigEndian) 
+    {
+        if (twosComplementBigEndian.length == 0)
+        {
+            throw new NumberFormatException("Zero length byte array");
+        }
+        
+        boolean isNegative = twosComplementBigEndian[0] < 0;
+        int[] result = new int[MAX_DIGITS + 3];
+        int length = 0;
+        
+        // The absolute value of a negative number is the complement of the bytes plus one, added at the end.
+        for (int index = 0; index < twosComplementBigEndian.length; index++)
+        {
+            int value = (isNegative ? ~twosComplementBigEndian[index] : twosComplementBigEndian[index]) & 0xff;
+            int carry = value;
+            
+            // result = result * 256 + value
+            for (int n = 0; n < length; n++)
+            {
+                int product = result[n] * 256 + carry;
+                carry = product / 10;
+                result[n] = product - 10 * carry;
+            }
+            
+            // A carry of a byte can add three digits, so the length is checked before the buffer is exceeded.
+            for (; carry > 0; carry /= 10)
+            {
+                result[length++] = carry % 10;
+                
+                if (length > MAX_DIGITS + 1)
+                {
+                    throw new NumberFormatException("Number too large. Must have at most 40 digits.");
+                }
+            }
+        }
+        
+        if (isNegative)
+        {
+            int n = 0;
+            
+            for (; result[n] == 9; n++)
+            {
+                result[n] = 0;
+            }
+            
+            result[n]++;
+            length = Math.max(length, n + 1);
+        }
+        
+        if (length > MAX_DIGITS)
+        {
+            throw new NumberFormatException("Number too large. Must have at most 40 digits.");
+        }
+        
+        return valueOf(isNegative ? -1 : 1, Arrays.copyOf(result, length), OverflowPolicy.THROW);
+    }
+    
     /**
      * This static method creates a new {@code HugeInteger} which is the absolute value of the
      * provided {@code HugeInteger}.
@@ -720,83 +1568,212 @@ public class HugeInteger
     }
     
     /**
-     * This static method creates a new {@code HugeInteger} which is has a opposite value of the
-     * provided {@code HugeInteger}.
+     * This static method creates a new {@code HugeInteger} which is has a opposite value of the
+     * provided {@code HugeInteger}.
+     * 
+     * @param HugeInteger The input {@code HugeInteger}.
+     * @return A new {@code HugeInteger} with the opposite value of the input {@code HugeInteger}.
+     */
+    public static HugeInteger opposite(HugeInteger originalHugeInteger) 
+    {
+        return new HugeInteger(-1 * originalHugeInteger.getSignum(), originalHugeInteger.digits);
+    }
+    
+    // Public methods of class HugeInteger.
+    
+    /**
+     * This public method returns the value of the signum function of the {@code HugeInteger}.
+     * 
+     * @return The value of the signum function of the {@code HugeInteger} where {@code -1} represents a 
+     *         negative number, {@code 1} a positive number and {@code 0} the number zero.
+     */
+    public int getSignum() 
+    {
+        return signum;
+    }
+    
+    /**
+     * This public method returns {@code true} if the {@code HugeInteger} is equal to {@code zero}
+     * and {@code false} if not.
+     * 
+     * @return {@code true} if the {@code HugeInteger} is equal to {@code zero} and {@code false} if not.
+     */
+    public boolean isZero() 
+    {
+        return getSignum() == 0;        
+    }
+    
+    /**
+     * This public method returns {@code true} if the {@code HugeInteger} is equal to {@code one}
+     * and {@code false} if not.
+     * 
+     * @return {@code true} if the {@code HugeInteger} is equal to {@code one} and {@code false} if not.
+     */
+    public boolean isOne() 
+    {
+        return isEqualTo(ONE);        
+    }
+    
+    /**
+     * This public method returns {@code true} if the {@code HugeInteger} is equal to {@code minus one}
+     * and {@code false} if not.
+     * 
+     * @return {@code true} if the {@code HugeInteger} is equal to {@code minus one} and {@code false} if not.
+     */
+    public boolean isMinusOne() 
+    {
+        return isEqualTo(MINUS_ONE);        
+    }
+    
+    /**
+     * This public method returns {@code true} if the {@code HugeInteger} is positive and
+     * {@code false} if not.
+     * 
+     * @return {@code true} if the {@code HugeInteger} is positive and {@code false} if not.
+     */
+    public boolean isPositive() 
+    {
+        return getSignum() == 1;
+    }
+    
+    /**
+     * This public method returns {@code true} if the {@code HugeInteger} is negative and
+     * {@code false} if not.
+     * 
+     * @return {@code true} if the {@code HugeInteger} is negative and {@code false} if not.
+     */
+    public boolean isNegative() 
+    {
+        return getSignum() == -1;
+    }
+    
+    /**
+     * This public method returns the number of decimal digits of the absolute value of this {@code HugeInteger}.
+     * Zero has no digits.
+     * 
+     * @return The number of digits, from 0 to 40.
+     */
+    public int digitCount() 
+    {
+        return digits.length;
+    }
+    
+    /**
+     * This public method returns the decimal digit of the absolute value of this {@code HugeInteger} at the input
+     * position, where position 0 is the units digit. Positions beyond the most significant digit hold zeros.
+     * 
+     * @param int The position of the digit, counted from the least significant digit.
+     * @return The digit at the input position, from 0 to 9.
+     * @throws IndexOutOfBoundsException If the position is negative.
+     */
+    public int digitAt(int position) 
+    {
+        if (position < 0)
+        {
+            throw new IndexOutOfBoundsException("Negative digit position: " + position);
+        }
+        
+        return position < digits.length ? digits[position] : 0;
+    }
+    
+    /**
+     * This public method returns the number of trailing zero digits of this {@code HugeInteger}, that is,
+     * the greatest {@code k} such that {@code 10^k} divides it. Returns {@code 0} for zero.
      * 
-     * @param HugeInteger The input {@code HugeInteger}.
-     * @return A new {@code HugeInteger} with the opposite value of the input {@code HugeInteger}.
+     * @return The number of trailing zero digits.
      */
-    public static HugeInteger opposite(HugeInteger originalHugeInteger) 
+    public int trailingZeroDigits() 
     {
-        return new HugeInteger(-1 * originalHugeInteger.getSignum(), originalHugeInteger.digits);
+        int count = 0;
+        
+        for (; count < digits.length && digits[count] == 0; count++)
+            ;
+        
+        return count == digits.length ? 0 : count;
     }
     
-    // Public methods of class HugeInteger.
-    
     /**
-     * This public method returns the value of the signum function of the {@code HugeInteger}.
+     * This public method returns the sum of the decimal digits of the absolute value of this {@code HugeInteger}.
      * 
-     * @return The value of the signum function of the {@code HugeInteger} where {@code -1} represents a 
-     *         negative number, {@code 1} a positive number and {@code 0} the number zero.
+     * @return The sum of the digits, from 0 to 360.
      */
-    public int getSignum() 
+    public int digitSum() 
     {
-        return signum;
+        int sum = 0;
+        
+        for (int n = 0; n < digits.length; n++)
+        {
+            sum += digits[n];
+        }
+        
+        return sum;
     }
     
     /**
-     * This public method returns {@code true} if the {@code HugeInteger} is equal to {@code zero}
-     * and {@code false} if not.
+     * This public method returns the remainder of the division of this {@code HugeInteger} by 9, computed from the
+     * sum of its digits. As in {@code remainder}, the result has the signum of this {@code HugeInteger}.
      * 
-     * @return {@code true} if the {@code HugeInteger} is equal to {@code zero} and {@code false} if not.
+     * @return The remainder of the division by 9, from -8 to 8.
      */
-    public boolean isZero() 
+    public int mod9() 
     {
-        return getSignum() == 0;        
+        return getSignum() * (digitSum() % 9);
     }
     
     /**
-     * This public method returns {@code true} if the {@code HugeInteger} is equal to {@code one}
-     * and {@code false} if not.
+     * This public method returns the remainder of the division of this {@code HugeInteger} by 10, which is its units
+     * digit. As in {@code remainder}, the result has the signum of this {@code HugeInteger}.
      * 
-     * @return {@code true} if the {@code HugeInteger} is equal to {@code one} and {@code false} if not.
+     * @return The remainder of the division by 10, from -9 to 9.
      */
-    public boolean isOne() 
+    public int mod10() 
     {
-        return isEqualTo(ONE);        
+        return getSignum() * digitAt(0);
     }
     
     /**
-     * This public method returns {@code true} if the {@code HugeInteger} is equal to {@code minus one}
-     * and {@code false} if not.
+     * This public method returns the remainder of the division of this {@code HugeInteger} by 11, computed from the
+     * alternating sum of its digits (10 is congruent to -1 modulo 11). As in {@code remainder}, the result has the
+     * signum of this {@code HugeInteger}.
      * 
-     * @return {@code true} if the {@code HugeInteger} is equal to {@code minus one} and {@code false} if not.
+     * @return The remainder of the division by 11, from -10 to 10.
      */
-    public boolean isMinusOne() 
+    public int mod11() 
     {
-        return isEqualTo(MINUS_ONE);        
+        int alternatingSum = 0;
+        
+        for (int n = 0; n < digits.length; n++)
+        {
+            alternatingSum += (n % 2 == 0) ? digits[n] : -digits[n];
+        }
+        
+        return getSignum() * Math.floorMod(alternatingSum, 11);
     }
     
     /**
-     * This public method returns {@code true} if the {@code HugeInteger} is positive and
-     * {@code false} if not.
+     * This public method tests whether the absolute value of this {@code HugeInteger} is probably prime, as
+     * {@code BigInteger.isProbablePrime}. It divides by the primes less than 1000 and then applies the
+     * Baillie-PSW test, which is exact below {@code 2^64}, with modular products in Montgomery form.
      * 
-     * @return {@code true} if the {@code HugeInteger} is positive and {@code false} if not.
+     * @param int The certainty: a composite passes the test with a probability less than {@code 2^-certainty}.
+     * @return {@code true} if this {@code HugeInteger} is probably prime, always if the certainty is not positive,
+     *         and {@code false} if it's certainly composite.
      */
-    public boolean isPositive() 
+    public boolean isProbablePrime(int certainty) 
     {
-        return getSignum() == 1;
+        return HugePrimes.isProbablePrime(this, certainty);
     }
     
     /**
-     * This public method returns {@code true} if the {@code HugeInteger} is negative and
-     * {@code false} if not.
+     * This public method returns the least probable prime greater than this {@code HugeInteger}, as
+     * {@code BigInteger.nextProbablePrime}. A composite is returned with a probability less than {@code 2^-100}.
      * 
-     * @return {@code true} if the {@code HugeInteger} is negative and {@code false} if not.
+     * @return The least {@code HugeInteger} greater than this one that is probably prime.
+     * @throws ArithmeticException If this {@code HugeInteger} is negative or if the prime exceeds 40 digits.
      */
-    public boolean isNegative() 
+    public HugeInteger nextProbablePrime() 
     {
-        return getSignum() == -1;
+        return HugePrimes.nextProbablePrime(this);
     }
     
     /**
@@ -929,13 +1906,54 @@ public class HugeInteger
     
     /**
      * This public method performs the addition of this {@code HugeInteger} with the input {@code HugeInteger}.
+     * Overflow is handled according to the {@code OverflowPolicy} of the current context.
      * 
      * @param HugeInteger The {@code HugeInteger} to be summed with this {@code HugeInteger}.
      * @return A {@code HugeInteger} which is the result of the addition.
      * @throws ArithmeticException If the result of the sum of the absolute values of the {@code HugeIntegers}
-     *                             is greater than 40 digits.
+     *                             is greater than 40 digits and the policy is {@code THROW}.
      */
     public HugeInteger add (HugeInteger addend) 
+    {
+        return add(addend, OverflowPolicy.current());
+    }
+    
+    /**
+     * This public method performs the addition of this {@code HugeInteger} with the input {@code HugeInteger},
+     * handling overflow according to the input policy.
+     * 
+     * @param HugeInteger The {@code HugeInteger} to be summed with this {@code HugeInteger}.
+     * @param OverflowPolicy The policy to apply if the result exceeds 40 digits.
+     * @return A {@code HugeInteger} which is the result of the addition.
+     * @throws ArithmeticException If the result of the sum of the absolute values of the {@code HugeIntegers}
+     *                             is greater than 40 digits and the policy is {@code THROW}.
+     */
+    public HugeInteger add(HugeInteger addend, OverflowPolicy policy) 
+    {
+        return getSum(addend, checkPolicy(policy));
+    }
+    
+    /**
+     * This public method performs the addition of this {@code HugeInteger} with the input {@code HugeInteger}
+     * without throwing an exception on overflow.
+     * 
+     * @param HugeInteger The {@code HugeInteger} to be summed with this {@code HugeInteger}.
+     * @return A {@code HugeInteger} which is the result of the addition or {@code null} if the result
+     *         exceeds 40 digits.
+     */
+    public HugeInteger tryAdd(HugeInteger addend) 
+    {
+        return getSum(addend, null);
+    }
+    
+    /**
+     * This private method performs the addition of this {@code HugeInteger} with the input {@code HugeInteger}.
+     * 
+     * @param HugeInteger The {@code HugeInteger} to be summed with this {@code HugeInteger}.
+     * @param OverflowPolicy The policy to apply on overflow, or {@code null} to return {@code null}.
+     * @return A {@code HugeInteger} which is the result of the addition.
+     */
+    private HugeInteger getSum(HugeInteger addend, OverflowPolicy policy) 
     {
         HugeInteger result;
         // If any of the numbers is zero then the result is the other one.
@@ -949,7 +1967,7 @@ public class HugeInteger
         }
         else if (getSignum() == addend.getSignum()) 
         { 
-            result = getAddition(digits, addend.digits);
+            result = getAddition(digits, addend.digits, policy);
         }
         else
         {
@@ -961,13 +1979,54 @@ public class HugeInteger
     
     /**
      * This public method performs the subtraction of the input {@code HugeInteger} from this {@code HugeInteger}.
+     * Overflow is handled according to the {@code OverflowPolicy} of the current context.
      * 
      * @param HugeInteger The {@code HugeInteger} to be subtracted from this {@code HugeInteger}.
      * @return A {@code HugeInteger} which is the result of the subtraction.
      * @throws ArithmeticException If the result of the sum of the absolute values of the {@code HugeIntegers}
-     *                             is greater than 40 digits.
+     *                             is greater than 40 digits and the policy is {@code THROW}.
      */
     public HugeInteger subtract(HugeInteger subtrahend) 
+    {
+        return subtract(subtrahend, OverflowPolicy.current());
+    }
+    
+    /**
+     * This public method performs the subtraction of the input {@code HugeInteger} from this {@code HugeInteger},
+     * handling overflow according to the input policy.
+     * 
+     * @param HugeInteger The {@code HugeInteger} to be subtracted from this {@code HugeInteger}.
+     * @param OverflowPolicy The policy to apply if the result exceeds 40 digits.
+     * @return A {@code HugeInteger} which is the result of the subtraction.
+     * @throws ArithmeticException If the result of the sum of the absolute values of the {@code HugeIntegers}
+     *                             is greater than 40 digits and the policy is {@code THROW}.
+     */
+    public HugeInteger subtract(HugeInteger subtrahend, OverflowPolicy policy) 
+    {
+        return getDifference(subtrahend, checkPolicy(policy));
+    }
+    
+    /**
+     * This public method performs the subtraction of the input {@code HugeInteger} from this {@code HugeInteger}
+     * without throwing an exception on overflow.
+     * 
+     * @param HugeInteger The {@code HugeInteger} to be subtracted from this {@code HugeInteger}.
+     * @return A {@code HugeInteger} which is the result of the subtraction or {@code null} if the result
+     *         exceeds 40 digits.
+     */
+    public HugeInteger trySubtract(HugeInteger subtrahend) 
+    {
+        return getDifference(subtrahend, null);
+    }
+    
+    /**
+     * This private method performs the subtraction of the input {@code HugeInteger} from this {@code HugeInteger}.
+     * 
+     * @param HugeInteger The {@code HugeInteger} to be subtracted from this {@code HugeInteger}.
+     * @param OverflowPolicy The policy to apply on overflow, or {@code null} to return {@code null}.
+     * @return A {@code HugeInteger} which is the result of the subtraction.
+     */
+    private HugeInteger getDifference(HugeInteger subtrahend, OverflowPolicy policy) 
     {
         HugeInteger result;
         
@@ -983,7 +2042,7 @@ public class HugeInteger
         }
         else if (getSignum() != subtrahend.getSignum()) 
         {
-            result = getAddition(digits, subtrahend.digits);
+            result = getAddition(digits, subtrahend.digits, policy);
         } 
         else
         {
@@ -995,14 +2054,59 @@ public class HugeInteger
     
     /**
      * This public method performs the multiplication of this {@code HugeInteger} by the input {@code HugeInteger}.
+     * Overflow is handled according to the {@code OverflowPolicy} of the current context.
      * 
      * @param HugeInteger The {@code HugeInteger} to multiply this {@code HugeInteger}.
      * @return A {@code HugeInteger} which is the result of the multiplication.
      * @throws ArithmeticException If the result of the multiplication of the absolute values of the {@code HugeIntegers}
-     *                             is greater than 40 digits.
+     *                             is greater than 40 digits and the policy is {@code THROW}.
      */
     public HugeInteger multiply(HugeInteger multiplicand) 
     {
+        return multiply(multiplicand, OverflowPolicy.current());
+    }
+    
+    /**
+     * This public method performs the multiplication of this {@code HugeInteger} by the input {@code HugeInteger},
+     * handling overflow according to the input policy.
+     * 
+     * @param HugeInteger The {@code HugeInteger} to multiply this {@code HugeInteger}.
+     * @param OverflowPolicy The policy to apply if the result exceeds 40 digits.
+     * @return A {@code HugeInteger} which is the result of the multiplication.
+     * @throws ArithmeticException If the result of the multiplication of the absolute values of the {@code HugeIntegers}
+     *                             is greater than 40 digits and the policy is {@code THROW}.
+     */
+    public HugeInteger multiply(HugeInteger multiplicand, OverflowPolicy policy) 
+    {
+        return getProduct(multiplicand, checkPolicy(policy));
+    }
+    
+    /**
+     * This public method performs the multiplication of this {@code HugeInteger} by the input {@code HugeInteger}
+     * without throwing an exception on overflow.
+     * 
+     * @param HugeInteger The {@code HugeInteger} to multiply this {@code HugeInteger}.
+     * @return A {@code HugeInteger} which is the result of the multiplication or {@code null} if the result
+     *         exceeds 40 digits.
+     */
+    public HugeInteger tryMultiply(HugeInteger multiplicand) 
+    {
+        return getProduct(multiplicand, null);
+    }
+    
+    /**
+     * This private method performs the multiplication of this {@code HugeInteger} by the input {@code HugeInteger}.
+     * 
+     * @param HugeInteger The {@code HugeInteger} to multiply this {@code HugeInteger}.
+     * @param OverflowPolicy The policy to apply on overflow, or {@code null} to return {@code null}.
+     * @return A {@code HugeInteger} which is the result of the multiplication.
+     */
+    private HugeInteger getProduct(HugeInteger multiplicand, OverflowPolicy policy) 
+    {
+        HugeIntegerEvent.Multiply event = new HugeIntegerEvent.Multiply();
+        event.begin();
+        int multiplicandExponent = multiplicand.powerOfTenExponent();
+        int exponent = powerOfTenExponent();
         HugeInteger result;
         
         if (isZero() || multiplicand.isZero()) 
@@ -1025,13 +2129,32 @@ public class HugeInteger
         {
             result = HugeInteger.opposite(this);
         }
+        else if (multiplicandExponent > 0)
+        {
+            // Multiplying by 10^k only shifts the digits.
+            result = getShiftLeft(getSignum() * multiplicand.getSignum(), multiplicandExponent, policy);
+        }
+        else if (exponent > 0)
+        {
+            result = multiplicand.getShiftLeft(getSignum() * multiplicand.getSignum(), exponent, policy);
+        }
+        else if (digits.length + multiplicand.digits.length > MAX_DIGITS + 1)
+        {
+            // The product has at least digits.length + multiplicand.digits.length - 1 digits, so it
+            // is sure to overflow. Only the wrapped digits need to be computed.
+            int resultSignum = getSignum() * multiplicand.getSignum();
+            int[] wrapped = policy == OverflowPolicy.WRAP ? intMultiplyTruncated(digits, multiplicand.digits) : null;
+            result = getOverflow(resultSignum, wrapped, policy);
+        }
         else
         {
-            int[] multiplicationOfAbsoluteValues = intMultiply(digits, multiplicand.digits);
+            int[] multiplicationOfAbsoluteValues = ArithmeticEngines.select(ArithmeticEngine.Operation.MULTIPLY, digits.length,
+                                                                            multiplicand.digits.length)
+                                                                    .multiply(digits, multiplicand.digits);
         
-            if (multiplicationOfAbsoluteValues.length > 40) 
+            if (multiplicationOfAbsoluteValues.length > MAX_DIGITS) 
             {
-                throw new ArithmeticException("Overflow! The result exceeds the capacity of a HugeInteger.");
+                result = getOverflow(getSignum() * multiplicand.getSignum(), multiplicationOfAbsoluteValues, policy);
             }
             else
             {
@@ -1039,9 +2162,57 @@ public class HugeInteger
             }
         }
         
+        event.record(this, multiplicand);
         return result;
     }
     
+    /**
+     * This public method multiplies this {@code HugeInteger} by the first input {@code HugeInteger} and adds the second
+     * to the product in a single operation, without creating an intermediate {@code HugeInteger} for the product.
+     * Overflow is only verified on the final result and is handled according to the {@code OverflowPolicy} of the
+     * current context.
+     * 
+     * @param HugeInteger The {@code HugeInteger} to multiply this {@code HugeInteger}.
+     * @param HugeInteger The {@code HugeInteger} to be added to the product.
+     * @return A {@code HugeInteger} which is the result of {@code this * multiplicand + addend}.
+     * @throws ArithmeticException If the result is greater than 40 digits and the policy is {@code THROW}.
+     */
+    public HugeInteger multiplyAdd(HugeInteger multiplicand, HugeInteger addend) 
+    {
+        return getMultiplyAdd(multiplicand, addend.getSignum(), addend.digits, OverflowPolicy.current());
+    }
+    
+    /**
+     * This public method multiplies this {@code HugeInteger} by the first input {@code HugeInteger} and subtracts the
+     * second from the product in a single operation, without creating an intermediate {@code HugeInteger} for the product.
+     * Overflow is only verified on the final result and is handled according to the {@code OverflowPolicy} of the
+     * current context.
+     * 
+     * @param HugeInteger The {@code HugeInteger} to multiply this {@code HugeInteger}.
+     * @param HugeInteger The {@code HugeInteger} to be subtracted from the product.
+     * @return A {@code HugeInteger} which is the result of {@code this * multiplicand - subtrahend}.
+     * @throws ArithmeticException If the result is greater than 40 digits and the policy is {@code THROW}.
+     */
+    public HugeInteger multiplySubtract(HugeInteger multiplicand, HugeInteger subtrahend) 
+    {
+        return getMultiplyAdd(multiplicand, -1 * subtrahend.getSignum(), subtrahend.digits, OverflowPolicy.current());
+    }
+    
+    /**
+     * This public method adds to this {@code HugeInteger} the product of the two input {@code HugeIntegers} in a single
+     * operation, without creating an intermediate {@code HugeInteger} for the product. Overflow is only verified on the
+     * final result and is handled according to the {@code OverflowPolicy} of the current context.
+     * 
+     * @param HugeInteger The multiplier of the product to be added.
+     * @param HugeInteger The multiplicand of the product to be added.
+     * @return A {@code HugeInteger} which is the result of {@code this + multiplier * multiplicand}.
+     * @throws ArithmeticException If the result is greater than 40 digits and the policy is {@code THROW}.
+     */
+    public HugeInteger addMultiply(HugeInteger multiplier, HugeInteger multiplicand) 
+    {
+        return multiplier.getMultiplyAdd(multiplicand, getSignum(), digits, OverflowPolicy.current());
+    }
+    
     /**
      * This public method performs the integer division of this {@code HugeInteger} by the input {@code HugeInteger}.
      * 
@@ -1051,6 +2222,9 @@ public class HugeInteger
      */
     public HugeInteger divide(HugeInteger divisor) 
     {
+        HugeIntegerEvent.Divide event = new HugeIntegerEvent.Divide();
+        event.begin();
+        int divisorExponent = divisor.powerOfTenExponent();
         HugeInteger result;
         
         if (divisor.isZero()) 
@@ -1073,12 +2247,19 @@ public class HugeInteger
         {
             result = HugeInteger.opposite(this);
         }
+        else if (divisorExponent > 0)
+        {
+            // Dividing by 10^k only shifts the digits.
+            result = getShiftRight(getSignum() * divisor.getSignum(), divisorExponent, RoundingMode.DOWN);
+        }
         else
         {
-            int[] quotient = intDivide(digits, divisor.digits);
+            int[] quotient = ArithmeticEngines.select(ArithmeticEngine.Operation.DIVIDE, digits.length, divisor.digits.length)
+                                              .divide(digits, divisor.digits);
             result = new HugeInteger(getSignum() * divisor.getSignum(), quotient);
         }
         
+        event.record(this, divisor);
         return result;
     }
     
@@ -1091,6 +2272,9 @@ public class HugeInteger
      */
     public HugeInteger remainder(HugeInteger divisor) 
     {
+        HugeIntegerEvent.Remainder event = new HugeIntegerEvent.Remainder();
+        event.begin();
+        int divisorExponent = divisor.powerOfTenExponent();
         HugeInteger result;
         
         if (divisor.isZero()) 
@@ -1109,10 +2293,15 @@ public class HugeInteger
         {
             result = HugeInteger.clone(this);
         }
+        else if (divisorExponent > 0)
+        {
+            // The remainder of a division by 10^k are the k least significant digits.
+            result = valueOf(getSignum(), Arrays.copyOf(digits, divisorExponent), OverflowPolicy.THROW);
+        }
         else
         {
-            int[] quotient = intDivide(digits, divisor.digits);
-            int[] remainder = intSubtract(digits, intMultiply(quotient, divisor.digits), 1);
+            int[] remainder = ArithmeticEngines.select(ArithmeticEngine.Operation.REMAINDER, digits.length, divisor.digits.length)
+                                               .remainder(digits, divisor.digits);
             
             if (remainder.length == 0)
             {
@@ -1124,9 +2313,113 @@ public class HugeInteger
             }
         }
         
+        event.record(this, divisor);
+        return result;
+    }
+    
+    /**
+     * This public method multiplies this {@code HugeInteger} by {@code 10^exponent} by shifting its digits,
+     * without a multiplication. A negative exponent shifts the digits to the right, as {@code shiftDecimalRight}.
+     * Overflow is handled according to the {@code OverflowPolicy} of the current context.
+     * 
+     * @param int The exponent of the power of ten.
+     * @return A {@code HugeInteger} which is the result of the shift.
+     * @throws ArithmeticException If the result is greater than 40 digits and the policy is {@code THROW}.
+     */
+    public HugeInteger shiftDecimalLeft(int exponent) 
+    {
+        HugeInteger result;
+        
+        if (exponent >= 0)
+        {
+            result = getShiftLeft(getSignum(), exponent, OverflowPolicy.current());
+        }
+        else
+        {
+            result = getShiftRight(getSignum(), exponent < -MAX_DIGITS ? MAX_DIGITS + 1 : -exponent, RoundingMode.DOWN);
+        }
+        
+        return result;
+    }
+    
+    /**
+     * This public method divides this {@code HugeInteger} by {@code 10^exponent} by shifting its digits, without
+     * a division. The discarded digits are truncated, so the result is the same as the one of {@code divide}.
+     * A negative exponent shifts the digits to the left, as {@code shiftDecimalLeft}.
+     * 
+     * @param int The exponent of the power of ten.
+     * @return A {@code HugeInteger} which is the result of the shift.
+     * @throws ArithmeticException If the result is greater than 40 digits and the policy is {@code THROW}.
+     */
+    public HugeInteger shiftDecimalRight(int exponent) 
+    {
+        return shiftDecimalRight(exponent, RoundingMode.DOWN);
+    }
+    
+    /**
+     * This public method divides this {@code HugeInteger} by {@code 10^exponent} by shifting its digits, without
+     * a division, and rounds the result according to the input rounding mode. A negative exponent shifts the
+     * digits to the left, as {@code shiftDecimalLeft}, and no rounding is needed.
+     * 
+     * @param int The exponent of the power of ten.
+     * @param RoundingMode The rounding mode to apply to the discarded digits.
+     * @return A {@code HugeInteger} which is the result of the shift.
+     * @throws ArithmeticException If the rounding mode is {@code UNNECESSARY} and a discarded digit is not zero,
+     *                             or if the result is greater than 40 digits and the policy is {@code THROW}.
+     */
+    public HugeInteger shiftDecimalRight(int exponent, RoundingMode roundingMode) 
+    {
+        HugeInteger result;
+        
+        if (exponent == Integer.MIN_VALUE)
+        {
+            result = getShiftLeft(getSignum(), Integer.MAX_VALUE, OverflowPolicy.current());
+        }
+        else if (exponent < 0)
+        {
+            result = getShiftLeft(getSignum(), -exponent, OverflowPolicy.current());
+        }
+        else
+        {
+            result = getShiftRight(getSignum(), exponent, roundingMode);
+        }
+        
         return result;
     }
     
+    /**
+     * This public method performs the integer division of this {@code HugeInteger} by {@code 10^exponent}.
+     * The quotient is truncated, as in {@code divide}, but it's computed by shifting the digits.
+     * 
+     * @param int The non-negative exponent of the power of ten.
+     * @return A {@code HugeInteger} which is the result of the integer division.
+     * @throws ArithmeticException If the exponent is negative.
+     */
+    public HugeInteger divideByPowerOfTen(int exponent) 
+    {
+        return divideByPowerOfTen(exponent, RoundingMode.DOWN);
+    }
+    
+    /**
+     * This public method divides this {@code HugeInteger} by {@code 10^exponent} and rounds the quotient according
+     * to the input rounding mode. The quotient is computed by shifting the digits.
+     * 
+     * @param int The non-negative exponent of the power of ten.
+     * @param RoundingMode The rounding mode to apply to the quotient.
+     * @return A {@code HugeInteger} which is the rounded quotient.
+     * @throws ArithmeticException If the exponent is negative, or if the rounding mode is {@code UNNECESSARY}
+     *                             and the division is not exact.
+     */
+    public HugeInteger divideByPowerOfTen(int exponent, RoundingMode roundingMode) 
+    {
+        if (exponent < 0)
+        {
+            throw new ArithmeticException("Negative exponent");
+        }
+        
+        return getShiftRight(getSignum(), exponent, roundingMode);
+    }
+    
     /**
      * This public method returns the String representation of this {@code HugeInteger}.
      * A {@code minus} sign is added if the {@code HugeInteger} is negative.
@@ -1136,6 +2429,8 @@ public class HugeInteger
     @Override
     public String toString() 
     {
+        HugeIntegerEvent.Format event = new HugeIntegerEvent.Format();
+        event.begin();
         String result = "";
         
         if (isZero()) 
@@ -1158,6 +2453,104 @@ public class HugeInteger
             result = buffer.toString();
         }
         
+        event.record(digits.length, signum, 0, 0);
+        return result;
+    }
+    
+    /**
+     * This public method returns the String representation of this {@code HugeInteger} in the input radix, with the
+     * digits given by {@code Character.forDigit}. A {@code minus} sign is added if the {@code HugeInteger} is negative.
+     * As in {@code java.math.BigInteger}, a radix out of the range of {@code Character.MIN_RADIX} to
+     * {@code Character.MAX_RADIX} is replaced by 10.
+     * 
+     * @param int The radix.
+     * @return String representation of this {@code HugeInteger} in the radix.
+     */
+    public String toString(int radix) 
+    {
+        String result;
+        
+        if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX || radix == 10)
+        {
+            result = toString();
+        }
+        else if (digits.length <= 18)
+        {
+            result = Long.toString(getSignum() * absoluteLongValue(), radix);
+        }
+        else
+        {
+            StringBuilder buffer = new StringBuilder(134);
+            
+            if (isNegative())
+            {
+                buffer.append('-');
+            }
+            
+            appendRadix(abs(this), radix, 0, buffer);
+            result = buffer.toString();
+        }
+        
+        return result;
+    }
+    
+    /**
+     * This public method returns the two's-complement binary representation of this {@code HugeInteger} in big-endian
+     * order, with the minimum number of bytes that includes a sign bit, as {@code java.math.BigInteger.toByteArray}.
+     * 
+     * @return A byte array with the two's-complement representation. Its most significant byte is in the zeroth element.
+     */
+    public byte[] toByteArray() 
+    {
+        // Convert the absolute value to base 256 by repeated short divisions of the decimal digits.
+        int[] quotient = Arrays.copyOf(digits, digits.length);
+        int length = quotient.length;
+        byte[] bytes = new byte[18];
+        int byteCount = 0;
+        
+        while (length > 0)
+        {
+            int remainder = 0;
+            
+            for (int n = length - 1; n >= 0; n--)
+            {
+                int dividend = remainder * 10 + quotient[n];
+                quotient[n] = dividend / 256;
+                remainder = dividend - 256 * quotient[n];
+            }
+            
+            bytes[byteCount++] = (byte) remainder;
+            
+            for (; length > 0 && quotient[length - 1] == 0; length--)
+                ;
+        }
+        
+        if (isNegative())
+        {
+            // Two's complement: invert the bytes and add one.
+            int carry = 1;
+            
+            for (int n = 0; n < byteCount; n++)
+            {
+                int value = (~bytes[n] & 0xff) + carry;
+                carry = value >> 8;
+                bytes[n] = (byte) value;
+            }
+        }
+        
+        // Add a sign byte if the highest bit doesn't have the signum.
+        if (byteCount == 0 || (bytes[byteCount - 1] < 0) != isNegative())
+        {
+            bytes[byteCount++] = (byte) (isNegative() ? -1 : 0);
+        }
+        
+        byte[] result = new byte[byteCount];
+        
+        for (int n = 0; n < byteCount; n++)
+        {
+            result[n] = bytes[byteCount - 1 - n];
+        }
+        
         return result;
     }
     
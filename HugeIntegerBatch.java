@@ -0,0 +1,667 @@
+/**
+ * A command-line tool that processes large files of {@code HugeIntegers}, one per line.
+ *
+ * Run with {@code java HugeIntegerBatch command input [output] [operations...]}, where the command is:
+ * <ul>
+ * <li>{@code sum}: prints the sum of the values.</li>
+ * <li>{@code minmax}: prints the minimum and the maximum of the values.</li>
+ * <li>{@code sort}: writes the values in ascending order to the output.</li>
+ * <li>{@code map}: applies the operations, such as {@code *3 +7 %1000}, to every value and writes the
+ * results to the output, in the order of the input. The operators are {@code + - * / %}.</li>
+ * </ul>
+ * An output of {@code -} is the standard output. A report of the throughput is printed to the standard error.
+ *
+ * The input is read through memory-mapped {@code FileChannels} and split into chunks that end at line
+ * ends, which are processed in parallel in the common {@code ForkJoinPool}. The values are parsed
+ * straight from the bytes of the file, without creating Strings, and the reductions consume them as
+ * they are parsed, so only {@code sort} keeps the values of the file. The results are written as bytes through
+ * buffers that are flushed to the output channel. Empty lines are ignored and a line may end with
+ * {@code \r\n}.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+public class HugeIntegerBatch
+{
+    /**
+     * The nominal size of a chunk of the input. Chunks are mapped one at a time, so they must be below 2 GB.
+     */
+    static final long CHUNK_SIZE = 64L << 20;
+
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 20;
+
+    /**
+     * The result of a command and the number of values and bytes it read, for the report.
+     */
+    static final class Result<T>
+    {
+        final T value;
+        final long valueCount;
+        final long byteCount;
+
+        // Constructors for class Result.
+
+        /**
+         * This constructor initializes a result.
+         *
+         * @param T The value computed by the command, or {@code null} if it writes to an output.
+         * @param long The number of values read.
+         * @param long The number of bytes read.
+         */
+        Result(T value, long valueCount, long byteCount)
+        {
+            this.value = value;
+            this.valueCount = valueCount;
+            this.byteCount = byteCount;
+        }
+    }
+
+    /**
+     * The values of a chunk and its number of values.
+     */
+    private static final class Values
+    {
+        private HugeInteger[] values = new HugeInteger[1024];
+        private int count;
+
+        /**
+         * This method adds a value.
+         *
+         * @param HugeInteger The value.
+         */
+        void add(HugeInteger value)
+        {
+            if (count == values.length)
+            {
+                values = Arrays.copyOf(values, 2 * count);
+            }
+
+            values[count++] = value;
+        }
+    }
+
+    /**
+     * A buffer of bytes that writes {@code HugeIntegers} as lines of decimal digits and flushes to a channel.
+     * Without a channel the buffer grows to keep every byte written.
+     */
+    private static final class ByteWriter
+    {
+        private final WritableByteChannel channel;
+        private byte[] bytes;
+        private int length;
+        private long lineCount;
+
+        /**
+         * This constructor initializes an empty writer.
+         *
+         * @param WritableByteChannel The channel where the bytes are flushed, or {@code null} to keep them.
+         */
+        ByteWriter(WritableByteChannel channel)
+        {
+            this.channel = channel;
+            this.bytes = new byte[OUTPUT_BUFFER_SIZE];
+            this.length = 0;
+        }
+
+        /**
+         * This method writes a value and a line end.
+         *
+         * @param HugeInteger The value.
+         * @throws IOException If the bytes can't be flushed.
+         */
+        void writeLine(HugeInteger value) throws IOException
+        {
+            if (length + HugeInteger.MAX_DIGITS + 2 > bytes.length)
+            {
+                if (channel == null)
+                {
+                    bytes = Arrays.copyOf(bytes, 2 * bytes.length);
+                }
+                else
+                {
+                    flush();
+                }
+            }
+
+            int[] digits = value.digits;
+
+            if (value.isNegative())
+            {
+                bytes[length++] = '-';
+            }
+
+            if (digits.length == 0)
+            {
+                bytes[length++] = '0';
+            }
+
+            for (int n = digits.length - 1; n >= 0; n--)
+            {
+                bytes[length++] = (byte) ('0' + digits[n]);
+            }
+
+            bytes[length++] = '\n';
+            lineCount++;
+        }
+
+        /**
+         * This method writes the bytes kept by another writer.
+         *
+         * @param ByteWriter The writer without a channel.
+         * @throws IOException If the bytes can't be written.
+         */
+        void write(ByteWriter other) throws IOException
+        {
+            flush();
+            ByteBuffer buffer = ByteBuffer.wrap(other.bytes, 0, other.length);
+
+            while (buffer.hasRemaining())
+            {
+                channel.write(buffer);
+            }
+        }
+
+        /**
+         * This method writes the buffered bytes to the channel.
+         *
+         * @throws IOException If the bytes can't be written.
+         */
+        void flush() throws IOException
+        {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, length);
+
+            while (buffer.hasRemaining())
+            {
+                channel.write(buffer);
+            }
+
+            length = 0;
+        }
+    }
+
+    // Private methods of class HugeIntegerBatch.
+
+    /**
+     * This private static method splits a file into chunks of about the input size that end at line ends.
+     *
+     * @param FileChannel The file.
+     * @param long The nominal size of a chunk.
+     * @return The positions of the chunks: chunk {@code n} goes from element {@code n} to element {@code n + 1}.
+     * @throws IOException If the file can't be read.
+     */
+    private static long[] chunks(FileChannel file, long chunkSize) throws IOException
+    {
+        long size = file.size();
+        List<Long> bounds = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        bounds.add(0L);
+
+        for (long position = chunkSize; position < size; position += chunkSize)
+        {
+            // Move the bound after the next line end.
+            boolean isFound = false;
+
+            while (!isFound && position < size)
+            {
+                buffer.clear();
+                int count = file.read(buffer, position);
+
+                for (int n = 0; n < count && !isFound; n++)
+                {
+                    isFound = buffer.get(n) == '\n';
+                    position++;
+                }
+            }
+
+            if (position < size && position > bounds.get(bounds.size() - 1))
+            {
+                bounds.add(position);
+            }
+        }
+
+        bounds.add(size);
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * This private static method parses a line of a chunk.
+     *
+     * @param MappedByteBuffer The chunk.
+     * @param int The index of the first byte of the line.
+     * @param int The index of the line end, or of the end of the chunk.
+     * @param long The position of the chunk in the file, for the error messages.
+     * @return The value of the line.
+     * @throws NumberFormatException If the line is not a valid {@code HugeInteger}.
+     */
+    private static HugeInteger parseLine(MappedByteBuffer chunk, int start, int end, long offset)
+    {
+        int signum = 1;
+
+        if (end > start && chunk.get(end - 1) == '\r')
+        {
+            end--;
+        }
+
+        if (chunk.get(start) == '-' || chunk.get(start) == '+')
+        {
+            signum = chunk.get(start) == '-' ? -1 : 1;
+            start++;
+        }
+
+        if (start == end)
+        {
+            throw new NumberFormatException("Invalid Number at byte " + (offset + start));
+        }
+
+        for (; start < end - 1 && chunk.get(start) == '0'; start++)
+            ;
+
+        if (end - start > HugeInteger.MAX_DIGITS)
+        {
+            throw new NumberFormatException("Number too large at byte " + (offset + start) + ". Must have at most 40 digits.");
+        }
+
+        int[] digits = new int[end - start];
+
+        for (int n = 0; n < digits.length; n++)
+        {
+            int digit = chunk.get(end - 1 - n) - '0';
+
+            if (digit < 0 || digit > 9)
+            {
+                throw new NumberFormatException("Invalid Number at byte " + (offset + end - 1 - n));
+            }
+
+            digits[n] = digit;
+        }
+
+        return HugeInteger.valueOf(signum, digits, OverflowPolicy.THROW);
+    }
+
+    /**
+     * This private static method parses the values of a chunk of a file and passes them to an action, so
+     * that they can be reduced without keeping them.
+     *
+     * @param FileChannel The file.
+     * @param long The position of the chunk.
+     * @param long The position after the chunk.
+     * @param Consumer<HugeInteger> The action that receives the values in the order of the chunk.
+     * @return The number of values.
+     * @throws UncheckedIOException If the file can't be mapped.
+     * @throws NumberFormatException If a line is not a valid {@code HugeInteger}.
+     */
+    private static long parseChunk(FileChannel file, long from, long to, Consumer<HugeInteger> action)
+    {
+        long result = 0;
+
+        try
+        {
+            MappedByteBuffer chunk = file.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+            int limit = chunk.limit();
+
+            for (int start = 0, end; start < limit; start = end + 1)
+            {
+                for (end = start; end < limit && chunk.get(end) != '\n'; end++)
+                    ;
+
+                if (end > start && !(end == start + 1 && chunk.get(start) == '\r'))
+                {
+                    action.accept(parseLine(chunk, start, end, from));
+                    result++;
+                }
+            }
+        }
+        catch (IOException exception)
+        {
+            throw new UncheckedIOException(exception);
+        }
+
+        return result;
+    }
+
+    /**
+     * This private static method applies an operation to the values of a chunk of a file.
+     *
+     * @param FileChannel The file.
+     * @param long The position of the chunk.
+     * @param long The position after the chunk.
+     * @param UnaryOperator The operation.
+     * @return A writer without a channel that keeps the results.
+     * @throws UncheckedIOException If the file can't be mapped.
+     * @throws NumberFormatException If a line is not a valid {@code HugeInteger}.
+     * @throws ArithmeticException If an operation overflows or divides by zero.
+     */
+    private static ByteWriter mapChunk(FileChannel file, long from, long to, UnaryOperator<HugeInteger> operation)
+    {
+        ByteWriter result = new ByteWriter(null);
+        parseChunk(file, from, to, value ->
+        {
+            try
+            {
+                result.writeLine(operation.apply(value));
+            }
+            catch (IOException exception)
+            {
+                throw new UncheckedIOException(exception);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * This private static method parses the values of every chunk of a file in parallel.
+     *
+     * @param Path The file.
+     * @param long The nominal size of a chunk.
+     * @return The values of every chunk, in the order of the file, and the counts.
+     * @throws IOException If the file can't be read.
+     */
+    private static Result<Values[]> parse(Path input, long chunkSize) throws IOException
+    {
+        try (FileChannel file = FileChannel.open(input, StandardOpenOption.READ))
+        {
+            long[] bounds = chunks(file, chunkSize);
+            Values[] chunks = IntStream.range(0, bounds.length - 1).parallel().mapToObj(chunk ->
+            {
+                Values values = new Values();
+                parseChunk(file, bounds[chunk], bounds[chunk + 1], values::add);
+                return values;
+            }).toArray(Values[]::new);
+            return new Result<>(chunks, Arrays.stream(chunks).mapToLong(values -> values.count).sum(), file.size());
+        }
+    }
+
+    /**
+     * This private static method opens the channel of an output.
+     *
+     * @param String The path of the output, or {@code -} for the standard output.
+     * @return The channel.
+     * @throws IOException If the output can't be opened.
+     */
+    private static WritableByteChannel openOutput(String output) throws IOException
+    {
+        return output.equals("-") ? Channels.newChannel(new FileOutputStream(FileDescriptor.out))
+                                  : FileChannel.open(Paths.get(output), StandardOpenOption.CREATE,
+                                                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * This private static method parses an operation of the {@code map} command.
+     *
+     * @param String The operation: an operator followed by a {@code HugeInteger}.
+     * @return The operation.
+     * @throws IllegalArgumentException If the operator is unknown.
+     * @throws NumberFormatException If the operand is not a valid {@code HugeInteger}.
+     */
+    static UnaryOperator<HugeInteger> operation(String operation)
+    {
+        HugeInteger operand = new HugeInteger(operation.substring(1));
+        UnaryOperator<HugeInteger> result;
+
+        switch (operation.charAt(0))
+        {
+            case '+':
+                result = value -> value.add(operand);
+                break;
+            case '-':
+                result = value -> value.subtract(operand);
+                break;
+            case '*':
+                result = value -> value.multiply(operand);
+                break;
+            case '/':
+                result = value -> value.divide(operand);
+                break;
+            case '%':
+                result = value -> value.remainder(operand);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown operator: " + operation.charAt(0));
+        }
+
+        return result;
+    }
+
+    // Static methods of class HugeIntegerBatch.
+
+    /**
+     * This static method returns the sum of the values of a file.
+     *
+     * @param Path The file.
+     * @param long The nominal size of a chunk.
+     * @return The sum and the counts.
+     * @throws IOException If the file can't be read.
+     * @throws ArithmeticException If the sum exceeds 40 digits and the overflow policy is {@code THROW}.
+     */
+    static Result<HugeInteger> sum(Path input, long chunkSize) throws IOException
+    {
+        try (FileChannel file = FileChannel.open(input, StandardOpenOption.READ))
+        {
+            long[] bounds = chunks(file, chunkSize);
+            LongAdder values = new LongAdder();
+
+            // Every chunk is summed as it's parsed, so only the accumulators of the chunks are kept.
+            HugeInteger sum = IntStream.range(0, bounds.length - 1).parallel().mapToObj(chunk ->
+            {
+                HugeAccumulator accumulator = new HugeAccumulator();
+                values.add(parseChunk(file, bounds[chunk], bounds[chunk + 1], accumulator::add));
+                return accumulator;
+            }).reduce((first, second) ->
+            {
+                first.merge(second);
+                return first;
+            }).get().toHugeInteger();
+
+            return new Result<>(sum, values.sum(), file.size());
+        }
+    }
+
+    /**
+     * This static method returns the minimum and the maximum of the values of a file.
+     *
+     * @param Path The file.
+     * @param long The nominal size of a chunk.
+     * @return The minimum and the maximum, or an empty array if the file has no values, and the counts.
+     * @throws IOException If the file can't be read.
+     */
+    static Result<HugeInteger[]> minMax(Path input, long chunkSize) throws IOException
+    {
+        try (FileChannel file = FileChannel.open(input, StandardOpenOption.READ))
+        {
+            long[] bounds = chunks(file, chunkSize);
+            LongAdder values = new LongAdder();
+
+            // Every chunk keeps only its minimum and maximum while it's parsed; they are null if it has no values.
+            HugeInteger[] minMax = IntStream.range(0, bounds.length - 1).parallel().mapToObj(chunk ->
+            {
+                HugeInteger[] extremes = new HugeInteger[2];
+                values.add(parseChunk(file, bounds[chunk], bounds[chunk + 1], value ->
+                {
+                    extremes[0] = extremes[0] == null || value.isLessThan(extremes[0]) ? value : extremes[0];
+                    extremes[1] = extremes[1] == null || value.isGreaterThan(extremes[1]) ? value : extremes[1];
+                }));
+                return extremes;
+            }).filter(extremes -> extremes[0] != null).reduce((first, second) -> new HugeInteger[] {
+                second[0].isLessThan(first[0]) ? second[0] : first[0],
+                second[1].isGreaterThan(first[1]) ? second[1] : first[1]
+            }).orElse(new HugeInteger[0]);
+
+            return new Result<>(minMax, values.sum(), file.size());
+        }
+    }
+
+    /**
+     * This static method writes the values of a file in ascending order.
+     *
+     * @param Path The input file.
+     * @param WritableByteChannel The output.
+     * @param long The nominal size of a chunk.
+     * @return The counts.
+     * @throws IOException If the input can't be read or the output can't be written.
+     */
+    static Result<Void> sort(Path input, WritableByteChannel output, long chunkSize) throws IOException
+    {
+        Result<Values[]> parsed = parse(input, chunkSize);
+        Values[] chunks = parsed.value;
+        HugeInteger[] values = new HugeInteger[Math.toIntExact(parsed.valueCount)];
+
+        for (int chunk = 0, position = 0; chunk < chunks.length; position += chunks[chunk].count, chunk++)
+        {
+            System.arraycopy(chunks[chunk].values, 0, values, position, chunks[chunk].count);
+        }
+
+        HugeIntegers.parallelSort(values);
+        ByteWriter writer = new ByteWriter(output);
+
+        for (HugeInteger value : values)
+        {
+            writer.writeLine(value);
+        }
+
+        writer.flush();
+        return new Result<>(null, parsed.valueCount, parsed.byteCount);
+    }
+
+    /**
+     * This static method applies an operation to the values of a file and writes the results in
+     * the order of the input. The chunks are processed in parallel, a bounded window of them at a time,
+     * and each one is written as soon as it and the chunks before it are done.
+     *
+     * @param Path The input file.
+     * @param WritableByteChannel The output.
+     * @param UnaryOperator The operation.
+     * @param long The nominal size of a chunk.
+     * @return The counts.
+     * @throws IOException If the input can't be read or the output can't be written.
+     * @throws ArithmeticException If an operation overflows or divides by zero.
+     */
+    static Result<Void> map(Path input, WritableByteChannel output, UnaryOperator<HugeInteger> operation, long chunkSize)
+        throws IOException
+    {
+        ByteWriter writer = new ByteWriter(output);
+
+        try (FileChannel file = FileChannel.open(input, StandardOpenOption.READ))
+        {
+            long[] bounds = chunks(file, chunkSize);
+            int chunkCount = bounds.length - 1;
+            int window = Math.max(2, 2 * ForkJoinPool.getCommonPoolParallelism());
+            ArrayDeque<CompletableFuture<ByteWriter>> pending = new ArrayDeque<>(window);
+            long valueCount = 0;
+
+            try
+            {
+                // At most a window of chunks is in flight, and the oldest is written as soon as it completes.
+                for (int chunk = 0; chunk < chunkCount || !pending.isEmpty(); )
+                {
+                    if (chunk < chunkCount && pending.size() < window)
+                    {
+                        int from = chunk++;
+                        pending.add(CompletableFuture.supplyAsync(() -> mapChunk(file, bounds[from], bounds[from + 1],
+                            operation), ForkJoinPool.commonPool()));
+                    }
+                    else
+                    {
+                        ByteWriter result = pending.remove().join();
+                        writer.write(result);
+                        valueCount += result.lineCount;
+                    }
+                }
+            }
+            catch (CompletionException exception)
+            {
+                throw exception.getCause() instanceof RuntimeException ? (RuntimeException) exception.getCause() : exception;
+            }
+            finally
+            {
+                pending.forEach(result -> result.cancel(false));
+            }
+
+            return new Result<>(null, valueCount, file.size());
+        }
+    }
+
+    /**
+     * This static method runs a command and prints the report of the throughput.
+     *
+     * @param String[] The command, the input, the output and the operations.
+     * @throws IOException If the input can't be read or the output can't be written.
+     */
+    public static void main(String[] args) throws IOException
+    {
+        if (args.length < 2)
+        {
+            System.err.println("Usage: java HugeIntegerBatch sum|minmax|sort|map input [output] [operations...]");
+            System.exit(2);
+        }
+
+        Path input = Paths.get(args[1]);
+        long start = System.nanoTime();
+        Result<?> result;
+
+        switch (args[0])
+        {
+            case "sum":
+                Result<HugeInteger> sum = sum(input, CHUNK_SIZE);
+                System.out.println(sum.value);
+                result = sum;
+                break;
+            case "minmax":
+                Result<HugeInteger[]> minMax = minMax(input, CHUNK_SIZE);
+                System.out.println(minMax.value.length == 0 ? "" : minMax.value[0] + "\n" + minMax.value[1]);
+                result = minMax;
+                break;
+            case "sort":
+                try (WritableByteChannel output = openOutput(args.length > 2 ? args[2] : "-"))
+                {
+                    result = sort(input, output, CHUNK_SIZE);
+                }
+                break;
+            case "map":
+                UnaryOperator<HugeInteger> operation = UnaryOperator.identity();
+
+                for (int n = 3; n < args.length; n++)
+                {
+                    UnaryOperator<HugeInteger> previous = operation;
+                    UnaryOperator<HugeInteger> next = operation(args[n]);
+                    operation = value -> next.apply(previous.apply(value));
+                }
+
+                try (WritableByteChannel output = openOutput(args.length > 2 ? args[2] : "-"))
+                {
+                    result = map(input, output, operation, CHUNK_SIZE);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown command: " + args[0]);
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.err.printf("%d values, %.1f MB in %.3f s: %.1f MB/s, %.0f values/s%n", result.valueCount,
+                          result.byteCount / 1e6, seconds, result.byteCount / 1e6 / seconds, result.valueCount / seconds);
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Tests of the class HugeIntegerBatch.
+ * 
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Test;
+
+public class HugeIntegerBatchTest {
+
+    private static final String MAX_NUM = "9999999999999999999999999999999999999999";
+    
+    private static Path write(String content) throws IOException {
+        Path file = Files.createTempFile("HugeIntegerBatchTest", ".txt");
+        file.toFile().deleteOnExit();
+        Files.write(file, content.getBytes(StandardCharsets.US_ASCII));
+        return file;
+    }
+    
+    @Test
+    public void testSum() throws IOException {
+        Path file = write("1239\n-1240\r\n\n+0001000\n" + MAX_NUM + "\n-" + MAX_NUM);
+        
+        // A chunk size of 8 bytes splits the file in many chunks.
+        assertEquals("999", HugeIntegerBatch.sum(file, 8).value.toString());
+        assertEquals("999", HugeIntegerBatch.sum(file, HugeIntegerBatch.CHUNK_SIZE).value.toString());
+        assertEquals(5, HugeIntegerBatch.sum(file, 8).valueCount);
+    }
+    
+    @Test
+    public void testMinMax() throws IOException {
+        Path file = write("1239\n-1240\n0\n" + MAX_NUM + "\n");
+        HugeIntegerBatch.Result<HugeInteger[]> result = HugeIntegerBatch.minMax(file, 5);
+        assertEquals("-1240", result.value[0].toString());
+        assertEquals(MAX_NUM, result.value[1].toString());
+        assertEquals(4, result.valueCount);
+        assertEquals(0, HugeIntegerBatch.minMax(write(""), 5).value.length);
+    }
+    
+    @Test
+    public void testSort() throws IOException {
+        Path file = write("1239\n-1240\n0\n-0\n" + MAX_NUM + "\n-1\n");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        HugeIntegerBatch.Result<Void> result = HugeIntegerBatch.sort(file, Channels.newChannel(output), 6);
+        assertEquals(6, result.valueCount);
+        assertEquals(Files.size(file), result.byteCount);
+        assertEquals("-1240\n-1\n0\n0\n1239\n" + MAX_NUM + "\n", output.toString("US-ASCII"));
+    }
+    
+    @Test
+    public void testMap() throws IOException {
+        Path file = write("1239\n-1240\n0\n");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        HugeIntegerBatch.Result<Void> result = HugeIntegerBatch.map(file, Channels.newChannel(output), HugeIntegerBatch.operation("*3"), 3);
+        assertEquals("3717\n-3720\n0\n", output.toString("US-ASCII"));
+        assertEquals(3, result.valueCount);
+        
+        output.reset();
+        HugeIntegerBatch.map(file, Channels.newChannel(output), HugeIntegerBatch.operation("%1000"), 100);
+        assertEquals("239\n-240\n0\n", output.toString("US-ASCII"));
+    }
+    
+    @Test
+    public void testMapManyChunks() throws IOException {
+        StringBuilder input = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        
+        for (int n = -500; n < 500; n++) {
+            input.append(n).append('\n');
+            expected.append(n + 7).append('\n');
+        }
+        
+        // Every line is a chunk, so far more chunks than the window are written in order.
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        HugeIntegerBatch.map(write(input.toString()), Channels.newChannel(output), HugeIntegerBatch.operation("+7"), 1);
+        assertEquals(expected.toString(), output.toString("US-ASCII"));
+    }
+    
+    @Test(expected=ArithmeticException.class)
+    public void testMapOverflow() throws IOException {
+        HugeIntegerBatch.map(write("1\n" + MAX_NUM + "\n"), Channels.newChannel(new ByteArrayOutputStream()),
+            HugeIntegerBatch.operation("+1"), 1);
+    }
+    
+    @Test(expected=NumberFormatException.class)
+    public void testInvalidLine() throws IOException {
+        HugeIntegerBatch.sum(write("12\n1a\n"), 100);
+    }
+    
+    @Test(expected=NumberFormatException.class)
+    public void testTooLarge() throws IOException {
+        HugeIntegerBatch.sum(write(MAX_NUM + "0\n"), 100);
+    }
+}
@@ -0,0 +1,565 @@
+/**
+ * Microbenchmarks of the class HugeInteger.
+ *
+ * Run with {@code java HugeIntegerBenchmark [section...]}. Without arguments every section is run.
+ * Each line reports the average time and the average number of bytes allocated per operation,
+ * measured with the allocation counter of the current thread.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+public class HugeIntegerBenchmark
+{
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 5;
+
+    /**
+     * Consumes the results so that the JIT can't remove the measured operations.
+     */
+    private static volatile int sink;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final HugeInteger FORTY_DIGITS = new HugeInteger("9876543210987654321098765432109876543210");
+    private static final HugeInteger TWENTY_DIGITS = new HugeInteger("12345678901234567890");
+    private static final HugeInteger TWO_DIGITS = new HugeInteger("97");
+    private static final HugeInteger POWER_OF_TEN = new HugeInteger("100000");
+
+    /**
+     * This private static method measures an operation and prints its average time and allocation.
+     *
+     * @param String The name of the operation.
+     * @param int The number of operations per round.
+     * @param Runnable The operation.
+     */
+    private static void measure(String name, int operations, Runnable operation)
+    {
+        for (int round = 0; round < WARMUP_ROUNDS; round++)
+        {
+            for (int n = 0; n < operations; n++)
+            {
+                operation.run();
+            }
+        }
+
+        long bytes = THREADS.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+
+        for (int round = 0; round < MEASURED_ROUNDS; round++)
+        {
+            for (int n = 0; n < operations; n++)
+            {
+                operation.run();
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        bytes = THREADS.getCurrentThreadAllocatedBytes() - bytes;
+        long total = (long) operations * MEASURED_ROUNDS;
+        System.out.printf("%-40s %12.1f ns/op %10.1f B/op%n", name, (double) elapsed / total, (double) bytes / total);
+    }
+
+    /**
+     * This private static method consumes a result.
+     *
+     * @param HugeInteger The result of a measured operation.
+     */
+    private static void consume(HugeInteger result)
+    {
+        sink += result.getSignum() + result.digits.length;
+    }
+
+    /**
+     * This private static method measures the basic arithmetic operations and their allocation.
+     */
+    private static void arithmetic()
+    {
+        HugeInteger minusTwenty = HugeInteger.opposite(TWENTY_DIGITS);
+
+        measure("add 40 + 20 digits", 200_000, () -> consume(FORTY_DIGITS.add(TWENTY_DIGITS)));
+        measure("subtract 40 - 20 digits", 200_000, () -> consume(FORTY_DIGITS.add(minusTwenty)));
+        measure("multiply 20 x 20 digits", 100_000, () -> consume(TWENTY_DIGITS.multiply(TWENTY_DIGITS)));
+        measure("multiply 20 x 2 digits", 100_000, () -> consume(TWENTY_DIGITS.multiply(TWO_DIGITS)));
+        measure("divide 40 / 20 digits", 20_000, () -> consume(FORTY_DIGITS.divide(TWENTY_DIGITS)));
+        measure("divide 40 / 2 digits", 2_000, () -> consume(FORTY_DIGITS.divide(TWO_DIGITS)));
+        measure("remainder 40 % 20 digits", 20_000, () -> consume(FORTY_DIGITS.remainder(TWENTY_DIGITS)));
+        measure("remainder 40 % 2 digits", 2_000, () -> consume(FORTY_DIGITS.remainder(TWO_DIGITS)));
+        measure("multiply 20 digits x 10^5", 100_000, () -> consume(TWENTY_DIGITS.multiply(POWER_OF_TEN)));
+        measure("shiftDecimalLeft 20 digits by 5", 100_000, () -> consume(TWENTY_DIGITS.shiftDecimalLeft(5)));
+        measure("divide 40 digits / 10^5", 100_000, () -> consume(FORTY_DIGITS.divide(POWER_OF_TEN)));
+    }
+
+    /**
+     * This private static method compares the radix sorts with {@code Arrays.sort} and a comparator
+     * built on {@code isLessThan}.
+     */
+    private static void sorting()
+    {
+        Random random = new Random(42);
+        HugeInteger[] values = new HugeInteger[1_000_000];
+
+        for (int n = 0; n < values.length; n++)
+        {
+            StringBuilder digits = new StringBuilder(random.nextBoolean() ? "-" : "");
+
+            for (int count = 1 + random.nextInt(40); count > 0; count--)
+            {
+                digits.append((char) ('0' + random.nextInt(10)));
+            }
+
+            values[n] = new HugeInteger(digits.toString());
+        }
+
+        Comparator<HugeInteger> comparator = (first, second) ->
+            first.isLessThan(second) ? -1 : (second.isLessThan(first) ? 1 : 0);
+
+        measure("Arrays.sort 10^6 with isLessThan", 1, () ->
+        {
+            HugeInteger[] array = values.clone();
+            Arrays.sort(array, comparator);
+            consume(array[0]);
+        });
+        measure("HugeIntegers.sort 10^6", 1, () ->
+        {
+            HugeInteger[] array = values.clone();
+            HugeIntegers.sort(array);
+            consume(array[0]);
+        });
+        measure("HugeIntegers.parallelSort 10^6", 1, () ->
+        {
+            HugeInteger[] array = values.clone();
+            HugeIntegers.parallelSort(array);
+            consume(array[0]);
+        });
+    }
+
+    /**
+     * This private static method compares the aggregation by key of a {@code HashMap} with String keys
+     * and of a {@code HugeIntegerLongMap}.
+     */
+    private static void hashing()
+    {
+        Random random = new Random(42);
+        HugeInteger[] keys = new HugeInteger[100_000];
+
+        for (int n = 0; n < keys.length; n++)
+        {
+            keys[n] = new HugeInteger(random.nextInt(10_000) + "123456789012345678901234567890");
+        }
+
+        measure("HashMap<String, Long> merge 10^5", 1, () ->
+        {
+            HashMap<String, Long> map = new HashMap<>();
+
+            for (HugeInteger key : keys)
+            {
+                map.merge(key.toString(), 1L, Long::sum);
+            }
+
+            sink += map.size();
+        });
+        measure("HugeIntegerLongMap addTo 10^5", 1, () ->
+        {
+            HugeIntegerLongMap map = new HugeIntegerLongMap();
+
+            for (HugeInteger key : keys)
+            {
+                map.addTo(key, 1L);
+            }
+
+            sink += map.size();
+        });
+    }
+
+    /**
+     * This private static method measures every arithmetic engine by size class and prints the
+     * policy that {@code ArithmeticEngines.calibrate} would install on this machine.
+     */
+    private static void engines()
+    {
+        System.out.print(ArithmeticEngines.calibrate(200));
+        ArithmeticEngines.reset();
+    }
+
+    /**
+     * This private static method measures the products of two 200000-digit magnitudes with Karatsuba's
+     * algorithm in the current thread and in pools of 1 to the number of available processors.
+     */
+    private static void parallelMultiplication()
+    {
+        Random random = new Random(42);
+        int[] first = new int[200_000];
+        int[] second = new int[200_000];
+
+        for (int n = 0; n < first.length; n++)
+        {
+            first[n] = random.nextInt(10);
+            second[n] = random.nextInt(10);
+        }
+
+        first[first.length - 1] = 1;
+        second[second.length - 1] = 1;
+        KaratsubaEngine sequential = new KaratsubaEngine(ForkJoinPool.commonPool(), Integer.MAX_VALUE);
+        measure("Karatsuba 200000 x 200000 sequential", 1, () -> sink += sequential.multiply(first, second).length);
+
+        for (int parallelism = 1; parallelism <= Runtime.getRuntime().availableProcessors(); parallelism *= 2)
+        {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            KaratsubaEngine engine = new KaratsubaEngine(pool, 1);
+            measure("Karatsuba 200000 x 200000 on " + parallelism + " threads", 1,
+                    () -> sink += engine.parallelMultiply(first, second).length);
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * This private static method compares the products of {@code BigInteger} and of the NTT engine
+     * for operands of 10^5, 10^6 and 10^7 digits. The longest products are measured once.
+     */
+    private static void transformMultiplication()
+    {
+        Random random = new Random(42);
+        NttEngine engine = new NttEngine();
+
+        for (int digits = 100_000; digits <= 10_000_000; digits *= 10)
+        {
+            int[] first = new int[digits];
+            int[] second = new int[digits];
+
+            for (int n = 0; n < digits; n++)
+            {
+                first[n] = n == digits - 1 ? 1 + random.nextInt(9) : random.nextInt(10);
+                second[n] = n == digits - 1 ? 1 + random.nextInt(9) : random.nextInt(10);
+            }
+
+            // Parsing millions of decimal digits into a BigInteger takes minutes, so its operands are
+            // random numbers with as many bits as the decimal operands.
+            int bits = (int) Math.ceil(digits * Math.log(10) / Math.log(2));
+            BigInteger firstBig = new BigInteger(bits, random).setBit(bits - 1);
+            BigInteger secondBig = new BigInteger(bits, random).setBit(bits - 1);
+            int operations = digits < 10_000_000 ? 1 : 0;
+            measureProduct("BigInteger.multiply " + digits + " digits", operations,
+                           () -> sink += firstBig.multiply(secondBig).bitLength());
+            measureProduct("NTT multiply " + digits + " digits", operations,
+                           () -> sink += engine.multiply(first, second).length);
+        }
+    }
+
+    /**
+     * This private static method measures a product with {@code measure}, or runs it once and prints
+     * its time if it's too long to be repeated.
+     *
+     * @param String The name of the product.
+     * @param int 1 to measure the product with {@code measure}, 0 to run it once.
+     * @param Runnable The product.
+     */
+    private static void measureProduct(String name, int operations, Runnable product)
+    {
+        if (operations > 0)
+        {
+            measure(name, operations, product);
+        }
+        else
+        {
+            long start = System.nanoTime();
+            product.run();
+            System.out.printf("%-40s %12.1f ns/op (single run)%n", name, (double) (System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * This private static method compares a multiply-add-and-sum pass over 10^5 triples of values with
+     * {@code HugeIntegers} and with {@code HugeResidueArrays}, excluding the conversions.
+     */
+    private static void residues()
+    {
+        Random random = new Random(42);
+        HugeInteger[][] values = new HugeInteger[3][100_000];
+
+        for (HugeInteger[] column : values)
+        {
+            for (int n = 0; n < column.length; n++)
+            {
+                column[n] = new HugeInteger((random.nextBoolean() ? "-" : "") + (1 + random.nextInt(999_999)) + random.nextInt(1_000_000_000));
+            }
+        }
+
+        HugeResidueArray[] residues = {new HugeResidueArray(values[0]), new HugeResidueArray(values[1]),
+                                       new HugeResidueArray(values[2])};
+
+        measure("HugeInteger multiply-add-sum 10^5", 1, () ->
+        {
+            HugeInteger sum = HugeInteger.ZERO;
+
+            for (int n = 0; n < values[0].length; n++)
+            {
+                sum = sum.add(values[0][n].multiply(values[1][n]).add(values[2][n]));
+            }
+
+            consume(sum);
+        });
+        measure("HugeResidueArray multiply-add-sum 10^5", 1, () ->
+        {
+            HugeResidueArray products = new HugeResidueArray(values[0].length);
+            products.add(residues[0]);
+            products.multiply(residues[1]);
+            products.add(residues[2]);
+            sink += products.sum().residue(0);
+        });
+        measure("HugeResidueArray parallel 10^5", 1, () ->
+        {
+            HugeResidueArray products = new HugeResidueArray(values[0].length);
+            products.parallelAdd(residues[0]);
+            products.parallelMultiply(residues[1]);
+            products.parallelAdd(residues[2]);
+            sink += products.parallelSum().residue(0);
+        });
+    }
+
+    /**
+     * This private static method compares the primality test and the next-prime search of
+     * {@code HugeInteger} with those of {@code BigInteger}, including the conversions that a caller
+     * without them would make.
+     */
+    private static void primes()
+    {
+        HugeInteger prime = new HugeInteger("9999999999999999999999999999999999990000").nextProbablePrime();
+        HugeInteger start = new HugeInteger("1000000000000000000000000000000");
+
+        measure("HugeInteger isProbablePrime(100) 40 digits", 1_000, () -> sink += prime.isProbablePrime(100) ? 1 : 0);
+        measure("BigInteger isProbablePrime(100) 40 digits", 1_000, () ->
+                sink += new BigInteger(prime.toString()).isProbablePrime(100) ? 1 : 0);
+        measure("HugeInteger nextProbablePrime 31 digits", 1_000, () -> consume(start.nextProbablePrime()));
+        measure("BigInteger nextProbablePrime 31 digits", 1_000, () ->
+                consume(new HugeInteger(new BigInteger(start.toString()).nextProbablePrime().toString())));
+    }
+
+    /**
+     * This private static method compares the enumeration of the primes of a window with the segmented
+     * sieve and with a primality test of every odd number.
+     */
+    private static void sieve()
+    {
+        HugeInteger lower = new HugeInteger("1000000000000000000000000000000");
+        HugeInteger upper = lower.add(new HugeInteger("100000"));
+        HugeInteger two = HugeInteger.valueOf(2);
+
+        measure("isProbablePrime on every odd number of 10^30 + 10^5", 1, () ->
+        {
+            int count = 0;
+
+            for (HugeInteger value = lower.add(HugeInteger.ONE); value.isLessThanOrEqualTo(upper); value = value.add(two))
+            {
+                count += value.isProbablePrime(100) ? 1 : 0;
+            }
+
+            sink += count;
+        });
+        measure("HugePrimeSieve primes of 10^30 + 10^5", 1, () -> sink += (int) new HugePrimeSieve(lower, upper).primes().count());
+        measure("HugePrimeSieve primes of 10^30 + 10^5, parallel", 1, () ->
+                sink += (int) new HugePrimeSieve(lower, upper).parallelPrimes().count());
+        measure("HugePrimeSieve offsets of 10^12 + 10^8 (exact)", 1, () ->
+                sink += (int) new HugePrimeSieve(new HugeInteger("1000000000000"), new HugeInteger("1000100000000"))
+                              .parallelOffsets().count());
+    }
+
+    /**
+     * This private static method measures the factorization of semiprimes whose least factor is found by
+     * the rho walks and by the elliptic curves.
+     */
+    private static void factorization()
+    {
+        HugeFactorizer factorizer = new HugeFactorizer();
+        HugeInteger rho = new HugeInteger("9999999929").multiply(new HugeInteger("1000000000000000000000000103"));
+        HugeInteger curves = new HugeInteger("1000000000000000003").multiply(new HugeInteger("1000000000000000000117"));
+
+        measure("HugeFactorizer 10 x 28 digits", 10, () -> consume(factorizer.factor(rho).get(0)));
+        measure("HugeFactorizer 19 x 22 digits", 1, () -> consume(factorizer.factor(curves).get(0)));
+    }
+
+    /**
+     * This private static method compares random values parsed from random strings with those of
+     * {@code HugeIntegers.random} and of the random streams.
+     */
+    private static void randomValues()
+    {
+        SplittableRandom random = new SplittableRandom(42);
+
+        measure("new HugeInteger(random String) 40", 200_000, () ->
+        {
+            char[] digits = new char[40];
+            digits[0] = (char) ('1' + random.nextInt(9));
+
+            for (int n = 1; n < digits.length; n++)
+            {
+                digits[n] = (char) ('0' + random.nextInt(10));
+            }
+
+            consume(new HugeInteger(new String(digits)));
+        });
+        measure("HugeIntegers.random 40 digits", 200_000, () -> consume(HugeIntegers.random(random, 40)));
+        measure("HugeIntegers.randomBelow 40 digits", 200_000, () -> consume(HugeIntegers.randomBelow(random, FORTY_DIGITS)));
+
+        for (HugeIntegerDistribution distribution : HugeIntegerDistribution.values())
+        {
+            measure("randomStream 10^5 " + distribution, 1, () ->
+                consume(HugeIntegers.randomStream(100_000, 42, distribution).reduce(HugeInteger.ZERO, (first, second) -> second)));
+        }
+    }
+
+    /**
+     * This private static method compares a loop of {@code add} and {@code isLessThan} over 10^5 consecutive
+     * 40-digit values with the streams of a {@code HugeIntegerRange}.
+     */
+    private static void ranges()
+    {
+        HugeInteger to = FORTY_DIGITS.add(new HugeInteger("100000"));
+        HugeIntegerRange range = new HugeIntegerRange(FORTY_DIGITS, to);
+
+        measure("add(ONE) and isLessThan loop 10^5", 1, () ->
+        {
+            for (HugeInteger value = FORTY_DIGITS; value.isLessThan(to); value = value.add(HugeInteger.ONE))
+            {
+                consume(value);
+            }
+        });
+        measure("HugeIntegerRange.stream 10^5", 1, () -> range.stream().forEach(HugeIntegerBenchmark::consume));
+        measure("HugeIntegerRange.parallelStream 10^5", 1, () -> range.parallelStream().forEach(HugeIntegerBenchmark::consume));
+    }
+
+    /**
+     * This private static method compares the arithmetic of {@code HugeDecimal} with that of {@code BigDecimal}
+     * on amounts with 2 decimal places and a rate with 4, for amounts that fit in a long and for wider ones.
+     */
+    private static void decimals()
+    {
+        decimals("17 digits", new HugeDecimal("123456789012345.67"), new HugeDecimal("98765432109.87"));
+        decimals("30 digits", new HugeDecimal("1234567890123456789012345678.90"), new HugeDecimal("9876543210987654321098765.43"));
+    }
+
+    /**
+     * This private static method compares the arithmetic of {@code HugeDecimal} with that of {@code BigDecimal}
+     * on two amounts and a rate.
+     *
+     * @param String The name of the size of the amounts.
+     * @param HugeDecimal The first amount.
+     * @param HugeDecimal The second amount, with the same scale.
+     */
+    private static void decimals(String size, HugeDecimal amount, HugeDecimal other)
+    {
+        HugeDecimal rate = new HugeDecimal("1.0725");
+        BigDecimal bigAmount = amount.toBigDecimal();
+        BigDecimal bigOther = other.toBigDecimal();
+        BigDecimal bigRate = rate.toBigDecimal();
+
+        measure("HugeDecimal add same scale " + size, 200_000, () -> consume(amount.add(other).unscaledValue()));
+        measure("BigDecimal add same scale " + size, 200_000, () -> sink += bigAmount.add(bigOther).signum());
+        measure("HugeInteger via BigDecimal add " + size, 200_000, () ->
+        {
+            // The conversions of HugeInteger amounts in minor units to BigDecimal and back.
+            BigDecimal first = new BigDecimal(new BigInteger(amount.unscaledValue().toString()), amount.scale());
+            BigDecimal second = new BigDecimal(new BigInteger(other.unscaledValue().toString()), other.scale());
+            consume(new HugeInteger(first.add(second).unscaledValue().toString()));
+        });
+        measure("HugeDecimal add scales 2 + 4 " + size, 200_000, () -> consume(amount.add(rate).unscaledValue()));
+        measure("BigDecimal add scales 2 + 4 " + size, 200_000, () -> sink += bigAmount.add(bigRate).signum());
+        measure("HugeDecimal multiply to scale 2 " + size, 100_000, () ->
+            consume(amount.multiply(rate, 2, RoundingMode.HALF_EVEN).unscaledValue()));
+        measure("BigDecimal multiply to scale 2 " + size, 100_000, () ->
+            sink += bigAmount.multiply(bigRate).setScale(2, RoundingMode.HALF_EVEN).signum());
+        measure("HugeDecimal divide to scale 2 " + size, 200_000, () ->
+            consume(amount.divide(rate, 2, RoundingMode.HALF_EVEN).unscaledValue()));
+        measure("BigDecimal divide to scale 2 " + size, 200_000, () ->
+            sink += bigAmount.divide(bigRate, 2, RoundingMode.HALF_EVEN).signum());
+    }
+
+    /**
+     * This static method runs the sections of the benchmark named in the arguments, or every
+     * section if there are no arguments.
+     *
+     * @param String[] The names of the sections to run.
+     */
+    public static void main(String[] args)
+    {
+        List<String> sections = Arrays.asList(args);
+
+        if (sections.isEmpty() || sections.contains("arithmetic"))
+        {
+            arithmetic();
+        }
+
+        if (sections.isEmpty() || sections.contains("sort"))
+        {
+            sorting();
+        }
+
+        if (sections.isEmpty() || sections.contains("hash"))
+        {
+            hashing();
+        }
+
+        if (sections.isEmpty() || sections.contains("engines"))
+        {
+            engines();
+        }
+
+        if (sections.isEmpty() || sections.contains("parallel"))
+        {
+            parallelMultiplication();
+        }
+
+        if (sections.isEmpty() || sections.contains("ntt"))
+        {
+            transformMultiplication();
+        }
+
+        if (sections.isEmpty() || sections.contains("residue"))
+        {
+            residues();
+        }
+
+        if (sections.isEmpty() || sections.contains("primes"))
+        {
+            primes();
+        }
+
+        if (sections.isEmpty() || sections.contains("sieve"))
+        {
+            sieve();
+        }
+
+        if (sections.isEmpty() || sections.contains("factor"))
+        {
+            factorization();
+        }
+
+        if (sections.isEmpty() || sections.contains("random"))
+        {
+            randomValues();
+        }
+
+        if (sections.isEmpty() || sections.contains("range"))
+        {
+            ranges();
+        }
+
+        if (sections.isEmpty() || sections.contains("decimal"))
+        {
+            decimals();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/**
+ * Distributions of the random {@code HugeIntegers} streamed by {@code HugeIntegers.randomStream}.
+ *
+ * Every distribution generates non-negative values of 1 to 40 digits; a signed workload can negate
+ * some of them. The distributions differ in how the digit counts and the leading digits are drawn,
+ * so each one exercises a different part of the arithmetic.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+public enum HugeIntegerDistribution
+{
+    /**
+     * The digit count is uniform from 1 to 40 and the value is uniform among the numbers of that many
+     * digits, so short and long operands are equally frequent.
+     */
+    UNIFORM_LENGTH,
+
+    /**
+     * The decimal logarithm of the value is uniform from 0 to 40, so the digit count is uniform as in
+     * {@code UNIFORM_LENGTH} but the leading digits follow Benford's law, as measured quantities do.
+     */
+    LOG_UNIFORM,
+
+    /**
+     * The value is within 1000 of a power of ten from 10 to 10^40, below or above it, so the operands
+     * are mostly nines or zeros and their sums and differences carry and borrow through every digit,
+     * up to the overflow at 40 digits.
+     */
+    NEAR_BOUNDARY;
+}
@@ -0,0 +1,114 @@
+/**
+ * Java Flight Recorder events emitted by the slow operations of {@code HugeInteger}.
+ *
+ * Every event records the digit counts and signums of its operands together with the
+ * duration of the operation. Events are only written to a recording when the operation
+ * takes longer than the threshold of its event type, so they stay cheap in production.
+ * The default threshold is declared with {@code @Threshold} and can be changed per event
+ * type in a {@code .jfc} settings file or when the recording is started, for example
+ * {@code -XX:StartFlightRecording:settings=hugeinteger.jfc} with
+ * {@code <setting name="threshold">10 ms</setting>} under {@code HugeInteger.Divide},
+ * or programmatically with {@code recording.enable("HugeInteger.Divide").withThreshold(duration)}.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Category("HugeInteger")
+@StackTrace(false)
+abstract class HugeIntegerEvent extends Event
+{
+    @Label("First Operand Digits")
+    int firstDigits;
+
+    @Label("First Operand Signum")
+    int firstSignum;
+
+    @Label("Second Operand Digits")
+    @Description("Zero for operations with a single operand.")
+    int secondDigits;
+
+    @Label("Second Operand Signum")
+    @Description("Zero for operations with a single operand.")
+    int secondSignum;
+
+    /**
+     * This method ends the timing of the event and commits it if the event is enabled and
+     * its duration exceeds the configured threshold. The operand fields are only filled in
+     * when the event is actually going to be written.
+     *
+     * @param int The number of digits of the first operand.
+     * @param int The signum of the first operand.
+     * @param int The number of digits of the second operand.
+     * @param int The signum of the second operand.
+     */
+    final void record(int firstDigits, int firstSignum, int secondDigits, int secondSignum)
+    {
+        end();
+
+        if (shouldCommit())
+        {
+            this.firstDigits = firstDigits;
+            this.firstSignum = firstSignum;
+            this.secondDigits = secondDigits;
+            this.secondSignum = secondSignum;
+            commit();
+        }
+    }
+
+    /**
+     * This method ends the timing of an event of a binary operation and commits it if needed.
+     *
+     * @param HugeInteger The first operand (this {@code HugeInteger} of the operation).
+     * @param HugeInteger The second operand.
+     */
+    final void record(HugeInteger first, HugeInteger second)
+    {
+        record(first.digits.length, first.signum, second.digits.length, second.signum);
+    }
+
+    @Name("HugeInteger.Multiply")
+    @Label("HugeInteger Multiply")
+    @Threshold("1 ms")
+    static final class Multiply extends HugeIntegerEvent
+    {
+    }
+
+    @Name("HugeInteger.Divide")
+    @Label("HugeInteger Divide")
+    @Threshold("1 ms")
+    static final class Divide extends HugeIntegerEvent
+    {
+    }
+
+    @Name("HugeInteger.Remainder")
+    @Label("HugeInteger Remainder")
+    @Threshold("1 ms")
+    static final class Remainder extends HugeIntegerEvent
+    {
+    }
+
+    @Name("HugeInteger.Parse")
+    @Label("HugeInteger Parse")
+    @Description("Parsing of the decimal string representation of a HugeInteger. The first operand is the parsed value.")
+    @Threshold("1 ms")
+    static final class Parse extends HugeIntegerEvent
+    {
+    }
+
+    @Name("HugeInteger.Format")
+    @Label("HugeInteger Format")
+    @Description("Formatting of a HugeInteger as a decimal string. The first operand is the formatted value.")
+    @Threshold("1 ms")
+    static final class Format extends HugeIntegerEvent
+    {
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Tests of the class HugeIntegerEvent.
+ * 
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.Test;
+
+public class HugeIntegerEventTest {
+
+    private static final String[] NAMES = {"HugeInteger.Multiply", "HugeInteger.Divide", "HugeInteger.Remainder",
+                                           "HugeInteger.Parse", "HugeInteger.Format"};
+    
+    private static void assertRecorded(List<RecordedEvent> events, String name, int firstDigits, int firstSignum,
+                                       int secondDigits, int secondSignum) {
+        boolean isRecorded = events.stream().anyMatch(event -> event.getEventType().getName().equals(name)
+            && event.getInt("firstDigits") == firstDigits && event.getInt("firstSignum") == firstSignum
+            && event.getInt("secondDigits") == secondDigits && event.getInt("secondSignum") == secondSignum);
+        assertTrue(name + " " + firstDigits + " " + firstSignum + " " + secondDigits + " " + secondSignum, isRecorded);
+    }
+    
+    @Test
+    public void testEvents() throws IOException {
+        Path file = Files.createTempFile("HugeIntegerEventTest", ".jfr");
+        file.toFile().deleteOnExit();
+        
+        try (Recording recording = new Recording()) {
+            for (String name : NAMES) {
+                recording.enable(name).withThreshold(Duration.ZERO);
+            }
+            
+            recording.start();
+            HugeInteger first = new HugeInteger("-1234567890123456789012345");
+            HugeInteger second = new HugeInteger("98765432109876");
+            HugeInteger product = first.multiply(second);
+            String quotient = first.divide(second).toString();
+            HugeInteger remainder = first.remainder(second);
+            recording.stop();
+            recording.dump(file);
+            assertEquals(39, product.digits.length);
+            assertEquals("-12499999886", quotient);
+            assertEquals(new BigInteger("-1234567890123456789012345").remainder(new BigInteger("98765432109876")).toString(),
+                remainder.toString());
+        }
+        
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertRecorded(events, "HugeInteger.Parse", 25, -1, 0, 0);
+        assertRecorded(events, "HugeInteger.Parse", 14, 1, 0, 0);
+        assertRecorded(events, "HugeInteger.Multiply", 25, -1, 14, 1);
+        assertRecorded(events, "HugeInteger.Divide", 25, -1, 14, 1);
+        assertRecorded(events, "HugeInteger.Remainder", 25, -1, 14, 1);
+        assertRecorded(events, "HugeInteger.Format", 11, -1, 0, 0);
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * A set of {@code HugeIntegers} kept in an open-addressing hash table.
+ *
+ * The elements are packed into primitive arrays, so the set holds no reference to them and
+ * {@code add}, {@code contains} and {@code remove} don't allocate, except when the table grows.
+ * The iteration creates a new {@code HugeInteger} for every element. A {@code HugeIntegerHashSet}
+ * is not thread-safe.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.util.function.Consumer;
+
+public class HugeIntegerHashSet extends HugeIntegerHashTable
+{
+    // Constructors for class HugeIntegerHashSet.
+
+    /**
+     * This constructor initializes an empty set.
+     */
+    public HugeIntegerHashSet()
+    {
+        super(0);
+    }
+
+    /**
+     * This constructor initializes an empty set that can hold the input number of elements without growing.
+     *
+     * @param int The expected number of elements.
+     * @throws IllegalArgumentException If the expected size is negative.
+     */
+    public HugeIntegerHashSet(int expectedSize)
+    {
+        super(expectedSize);
+    }
+
+    // Methods of class HugeIntegerHashSet.
+
+    @Override
+    void beginResize(int capacity)
+    {
+    }
+
+    @Override
+    void moveFromOld(int oldSlot, int slot)
+    {
+    }
+
+    @Override
+    void endResize()
+    {
+    }
+
+    @Override
+    void moveValue(int from, int to)
+    {
+    }
+
+    @Override
+    void clearValue(int slot)
+    {
+    }
+
+    // Public methods of class HugeIntegerHashSet.
+
+    /**
+     * This public method adds the input {@code HugeInteger} to the set.
+     *
+     * @param HugeInteger The element to be added.
+     * @return {@code true} if the element was not in the set.
+     */
+    public boolean add(HugeInteger element)
+    {
+        return insert(element) < 0;
+    }
+
+    /**
+     * This public method returns whether the input {@code HugeInteger} is in the set.
+     *
+     * @param HugeInteger The element.
+     * @return {@code true} if the element is in the set.
+     */
+    public boolean contains(HugeInteger element)
+    {
+        return find(element) >= 0;
+    }
+
+    /**
+     * This public method removes the input {@code HugeInteger} from the set.
+     *
+     * @param HugeInteger The element to be removed.
+     * @return {@code true} if the element was in the set.
+     */
+    public boolean remove(HugeInteger element)
+    {
+        int slot = find(element);
+
+        if (slot >= 0)
+        {
+            removeAt(slot);
+        }
+
+        return slot >= 0;
+    }
+
+    /**
+     * This public method removes every element of the set.
+     */
+    @Override
+    public void clear()
+    {
+        super.clear();
+    }
+
+    /**
+     * This public method performs the input action for every element of the set, in no particular order.
+     *
+     * @param Consumer The action.
+     */
+    public void forEach(Consumer<? super HugeInteger> action)
+    {
+        for (int slot = 0; slot < capacity(); slot++)
+        {
+            if (isUsed(slot))
+            {
+                action.accept(keyAt(slot));
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * Tests of the class HugeIntegerHashSet.
+ * 
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class HugeIntegerHashSetTest {
+
+    @Test
+    public void testAddContainsRemove() {
+        HugeIntegerHashSet set = new HugeIntegerHashSet();
+        assertTrue(set.isEmpty());
+        assertTrue(set.add(HugeInteger.ZERO));
+        assertTrue(set.add(new HugeInteger("1239")));
+        assertTrue(set.add(new HugeInteger("-1239")));
+        assertFalse(set.add(new HugeInteger("1239")));
+        assertEquals(3, set.size());
+        assertTrue(set.contains(new HugeInteger("0")));
+        assertTrue(set.contains(new HugeInteger("-1239")));
+        assertFalse(set.contains(new HugeInteger("1240")));
+        assertTrue(set.remove(new HugeInteger("1239")));
+        assertFalse(set.remove(new HugeInteger("1239")));
+        assertEquals(2, set.size());
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(HugeInteger.ZERO));
+    }
+    
+    @Test
+    public void testLimits() {
+        HugeIntegerHashSet set = new HugeIntegerHashSet();
+        set.add(HugeInteger.MAX_VALUE);
+        set.add(HugeInteger.MIN_VALUE);
+        assertTrue(set.contains(HugeInteger.opposite(HugeInteger.MIN_VALUE)));
+        assertTrue(set.contains(HugeInteger.opposite(HugeInteger.MAX_VALUE)));
+        Set<String> elements = new HashSet<>();
+        set.forEach(element -> elements.add(element.toString()));
+        assertEquals(Set.of(HugeInteger.MAX_VALUE.toString(), HugeInteger.MIN_VALUE.toString()), elements);
+    }
+    
+    @Test
+    public void testAgainstHashSet() {
+        Random random = new Random(7);
+        HugeIntegerHashSet set = new HugeIntegerHashSet();
+        Set<String> expected = new HashSet<>();
+        
+        for (int n = 0; n < 100_000; n++) {
+            String value = Long.toString(random.nextInt(5000) - 2500) + (random.nextBoolean() ? "000000000000000000000" : "");
+            HugeInteger element = new HugeInteger(value);
+            
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(element.toString()), set.remove(element));
+            } else {
+                assertEquals(expected.add(element.toString()), set.add(element));
+            }
+        }
+        
+        assertEquals(expected.size(), set.size());
+        Set<String> elements = new HashSet<>();
+        set.forEach(element -> elements.add(element.toString()));
+        assertEquals(expected, elements);
+    }
+}
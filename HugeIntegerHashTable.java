@@ -0,0 +1,366 @@
+/**
+ * The open-addressing hash table shared by {@code HugeIntegerHashSet}, {@code HugeIntegerLongMap}
+ * and {@code HugeIntegerObjectMap}.
+ *
+ * The keys are not kept as objects: every key is packed into three longs stored inline in one
+ * primitive array, the two lower limbs with 18 decimal digits each and the highest one with the
+ * remaining 4 digits and the signum. The highest limb of a key is never zero, so a slot whose three
+ * longs are zero is empty. Collisions are resolved by linear probing and removals shift the
+ * following keys back, so there are no tombstones. Lookups read the digits of the key directly and
+ * never allocate; only the iteration methods create {@code HugeIntegers}.
+ *
+ * The subclasses keep their values in parallel arrays, indexed by slot, and move them when the
+ * table moves a key.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.util.Arrays;
+
+abstract class HugeIntegerHashTable
+{
+    private static final int MIN_CAPACITY = 16;
+    private static final int LIMBS = 3;
+    private static final int LIMB_DIGITS = 18;
+
+    /**
+     * The limbs of the keys: the key of slot {@code n} is in the elements {@code 3n} to {@code 3n + 2}.
+     */
+    private long[] keys;
+    private int mask;
+    private int size;
+    private int threshold;
+
+    // Constructors for class HugeIntegerHashTable.
+
+    /**
+     * This constructor initializes an empty table with room for the input number of keys.
+     *
+     * @param int The number of keys that the table can hold before it's resized.
+     * @throws IllegalArgumentException If the expected size is negative.
+     */
+    HugeIntegerHashTable(int expectedSize)
+    {
+        if (expectedSize < 0)
+        {
+            throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+        }
+
+        int capacity = MIN_CAPACITY;
+
+        while (capacity - capacity / 3 < expectedSize)
+        {
+            capacity *= 2;
+        }
+
+        allocate(capacity);
+    }
+
+    // Private methods of class HugeIntegerHashTable.
+
+    /**
+     * This private method allocates empty slots for the keys.
+     *
+     * @param int The number of slots, a power of two.
+     */
+    private void allocate(int capacity)
+    {
+        keys = new long[LIMBS * capacity];
+        mask = capacity - 1;
+        threshold = capacity - capacity / 3;
+    }
+
+    /**
+     * This private static method returns a limb of the key of a {@code HugeInteger}.
+     *
+     * @param HugeInteger The key.
+     * @param int The index of the limb, from 0 to 2.
+     * @return The limb.
+     */
+    private static long limb(HugeInteger key, int limb)
+    {
+        int[] digits = key.digits;
+        long result = 0;
+
+        for (int n = Math.min(digits.length, (limb + 1) * LIMB_DIGITS) - 1; n >= limb * LIMB_DIGITS; n--)
+        {
+            result = 10 * result + digits[n];
+        }
+
+        // The signum makes the highest limb non-zero, so that zero is not taken for an empty slot.
+        return limb == LIMBS - 1 ? 4 * result + key.getSignum() + 2 : result;
+    }
+
+    /**
+     * This private static method returns the hash of a packed key.
+     *
+     * @param long The lowest limb.
+     * @param long The middle limb.
+     * @param long The highest limb.
+     * @return The hash.
+     */
+    private static int hash(long low, long middle, long high)
+    {
+        long hash = low * 0x9E3779B97F4A7C15L + middle * 0xC2B2AE3D27D4EB4FL + high;
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return (int) (hash ^ (hash >>> 33));
+    }
+
+    /**
+     * This private method returns whether a slot is empty.
+     *
+     * @param int The slot.
+     * @return {@code true} if the slot has no key.
+     */
+    private boolean isEmpty(int slot)
+    {
+        return keys[LIMBS * slot + 2] == 0;
+    }
+
+    /**
+     * This private method returns the slot where the key of another slot would be placed without collisions.
+     *
+     * @param int The slot of the key.
+     * @return The ideal slot of the key.
+     */
+    private int idealSlot(int slot)
+    {
+        int index = LIMBS * slot;
+        return hash(keys[index], keys[index + 1], keys[index + 2]) & mask;
+    }
+
+    /**
+     * This private method doubles the capacity of the table, moving every key and value to its new slot.
+     */
+    private void grow()
+    {
+        long[] oldKeys = keys;
+        int oldCapacity = mask + 1;
+        allocate(2 * oldCapacity);
+        beginResize(mask + 1);
+
+        for (int oldSlot = 0; oldSlot < oldCapacity; oldSlot++)
+        {
+            int index = LIMBS * oldSlot;
+            long high = oldKeys[index + 2];
+
+            if (high != 0)
+            {
+                int slot = hash(oldKeys[index], oldKeys[index + 1], high) & mask;
+
+                while (!isEmpty(slot))
+                {
+                    slot = (slot + 1) & mask;
+                }
+
+                System.arraycopy(oldKeys, index, keys, LIMBS * slot, LIMBS);
+                moveFromOld(oldSlot, slot);
+            }
+        }
+
+        endResize();
+    }
+
+    // Methods of class HugeIntegerHashTable.
+
+    /**
+     * This method prepares the values for a resize of the table, keeping the old values until
+     * {@code endResize} is called.
+     *
+     * @param int The new number of slots.
+     */
+    abstract void beginResize(int capacity);
+
+    /**
+     * This method moves a value from its slot in the old values to a slot in the new values.
+     *
+     * @param int The slot in the old values.
+     * @param int The slot in the new values.
+     */
+    abstract void moveFromOld(int oldSlot, int slot);
+
+    /**
+     * This method releases the old values after a resize.
+     */
+    abstract void endResize();
+
+    /**
+     * This method moves a value between two slots when a removal shifts a key back.
+     *
+     * @param int The slot of the value.
+     * @param int The slot where the value is moved.
+     */
+    abstract void moveValue(int from, int to);
+
+    /**
+     * This method clears the value of a slot whose key was removed.
+     *
+     * @param int The slot.
+     */
+    abstract void clearValue(int slot);
+
+    /**
+     * This method returns the slot of the input key, or a negative number if the key is not in the table.
+     *
+     * @param HugeInteger The key.
+     * @return The slot of the key, or {@code -1 - slot} where {@code slot} is where the key would be inserted.
+     */
+    final int find(HugeInteger key)
+    {
+        long low = limb(key, 0);
+        long middle = limb(key, 1);
+        long high = limb(key, 2);
+        int slot = hash(low, middle, high) & mask;
+        int result = 0;
+
+        for (boolean isSearching = true; isSearching; slot = (slot + 1) & mask)
+        {
+            int index = LIMBS * slot;
+
+            if (keys[index + 2] == 0)
+            {
+                result = -1 - slot;
+                isSearching = false;
+            }
+            else if (keys[index] == low && keys[index + 1] == middle && keys[index + 2] == high)
+            {
+                result = slot;
+                isSearching = false;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * This method returns the slot of the input key, inserting the key if it's not in the table.
+     * The value of a new slot is left as cleared by {@code clearValue}.
+     *
+     * @param HugeInteger The key.
+     * @return The slot of the key if it was in the table, or {@code -1 - slot} if it was inserted in {@code slot}.
+     */
+    final int insert(HugeInteger key)
+    {
+        int result = find(key);
+
+        if (result < 0)
+        {
+            if (size >= threshold)
+            {
+                grow();
+                result = find(key);
+            }
+
+            int index = LIMBS * (-1 - result);
+            keys[index] = limb(key, 0);
+            keys[index + 1] = limb(key, 1);
+            keys[index + 2] = limb(key, 2);
+            size++;
+        }
+
+        return result;
+    }
+
+    /**
+     * This method removes the key of a slot, shifting back the keys that follow it in its probe sequence.
+     *
+     * @param int The slot of the key.
+     */
+    final void removeAt(int slot)
+    {
+        int hole = slot;
+
+        for (int next = (slot + 1) & mask; !isEmpty(next); next = (next + 1) & mask)
+        {
+            // A key can fill the hole if its ideal slot is not between the hole and its current slot.
+            if (((next - idealSlot(next)) & mask) >= ((next - hole) & mask))
+            {
+                System.arraycopy(keys, LIMBS * next, keys, LIMBS * hole, LIMBS);
+                moveValue(next, hole);
+                hole = next;
+            }
+        }
+
+        int index = LIMBS * hole;
+        keys[index] = 0;
+        keys[index + 1] = 0;
+        keys[index + 2] = 0;
+        clearValue(hole);
+        size--;
+    }
+
+    /**
+     * This method returns the number of slots of the table.
+     *
+     * @return The capacity.
+     */
+    final int capacity()
+    {
+        return mask + 1;
+    }
+
+    /**
+     * This method returns whether a slot has a key.
+     *
+     * @param int The slot.
+     * @return {@code true} if the slot has a key.
+     */
+    final boolean isUsed(int slot)
+    {
+        return !isEmpty(slot);
+    }
+
+    /**
+     * This method returns the key of a slot as a new {@code HugeInteger}.
+     *
+     * @param int The slot, which must have a key.
+     * @return The key.
+     */
+    final HugeInteger keyAt(int slot)
+    {
+        int index = LIMBS * slot;
+        long high = keys[index + 2];
+        int signum = (int) (high & 3) - 2;
+        int[] digits = new int[HugeInteger.MAX_DIGITS];
+        long[] limbs = {keys[index], keys[index + 1], high >>> 2};
+
+        for (int n = 0; n < HugeInteger.MAX_DIGITS; n++)
+        {
+            digits[n] = (int) (limbs[n / LIMB_DIGITS] % 10);
+            limbs[n / LIMB_DIGITS] /= 10;
+        }
+
+        return HugeInteger.valueOf(signum, digits, OverflowPolicy.THROW);
+    }
+
+    /**
+     * This method removes every key of the table, keeping its capacity.
+     */
+    void clear()
+    {
+        Arrays.fill(keys, 0);
+        size = 0;
+    }
+
+    /**
+     * This method returns the number of keys in the table.
+     *
+     * @return The number of keys.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * This method returns whether the table has no keys.
+     *
+     * @return {@code true} if the table is empty.
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+}
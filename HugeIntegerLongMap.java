@@ -0,0 +1,178 @@
+/**
+ * A map from {@code HugeIntegers} to longs kept in an open-addressing hash table.
+ *
+ * The keys are packed into primitive arrays and the values are kept in a parallel long array, so
+ * the map holds no reference to the keys, doesn't box the values and doesn't allocate on lookups
+ * and updates, except when the table grows. It's meant for aggregations such as counting or
+ * summing by key with {@code addTo}. The iteration creates a new {@code HugeInteger} for every key.
+ * A {@code HugeIntegerLongMap} is not thread-safe.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.util.Arrays;
+import java.util.function.ObjLongConsumer;
+
+public class HugeIntegerLongMap extends HugeIntegerHashTable
+{
+    private long[] values;
+    private long[] oldValues;
+
+    // Constructors for class HugeIntegerLongMap.
+
+    /**
+     * This constructor initializes an empty map.
+     */
+    public HugeIntegerLongMap()
+    {
+        this(0);
+    }
+
+    /**
+     * This constructor initializes an empty map that can hold the input number of keys without growing.
+     *
+     * @param int The expected number of keys.
+     * @throws IllegalArgumentException If the expected size is negative.
+     */
+    public HugeIntegerLongMap(int expectedSize)
+    {
+        super(expectedSize);
+        values = new long[capacity()];
+    }
+
+    // Methods of class HugeIntegerLongMap.
+
+    @Override
+    void beginResize(int capacity)
+    {
+        oldValues = values;
+        values = new long[capacity];
+    }
+
+    @Override
+    void moveFromOld(int oldSlot, int slot)
+    {
+        values[slot] = oldValues[oldSlot];
+    }
+
+    @Override
+    void endResize()
+    {
+        oldValues = null;
+    }
+
+    @Override
+    void moveValue(int from, int to)
+    {
+        values[to] = values[from];
+    }
+
+    @Override
+    void clearValue(int slot)
+    {
+        values[slot] = 0;
+    }
+
+    // Public methods of class HugeIntegerLongMap.
+
+    /**
+     * This public method returns whether the input key is in the map.
+     *
+     * @param HugeInteger The key.
+     * @return {@code true} if the key is in the map.
+     */
+    public boolean containsKey(HugeInteger key)
+    {
+        return find(key) >= 0;
+    }
+
+    /**
+     * This public method returns the value of the input key, or the input default value if the key is not in the map.
+     *
+     * @param HugeInteger The key.
+     * @param long The value to return if the key is not in the map.
+     * @return The value of the key.
+     */
+    public long getOrDefault(HugeInteger key, long defaultValue)
+    {
+        int slot = find(key);
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    /**
+     * This public method sets the value of the input key.
+     *
+     * @param HugeInteger The key.
+     * @param long The value.
+     * @return The previous value of the key, or 0 if the key was not in the map.
+     */
+    public long put(HugeInteger key, long value)
+    {
+        int slot = insert(key);
+        slot = slot < 0 ? -1 - slot : slot;
+        long result = values[slot];
+        values[slot] = value;
+        return result;
+    }
+
+    /**
+     * This public method adds the input increment to the value of the input key. A key that is not
+     * in the map is added with the increment as its value.
+     *
+     * @param HugeInteger The key.
+     * @param long The increment.
+     * @return The new value of the key.
+     */
+    public long addTo(HugeInteger key, long increment)
+    {
+        int slot = insert(key);
+        slot = slot < 0 ? -1 - slot : slot;
+        values[slot] += increment;
+        return values[slot];
+    }
+
+    /**
+     * This public method removes the input key from the map.
+     *
+     * @param HugeInteger The key to be removed.
+     * @return {@code true} if the key was in the map.
+     */
+    public boolean remove(HugeInteger key)
+    {
+        int slot = find(key);
+
+        if (slot >= 0)
+        {
+            removeAt(slot);
+        }
+
+        return slot >= 0;
+    }
+
+    /**
+     * This public method removes every key of the map.
+     */
+    @Override
+    public void clear()
+    {
+        super.clear();
+        Arrays.fill(values, 0);
+    }
+
+    /**
+     * This public method performs the input action for every key and value of the map, in no particular order.
+     *
+     * @param ObjLongConsumer The action.
+     */
+    public void forEach(ObjLongConsumer<? super HugeInteger> action)
+    {
+        for (int slot = 0; slot < capacity(); slot++)
+        {
+            if (isUsed(slot))
+            {
+                action.accept(keyAt(slot), values[slot]);
+            }
+        }
+    }
+}
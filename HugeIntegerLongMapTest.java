@@ -0,0 +1,64 @@
+/**
+ * Tests of the class HugeIntegerLongMap.
+ * 
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class HugeIntegerLongMapTest {
+
+    @Test
+    public void testPutGetRemove() {
+        HugeIntegerLongMap map = new HugeIntegerLongMap(4);
+        assertEquals(0L, map.put(new HugeInteger("1239"), 5L));
+        assertEquals(5L, map.put(new HugeInteger("1239"), 7L));
+        assertEquals(7L, map.getOrDefault(new HugeInteger("1239"), -1L));
+        assertEquals(-1L, map.getOrDefault(new HugeInteger("-1239"), -1L));
+        assertTrue(map.containsKey(new HugeInteger("1239")));
+        assertTrue(map.remove(new HugeInteger("1239")));
+        assertFalse(map.containsKey(new HugeInteger("1239")));
+        assertEquals(0, map.size());
+    }
+    
+    @Test
+    public void testAddTo() {
+        HugeIntegerLongMap map = new HugeIntegerLongMap();
+        assertEquals(3L, map.addTo(HugeInteger.MAX_VALUE, 3L));
+        assertEquals(5L, map.addTo(HugeInteger.MAX_VALUE, 2L));
+        assertEquals(-1L, map.addTo(HugeInteger.MIN_VALUE, -1L));
+        assertEquals(2, map.size());
+        map.clear();
+        assertEquals(4L, map.addTo(HugeInteger.MAX_VALUE, 4L));
+    }
+    
+    @Test
+    public void testAgainstHashMap() {
+        Random random = new Random(11);
+        HugeIntegerLongMap map = new HugeIntegerLongMap();
+        Map<String, Long> expected = new HashMap<>();
+        
+        for (int n = 0; n < 100_000; n++) {
+            HugeInteger key = new HugeInteger(Long.toString(random.nextInt(4000) - 2000) + "123456789012345678");
+            
+            if (random.nextInt(4) == 0) {
+                assertEquals(expected.remove(key.toString()) != null, map.remove(key));
+            } else {
+                assertEquals((long) expected.merge(key.toString(), (long) n, Long::sum), map.addTo(key, n));
+            }
+        }
+        
+        Map<String, Long> entries = new HashMap<>();
+        map.forEach((key, value) -> entries.put(key.toString(), value));
+        assertEquals(expected, entries);
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * A lock-free cache of {@code HugeIntegers} indexed by small non-negative ints, used by the functions
+ * of {@code HugeIntegers}.
+ *
+ * The table is an {@code AtomicReferenceArray} that grows when an index beyond its end is requested,
+ * by publishing a larger copy with a compare-and-set. Readers never block: a missing value is
+ * computed by the calling thread and published with a compare-and-set, so concurrent threads may
+ * compute the same value, but all of them return the first one published. A value written to the old
+ * table while it's being copied may be lost, which only costs its recomputation.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+final class HugeIntegerMemo
+{
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final AtomicReference<AtomicReferenceArray<HugeInteger>> table =
+        new AtomicReference<>(new AtomicReferenceArray<>(INITIAL_CAPACITY));
+
+    // Private methods of class HugeIntegerMemo.
+
+    /**
+     * This private method returns a table with room for the input index, growing the current one if needed.
+     *
+     * @param int The index.
+     * @return A table whose length is greater than the index.
+     */
+    private AtomicReferenceArray<HugeInteger> tableFor(int index)
+    {
+        AtomicReferenceArray<HugeInteger> result = table.get();
+
+        while (index >= result.length())
+        {
+            AtomicReferenceArray<HugeInteger> grown =
+                new AtomicReferenceArray<>(Math.max(2 * result.length(), index + 1));
+
+            for (int n = 0; n < result.length(); n++)
+            {
+                grown.set(n, result.get(n));
+            }
+
+            // If another thread grew the table first, its table is used instead.
+            result = table.compareAndSet(result, grown) ? grown : table.get();
+        }
+
+        return result;
+    }
+
+    // Methods of class HugeIntegerMemo.
+
+    /**
+     * This method returns the cached value of an index, computing and caching it if it's missing.
+     *
+     * @param int The index, not negative.
+     * @param IntFunction<HugeInteger> The function that computes the value of an index.
+     * @return The value of the index.
+     */
+    HugeInteger get(int index, IntFunction<HugeInteger> function)
+    {
+        AtomicReferenceArray<HugeInteger> values = tableFor(index);
+        HugeInteger result = values.get(index);
+
+        if (result == null)
+        {
+            HugeInteger computed = function.apply(index);
+            result = values.compareAndExchange(index, null, computed);
+
+            if (result == null)
+            {
+                result = computed;
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,207 @@
+/**
+ * A map from {@code HugeIntegers} to objects kept in an open-addressing hash table.
+ *
+ * The keys are packed into primitive arrays and the values are kept in a parallel array, so the
+ * map holds no reference to the keys and doesn't allocate on lookups and updates, except when the
+ * table grows. {@code null} values are allowed, so {@code containsKey} tells a missing key from a
+ * {@code null} value. The iteration creates a new {@code HugeInteger} for every key.
+ * A {@code HugeIntegerObjectMap} is not thread-safe.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+public class HugeIntegerObjectMap<V> extends HugeIntegerHashTable
+{
+    private Object[] values;
+    private Object[] oldValues;
+
+    // Constructors for class HugeIntegerObjectMap.
+
+    /**
+     * This constructor initializes an empty map.
+     */
+    public HugeIntegerObjectMap()
+    {
+        this(0);
+    }
+
+    /**
+     * This constructor initializes an empty map that can hold the input number of keys without growing.
+     *
+     * @param int The expected number of keys.
+     * @throws IllegalArgumentException If the expected size is negative.
+     */
+    public HugeIntegerObjectMap(int expectedSize)
+    {
+        super(expectedSize);
+        values = new Object[capacity()];
+    }
+
+    // Methods of class HugeIntegerObjectMap.
+
+    @Override
+    void beginResize(int capacity)
+    {
+        oldValues = values;
+        values = new Object[capacity];
+    }
+
+    @Override
+    void moveFromOld(int oldSlot, int slot)
+    {
+        values[slot] = oldValues[oldSlot];
+    }
+
+    @Override
+    void endResize()
+    {
+        oldValues = null;
+    }
+
+    @Override
+    void moveValue(int from, int to)
+    {
+        values[to] = values[from];
+    }
+
+    @Override
+    void clearValue(int slot)
+    {
+        values[slot] = null;
+    }
+
+    /**
+     * This private method returns the value of a slot.
+     *
+     * @param int The slot.
+     * @return The value.
+     */
+    @SuppressWarnings("unchecked")
+    private V valueAt(int slot)
+    {
+        return (V) values[slot];
+    }
+
+    // Public methods of class HugeIntegerObjectMap.
+
+    /**
+     * This public method returns whether the input key is in the map.
+     *
+     * @param HugeInteger The key.
+     * @return {@code true} if the key is in the map.
+     */
+    public boolean containsKey(HugeInteger key)
+    {
+        return find(key) >= 0;
+    }
+
+    /**
+     * This public method returns the value of the input key.
+     *
+     * @param HugeInteger The key.
+     * @return The value of the key, or {@code null} if the key is not in the map.
+     */
+    public V get(HugeInteger key)
+    {
+        int slot = find(key);
+        return slot >= 0 ? valueAt(slot) : null;
+    }
+
+    /**
+     * This public method sets the value of the input key.
+     *
+     * @param HugeInteger The key.
+     * @param V The value.
+     * @return The previous value of the key, or {@code null} if the key was not in the map.
+     */
+    public V put(HugeInteger key, V value)
+    {
+        int slot = insert(key);
+        slot = slot < 0 ? -1 - slot : slot;
+        V result = valueAt(slot);
+        values[slot] = value;
+        return result;
+    }
+
+    /**
+     * This public method returns the value of the input key, computing it with the input function and
+     * adding it to the map if the key is not in the map. A {@code null} computed value is not added.
+     *
+     * @param HugeInteger The key.
+     * @param Function The function that computes the value of a missing key.
+     * @return The value of the key.
+     */
+    public V computeIfAbsent(HugeInteger key, Function<? super HugeInteger, ? extends V> mapping)
+    {
+        int slot = find(key);
+        V result;
+
+        if (slot >= 0)
+        {
+            result = valueAt(slot);
+        }
+        else
+        {
+            // The function may modify the map, so the slot is looked up again.
+            result = mapping.apply(key);
+
+            if (result != null)
+            {
+                put(key, result);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * This public method removes the input key from the map.
+     *
+     * @param HugeInteger The key to be removed.
+     * @return The value of the key, or {@code null} if the key was not in the map.
+     */
+    public V remove(HugeInteger key)
+    {
+        int slot = find(key);
+        V result = null;
+
+        if (slot >= 0)
+        {
+            result = valueAt(slot);
+            removeAt(slot);
+        }
+
+        return result;
+    }
+
+    /**
+     * This public method removes every key of the map.
+     */
+    @Override
+    public void clear()
+    {
+        super.clear();
+        Arrays.fill(values, null);
+    }
+
+    /**
+     * This public method performs the input action for every key and value of the map, in no particular order.
+     *
+     * @param BiConsumer The action.
+     */
+    public void forEach(BiConsumer<? super HugeInteger, ? super V> action)
+    {
+        for (int slot = 0; slot < capacity(); slot++)
+        {
+            if (isUsed(slot))
+            {
+                action.accept(keyAt(slot), valueAt(slot));
+            }
+        }
+    }
+}
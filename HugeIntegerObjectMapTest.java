@@ -0,0 +1,64 @@
+/**
+ * Tests of the class HugeIntegerObjectMap.
+ * 
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class HugeIntegerObjectMapTest {
+
+    @Test
+    public void testPutGetRemove() {
+        HugeIntegerObjectMap<String> map = new HugeIntegerObjectMap<>();
+        assertNull(map.put(new HugeInteger("-1240"), "a"));
+        assertEquals("a", map.put(new HugeInteger("-1240"), "b"));
+        assertEquals("b", map.get(new HugeInteger("-1240")));
+        assertNull(map.get(new HugeInteger("1240")));
+        map.put(HugeInteger.ZERO, null);
+        assertTrue(map.containsKey(HugeInteger.ZERO));
+        assertEquals("b", map.remove(new HugeInteger("-1240")));
+        assertNull(map.remove(new HugeInteger("-1240")));
+        assertEquals(1, map.size());
+    }
+    
+    @Test
+    public void testComputeIfAbsent() {
+        HugeIntegerObjectMap<String> map = new HugeIntegerObjectMap<>();
+        assertEquals("1239", map.computeIfAbsent(new HugeInteger("1239"), HugeInteger::toString));
+        assertEquals("1239", map.computeIfAbsent(new HugeInteger("1239"), key -> "other"));
+        assertNull(map.computeIfAbsent(HugeInteger.ONE, key -> null));
+        assertFalse(map.containsKey(HugeInteger.ONE));
+    }
+    
+    @Test
+    public void testAgainstHashMap() {
+        Random random = new Random(13);
+        HugeIntegerObjectMap<Integer> map = new HugeIntegerObjectMap<>();
+        Map<String, Integer> expected = new HashMap<>();
+        
+        for (int n = 0; n < 100_000; n++) {
+            HugeInteger key = new HugeInteger((random.nextInt(3000) - 1500) + "9");
+            
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key.toString()), map.remove(key));
+            } else {
+                assertEquals(expected.put(key.toString(), n), map.put(key, n));
+            }
+        }
+        
+        Map<String, Integer> entries = new HashMap<>();
+        map.forEach((key, value) -> entries.put(key.toString(), value));
+        assertEquals(expected, entries);
+    }
+}
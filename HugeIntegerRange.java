@@ -0,0 +1,294 @@
+/**
+ * An arithmetic progression of {@code HugeIntegers}, from a first value towards a bound, exclusive,
+ * with a step, which can be iterated and streamed in parallel.
+ *
+ * The elements are produced by a {@code Spliterator} that advances a {@code MutableHugeInteger}
+ * cursor in place and counts the remaining elements with a long, so an element costs the
+ * {@code HugeInteger} returned and no comparison with the bound. A split computes the number of
+ * remaining elements once and cuts the progression at the element in the middle, so the halves have
+ * the same size and the split is exact however long the range is. Spans of more than 10^18 elements,
+ * which can't be counted with a long, are traversed in batches of 10^18 elements.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public final class HugeIntegerRange implements Iterable<HugeInteger>
+{
+    /**
+     * The greatest number of digits of a count of elements that fits in a long, and the number of
+     * elements of a batch of an uncounted range.
+     */
+    private static final int COUNTED_DIGITS = 18;
+    private static final long BATCH = 1_000_000_000_000_000_000L;
+
+    private static final HugeInteger TWO = new HugeInteger("2");
+
+    private final HugeInteger from;
+    private final HugeInteger to;
+    private final HugeInteger step;
+
+    // Constructors for class HugeIntegerRange.
+
+    /**
+     * This constructor initializes the range of the consecutive integers from a first value to a bound, exclusive.
+     *
+     * @param HugeInteger The first value.
+     * @param HugeInteger The bound. The range is empty if it's not greater than the first value.
+     */
+    public HugeIntegerRange(HugeInteger from, HugeInteger to)
+    {
+        this(from, to, HugeInteger.ONE);
+    }
+
+    /**
+     * This constructor initializes the range of the values {@code from + k * step}, for every k from zero,
+     * that are less than the bound if the step is positive, or greater than it if the step is negative.
+     *
+     * @param HugeInteger The first value.
+     * @param HugeInteger The bound. The range is empty if the first value is not before it.
+     * @param HugeInteger The step, not zero.
+     * @throws IllegalArgumentException If the step is zero.
+     */
+    public HugeIntegerRange(HugeInteger from, HugeInteger to, HugeInteger step)
+    {
+        if (from == null || to == null || step == null)
+        {
+            throw new NullPointerException("Range bound or step is null");
+        }
+
+        if (step.isZero())
+        {
+            throw new IllegalArgumentException("Zero step");
+        }
+
+        this.from = from;
+        this.to = to;
+        this.step = step;
+    }
+
+    /**
+     * The spliterator of a range, whose cursor is the next element and which knows how many elements
+     * follow it, or that more than 10^18 do.
+     */
+    private static final class RangeSpliterator implements Spliterator<HugeInteger>
+    {
+        private final MutableHugeInteger cursor;
+        private final HugeInteger to;
+        private final HugeInteger step;
+
+        /**
+         * The number of elements left before the range is counted again, and whether it's every element left.
+         */
+        private long left;
+        private boolean isCounted;
+
+        /**
+         * Whether the spliterator reports its size, which is decided when it's created or split, so its
+         * characteristics don't change when a batch is counted as it's traversed.
+         */
+        private boolean isSized;
+
+        // Constructors for class RangeSpliterator.
+
+        /**
+         * This constructor initializes the spliterator of the elements of a range from a first value.
+         *
+         * @param HugeInteger The first value.
+         * @param HugeInteger The bound of the range.
+         * @param HugeInteger The step of the range.
+         */
+        RangeSpliterator(HugeInteger from, HugeInteger to, HugeInteger step)
+        {
+            this.cursor = new MutableHugeInteger(from);
+            this.to = to;
+            this.step = step;
+            recount();
+            this.isSized = isCounted;
+        }
+
+        // Private methods of class RangeSpliterator.
+
+        /**
+         * This private method returns the number of elements from the cursor on, which can exceed 40 digits.
+         *
+         * @return The number of elements, {@code (to - cursor + step - signum(step)) / step} if it's positive.
+         */
+        private MutableHugeInteger count()
+        {
+            MutableHugeInteger result = new MutableHugeInteger(to);
+            result.subtractInPlace(cursor);
+
+            if (result.getSignum() != step.getSignum())
+            {
+                result.setZero();
+            }
+            else
+            {
+                // The difference and the step have the same signum, so the truncated quotient is the ceiling.
+                result.addInPlace(step);
+                result.subtractInPlace(step.isPositive() ? HugeInteger.ONE : HugeInteger.MINUS_ONE);
+                result.divideInPlace(step);
+            }
+
+            return result;
+        }
+
+        /**
+         * This private method counts the elements from the cursor on, up to a batch.
+         */
+        private void recount()
+        {
+            MutableHugeInteger count = count();
+            isCounted = count.digitCount() <= COUNTED_DIGITS;
+            left = isCounted ? Long.parseLong(count.toString()) : BATCH;
+        }
+
+        // Methods of class RangeSpliterator.
+
+        @Override
+        public boolean tryAdvance(Consumer<? super HugeInteger> action)
+        {
+            if (left == 0 && !isCounted)
+            {
+                recount();
+            }
+
+            boolean result = left > 0;
+
+            if (result)
+            {
+                // The cursor may pass 40 digits after the last element, which a MutableHugeInteger allows.
+                HugeInteger element = cursor.toHugeInteger();
+                cursor.addInPlace(step);
+                left--;
+                action.accept(element);
+            }
+
+            return result;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super HugeInteger> action)
+        {
+            while (tryAdvance(action))
+                ;
+        }
+
+        @Override
+        public Spliterator<HugeInteger> trySplit()
+        {
+            Spliterator<HugeInteger> result = null;
+            MutableHugeInteger middle = isCounted && left < 2 ? new MutableHugeInteger() : count();
+            middle.divideInPlace(TWO);
+
+            if (!middle.isZero())
+            {
+                // The first half ends before the element at half the count, where this spliterator resumes.
+                middle.multiplyInPlace(step);
+                middle.addInPlace(cursor);
+                HugeInteger split = middle.toHugeInteger();
+                result = new RangeSpliterator(cursor.toHugeInteger(), split, step);
+                cursor.set(split);
+                recount();
+                isSized = isCounted;
+            }
+
+            return result;
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return isCounted ? left : Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            int result = ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+            return isSized ? result | SIZED | SUBSIZED : result;
+        }
+    }
+
+    // Public methods of class HugeIntegerRange.
+
+    /**
+     * This public method returns the first value of the range.
+     *
+     * @return The first value, which is not an element if the range is empty.
+     */
+    public HugeInteger from()
+    {
+        return from;
+    }
+
+    /**
+     * This public method returns the bound of the range.
+     *
+     * @return The bound, which is never an element.
+     */
+    public HugeInteger to()
+    {
+        return to;
+    }
+
+    /**
+     * This public method returns the step of the range.
+     *
+     * @return The step.
+     */
+    public HugeInteger step()
+    {
+        return step;
+    }
+
+    /**
+     * This public method returns a spliterator of the elements of the range.
+     *
+     * @return An ordered spliterator, sized if the range has at most 10^18 elements.
+     */
+    @Override
+    public Spliterator<HugeInteger> spliterator()
+    {
+        return new RangeSpliterator(from, to, step);
+    }
+
+    /**
+     * This public method returns an iterator of the elements of the range.
+     *
+     * @return An iterator in the order of the range.
+     */
+    @Override
+    public Iterator<HugeInteger> iterator()
+    {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * This public method returns a sequential stream of the elements of the range.
+     *
+     * @return An ordered stream.
+     */
+    public Stream<HugeInteger> stream()
+    {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * This public method returns a parallel stream of the elements of the range, split at the middle element.
+     *
+     * @return An ordered parallel stream.
+     */
+    public Stream<HugeInteger> parallelStream()
+    {
+        return StreamSupport.stream(spliterator(), true);
+    }
+}
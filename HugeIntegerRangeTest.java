@@ -0,0 +1,120 @@
+/**
+ * Tests of the class HugeIntegerRange.
+ * 
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+
+import org.junit.Test;
+
+public class HugeIntegerRangeTest {
+
+    private static String[] expected(String from, String to, String step) {
+        List<String> result = new ArrayList<>();
+        BigInteger bound = new BigInteger(to);
+        BigInteger increment = new BigInteger(step);
+    
+        for (BigInteger value = new BigInteger(from); increment.signum() * value.compareTo(bound) < 0; value = value.add(increment)) {
+            result.add(value.toString());
+        }
+    
+        return result.toArray(new String[0]);
+    }
+    
+    private static HugeIntegerRange range(String from, String to, String step) {
+        return new HugeIntegerRange(new HugeInteger(from), new HugeInteger(to), new HugeInteger(step));
+    }
+    
+    @Test
+    public void testStream() {
+        String[][] ranges = {{"0", "10", "1"}, {"-5", "5", "3"}, {"10", "0", "-1"}, {"7", "-8", "-5"}, {"3", "3", "1"},
+                             {"5", "3", "1"}, {"3", "5", "-1"}, {"0", "1", "1000"}, {"-1", "-2", "-1"},
+                             {"99999999999999999999", "100000000000000000009", "1"},
+                             {"1000000000000000000000000000000000000000", "-1000000000000000000000000000000000000000",
+                              "-111111111111111111111111111111111111111"}};
+    
+        for (String[] bounds : ranges) {
+            String[] expected = expected(bounds[0], bounds[1], bounds[2]);
+            HugeIntegerRange range = range(bounds[0], bounds[1], bounds[2]);
+            String message = String.join(", ", bounds);
+            assertArrayEquals(message, expected, range.stream().map(HugeInteger::toString).toArray(String[]::new));
+            assertArrayEquals(message, expected, range.parallelStream().map(HugeInteger::toString).toArray(String[]::new));
+            assertEquals(message, expected.length, range.spliterator().getExactSizeIfKnown());
+        }
+    }
+    
+    @Test
+    public void testBoundsOfCapacity() {
+        HugeInteger max = HugeInteger.MAX_VALUE;
+        String[] ascending = range(max.subtract(new HugeInteger("5")).toString(), max.toString(), "2")
+            .stream().map(HugeInteger::toString).toArray(String[]::new);
+        assertArrayEquals(expected(max.subtract(new HugeInteger("5")).toString(), max.toString(), "2"), ascending);
+    
+        // The last element is the greatest value, and the bound is beyond the capacity of a step.
+        HugeIntegerRange descending = new HugeIntegerRange(HugeInteger.MAX_VALUE, HugeInteger.MIN_VALUE, HugeInteger.MIN_VALUE);
+        assertArrayEquals(new String[] {max.toString(), "0"}, descending.stream().map(HugeInteger::toString).toArray(String[]::new));
+    }
+    
+    @Test
+    public void testIterator() {
+        List<String> values = new ArrayList<>();
+    
+        for (HugeInteger value : range("-3", "4", "2")) {
+            values.add(value.toString());
+        }
+    
+        assertArrayEquals(new String[] {"-3", "-1", "1", "3"}, values.toArray(new String[0]));
+    }
+    
+    @Test
+    public void testParallelSum() {
+        HugeIntegerRange range = range("1000000000000000000000000000000", "1000000000000000000000000200000", "1");
+        HugeInteger sequential = range.stream().reduce(HugeInteger.ZERO, HugeInteger::add);
+        HugeInteger parallel = range.parallelStream().reduce(HugeInteger.ZERO, HugeInteger::add);
+        assertEquals(new BigInteger("1000000000000000000000000000000").multiply(BigInteger.valueOf(200_000))
+            .add(BigInteger.valueOf(199_999L * 200_000 / 2)).toString(), sequential.toString());
+        assertEquals(sequential.toString(), parallel.toString());
+    }
+    
+    @Test
+    public void testSplitAtMiddle() {
+        Spliterator<HugeInteger> suffix = range("0", "11", "2").spliterator();
+        Spliterator<HugeInteger> prefix = suffix.trySplit();
+        assertEquals(3, prefix.getExactSizeIfKnown());
+        assertEquals(3, suffix.getExactSizeIfKnown());
+        assertTrue(suffix.tryAdvance(value -> assertEquals("6", value.toString())));
+    
+        Spliterator<HugeInteger> single = range("0", "1", "1").spliterator();
+        assertNull(single.trySplit());
+        assertEquals(1, single.getExactSizeIfKnown());
+    }
+    
+    @Test
+    public void testUncountedRange() {
+        HugeIntegerRange range = new HugeIntegerRange(HugeInteger.MIN_VALUE, HugeInteger.MAX_VALUE);
+        Spliterator<HugeInteger> suffix = range.spliterator();
+        assertEquals(-1, suffix.getExactSizeIfKnown());
+        assertEquals(Long.MAX_VALUE, suffix.estimateSize());
+    
+        Spliterator<HugeInteger> prefix = suffix.trySplit();
+        assertTrue(prefix.tryAdvance(value -> assertEquals(HugeInteger.MIN_VALUE.toString(), value.toString())));
+        assertTrue(suffix.tryAdvance(value -> assertEquals("0", value.toString())));
+        assertArrayEquals(new String[] {"-9999999999999999999999999999999999999999", "-9999999999999999999999999999999999999998"},
+            range.stream().limit(2).map(HugeInteger::toString).toArray(String[]::new));
+    }
+    
+    @Test(expected=IllegalArgumentException.class)
+    public void testZeroStep() {
+        range("0", "10", "0");
+    }
+}
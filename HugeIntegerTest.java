@@ -5,11 +5,15 @@
  * @version (número de versão ou data)
  */
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
  
+import java.math.BigInteger;
+import java.math.RoundingMode;
 import java.util.Arrays;
+import java.util.Random;
  
 import org.junit.Before;
 import org.junit.Test;
@@ -207,6 +211,55 @@ public class HugeIntegerTest {
         assertFalse(HugeInteger.ZERO.isNegative());
     }
  
+    @Test
+    public void testDigitCount() {
+        assertEquals(0, HugeInteger.ZERO.digitCount());
+        assertEquals(4, hugeMinus1240.digitCount());
+        assertEquals(40, maxHuge.digitCount());
+    }
+ 
+    @Test
+    public void testDigitAt() {
+        assertEquals(9, huge1239.digitAt(0));
+        assertEquals(1, hugeMinus1240.digitAt(3));
+        assertEquals(0, hugeMinus1240.digitAt(4));
+        assertEquals(0, HugeInteger.ZERO.digitAt(0));
+    }
+ 
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void testDigitAtNegativePosition() {
+        huge1239.digitAt(-1);
+    }
+ 
+    @Test
+    public void testTrailingZeroDigits() {
+        assertEquals(0, HugeInteger.ZERO.trailingZeroDigits());
+        assertEquals(0, huge1239.trailingZeroDigits());
+        assertEquals(1, hugeMinus1240.trailingZeroDigits());
+        assertEquals(39, new HugeInteger("1" + MAX_NUM.substring(1).replace('9', '0')).trailingZeroDigits());
+    }
+ 
+    @Test
+    public void testDigitSum() {
+        assertEquals(0, HugeInteger.ZERO.digitSum());
+        assertEquals(15, huge1239.digitSum());
+        assertEquals(360, minHuge.digitSum());
+    }
+ 
+    @Test
+    public void testCheckDigits() {
+        HugeInteger nine = new HugeInteger("9");
+        HugeInteger ten = new HugeInteger("10");
+        HugeInteger eleven = new HugeInteger("11");
+        HugeInteger[] values = { maxHuge, minHuge, huge1239, hugeMinus1240, huge1536360, new HugeInteger("-98765432109876543210") };
+        
+        for (HugeInteger value : values) {
+            assertEquals(value.remainder(nine).toString(), String.valueOf(value.mod9()));
+            assertEquals(value.remainder(ten).toString(), String.valueOf(value.mod10()));
+            assertEquals(value.remainder(eleven).toString(), String.valueOf(value.mod11()));
+        }
+    }
+ 
     @Test
     public void testIsEqualTo() {
         assertTrue(HugeInteger.ZERO.isEqualTo(HugeInteger.ZERO));
@@ -344,6 +397,132 @@ public class HugeIntegerTest {
         assertEquals(NEG_PRODUCT, hugeMinus1240.multiply(huge1239).toString());
     }
     
+    @Test
+    public void testAddOverflowPolicy() {
+        assertEquals(MAX_NUM, maxHuge.add(HugeInteger.ONE, OverflowPolicy.SATURATE).toString());
+        assertEquals(MIN_NUM, minHuge.subtract(HugeInteger.ONE, OverflowPolicy.SATURATE).toString());
+        assertEquals("0", maxHuge.add(HugeInteger.ONE, OverflowPolicy.WRAP).toString());
+        assertEquals("-9999999999999999999999999999999999999997", minHuge.add(minPlusOneHuge, OverflowPolicy.WRAP).toString());
+        assertEquals("2479", huge1240.add(huge1239, OverflowPolicy.THROW).toString());
+    }
+    
+    @Test(expected=ArithmeticException.class)
+    public void testAddOverflowPolicyThrow() {
+        maxHuge.add(HugeInteger.ONE, OverflowPolicy.THROW);
+    }
+    
+    @Test
+    public void testOverflowPolicyContext() {
+        HugeInteger result = OverflowPolicy.callWith(OverflowPolicy.SATURATE, () -> maxHuge.multiply(maxHuge));
+        assertEquals(MAX_NUM, result.toString());
+        assertEquals(OverflowPolicy.THROW, OverflowPolicy.current());
+    }
+    
+    @Test
+    public void testTryAdd() {
+        assertEquals(null, maxHuge.tryAdd(HugeInteger.ONE));
+        assertEquals(null, minHuge.trySubtract(HugeInteger.ONE));
+        assertEquals(MAX_NUM, maxLessOneHuge.tryAdd(HugeInteger.ONE).toString());
+        assertEquals("1", huge1240.trySubtract(huge1239).toString());
+    }
+    
+    @Test
+    public void testMultiplyOverflowPolicy() {
+        assertEquals(MAX_NUM, maxHuge.multiply(maxHuge, OverflowPolicy.SATURATE).toString());
+        assertEquals(MIN_NUM, minHuge.multiply(maxHuge, OverflowPolicy.SATURATE).toString());
+        assertEquals("1", maxHuge.multiply(maxHuge, OverflowPolicy.WRAP).toString());
+        assertEquals("-1", minHuge.multiply(maxHuge, OverflowPolicy.WRAP).toString());
+        assertEquals("9999999999999999999999999999999999999000", maxHuge.multiply(new HugeInteger("1000"), OverflowPolicy.WRAP).toString());
+    }
+    
+    @Test
+    public void testTryMultiply() {
+        assertEquals(null, maxHuge.tryMultiply(maxHuge));
+        assertEquals(null, maxHuge.tryMultiply(new HugeInteger("2")));
+        assertEquals(PRODUCT, huge1240.tryMultiply(huge1239).toString());
+    }
+    
+    @Test
+    public void testMultiplyAdd() {
+        assertEquals("1537599", huge1240.multiplyAdd(huge1239, huge1239).toString());
+        assertEquals("1535121", huge1240.multiplyAdd(huge1239, new HugeInteger("-1239")).toString());
+        assertEquals("-1535121", hugeMinus1240.multiplyAdd(huge1239, huge1239).toString());
+        assertEquals("0", huge1240.multiplyAdd(huge1239, hugeMinus1536360).toString());
+        assertEquals("-1", HugeInteger.ZERO.multiplyAdd(maxHuge, HugeInteger.MINUS_ONE).toString());
+        assertEquals("-1536361", HugeInteger.ONE.multiplyAdd(HugeInteger.MINUS_ONE, hugeMinus1536360).toString());
+    }
+    
+    @Test
+    public void testMultiplySubtract() {
+        assertEquals("1535121", huge1240.multiplySubtract(huge1239, huge1239).toString());
+        assertEquals("1537599", huge1240.multiplySubtract(huge1239, new HugeInteger("-1239")).toString());
+        assertEquals(MAX_NUM, maxHuge.multiplySubtract(new HugeInteger("2"), maxHuge).toString());
+        assertEquals(MIN_NUM, minHuge.multiplySubtract(new HugeInteger("2"), minHuge).toString());
+    }
+    
+    @Test
+    public void testAddMultiply() {
+        assertEquals("1537599", huge1239.addMultiply(huge1240, huge1239).toString());
+        assertEquals(MAX_NUM, minHuge.addMultiply(maxHuge, new HugeInteger("2")).toString());
+    }
+    
+    @Test(expected=ArithmeticException.class)
+    public void testMultiplyAddOverflow() {
+        maxHuge.multiplyAdd(new HugeInteger("2"), minHuge.add(HugeInteger.ONE).add(HugeInteger.ONE));
+    }
+    
+    @Test
+    public void testShiftDecimalLeft() {
+        assertEquals("1240000", huge1240.shiftDecimalLeft(3).toString());
+        assertEquals("-1240000", hugeMinus1240.shiftDecimalLeft(3).toString());
+        assertEquals("12", huge1240.shiftDecimalLeft(-2).toString());
+        assertEquals("0", HugeInteger.ZERO.shiftDecimalLeft(100).toString());
+        assertEquals(MAX_LESS_ONE_NUM.substring(0, 39) + "0", OverflowPolicy.callWith(OverflowPolicy.WRAP, () -> maxHuge.shiftDecimalLeft(1)).toString());
+    }
+    
+    @Test(expected=ArithmeticException.class)
+    public void testShiftDecimalLeftOverflow() {
+        maxHuge.shiftDecimalLeft(1);
+    }
+    
+    @Test
+    public void testShiftDecimalRight() {
+        assertEquals("12", huge1240.shiftDecimalRight(2).toString());
+        assertEquals("-12", hugeMinus1240.shiftDecimalRight(2).toString());
+        assertEquals("0", huge1240.shiftDecimalRight(40).toString());
+        assertEquals("124000", huge1240.shiftDecimalRight(-2).toString());
+        assertEquals("13", new HugeInteger("1250").shiftDecimalRight(2, RoundingMode.HALF_UP).toString());
+        assertEquals("12", new HugeInteger("1250").shiftDecimalRight(2, RoundingMode.HALF_EVEN).toString());
+        assertEquals("12", new HugeInteger("1250").shiftDecimalRight(2, RoundingMode.HALF_DOWN).toString());
+        assertEquals("-12", new HugeInteger("-1201").shiftDecimalRight(2, RoundingMode.CEILING).toString());
+        assertEquals("-13", new HugeInteger("-1201").shiftDecimalRight(2, RoundingMode.FLOOR).toString());
+        assertEquals("1", huge1239.shiftDecimalRight(10, RoundingMode.UP).toString());
+        assertEquals("1" + MAX_NUM.substring(0, 39).replace('9', '0'), maxHuge.shiftDecimalRight(1, RoundingMode.HALF_UP).toString());
+    }
+    
+    @Test(expected=ArithmeticException.class)
+    public void testShiftDecimalRightUnnecessary() {
+        huge1239.shiftDecimalRight(1, RoundingMode.UNNECESSARY);
+    }
+    
+    @Test
+    public void testDivideByPowerOfTen() {
+        assertEquals("124", huge1240.divideByPowerOfTen(1).toString());
+        assertEquals("-123", new HugeInteger("-1239").divideByPowerOfTen(1).toString());
+        assertEquals("-124", new HugeInteger("-1239").divideByPowerOfTen(1, RoundingMode.HALF_EVEN).toString());
+    }
+    
+    @Test
+    public void testPowerOfTenOperands() {
+        HugeInteger thousand = new HugeInteger("1000");
+        assertEquals("1240000", huge1240.multiply(thousand).toString());
+        assertEquals("-1240000", new HugeInteger("-1000").multiply(huge1240).toString());
+        assertEquals("-1", hugeMinus1240.divide(thousand).toString());
+        assertEquals("1536", hugeMinus1536360.divide(new HugeInteger("-1000")).toString());
+        assertEquals("-240", hugeMinus1240.remainder(thousand).toString());
+        assertEquals("0", huge1536360.remainder(new HugeInteger("10")).toString());
+    }
+    
     @Test(expected=ArithmeticException.class)
     public void testDivisionByZero() {
         maxHuge.divide(HugeInteger.ZERO);
@@ -379,5 +558,133 @@ public class HugeIntegerTest {
         assertEquals("159", maxHuge.remainder(huge1240).toString());
         assertEquals("-159", minHuge.remainder(hugeMinus1240).toString());
     }
+    
+    @Test
+    public void testToStringRadix() {
+        assertEquals("11111111", new HugeInteger("255").toString(2));
+        assertEquals("-ff", new HugeInteger("-255").toString(16));
+        assertEquals("0", HugeInteger.ZERO.toString(36));
+        assertEquals(MAX_NUM, maxHuge.toString(1));
+        assertEquals("1d6329f1c35ca4bfabb9f560ffffffffff", maxHuge.toString(16));
+        assertEquals("-1d6329f1c35ca4bfabb9f560ffffffffff", minHuge.toString(16));
+        assertEquals("4ceiif2ja000000000000000000", new HugeInteger("10000000000000000000000000000000000000").toString(25));
+    }
+    
+    @Test
+    public void testParseRadix() {
+        assertEquals("255", HugeInteger.parse("11111111", 2).toString());
+        assertEquals("-255", HugeInteger.parse("-FF", 16).toString());
+        assertEquals("255", HugeInteger.parse("+00000000000000000000000000000000000000000000000ff", 16).toString());
+        assertEquals(MAX_NUM, HugeInteger.parse("1d6329f1c35ca4bfabb9f560ffffffffff", 16).toString());
+        assertEquals(MIN_NUM, HugeInteger.parse("-1d6329f1c35ca4bfabb9f560ffffffffff", 16).toString());
+    }
+    
+    @Test(expected=NumberFormatException.class)
+    public void testParseRadixTooLarge() {
+        HugeInteger.parse("1d6329f1c35ca4bfabb9f5610000000000", 16).toString();
+    }
+    
+    @Test(expected=NumberFormatException.class)
+    public void testParseRadixInvalidDigit() {
+        HugeInteger.parse("12g", 16);
+    }
+    
+    @Test(expected=NumberFormatException.class)
+    public void testParseRadixOutOfRange() {
+        HugeInteger.parse("12", 37);
+    }
+    
+    @Test
+    public void testToByteArray() {
+        assertArrayEquals(new byte[] {0}, HugeInteger.ZERO.toByteArray());
+        assertArrayEquals(new byte[] {-1}, HugeInteger.MINUS_ONE.toByteArray());
+        assertArrayEquals(new byte[] {0, -1}, new HugeInteger("255").toByteArray());
+        assertArrayEquals(new byte[] {-128}, new HugeInteger("-128").toByteArray());
+        assertArrayEquals(new byte[] {-1, 127}, new HugeInteger("-129").toByteArray());
+        assertArrayEquals(new BigInteger(MIN_NUM).toByteArray(), minHuge.toByteArray());
+    }
+    
+    @Test
+    public void testFromByteArray() {
+        assertEquals("0", HugeInteger.fromByteArray(new byte[] {0, 0}).toString());
+        assertEquals("255", HugeInteger.fromByteArray(new byte[] {0, -1}).toString());
+        assertEquals("-129", HugeInteger.fromByteArray(new byte[] {-1, 127}).toString());
+        assertEquals(MAX_NUM, HugeInteger.fromByteArray(maxHuge.toByteArray()).toString());
+        assertEquals(MIN_NUM, HugeInteger.fromByteArray(minHuge.toByteArray()).toString());
+    }
+    
+    @Test(expected=NumberFormatException.class)
+    public void testFromByteArrayTooLarge() {
+        HugeInteger.fromByteArray(new BigInteger("10000000000000000000000000000000000000000").toByteArray());
+    }
+    
+    @Test(expected=NumberFormatException.class)
+    public void testFromByteArrayCarryBeyondCapacity() {
+        HugeInteger.fromByteArray(new BigInteger(MAX_NUM + "9").shiftLeft(8).toByteArray());
+    }
+    
+    @Test(expected=NumberFormatException.class)
+    public void testFromByteArrayNegativeCarryBeyondCapacity() {
+        HugeInteger.fromByteArray(new BigInteger("-" + MAX_NUM + "9").shiftLeft(8).toByteArray());
+    }
+    
+    @Test
+    public void testIsProbablePrime() {
+        Random random = new Random(45);
+        
+        for (int n = -50; n < 3000; n++) {
+            assertEquals("n = " + n, BigInteger.valueOf(Math.abs(n)).isProbablePrime(50),
+                new HugeInteger(Integer.toString(n)).isProbablePrime(50));
+        }
+        
+        for (int n = 0; n < 500; n++) {
+            BigInteger value = new BigInteger(1 + random.nextInt(132), random);
+            value = n % 2 == 0 ? value : value.nextProbablePrime();
+            
+            if (value.toString().length() <= 40) {
+                assertEquals(value.toString(), value.isProbablePrime(100), new HugeInteger(value.toString()).isProbablePrime(100));
+            }
+        }
+    }
+    
+    @Test
+    public void testIsProbablePrimePseudoprimes() {
+        // Strong pseudoprimes to base 2, a Carmichael number, a square of a prime and a product of two large primes.
+        assertFalse(new HugeInteger("2047").isProbablePrime(100));
+        assertFalse(new HugeInteger("3825123056546413051").isProbablePrime(100));
+        assertFalse(new HugeInteger("318665857834031151167461").isProbablePrime(100));
+        assertFalse(new HugeInteger("561").isProbablePrime(100));
+        assertFalse(new HugeInteger("1000000000000000000000000000000000000000").add(HugeInteger.ONE).isProbablePrime(1));
+        assertFalse(new HugeInteger("1000000000000000003").multiply(new HugeInteger("1000000000000000003")).isProbablePrime(100));
+        assertFalse(new HugeInteger("1000000000000000003").multiply(new HugeInteger("1000000000000000009")).isProbablePrime(100));
+        assertTrue(new HugeInteger("1000000000000000009").isProbablePrime(100));
+        assertTrue(new HugeInteger("-170141183460469231731687303715884105727").isProbablePrime(100));
+        assertTrue(new HugeInteger("4").isProbablePrime(0));
+    }
+    
+    @Test
+    public void testNextProbablePrime() {
+        assertEquals("2", HugeInteger.ZERO.nextProbablePrime().toString());
+        assertEquals("3", new HugeInteger("2").nextProbablePrime().toString());
+        assertEquals("1009", new HugeInteger("997").nextProbablePrime().toString());
+        
+        BigInteger value = new BigInteger("123456789012345678901234567890");
+        HugeInteger hugeValue = new HugeInteger(value.toString());
+        
+        for (int n = 0; n < 20; n++) {
+            value = value.nextProbablePrime();
+            hugeValue = hugeValue.nextProbablePrime();
+            assertEquals(value.toString(), hugeValue.toString());
+        }
+    }
+    
+    @Test(expected=ArithmeticException.class)
+    public void testNextProbablePrimeOverflow() {
+        new HugeInteger(MAX_NUM).nextProbablePrime();
+    }
+    
+    @Test(expected=ArithmeticException.class)
+    public void testNextProbablePrimeNegative() {
+        HugeInteger.MINUS_ONE.nextProbablePrime();
+    }
 }
-
@@ -0,0 +1,978 @@
+/**
+ * Static utility methods that operate on arrays of {@code HugeIntegers}.
+ *
+ * The sorts are least-significant-digit radix sorts over packed keys. Each element is read once
+ * and its magnitude packed into three limbs of 18, 18 and 4 decimal digits; the limbs of negative
+ * values are complemented and the sign is added to the highest limb, so the unsigned order of the
+ * keys is the numerical order of the elements. The keys are then sorted 11 bits at a time, from the
+ * lowest bit of the lowest limb, moving the elements with them. Passes in which every key falls in
+ * the same bucket are skipped, so arrays of small values only pay for the limbs they use. The cost is
+ * linear in the number of elements and no {@code HugeInteger} is compared nor read after the first pass.
+ *
+ * The combinatorial functions multiply their factors with balanced product trees, whose leaves pack
+ * as many small factors as fit in a long, so every {@code HugeInteger} product has operands of
+ * similar length. Their results are cached in lock-free tables, so repeated arguments cost a lookup.
+ *
+ * The random values are built digit by digit in the array of the new {@code HugeInteger}, 18 digits
+ * per random long, with no parsing. The random streams give every element its own
+ * {@code SplittableRandom}, seeded from the seed of the stream and the index of the element, so the
+ * elements are the same whether the stream is sequential or parallel and however it's split.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+public final class HugeIntegers
+{
+    /**
+     * The number of bits of a key sorted by each pass, and the number of buckets of a pass.
+     */
+    private static final int BITS_PER_PASS = 11;
+    private static final int RADIX = 1 << BITS_PER_PASS;
+
+    /**
+     * The number of limbs of a key, the decimal digits of every limb but the highest, and the
+     * greatest value of such a limb.
+     */
+    private static final int LIMBS = 3;
+    private static final int LIMB_DIGITS = 18;
+    private static final long MAX_LIMB = 999_999_999_999_999_999L;
+
+    /**
+     * The greatest value of the highest limb of a magnitude, which has the remaining 4 digits.
+     */
+    private static final long MAX_HIGH_LIMB = 9_999L;
+
+    /**
+     * The number of bits of every limb of a key: 60 for 18 digits and 15 for the highest limb with its sign.
+     */
+    private static final int[] LIMB_BITS = {60, 60, 15};
+
+    /**
+     * The length below which {@code parallelSort} sorts in the current thread.
+     */
+    private static final int MIN_PARALLEL_LENGTH = 1 << 16;
+
+    /**
+     * The greatest arguments of the functions whose results have at most 40 digits.
+     */
+    private static final int MAX_FACTORIAL = 34;
+    private static final int MAX_FIBONACCI = 193;
+    private static final int MAX_LUCAS = 191;
+
+    /**
+     * The number of rows of Pascal's triangle whose binomial coefficients are cached.
+     */
+    private static final int CACHED_BINOMIAL_ROWS = 128;
+
+    private static final HugeIntegerMemo FACTORIALS = new HugeIntegerMemo();
+    private static final HugeIntegerMemo BINOMIALS = new HugeIntegerMemo();
+    private static final HugeIntegerMemo FIBONACCI_NUMBERS = new HugeIntegerMemo();
+    private static final HugeIntegerMemo LUCAS_NUMBERS = new HugeIntegerMemo();
+
+    /**
+     * The primes up to the square root of the greatest int, which factor any int by trial division.
+     */
+    private static final int[] SMALL_PRIMES = primesUpTo(46_341);
+
+    /**
+     * The number of leading digits of a log-uniform value that are drawn from its logarithm, which a
+     * double computes exactly enough.
+     */
+    private static final int LOG_UNIFORM_DIGITS = 16;
+
+    /**
+     * The number of low digits that a near-boundary value differs from a power of ten by.
+     */
+    private static final int NEAR_BOUNDARY_DIGITS = 3;
+
+    /**
+     * The increment between the seeds of consecutive elements of a random stream, the golden ratio
+     * in 64 bits, as {@code SplittableRandom} uses.
+     */
+    private static final long GOLDEN_GAMMA = 0x9E37_79B9_7F4A_7C15L;
+
+    // Constructors for class HugeIntegers.
+
+    /**
+     * This private constructor prevents the instantiation of the class.
+     */
+    private HugeIntegers()
+    {
+    }
+
+    // Private methods of class HugeIntegers.
+
+    /**
+     * This private static method stores the key of a {@code HugeInteger} in the input limbs.
+     *
+     * @param HugeInteger The element.
+     * @param long[][] The limbs of the keys, in little-endian order.
+     * @param int The index of the key.
+     */
+    private static void packKey(HugeInteger value, long[][] limbs, int index)
+    {
+        int[] digits = value.digits;
+        boolean isNegative = value.isNegative();
+
+        for (int limb = 0; limb < LIMBS; limb++)
+        {
+            long packed = 0;
+
+            for (int n = Math.min(digits.length, (limb + 1) * LIMB_DIGITS) - 1; n >= limb * LIMB_DIGITS; n--)
+            {
+                packed = 10 * packed + digits[n];
+            }
+
+            if (limb == LIMBS - 1)
+            {
+                // The negative values have the keys below MAX_HIGH_LIMB + 1, with the largest magnitudes first.
+                packed = isNegative ? MAX_HIGH_LIMB - packed : MAX_HIGH_LIMB + 1 + packed;
+            }
+            else if (isNegative)
+            {
+                packed = MAX_LIMB - packed;
+            }
+
+            limbs[limb][index] = packed;
+        }
+    }
+
+    /**
+     * This private static method counts the buckets of a range of keys in a pass.
+     *
+     * @param long[] The limb read by the pass.
+     * @param int The index of the first key.
+     * @param int The index after the last key.
+     * @param int The shift of the bits read by the pass.
+     * @param int[] The counts of every bucket, which are incremented.
+     */
+    private static void count(long[] limb, int from, int to, int shift, int[] counts)
+    {
+        for (int index = from; index < to; index++)
+        {
+            counts[(int) (limb[index] >>> shift) & (RADIX - 1)]++;
+        }
+    }
+
+    /**
+     * This private static method moves a range of elements and their keys to their buckets in a pass.
+     * Only the limbs from the one read by the pass up are moved, since the lower limbs are already sorted.
+     *
+     * @param HugeInteger[] The source elements.
+     * @param long[][] The source limbs.
+     * @param int The index of the first element.
+     * @param int The index after the last element.
+     * @param int The limb read by the pass.
+     * @param int The shift of the bits read by the pass.
+     * @param int[] The next position of every bucket in the target arrays, which is incremented.
+     * @param HugeInteger[] The target elements.
+     * @param long[][] The target limbs.
+     */
+    private static void scatter(HugeInteger[] source, long[][] sourceLimbs, int from, int to, int limb, int shift,
+                                int[] positions, HugeInteger[] target, long[][] targetLimbs)
+    {
+        long[] keys = sourceLimbs[limb];
+
+        for (int index = from; index < to; index++)
+        {
+            int position = positions[(int) (keys[index] >>> shift) & (RADIX - 1)]++;
+            target[position] = source[index];
+
+            for (int n = limb; n < LIMBS; n++)
+            {
+                targetLimbs[n][position] = sourceLimbs[n][index];
+            }
+        }
+    }
+
+    /**
+     * This private static method sorts a range of an array, splitting every pass in slices that are
+     * counted and moved independently. The elements of a bucket are placed in the order of the slices,
+     * so the result doesn't depend on the number of slices and the sort is stable.
+     *
+     * @param HugeInteger[] The array to be sorted.
+     * @param int The index of the first element to be sorted.
+     * @param int The index after the last element to be sorted.
+     * @param int The number of slices.
+     * @param boolean Whether the slices are processed in parallel in the common {@code ForkJoinPool}.
+     */
+    private static void radixSort(HugeInteger[] array, int from, int to, int slices, boolean isParallel)
+    {
+        int length = to - from;
+        HugeInteger[][] elements = {Arrays.copyOfRange(array, from, to), new HugeInteger[length]};
+        long[][][] limbs = {new long[LIMBS][length], new long[LIMBS][length]};
+        int[][] counts = new int[slices][RADIX];
+        int[] bounds = new int[slices + 1];
+        int current = 0;
+
+        for (int slice = 0; slice <= slices; slice++)
+        {
+            bounds[slice] = (int) ((long) length * slice / slices);
+        }
+
+        slices(slices, isParallel).forEach(slice ->
+        {
+            for (int index = bounds[slice]; index < bounds[slice + 1]; index++)
+            {
+                packKey(elements[0][index], limbs[0], index);
+            }
+        });
+
+        for (int limb = 0; limb < LIMBS; limb++)
+        {
+            for (int shift = 0; shift < LIMB_BITS[limb]; shift += BITS_PER_PASS)
+            {
+                HugeInteger[] source = elements[current];
+                HugeInteger[] target = elements[1 - current];
+                long[][] sourceLimbs = limbs[current];
+                long[][] targetLimbs = limbs[1 - current];
+                int passLimb = limb;
+                int passShift = shift;
+
+                slices(slices, isParallel).forEach(slice ->
+                {
+                    Arrays.fill(counts[slice], 0);
+                    count(sourceLimbs[passLimb], bounds[slice], bounds[slice + 1], passShift, counts[slice]);
+                });
+
+                int position = 0;
+                boolean isSingleBucket = false;
+
+                for (int bucket = 0; bucket < RADIX; bucket++)
+                {
+                    int start = position;
+
+                    for (int slice = 0; slice < slices; slice++)
+                    {
+                        int sliceCount = counts[slice][bucket];
+                        counts[slice][bucket] = position;
+                        position += sliceCount;
+                    }
+
+                    isSingleBucket |= position - start == length;
+                }
+
+                // A pass in which every key is in the same bucket doesn't change the order.
+                if (!isSingleBucket)
+                {
+                    slices(slices, isParallel).forEach(slice -> scatter(source, sourceLimbs, bounds[slice],
+                        bounds[slice + 1], passLimb, passShift, counts[slice], target, targetLimbs));
+                    current = 1 - current;
+                }
+            }
+        }
+
+        System.arraycopy(elements[current], 0, array, from, length);
+    }
+
+    /**
+     * This private static method returns the stream of the indexes of the slices of a sort.
+     *
+     * @param int The number of slices.
+     * @param boolean Whether the stream is parallel.
+     * @return The stream of the indexes.
+     */
+    private static IntStream slices(int slices, boolean isParallel)
+    {
+        IntStream result = IntStream.range(0, slices);
+        return isParallel ? result.parallel() : result;
+    }
+
+    /**
+     * This private static method checks the range of an array to be sorted.
+     *
+     * @param HugeInteger[] The array.
+     * @param int The index of the first element.
+     * @param int The index after the last element.
+     * @throws IllegalArgumentException If the first index is greater than the last.
+     * @throws ArrayIndexOutOfBoundsException If the range is not in the array.
+     */
+    private static void checkRange(HugeInteger[] array, int from, int to)
+    {
+        if (from > to)
+        {
+            throw new IllegalArgumentException("from(" + from + ") > to(" + to + ")");
+        }
+
+        if (from < 0 || to > array.length)
+        {
+            throw new ArrayIndexOutOfBoundsException(from < 0 ? from : to);
+        }
+    }
+
+    /**
+     * This private static method checks that the argument of a function is not negative.
+     *
+     * @param String The name of the argument.
+     * @param int The argument.
+     * @throws IllegalArgumentException If the argument is negative.
+     */
+    private static void checkNotNegative(String name, int value)
+    {
+        if (value < 0)
+        {
+            throw new IllegalArgumentException("Negative " + name + ": " + value);
+        }
+    }
+
+    /**
+     * This private static method throws the exception of a result that exceeds 40 digits.
+     *
+     * @throws ArithmeticException Always.
+     */
+    private static void overflow()
+    {
+        throw new ArithmeticException("Overflow! The result exceeds the capacity of a HugeInteger.");
+    }
+
+    /**
+     * This private static method returns the primes up to a limit with the sieve of Eratosthenes.
+     *
+     * @param int The limit.
+     * @return The primes in ascending order.
+     */
+    private static int[] primesUpTo(int limit)
+    {
+        boolean[] isComposite = new boolean[limit + 1];
+        int count = 0;
+
+        for (int n = 2; n <= limit; n++)
+        {
+            if (!isComposite[n])
+            {
+                count++;
+
+                for (long multiple = (long) n * n; multiple <= limit; multiple += n)
+                {
+                    isComposite[(int) multiple] = true;
+                }
+            }
+        }
+
+        int[] result = new int[count];
+
+        for (int n = 2, index = 0; n <= limit; n++)
+        {
+            if (!isComposite[n])
+            {
+                result[index++] = n;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * This private static method multiplies factors with a balanced product tree. The factors are first
+     * packed in as few longs as possible, so the tree only multiplies {@code HugeIntegers} of similar length.
+     *
+     * @param List<Long> The positive factors.
+     * @return The product.
+     * @throws ArithmeticException If the product exceeds 40 digits.
+     */
+    private static HugeInteger product(List<Long> factors)
+    {
+        List<Long> leaves = new ArrayList<>();
+        long leaf = 1;
+
+        for (long factor : factors)
+        {
+            if (leaf > Long.MAX_VALUE / factor)
+            {
+                leaves.add(leaf);
+                leaf = 1;
+            }
+
+            leaf *= factor;
+        }
+
+        leaves.add(leaf);
+        return productTree(leaves, 0, leaves.size());
+    }
+
+    /**
+     * This private static method multiplies a range of factors, splitting it in two halves.
+     *
+     * @param List<Long> The factors.
+     * @param int The index of the first factor.
+     * @param int The index after the last factor.
+     * @return The product.
+     * @throws ArithmeticException If the product exceeds 40 digits.
+     */
+    private static HugeInteger productTree(List<Long> factors, int from, int to)
+    {
+        HugeInteger result;
+
+        if (to - from == 1)
+        {
+            result = HugeInteger.valueOf(factors.get(from));
+        }
+        else
+        {
+            int middle = (from + to) >>> 1;
+            result = productTree(factors, from, middle).multiply(productTree(factors, middle, to), OverflowPolicy.THROW);
+        }
+
+        return result;
+    }
+
+    /**
+     * This private static method computes a factorial.
+     *
+     * @param int The argument, from 0 to 34.
+     * @return The factorial.
+     */
+    private static HugeInteger computeFactorial(int n)
+    {
+        List<Long> factors = new ArrayList<>();
+
+        for (long factor = 2; factor <= n; factor++)
+        {
+            factors.add(factor);
+        }
+
+        return product(factors);
+    }
+
+    /**
+     * This private static method computes a binomial coefficient from its prime factorization. The
+     * numerator terms are factored by trial division and the exponents of the denominator, a
+     * factorial, are subtracted with Legendre's formula.
+     *
+     * @param int The number of elements.
+     * @param int The number of chosen elements, not greater than half the number of elements.
+     * @return The binomial coefficient.
+     * @throws ArithmeticException If the coefficient exceeds 40 digits.
+     */
+    private static HugeInteger computeBinomial(int n, int k)
+    {
+        Map<Integer, Integer> exponents = new HashMap<>();
+
+        for (long term = n - k + 1; term <= n; term++)
+        {
+            int value = (int) term;
+
+            for (int index = 0; index < SMALL_PRIMES.length && SMALL_PRIMES[index] <= value / SMALL_PRIMES[index]; index++)
+            {
+                for (int prime = SMALL_PRIMES[index]; value % prime == 0; value /= prime)
+                {
+                    exponents.merge(prime, 1, Integer::sum);
+                }
+            }
+
+            if (value > 1)
+            {
+                exponents.merge(value, 1, Integer::sum);
+            }
+        }
+
+        for (int index = 0; index < SMALL_PRIMES.length && SMALL_PRIMES[index] <= k; index++)
+        {
+            int prime = SMALL_PRIMES[index];
+            int exponent = 0;
+
+            for (long power = prime; power <= k; power *= prime)
+            {
+                exponent += k / power;
+            }
+
+            exponents.merge(prime, -exponent, Integer::sum);
+        }
+
+        List<Long> factors = new ArrayList<>();
+
+        // By Kummer's theorem every prime power that divides the coefficient is at most n, so it fits in a long.
+        exponents.forEach((prime, exponent) ->
+        {
+            long power = 1;
+
+            for (int count = 0; count < exponent; count++)
+            {
+                power *= prime;
+            }
+
+            factors.add(power);
+        });
+
+        return product(factors);
+    }
+
+    /**
+     * This private static method computes two consecutive Fibonacci numbers by fast doubling:
+     * {@code F(2m) = F(m) (2 F(m + 1) - F(m))} and {@code F(2m + 1) = F(m)^2 + F(m + 1)^2}.
+     *
+     * @param int The index of the first number, such that the second one has at most 40 digits.
+     * @return The numbers {@code F(n)} and {@code F(n + 1)}.
+     */
+    private static HugeInteger[] fibonacciPair(int n)
+    {
+        HugeInteger[] result;
+
+        if (n == 0)
+        {
+            result = new HugeInteger[] {HugeInteger.ZERO, HugeInteger.ONE};
+        }
+        else
+        {
+            HugeInteger[] half = fibonacciPair(n >> 1);
+            HugeInteger first = half[0];
+            HugeInteger second = half[1];
+            HugeInteger even = first.multiply(second.add(second).subtract(first), OverflowPolicy.THROW);
+            HugeInteger odd = first.multiply(first).add(second.multiply(second), OverflowPolicy.THROW);
+            result = (n & 1) == 0 ? new HugeInteger[] {even, odd} : new HugeInteger[] {odd, even.add(odd, OverflowPolicy.THROW)};
+        }
+
+        return result;
+    }
+
+    /**
+     * This private static method writes the low decimal digits of a long to a digits array in little-endian order.
+     *
+     * @param int[] The digits array.
+     * @param int The index of the first digit.
+     * @param int The number of digits.
+     * @param long The value, not negative.
+     */
+    private static void fillDigits(int[] digits, int from, int count, long value)
+    {
+        for (int index = from; index < from + count; index++)
+        {
+            digits[index] = (int) (value % 10);
+            value /= 10;
+        }
+    }
+
+    /**
+     * This private static method writes uniformly random digits to the start of a digits array, 18 per random long.
+     *
+     * @param RandomGenerator The source of randomness.
+     * @param int[] The digits array.
+     * @param int The number of digits.
+     */
+    private static void fillRandomDigits(RandomGenerator random, int[] digits, int count)
+    {
+        for (int from = 0; from < count; from += LIMB_DIGITS)
+        {
+            fillDigits(digits, from, Math.min(LIMB_DIGITS, count - from), random.nextLong(MAX_LIMB + 1));
+        }
+    }
+
+    /**
+     * This private static method returns a random value whose decimal logarithm is uniform from 0 to 40.
+     *
+     * @param RandomGenerator The source of randomness.
+     * @return A value from 1 to {@code HugeInteger.MAX_VALUE}.
+     */
+    private static HugeInteger logUniform(RandomGenerator random)
+    {
+        double exponent = random.nextDouble(HugeInteger.MAX_DIGITS);
+        int length = (int) exponent + 1;
+        int leadingLength = Math.min(length, LOG_UNIFORM_DIGITS);
+
+        // The leading digits are 10^fraction scaled to their count, and the rest are uniform.
+        long maxLeading = (long) Math.pow(10, leadingLength);
+        long leading = (long) Math.pow(10, exponent - (length - leadingLength));
+        int[] digits = new int[length];
+        fillRandomDigits(random, digits, length - leadingLength);
+        fillDigits(digits, length - leadingLength, leadingLength, Math.min(Math.max(leading, maxLeading / 10), maxLeading - 1));
+        return HugeInteger.valueOf(1, digits, OverflowPolicy.THROW);
+    }
+
+    /**
+     * This private static method returns a random value within 1000 of a power of ten from 10 to 10^40.
+     *
+     * @param RandomGenerator The source of randomness.
+     * @return A value below the power, with nines above its low digits, or above it, with zeros above them.
+     */
+    private static HugeInteger nearBoundary(RandomGenerator random)
+    {
+        int exponent = 1 + random.nextInt(HugeInteger.MAX_DIGITS);
+        int low = Math.min(exponent, NEAR_BOUNDARY_DIGITS);
+        int offset = random.nextInt((int) Math.pow(10, low));
+        int[] digits;
+
+        if (exponent < HugeInteger.MAX_DIGITS && random.nextBoolean())
+        {
+            // 10^e + offset.
+            digits = new int[exponent + 1];
+            digits[exponent] = 1;
+            fillDigits(digits, 0, low, offset);
+        }
+        else
+        {
+            // 10^e - 1 - offset, whose digits are the nines' complements of those of the offset.
+            digits = new int[exponent];
+            Arrays.fill(digits, 9);
+            fillDigits(digits, 0, low, offset);
+
+            for (int index = 0; index < low; index++)
+            {
+                digits[index] = 9 - digits[index];
+            }
+        }
+
+        return HugeInteger.valueOf(1, digits, OverflowPolicy.THROW);
+    }
+
+    /**
+     * This private static method returns a random value with a distribution.
+     *
+     * @param RandomGenerator The source of randomness.
+     * @param HugeIntegerDistribution The distribution.
+     * @return A non-negative value.
+     */
+    private static HugeInteger random(RandomGenerator random, HugeIntegerDistribution distribution)
+    {
+        HugeInteger result;
+
+        switch (distribution)
+        {
+            case UNIFORM_LENGTH:
+                result = random(random, 1 + random.nextInt(HugeInteger.MAX_DIGITS));
+                break;
+            case LOG_UNIFORM:
+                result = logUniform(random);
+                break;
+            default:
+                result = nearBoundary(random);
+                break;
+        }
+
+        return result;
+    }
+
+    /**
+     * This private static method returns the seed of an element of a random stream, a mix of the seed of
+     * the stream and the index of the element with the finalizer of {@code SplittableRandom}, so that the
+     * generators of consecutive elements are not correlated.
+     *
+     * @param long The seed of the stream.
+     * @param long The index of the element.
+     * @return The seed of the element.
+     */
+    private static long elementSeed(long seed, long index)
+    {
+        long result = seed + index * GOLDEN_GAMMA;
+        result = (result ^ (result >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+        result = (result ^ (result >>> 27)) * 0x94D0_49BB_1331_11EBL;
+        return result ^ (result >>> 31);
+    }
+
+    /**
+     * This private static method returns a stream of random values.
+     *
+     * @param long The number of values.
+     * @param long The seed.
+     * @param HugeIntegerDistribution The distribution of the values.
+     * @param boolean Whether the stream is parallel.
+     * @return The stream.
+     */
+    private static Stream<HugeInteger> randomStream(long size, long seed, HugeIntegerDistribution distribution, boolean isParallel)
+    {
+        if (size < 0)
+        {
+            throw new IllegalArgumentException("Negative size: " + size);
+        }
+
+        if (distribution == null)
+        {
+            throw new NullPointerException("Distribution is null");
+        }
+
+        LongStream indexes = LongStream.range(0, size);
+        return (isParallel ? indexes.parallel() : indexes)
+            .mapToObj(index -> random(new SplittableRandom(elementSeed(seed, index)), distribution));
+    }
+
+    // Static methods of class HugeIntegers.
+
+    /**
+     * This static method sorts the input array in ascending numerical order. The sort is stable.
+     *
+     * @param HugeInteger[] The array to be sorted.
+     * @throws NullPointerException If an element of the array is {@code null}.
+     */
+    public static void sort(HugeInteger[] array)
+    {
+        sort(array, 0, array.length);
+    }
+
+    /**
+     * This static method sorts a range of the input array in ascending numerical order. The sort is stable.
+     *
+     * @param HugeInteger[] The array to be sorted.
+     * @param int The index of the first element to be sorted.
+     * @param int The index after the last element to be sorted.
+     * @throws IllegalArgumentException If the first index is greater than the last.
+     * @throws ArrayIndexOutOfBoundsException If the range is not in the array.
+     * @throws NullPointerException If an element of the range is {@code null}.
+     */
+    public static void sort(HugeInteger[] array, int from, int to)
+    {
+        checkRange(array, from, to);
+
+        if (to - from > 1)
+        {
+            radixSort(array, from, to, 1, false);
+        }
+    }
+
+    /**
+     * This static method sorts the input array in ascending numerical order using the common
+     * {@code ForkJoinPool}. The keys of slices of the array are packed, counted and moved in parallel,
+     * so the result is the same as {@code sort}, including its stability. Small arrays are sorted in
+     * the current thread.
+     *
+     * @param HugeInteger[] The array to be sorted.
+     * @throws NullPointerException If an element of the array is {@code null}.
+     */
+    public static void parallelSort(HugeInteger[] array)
+    {
+        int length = array.length;
+        int slices = Math.min(4 * Runtime.getRuntime().availableProcessors(), length / (MIN_PARALLEL_LENGTH / 4));
+
+        if (length < MIN_PARALLEL_LENGTH || slices < 2)
+        {
+            sort(array);
+        }
+        else
+        {
+            radixSort(array, 0, length, slices, true);
+        }
+    }
+
+    /**
+     * This static method returns the factorial of a number.
+     *
+     * @param int The number.
+     * @return The factorial, {@code n!}.
+     * @throws IllegalArgumentException If the number is negative.
+     * @throws ArithmeticException If the factorial exceeds 40 digits, that is, if the number is greater than 34.
+     */
+    public static HugeInteger factorial(int n)
+    {
+        checkNotNegative("argument", n);
+
+        if (n > MAX_FACTORIAL)
+        {
+            overflow();
+        }
+
+        return FACTORIALS.get(n, HugeIntegers::computeFactorial);
+    }
+
+    /**
+     * This static method returns a binomial coefficient, the number of ways to choose {@code k}
+     * elements among {@code n}.
+     *
+     * @param int The number of elements.
+     * @param int The number of chosen elements.
+     * @return The binomial coefficient, zero if {@code k} is greater than {@code n}.
+     * @throws IllegalArgumentException If a number is negative.
+     * @throws ArithmeticException If the coefficient exceeds 40 digits.
+     */
+    public static HugeInteger binomial(int n, int k)
+    {
+        checkNotNegative("number of elements", n);
+        checkNotNegative("number of chosen elements", k);
+        HugeInteger result;
+
+        if (k > n)
+        {
+            result = HugeInteger.ZERO;
+        }
+        else
+        {
+            int smallerK = Math.min(k, n - k);
+
+            // (n / k)^k is a lower bound of the coefficient, which rejects huge arguments before factoring them.
+            if (smallerK > 0 && smallerK * Math.log10((double) n / smallerK) > HugeInteger.MAX_DIGITS + 1e-9)
+            {
+                overflow();
+            }
+
+            if (n < CACHED_BINOMIAL_ROWS)
+            {
+                result = BINOMIALS.get(n * (n + 1) / 2 + smallerK, index -> computeBinomial(n, smallerK));
+            }
+            else
+            {
+                result = computeBinomial(n, smallerK);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * This static method returns a Fibonacci number, computed by fast doubling.
+     *
+     * @param int The index of the number, where {@code F(0) = 0} and {@code F(1) = 1}.
+     * @return The Fibonacci number {@code F(n)}.
+     * @throws IllegalArgumentException If the index is negative.
+     * @throws ArithmeticException If the number exceeds 40 digits, that is, if the index is greater than 193.
+     */
+    public static HugeInteger fibonacci(int n)
+    {
+        checkNotNegative("index", n);
+
+        if (n > MAX_FIBONACCI)
+        {
+            overflow();
+        }
+
+        return FIBONACCI_NUMBERS.get(n, index -> index == 0 ? HugeInteger.ZERO : fibonacciPair(index - 1)[1]);
+    }
+
+    /**
+     * This static method returns a Lucas number, computed from the Fibonacci numbers as
+     * {@code L(n) = F(n) + 2 F(n - 1)}.
+     *
+     * @param int The index of the number, where {@code L(0) = 2} and {@code L(1) = 1}.
+     * @return The Lucas number {@code L(n)}.
+     * @throws IllegalArgumentException If the index is negative.
+     * @throws ArithmeticException If the number exceeds 40 digits, that is, if the index is greater than 191.
+     */
+    public static HugeInteger lucas(int n)
+    {
+        checkNotNegative("index", n);
+
+        if (n > MAX_LUCAS)
+        {
+            overflow();
+        }
+
+        return LUCAS_NUMBERS.get(n, index ->
+        {
+            HugeInteger result = HugeInteger.valueOf(2);
+
+            if (index > 0)
+            {
+                HugeInteger[] pair = fibonacciPair(index - 1);
+                result = pair[1].add(pair[0]).add(pair[0], OverflowPolicy.THROW);
+            }
+
+            return result;
+        });
+    }
+
+    /**
+     * This static method factors a {@code HugeInteger} into primes with a {@code HugeFactorizer} that runs
+     * in the common {@code ForkJoinPool}, with no time budget.
+     *
+     * @param HugeInteger The number, not zero.
+     * @return The prime factors in ascending order, repeated as many times as they divide the number, after
+     *         -1 if the number is negative.
+     * @throws IllegalArgumentException If the number is zero.
+     */
+    public static List<HugeInteger> factor(HugeInteger value)
+    {
+        return new HugeFactorizer().factor(value);
+    }
+
+    /**
+     * This static method returns a uniformly random non-negative {@code HugeInteger} with a number of digits.
+     *
+     * @param RandomGenerator The source of randomness.
+     * @param int The number of digits, from 1 to 40. The leading digit is not zero.
+     * @return A value from 10^(digits - 1), or 0 for a single digit, to 10^digits - 1.
+     * @throws IllegalArgumentException If the number of digits is out of range.
+     */
+    public static HugeInteger random(RandomGenerator random, int digits)
+    {
+        if (digits < 1 || digits > HugeInteger.MAX_DIGITS)
+        {
+            throw new IllegalArgumentException("Digit count out of range: " + digits);
+        }
+
+        int[] result = new int[digits];
+        fillRandomDigits(random, result, digits - 1);
+        result[digits - 1] = digits == 1 ? random.nextInt(10) : 1 + random.nextInt(9);
+        return HugeInteger.valueOf(1, result, OverflowPolicy.THROW);
+    }
+
+    /**
+     * This static method returns a uniformly random {@code HugeInteger} from zero to a bound, exclusive.
+     * The leading 18 digits are drawn below those of the bound plus one, so a value is only drawn again
+     * when they are equal and the rest is not below the bound, with a probability below 10^-17.
+     *
+     * @param RandomGenerator The source of randomness.
+     * @param HugeInteger The bound, positive.
+     * @return A value not negative and less than the bound.
+     * @throws IllegalArgumentException If the bound is not positive.
+     */
+    public static HugeInteger randomBelow(RandomGenerator random, HugeInteger bound)
+    {
+        if (!bound.isPositive())
+        {
+            throw new IllegalArgumentException("Bound not positive: " + bound);
+        }
+
+        int length = bound.digits.length;
+        int leadingLength = Math.min(length, LIMB_DIGITS);
+        long leading = 0;
+
+        for (int index = length - 1; index >= length - leadingLength; index--)
+        {
+            leading = 10 * leading + bound.digits[index];
+        }
+
+        // A bound of at most 18 digits is its own leading part, so the first value is below it.
+        long leadingBound = length == leadingLength ? leading : leading + 1;
+        HugeInteger result;
+
+        do
+        {
+            int[] digits = new int[length];
+            fillRandomDigits(random, digits, length - leadingLength);
+            fillDigits(digits, length - leadingLength, leadingLength, random.nextLong(leadingBound));
+            result = HugeInteger.valueOf(1, digits, OverflowPolicy.THROW);
+        }
+        while (!result.isLessThan(bound));
+
+        return result;
+    }
+
+    /**
+     * This static method returns a stream of random {@code HugeIntegers}. Every element is generated by
+     * its own {@code SplittableRandom}, seeded from the input seed and the index of the element, so the
+     * same seed gives the same elements in the same order, in a sequential or a parallel stream.
+     *
+     * @param long The number of values, not negative.
+     * @param long The seed.
+     * @param HugeIntegerDistribution The distribution of the values.
+     * @return A sequential ordered stream of non-negative values.
+     * @throws IllegalArgumentException If the number of values is negative.
+     */
+    public static Stream<HugeInteger> randomStream(long size, long seed, HugeIntegerDistribution distribution)
+    {
+        return randomStream(size, seed, distribution, false);
+    }
+
+    /**
+     * This static method returns a parallel stream of random {@code HugeIntegers}, with the same elements
+     * as the sequential stream of {@code randomStream} with the same arguments.
+     *
+     * @param long The number of values, not negative.
+     * @param long The seed.
+     * @param HugeIntegerDistribution The distribution of the values.
+     * @return A parallel ordered stream of non-negative values.
+     * @throws IllegalArgumentException If the number of values is negative.
+     */
+    public static Stream<HugeInteger> parallelRandomStream(long size, long seed, HugeIntegerDistribution distribution)
+    {
+        return randomStream(size, seed, distribution, true);
+    }
+}
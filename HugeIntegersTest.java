@@ -0,0 +1,321 @@
+/**
+ * Tests of the class HugeIntegers.
+ * 
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+public class HugeIntegersTest {
+
+    private static HugeInteger[] randomArray(int length, long seed) {
+        Random random = new Random(seed);
+        HugeInteger[] array = new HugeInteger[length];
+        
+        for (int n = 0; n < length; n++) {
+            StringBuilder digits = new StringBuilder(random.nextBoolean() ? "-" : "");
+            int count = 1 + random.nextInt(40);
+            
+            for (int k = 0; k < count; k++) {
+                digits.append((char) ('0' + random.nextInt(10)));
+            }
+            
+            array[n] = new HugeInteger(digits.toString());
+        }
+        
+        return array;
+    }
+    
+    private static String[] sortedStrings(HugeInteger[] array) {
+        return Arrays.stream(array).map(value -> new BigInteger(value.toString())).sorted()
+            .map(BigInteger::toString).toArray(String[]::new);
+    }
+    
+    private static String[] strings(HugeInteger[] array) {
+        return Arrays.stream(array).map(HugeInteger::toString).toArray(String[]::new);
+    }
+    
+    @Test
+    public void testSort() {
+        HugeInteger[] array = {
+            new HugeInteger("1240"), HugeInteger.MIN_VALUE, HugeInteger.ZERO, new HugeInteger("-1239"),
+            HugeInteger.MAX_VALUE, new HugeInteger("-1240"), HugeInteger.ONE, new HugeInteger("1239")
+        };
+        HugeIntegers.sort(array);
+        assertArrayEquals(new String[] {
+            HugeInteger.MIN_VALUE.toString(), "-1240", "-1239", "0", "1", "1239", "1240", HugeInteger.MAX_VALUE.toString()
+        }, strings(array));
+    }
+    
+    @Test
+    public void testSortRandom() {
+        HugeInteger[] array = randomArray(10_000, 1);
+        String[] expected = sortedStrings(array);
+        HugeIntegers.sort(array);
+        assertArrayEquals(expected, strings(array));
+    }
+    
+    @Test
+    public void testSortRange() {
+        HugeInteger[] array = randomArray(100, 2);
+        HugeInteger[] copy = array.clone();
+        HugeIntegers.sort(array, 10, 90);
+        assertArrayEquals(sortedStrings(Arrays.copyOfRange(copy, 10, 90)), strings(Arrays.copyOfRange(array, 10, 90)));
+        assertArrayEquals(strings(Arrays.copyOfRange(copy, 0, 10)), strings(Arrays.copyOfRange(array, 0, 10)));
+        assertArrayEquals(strings(Arrays.copyOfRange(copy, 90, 100)), strings(Arrays.copyOfRange(array, 90, 100)));
+    }
+    
+    @Test
+    public void testSortIsStable() {
+        HugeInteger first = new HugeInteger("-5");
+        HugeInteger second = new HugeInteger("-5");
+        HugeInteger[] array = {HugeInteger.ONE, first, second};
+        HugeIntegers.sort(array);
+        assertArrayEquals(new HugeInteger[] {first, second, HugeInteger.ONE}, array);
+    }
+    
+    @Test
+    public void testParallelSort() {
+        HugeInteger[] array = randomArray(300_000, 3);
+        String[] expected = sortedStrings(array);
+        HugeIntegers.parallelSort(array);
+        assertArrayEquals(expected, strings(array));
+    }
+    
+    @Test(expected=IllegalArgumentException.class)
+    public void testSortInvalidRange() {
+        HugeIntegers.sort(new HugeInteger[4], 3, 2);
+    }
+    
+    @Test
+    public void testFactorial() {
+        BigInteger expected = BigInteger.ONE;
+        
+        for (int n = 0; n <= 34; n++) {
+            expected = n == 0 ? expected : expected.multiply(BigInteger.valueOf(n));
+            assertEquals("n = " + n, expected.toString(), HugeIntegers.factorial(n).toString());
+        }
+    }
+    
+    @Test(expected=ArithmeticException.class)
+    public void testFactorialOverflow() {
+        HugeIntegers.factorial(35);
+    }
+    
+    @Test(expected=IllegalArgumentException.class)
+    public void testFactorialNegative() {
+        HugeIntegers.factorial(-1);
+    }
+    
+    @Test
+    public void testBinomial() {
+        for (int n = 0; n <= 130; n++) {
+            BigInteger expected = BigInteger.ONE;
+            
+            for (int k = 0; k <= n; k++) {
+                if (expected.toString().length() <= 40) {
+                    assertEquals("n = " + n + ", k = " + k, expected.toString(), HugeIntegers.binomial(n, k).toString());
+                }
+                
+                expected = expected.multiply(BigInteger.valueOf(n - k)).divide(BigInteger.valueOf(k + 1));
+            }
+        }
+    }
+    
+    @Test
+    public void testBinomialLargeArguments() {
+        BigInteger n = BigInteger.valueOf(2_000_000_011);
+        BigInteger expected = n.multiply(n.subtract(BigInteger.ONE)).multiply(n.subtract(BigInteger.TWO))
+            .divide(BigInteger.valueOf(6));
+        assertEquals(expected.toString(), HugeIntegers.binomial(2_000_000_011, 3).toString());
+        assertEquals("2147483647", HugeIntegers.binomial(Integer.MAX_VALUE, Integer.MAX_VALUE - 1).toString());
+        assertSame(HugeInteger.ZERO, HugeIntegers.binomial(3, 4));
+    }
+    
+    @Test(expected=ArithmeticException.class)
+    public void testBinomialOverflow() {
+        HugeIntegers.binomial(140, 70);
+    }
+    
+    @Test(expected=ArithmeticException.class)
+    public void testBinomialHugeArguments() {
+        HugeIntegers.binomial(2_000_000_000, 1_000_000_000);
+    }
+    
+    @Test(expected=IllegalArgumentException.class)
+    public void testBinomialNegative() {
+        HugeIntegers.binomial(5, -1);
+    }
+    
+    @Test
+    public void testFibonacciAndLucas() {
+        BigInteger[] fibonacci = new BigInteger[195];
+        fibonacci[0] = BigInteger.ZERO;
+        fibonacci[1] = BigInteger.ONE;
+        
+        for (int n = 2; n < fibonacci.length; n++) {
+            fibonacci[n] = fibonacci[n - 1].add(fibonacci[n - 2]);
+        }
+        
+        for (int n = 0; n <= 193; n++) {
+            assertEquals("n = " + n, fibonacci[n].toString(), HugeIntegers.fibonacci(n).toString());
+        }
+        
+        assertEquals("2", HugeIntegers.lucas(0).toString());
+        
+        for (int n = 1; n <= 191; n++) {
+            BigInteger expected = fibonacci[n - 1].add(fibonacci[n + 1]);
+            assertEquals("n = " + n, expected.toString(), HugeIntegers.lucas(n).toString());
+        }
+        
+        assertEquals(41, fibonacci[194].toString().length());
+        assertEquals(41, fibonacci[191].add(fibonacci[193]).toString().length());
+    }
+    
+    @Test(expected=ArithmeticException.class)
+    public void testFibonacciOverflow() {
+        HugeIntegers.fibonacci(194);
+    }
+    
+    @Test(expected=ArithmeticException.class)
+    public void testLucasOverflow() {
+        HugeIntegers.lucas(192);
+    }
+    
+    @Test
+    public void testConcurrentFunctions() {
+        HugeInteger[] values = IntStream.range(0, 10_000).parallel()
+            .mapToObj(n -> HugeIntegers.fibonacci(n % 194)).toArray(HugeInteger[]::new);
+        
+        for (int n = 0; n < values.length; n++) {
+            assertSame(HugeIntegers.fibonacci(n % 194), values[n]);
+        }
+    }
+    
+    @Test
+    public void testRandom() {
+        SplittableRandom random = new SplittableRandom(1);
+        
+        for (int digits = 1; digits <= 40; digits++) {
+            for (int n = 0; n < 100; n++) {
+                HugeInteger value = HugeIntegers.random(random, digits);
+                assertTrue(!value.isNegative());
+                assertEquals(value.toString(), digits == 1 ? 1 : digits, value.toString().length());
+            }
+        }
+        
+        int[] counts = new int[10];
+        
+        for (int n = 0; n < 10_000; n++) {
+            counts[HugeIntegers.random(random, 40).digitAt(20)]++;
+        }
+        
+        for (int count : counts) {
+            assertTrue(Arrays.toString(counts), count > 850 && count < 1150);
+        }
+    }
+    
+    @Test(expected=IllegalArgumentException.class)
+    public void testRandomTooManyDigits() {
+        HugeIntegers.random(new SplittableRandom(1), 41);
+    }
+    
+    @Test(expected=IllegalArgumentException.class)
+    public void testRandomNoDigits() {
+        HugeIntegers.random(new SplittableRandom(1), 0);
+    }
+    
+    @Test
+    public void testRandomBelow() {
+        SplittableRandom random = new SplittableRandom(2);
+        int[] counts = new int[7];
+        
+        for (int n = 0; n < 7_000; n++) {
+            counts[Integer.parseInt(HugeIntegers.randomBelow(random, new HugeInteger("7")).toString())]++;
+        }
+        
+        for (int count : counts) {
+            assertTrue(Arrays.toString(counts), count > 850 && count < 1150);
+        }
+        
+        for (String bound : new String[] {"1", "1000000000000000000", "1000000000000000000000000000000000000001",
+                "9999999999999999999999999999999999999999", "123456789012345678901234567890"}) {
+            BigInteger expected = new BigInteger(bound);
+            
+            for (int n = 0; n < 1_000; n++) {
+                BigInteger value = new BigInteger(HugeIntegers.randomBelow(random, new HugeInteger(bound)).toString());
+                assertTrue(value + " < " + bound, value.signum() >= 0 && value.compareTo(expected) < 0);
+            }
+        }
+    }
+    
+    @Test(expected=IllegalArgumentException.class)
+    public void testRandomBelowZero() {
+        HugeIntegers.randomBelow(new SplittableRandom(1), HugeInteger.ZERO);
+    }
+    
+    @Test
+    public void testRandomStreamIsReproducible() {
+        for (HugeIntegerDistribution distribution : HugeIntegerDistribution.values()) {
+            String[] sequential = HugeIntegers.randomStream(5_000, 42, distribution).map(HugeInteger::toString)
+                .toArray(String[]::new);
+            String[] parallel = HugeIntegers.parallelRandomStream(5_000, 42, distribution).map(HugeInteger::toString)
+                .toArray(String[]::new);
+            String[] skipped = HugeIntegers.randomStream(5_000, 42, distribution).skip(4_000).map(HugeInteger::toString)
+                .toArray(String[]::new);
+            assertArrayEquals(distribution.toString(), sequential, parallel);
+            assertArrayEquals(distribution.toString(), Arrays.copyOfRange(sequential, 4_000, 5_000), skipped);
+            assertTrue(!Arrays.equals(sequential, HugeIntegers.randomStream(5_000, 43, distribution)
+                .map(HugeInteger::toString).toArray(String[]::new)));
+        }
+    }
+    
+    @Test
+    public void testRandomStreamDistributions() {
+        int[] uniformLengths = new int[41];
+        int[] logUniformLengths = new int[41];
+        int[] leadingDigits = new int[10];
+        
+        HugeIntegers.randomStream(40_000, 1, HugeIntegerDistribution.UNIFORM_LENGTH)
+            .forEach(value -> uniformLengths[value.toString().length()]++);
+        HugeIntegers.randomStream(40_000, 1, HugeIntegerDistribution.LOG_UNIFORM).forEach(value -> {
+            logUniformLengths[value.toString().length()]++;
+            leadingDigits[value.toString().charAt(0) - '0']++;
+        });
+        
+        for (int length = 1; length <= 40; length++) {
+            assertTrue(Arrays.toString(uniformLengths), uniformLengths[length] > 800 && uniformLengths[length] < 1200);
+            assertTrue(Arrays.toString(logUniformLengths), logUniformLengths[length] > 800 && logUniformLengths[length] < 1200);
+        }
+        
+        // Benford's law: about 30.1% of leading ones and 4.6% of leading nines.
+        assertEquals(0, leadingDigits[0]);
+        assertTrue(Arrays.toString(leadingDigits), leadingDigits[1] > 11_500 && leadingDigits[1] < 12_600);
+        assertTrue(Arrays.toString(leadingDigits), leadingDigits[9] > 1_600 && leadingDigits[9] < 2_100);
+        
+        BigInteger[] powers = IntStream.rangeClosed(1, 40).mapToObj(BigInteger.TEN::pow).toArray(BigInteger[]::new);
+        long below = HugeIntegers.randomStream(10_000, 1, HugeIntegerDistribution.NEAR_BOUNDARY).filter(value -> {
+            BigInteger number = new BigInteger(value.toString());
+            BigInteger nearest = Arrays.stream(powers).min((first, second) -> 
+                first.subtract(number).abs().compareTo(second.subtract(number).abs())).get();
+            assertTrue(value.toString(), nearest.subtract(number).abs().compareTo(BigInteger.valueOf(1000)) <= 0);
+            return number.compareTo(nearest) < 0;
+        }).count();
+        assertTrue("below = " + below, below > 4_500 && below < 5_700);
+        assertEquals(40, HugeIntegers.randomStream(10_000, 1, HugeIntegerDistribution.NEAR_BOUNDARY)
+            .map(value -> value.toString().length()).collect(Collectors.toSet()).size());
+    }
+}
@@ -0,0 +1,600 @@
+/**
+ * The arithmetic modulo an odd number of up to 40 digits in Montgomery form, used by the primality
+ * tests and the factorization methods.
+ *
+ * The numbers are arrays of 32-bit limbs in little-endian order, read as unsigned, with as many limbs
+ * as the modulus. A residue {@code x} is stored as {@code x R} modulo the modulus, where {@code R} is
+ * {@code 2^32} raised to the number of limbs, so a product is reduced with multiplications and shifts
+ * instead of a division. A modulus keeps a scratch array for its products, so it's not thread-safe:
+ * every thread must use its own.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.util.Arrays;
+
+final class HugeModulus
+{
+    private static final long MASK = 0xFFFF_FFFFL;
+
+    /**
+     * The base of the decimal limbs used to convert between {@code HugeIntegers} and binary limbs, and its
+     * number of digits.
+     */
+    private static final int DECIMAL_BASE = 1_000_000_000;
+    private static final int DECIMAL_DIGITS = 9;
+
+    /**
+     * The number of bits of the windows of the exponents, a divisor of 32.
+     */
+    private static final int WINDOW_BITS = 4;
+
+    private final int[] modulus;
+    private final int length;
+
+    /**
+     * The value of {@code -modulus^-1} modulo {@code 2^32}.
+     */
+    private final int negativeInverse;
+
+    /**
+     * The values of {@code R^2} modulo the modulus and of 1 in Montgomery form.
+     */
+    private final int[] rSquared;
+    private final int[] one;
+
+    /**
+     * The scratch array of the products, with as many limbs as the modulus.
+     */
+    private final int[] scratch;
+
+    // Constructors for class HugeModulus.
+
+    /**
+     * This constructor initializes the arithmetic modulo a number.
+     *
+     * @param int[] The limbs of the modulus, odd and greater than 1. The most significant limb may be zero.
+     */
+    HugeModulus(int[] modulus)
+    {
+        int length = modulus.length;
+
+        for (; length > 1 && modulus[length - 1] == 0; length--)
+            ;
+
+        int inverse = modulus[0];
+
+        // Every Newton iteration doubles the number of correct low bits of the inverse.
+        for (int n = 0; n < 5; n++)
+        {
+            inverse *= 2 - modulus[0] * inverse;
+        }
+
+        this.modulus = Arrays.copyOf(modulus, length);
+        this.length = length;
+        this.negativeInverse = -inverse;
+        this.scratch = new int[length];
+
+        // 1 is doubled up to R, and then up to R^2, modulo the modulus.
+        int[] power = new int[length];
+        power[0] = 1;
+
+        for (int n = 0; n < 32 * length; n++)
+        {
+            add(power, power, power);
+        }
+
+        this.one = power.clone();
+
+        for (int n = 0; n < 32 * length; n++)
+        {
+            add(power, power, power);
+        }
+
+        this.rSquared = power;
+    }
+
+    /**
+     * This constructor initializes the arithmetic modulo a {@code HugeInteger}.
+     *
+     * @param HugeInteger The modulus, odd and greater than 1.
+     */
+    HugeModulus(HugeInteger modulus)
+    {
+        this(toLimbs(modulus));
+    }
+
+    // Private methods of class HugeModulus.
+
+    /**
+     * This private method returns whether a number is not less than the modulus.
+     *
+     * @param int[] The limbs of the number, as many as those of the modulus.
+     * @param int The limb above them.
+     * @return {@code true} if the number is greater than or equal to the modulus.
+     */
+    private boolean isReducible(int[] value, int carry)
+    {
+        boolean result = carry != 0;
+
+        if (!result)
+        {
+            int n = length - 1;
+
+            for (; n > 0 && value[n] == modulus[n]; n--)
+                ;
+
+            result = Integer.compareUnsigned(value[n], modulus[n]) >= 0;
+        }
+
+        return result;
+    }
+
+    /**
+     * This private method subtracts the modulus from a number in place.
+     *
+     * @param int[] The limbs of the number, which receive the difference.
+     */
+    private void subtractModulus(int[] value)
+    {
+        long borrow = 0;
+
+        for (int n = 0; n < length; n++)
+        {
+            long difference = (value[n] & MASK) - (modulus[n] & MASK) - borrow;
+            value[n] = (int) difference;
+            borrow = difference >>> 63;
+        }
+    }
+
+    // Methods of class HugeModulus.
+
+    /**
+     * This method returns the number of limbs of the residues.
+     *
+     * @return The number of limbs of the modulus.
+     */
+    int length()
+    {
+        return length;
+    }
+
+    /**
+     * This method returns the limbs of the modulus.
+     *
+     * @return A copy of the limbs.
+     */
+    int[] modulus()
+    {
+        return modulus.clone();
+    }
+
+    /**
+     * This method returns the residue of 1 in Montgomery form.
+     *
+     * @return A new array with the residue.
+     */
+    int[] one()
+    {
+        return one.clone();
+    }
+
+    /**
+     * This method multiplies two residues in Montgomery form, with the coarsely integrated operand
+     * scanning (CIOS) form of Montgomery's reduction.
+     *
+     * @param int[] The first residue.
+     * @param int[] The second residue.
+     * @param int[] The array that receives the product. It may be one of the operands.
+     */
+    void multiply(int[] first, int[] second, int[] result)
+    {
+        int[] m = modulus;
+        int[] t = scratch;
+        int k = length;
+        long high = 0;
+        Arrays.fill(t, 0, k, 0);
+
+        for (int i = 0; i < k; i++)
+        {
+            long digit = first[i] & MASK;
+            long carry = 0;
+
+            for (int j = 0; j < k; j++)
+            {
+                long sum = (t[j] & MASK) + digit * (second[j] & MASK) + carry;
+                t[j] = (int) sum;
+                carry = sum >>> 32;
+            }
+
+            // The number has k + 2 limbs: t, then the low and high halves of high.
+            high += carry;
+
+            // Adding q times the modulus clears the low limb, which is then shifted out.
+            long quotient = (t[0] * negativeInverse) & MASK;
+            carry = ((t[0] & MASK) + quotient * (m[0] & MASK)) >>> 32;
+
+            for (int j = 1; j < k; j++)
+            {
+                long sum = (t[j] & MASK) + quotient * (m[j] & MASK) + carry;
+                t[j - 1] = (int) sum;
+                carry = sum >>> 32;
+            }
+
+            high += carry;
+            t[k - 1] = (int) high;
+            high >>>= 32;
+        }
+
+        System.arraycopy(t, 0, result, 0, k);
+
+        if (isReducible(result, (int) high))
+        {
+            subtractModulus(result);
+        }
+    }
+
+    /**
+     * This method multiplies two residues in Montgomery form.
+     *
+     * @param int[] The first residue.
+     * @param int[] The second residue.
+     * @return A new array with the product.
+     */
+    int[] multiply(int[] first, int[] second)
+    {
+        int[] result = new int[length];
+        multiply(first, second, result);
+        return result;
+    }
+
+    /**
+     * This method adds two residues.
+     *
+     * @param int[] The first residue.
+     * @param int[] The second residue.
+     * @param int[] The array that receives the sum. It may be one of the operands.
+     */
+    void add(int[] first, int[] second, int[] result)
+    {
+        long carry = 0;
+
+        for (int n = 0; n < length; n++)
+        {
+            long sum = (first[n] & MASK) + (second[n] & MASK) + carry;
+            result[n] = (int) sum;
+            carry = sum >>> 32;
+        }
+
+        if (isReducible(result, (int) carry))
+        {
+            subtractModulus(result);
+        }
+    }
+
+    /**
+     * This method subtracts a residue from another one.
+     *
+     * @param int[] The minuend.
+     * @param int[] The subtrahend.
+     * @param int[] The array that receives the difference. It may be one of the operands.
+     */
+    void subtract(int[] minuend, int[] subtrahend, int[] result)
+    {
+        long borrow = 0;
+
+        for (int n = 0; n < length; n++)
+        {
+            long difference = (minuend[n] & MASK) - (subtrahend[n] & MASK) - borrow;
+            result[n] = (int) difference;
+            borrow = difference >>> 63;
+        }
+
+        if (borrow != 0)
+        {
+            long carry = 0;
+
+            for (int n = 0; n < length; n++)
+            {
+                long sum = (result[n] & MASK) + (modulus[n] & MASK) + carry;
+                result[n] = (int) sum;
+                carry = sum >>> 32;
+            }
+        }
+    }
+
+    /**
+     * This method halves a residue, which is the same in Montgomery form and out of it.
+     *
+     * @param int[] The residue.
+     * @param int[] The array that receives the half. It may be the residue.
+     */
+    void half(int[] value, int[] result)
+    {
+        // An odd residue is made even by adding the odd modulus, with one more bit for the carry.
+        long carry = 0;
+        boolean isOdd = (value[0] & 1) != 0;
+
+        for (int n = 0; n < length; n++)
+        {
+            long sum = (value[n] & MASK) + (isOdd ? modulus[n] & MASK : 0) + carry;
+            result[n] = (int) sum;
+            carry = sum >>> 32;
+        }
+
+        for (int n = 0; n < length; n++)
+        {
+            int high = n + 1 < length ? result[n + 1] : (int) carry;
+            result[n] = (result[n] >>> 1) | (high << 31);
+        }
+    }
+
+    /**
+     * This method raises a residue in Montgomery form to a power, with a fixed window of four bits:
+     * the powers from 0 to 15 of the residue are computed first, so a window costs four squares and
+     * one product.
+     *
+     * @param int[] The residue.
+     * @param int[] The limbs of the exponent, not negative.
+     * @return A new array with the power in Montgomery form.
+     */
+    int[] power(int[] base, int[] exponent)
+    {
+        int[][] powers = new int[1 << WINDOW_BITS][];
+        powers[0] = one();
+
+        for (int n = 1; n < powers.length; n++)
+        {
+            powers[n] = multiply(powers[n - 1], base);
+        }
+
+        int[] result = one();
+
+        for (int bit = 32 * exponent.length - WINDOW_BITS; bit >= 0; bit -= WINDOW_BITS)
+        {
+            for (int n = 0; n < WINDOW_BITS; n++)
+            {
+                multiply(result, result, result);
+            }
+
+            int window = exponent[bit >>> 5] >>> (bit & 31) & ((1 << WINDOW_BITS) - 1);
+
+            if (window != 0)
+            {
+                multiply(result, powers[window], result);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * This method converts a number to a residue in Montgomery form.
+     *
+     * @param long The number. It may be negative.
+     * @return A new array with the residue in Montgomery form.
+     */
+    int[] toMontgomery(long value)
+    {
+        long magnitude = Math.abs(value);
+        int[] limbs = new int[length];
+
+        if (length <= 2)
+        {
+            long modulusValue = length == 1 ? modulus[0] & MASK : (modulus[1] & MASK) << 32 | (modulus[0] & MASK);
+            magnitude = Long.remainderUnsigned(magnitude, modulusValue);
+        }
+
+        // A magnitude of 3 or more limbs is less than the modulus, and Long.MIN_VALUE is read as unsigned.
+        limbs[0] = (int) magnitude;
+
+        if (length > 1)
+        {
+            limbs[1] = (int) (magnitude >>> 32);
+        }
+
+        int[] result = multiply(limbs, rSquared);
+
+        if (value < 0)
+        {
+            subtract(new int[length], result, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * This method converts a number in limbs less than the modulus to a residue in Montgomery form.
+     *
+     * @param int[] The limbs of the number, at most as many as those of the modulus.
+     * @return A new array with the residue in Montgomery form.
+     */
+    int[] toMontgomery(int[] value)
+    {
+        return multiply(Arrays.copyOf(value, length), rSquared);
+    }
+
+    /**
+     * This method converts a residue in Montgomery form to the number that it represents.
+     *
+     * @param int[] The residue in Montgomery form.
+     * @return A new array with the limbs of the number, less than the modulus.
+     */
+    int[] fromMontgomery(int[] value)
+    {
+        int[] unit = new int[length];
+        unit[0] = 1;
+        return multiply(value, unit);
+    }
+
+    // Static methods of class HugeModulus.
+
+    /**
+     * This static method returns whether a number in limbs is zero.
+     *
+     * @param int[] The limbs of the number.
+     * @return {@code true} if every limb is zero.
+     */
+    static boolean isZero(int[] value)
+    {
+        boolean result = true;
+
+        for (int n = 0; n < value.length && result; n++)
+        {
+            result = value[n] == 0;
+        }
+
+        return result;
+    }
+
+    /**
+     * This static method returns the remainder of the division of a number in limbs by an int.
+     *
+     * @param int[] The limbs of the number.
+     * @param int The divisor, positive.
+     * @return The remainder.
+     */
+    static int remainder(int[] value, int divisor)
+    {
+        long result = 0;
+
+        for (int n = value.length - 1; n >= 0; n--)
+        {
+            result = ((result << 32) | (value[n] & MASK)) % divisor;
+        }
+
+        return (int) result;
+    }
+
+    /**
+     * This static method returns the greatest common divisor of two numbers in limbs, with the binary
+     * algorithm, which only shifts and subtracts.
+     *
+     * @param int[] The limbs of the first number.
+     * @param int[] The limbs of the second number, which must be odd.
+     * @return A new array with the limbs of the divisor, as many as those of the longest number.
+     */
+    static int[] gcd(int[] first, int[] second)
+    {
+        int length = Math.max(first.length, second.length);
+        int[] a = Arrays.copyOf(first, length);
+        int[] b = Arrays.copyOf(second, length);
+
+        // The second number is odd, so the factors 2 of the first one are not common.
+        while (!isZero(a))
+        {
+            int limb = 0;
+
+            for (; a[limb] == 0; limb++)
+                ;
+
+            int shift = 32 * limb + Integer.numberOfTrailingZeros(a[limb]);
+
+            for (int n = 0; n < length; n++)
+            {
+                int source = n + (shift >>> 5);
+                int low = source < length ? a[source] >>> (shift & 31) : 0;
+                int high = (shift & 31) == 0 || source + 1 >= length ? 0 : a[source + 1] << (32 - (shift & 31));
+                a[n] = low | high;
+            }
+
+            int n = length - 1;
+
+            for (; n > 0 && a[n] == b[n]; n--)
+                ;
+
+            if (Integer.compareUnsigned(a[n], b[n]) < 0)
+            {
+                int[] swap = a;
+                a = b;
+                b = swap;
+            }
+
+            // Both numbers are odd, so their difference is even.
+            long borrow = 0;
+
+            for (n = 0; n < length; n++)
+            {
+                long difference = (a[n] & MASK) - (b[n] & MASK) - borrow;
+                a[n] = (int) difference;
+                borrow = difference >>> 63;
+            }
+        }
+
+        return b;
+    }
+
+    /**
+     * This static method returns the limbs of the absolute value of a {@code HugeInteger}.
+     *
+     * @param HugeInteger The number.
+     * @return The limbs of its absolute value, with no leading zero limbs except for zero itself.
+     */
+    static int[] toLimbs(HugeInteger value)
+    {
+        int[] digits = value.digits;
+        int[] limbs = new int[(digits.length * 10 + 95) / 96 + 1];
+        int length = 1;
+
+        for (int top = digits.length; top > 0; top -= DECIMAL_DIGITS)
+        {
+            int bottom = Math.max(0, top - DECIMAL_DIGITS);
+            long carry = 0;
+            long factor = 1;
+
+            for (int index = top - 1; index >= bottom; index--)
+            {
+                carry = 10 * carry + digits[index];
+                factor *= 10;
+            }
+
+            // limbs = limbs * 10^k + chunk
+            for (int n = 0; n < length; n++)
+            {
+                long product = (limbs[n] & MASK) * factor + carry;
+                limbs[n] = (int) product;
+                carry = product >>> 32;
+            }
+
+            if (carry != 0)
+            {
+                limbs[length++] = (int) carry;
+            }
+        }
+
+        return Arrays.copyOf(limbs, length);
+    }
+
+    /**
+     * This static method returns the positive {@code HugeInteger} represented by some limbs.
+     *
+     * @param int[] The limbs of the number, whose value has at most 40 digits.
+     * @return The {@code HugeInteger}.
+     */
+    static HugeInteger toHugeInteger(int[] value)
+    {
+        int[] quotient = value.clone();
+        int[] digits = new int[DECIMAL_DIGITS * (quotient.length * 32 / 29 + 1)];
+        int count = 0;
+
+        while (!isZero(quotient))
+        {
+            long remainder = 0;
+
+            for (int n = quotient.length - 1; n >= 0; n--)
+            {
+                long dividend = (remainder << 32) | (quotient[n] & MASK);
+                quotient[n] = (int) (dividend / DECIMAL_BASE);
+                remainder = dividend % DECIMAL_BASE;
+            }
+
+            for (int n = 0; n < DECIMAL_DIGITS; n++, remainder /= 10)
+            {
+                digits[count++] = (int) (remainder % 10);
+            }
+        }
+
+        return HugeInteger.valueOf(1, digits, OverflowPolicy.THROW);
+    }
+}
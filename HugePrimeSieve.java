@@ -0,0 +1,323 @@
+/**
+ * A segmented sieve of Eratosthenes over a window of {@code HugeIntegers}, which streams the primes
+ * of the window.
+ *
+ * The odd numbers of the window are sieved in segments of {@code 2^18} bits, small enough to stay in
+ * the cache, by the odd primes up to the square root of the upper bound or up to {@code 2^20},
+ * whichever is smaller. The residue of the window by every base prime is computed once, when the
+ * sieve is created, so a segment only adds multiples of the primes to a bit index. When the base
+ * primes reach the square root of the upper bound the sieve is exact; otherwise the survivors, about
+ * one odd number in twelve, are verified with {@code isProbablePrime(64)}, the Baillie-PSW test. The segments are
+ * independent, so the parallel streams sieve them in the common {@code ForkJoinPool}.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+public final class HugePrimeSieve
+{
+    /**
+     * The greatest base prime.
+     */
+    private static final int MAX_BASE_PRIME = 1 << 20;
+
+    /**
+     * The number of odd numbers of a segment.
+     */
+    private static final int SEGMENT_BITS = 1 << 18;
+
+    /**
+     * The certainty of the verification of the survivors, that of the Baillie-PSW test alone.
+     */
+    private static final int CERTAINTY = 64;
+
+    /**
+     * The greatest length of a window, so that every offset fits in a long.
+     */
+    private static final long MAX_WINDOW = 1L << 62;
+
+    private final HugeInteger lower;
+
+    /**
+     * The offset from the lower bound of the first odd number of the window, and the number of odd numbers.
+     */
+    private final long firstOffset;
+    private final long candidates;
+
+    /**
+     * The odd base primes, and the index of the first odd number that every one of them strikes out:
+     * its first odd multiple in the window, or its square if that's greater.
+     */
+    private final int[] basePrimes;
+    private final long[] firstIndexes;
+
+    /**
+     * Whether the base primes reach the square root of the upper bound, so the survivors need no test.
+     */
+    private final boolean isExact;
+
+    /**
+     * Whether the window contains 1, which is not struck out by any prime, and 2, which is not odd.
+     */
+    private final boolean containsOne;
+    private final boolean containsTwo;
+
+    // Constructors for class HugePrimeSieve.
+
+    /**
+     * This constructor initializes a sieve of the numbers from a lower bound to an upper bound, both inclusive.
+     *
+     * @param HugeInteger The lower bound, not negative.
+     * @param HugeInteger The upper bound, not less than the lower bound by more than {@code 2^62}.
+     * @throws IllegalArgumentException If the lower bound is negative, the upper bound less than it, or the
+     *                                  window too long.
+     */
+    public HugePrimeSieve(HugeInteger lower, HugeInteger upper)
+    {
+        if (lower.isNegative())
+        {
+            throw new IllegalArgumentException("Negative lower bound: " + lower);
+        }
+
+        if (upper.isLessThan(lower))
+        {
+            throw new IllegalArgumentException("Upper bound less than lower bound: " + upper + " < " + lower);
+        }
+
+        long length = toLong(upper.subtract(lower));
+
+        if (length >= MAX_WINDOW)
+        {
+            throw new IllegalArgumentException("Window longer than 2^62: " + lower + " to " + upper);
+        }
+
+        long upperValue = toLong(upper);
+        long lowerValue = toLong(lower);
+        long root = Long.MAX_VALUE;
+
+        if (upperValue < MAX_WINDOW)
+        {
+            root = (long) Math.sqrt(upperValue);
+
+            for (; root * root > upperValue; root--)
+                ;
+
+            for (; (root + 1) * (root + 1) <= upperValue; root++)
+                ;
+        }
+
+        this.lower = lower;
+        this.firstOffset = lower.mod10() % 2 == 0 ? 1 : 0;
+        this.candidates = length < firstOffset ? 0 : (length - firstOffset) / 2 + 1;
+        this.isExact = root <= MAX_BASE_PRIME;
+        this.containsOne = lowerValue <= 1 && upperValue >= 1;
+        this.containsTwo = lowerValue <= 2 && upperValue >= 2;
+        this.basePrimes = oddPrimesUpTo((int) Math.min(root, MAX_BASE_PRIME));
+        this.firstIndexes = new long[basePrimes.length];
+
+        int[] limbs = HugeModulus.toLimbs(lower);
+
+        for (int index = 0; index < basePrimes.length; index++)
+        {
+            // base + 2 i = 0 (mod p), so i = -base / 2 (mod p), where base is the first odd number.
+            long prime = basePrimes[index];
+            long residue = (HugeModulus.remainder(limbs, (int) prime) + firstOffset) % prime;
+            long first = (prime - residue) % prime * ((prime + 1) / 2) % prime;
+
+            // The multiples less than the square have a smaller factor, and the prime itself is not struck out.
+            if (prime * prime - firstOffset >= lowerValue)
+            {
+                first = (prime * prime - lowerValue - firstOffset) / 2;
+            }
+
+            firstIndexes[index] = first;
+        }
+    }
+
+    // Private methods of class HugePrimeSieve.
+
+    /**
+     * This private static method returns a non-negative {@code HugeInteger} as a long, or
+     * {@code Long.MAX_VALUE} if it's greater.
+     *
+     * @param HugeInteger The number.
+     * @return The number as a long.
+     */
+    private static long toLong(HugeInteger value)
+    {
+        int[] limbs = HugeModulus.toLimbs(value);
+        long result = Long.MAX_VALUE;
+
+        if (limbs.length == 1)
+        {
+            result = limbs[0] & 0xFFFF_FFFFL;
+        }
+        else if (limbs.length == 2 && limbs[1] >= 0)
+        {
+            result = (long) limbs[1] << 32 | (limbs[0] & 0xFFFF_FFFFL);
+        }
+
+        return result;
+    }
+
+    /**
+     * This private static method returns the odd primes up to a limit with the sieve of Eratosthenes.
+     *
+     * @param int The limit.
+     * @return The odd primes in ascending order.
+     */
+    private static int[] oddPrimesUpTo(int limit)
+    {
+        boolean[] isComposite = new boolean[limit + 1];
+        int[] primes = new int[Math.max(16, limit / 2)];
+        int count = 0;
+
+        for (int n = 3; n <= limit; n += 2)
+        {
+            if (!isComposite[n])
+            {
+                primes[count++] = n;
+
+                for (long multiple = (long) n * n; multiple <= limit; multiple += 2 * n)
+                {
+                    isComposite[(int) multiple] = true;
+                }
+            }
+        }
+
+        return Arrays.copyOf(primes, count);
+    }
+
+    /**
+     * This private method sieves a segment of the window.
+     *
+     * @param long The index of the segment.
+     * @return The offsets from the lower bound of the primes of the segment, in ascending order.
+     */
+    private long[] sieve(long segment)
+    {
+        long first = segment * SEGMENT_BITS;
+        int bits = (int) Math.min(SEGMENT_BITS, candidates - first);
+        long[] isComposite = new long[(bits + 63) >>> 6];
+
+        for (int index = 0; index < basePrimes.length; index++)
+        {
+            long prime = basePrimes[index];
+            long start = Math.max(firstIndexes[index], first + Math.floorMod(firstIndexes[index] - first, prime));
+
+            for (long bit = start - first; bit < bits; bit += prime)
+            {
+                isComposite[(int) (bit >>> 6)] |= 1L << bit;
+            }
+        }
+
+        if (containsOne && first == 0)
+        {
+            isComposite[0] |= 1;
+        }
+
+        // The bits beyond the segment are set, so the survivors are the clear bits.
+        if ((bits & 63) != 0)
+        {
+            isComposite[isComposite.length - 1] |= -1L << bits;
+        }
+
+        int survivors = 0;
+
+        for (long word : isComposite)
+        {
+            survivors += Long.bitCount(~word);
+        }
+
+        long[] result = new long[survivors];
+        int count = 0;
+
+        for (int word = 0; word < isComposite.length; word++)
+        {
+            for (long clear = ~isComposite[word]; clear != 0; clear &= clear - 1)
+            {
+                long offset = firstOffset + 2 * (first + 64 * word + Long.numberOfTrailingZeros(clear));
+
+                if (isExact || lower.add(HugeInteger.valueOf(offset)).isProbablePrime(CERTAINTY))
+                {
+                    result[count++] = offset;
+                }
+            }
+        }
+
+        return count == survivors ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * This private method returns the offsets of the primes of the window.
+     *
+     * @param boolean Whether the segments are sieved in parallel.
+     * @return The offsets in ascending order.
+     */
+    private LongStream offsets(boolean isParallel)
+    {
+        LongStream segments = LongStream.range(0, (candidates + SEGMENT_BITS - 1) / SEGMENT_BITS);
+        LongStream odd = (isParallel ? segments.parallel() : segments).mapToObj(this::sieve).flatMapToLong(Arrays::stream);
+        LongStream two = containsTwo ? LongStream.of(toLong(HugeInteger.valueOf(2).subtract(lower))) : LongStream.empty();
+        return LongStream.concat(two, odd);
+    }
+
+    // Public methods of class HugePrimeSieve.
+
+    /**
+     * This public method returns the lower bound of the window.
+     *
+     * @return The lower bound.
+     */
+    public HugeInteger lower()
+    {
+        return lower;
+    }
+
+    /**
+     * This public method returns the primes of the window as offsets from its lower bound, which need no
+     * {@code HugeInteger} if the sieve is exact.
+     *
+     * @return The offsets of the primes in ascending order.
+     */
+    public LongStream offsets()
+    {
+        return offsets(false);
+    }
+
+    /**
+     * This public method returns the primes of the window as offsets from its lower bound, sieving the
+     * segments in parallel. The stream is ordered.
+     *
+     * @return The offsets of the primes in ascending order.
+     */
+    public LongStream parallelOffsets()
+    {
+        return offsets(true);
+    }
+
+    /**
+     * This public method returns the primes of the window.
+     *
+     * @return The primes in ascending order.
+     */
+    public Stream<HugeInteger> primes()
+    {
+        return offsets(false).mapToObj(offset -> lower.add(HugeInteger.valueOf(offset)));
+    }
+
+    /**
+     * This public method returns the primes of the window, sieving the segments in parallel. The stream
+     * is ordered.
+     *
+     * @return The primes in ascending order.
+     */
+    public Stream<HugeInteger> parallelPrimes()
+    {
+        return offsets(true).mapToObj(offset -> lower.add(HugeInteger.valueOf(offset)));
+    }
+}
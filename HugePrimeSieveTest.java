@@ -0,0 +1,81 @@
+/**
+ * Tests of the class HugePrimeSieve.
+ * 
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+import java.util.stream.LongStream;
+
+import org.junit.Test;
+
+public class HugePrimeSieveTest {
+
+    private static String[] expectedPrimes(String lower, String upper) {
+        return LongStream.rangeClosed(0, new BigInteger(upper).subtract(new BigInteger(lower)).longValueExact())
+            .mapToObj(offset -> new BigInteger(lower).add(BigInteger.valueOf(offset)))
+            .filter(value -> value.isProbablePrime(100)).map(BigInteger::toString).toArray(String[]::new);
+    }
+    
+    private static String[] primes(HugePrimeSieve sieve) {
+        return sieve.primes().map(HugeInteger::toString).toArray(String[]::new);
+    }
+    
+    @Test
+    public void testSmallWindows() {
+        String[][] windows = {{"0", "10000"}, {"1", "2"}, {"2", "2"}, {"3", "3"}, {"4", "4"}, {"0", "1"},
+                              {"999000", "1001000"}, {"1000000007", "1000100007"}};
+        
+        for (String[] window : windows) {
+            HugePrimeSieve sieve = new HugePrimeSieve(new HugeInteger(window[0]), new HugeInteger(window[1]));
+            assertArrayEquals(window[0] + " to " + window[1], expectedPrimes(window[0], window[1]), primes(sieve));
+        }
+    }
+    
+    @Test
+    public void testExactLargeWindow() {
+        // The square root of the upper bound is less than 2^20, so the sieve needs no primality test.
+        String lower = "1099510000000";
+        String upper = "1099512000000";
+        HugePrimeSieve sieve = new HugePrimeSieve(new HugeInteger(lower), new HugeInteger(upper));
+        assertArrayEquals(expectedPrimes(lower, upper), primes(sieve));
+    }
+    
+    @Test
+    public void testHugeWindow() {
+        String lower = "1000000000000000000000000000000";
+        String upper = "1000000000000000000000000005000";
+        HugePrimeSieve sieve = new HugePrimeSieve(new HugeInteger(lower), new HugeInteger(upper));
+        assertArrayEquals(expectedPrimes(lower, upper), primes(sieve));
+        assertArrayEquals(sieve.offsets().toArray(), sieve.parallelOffsets().toArray());
+    }
+    
+    @Test
+    public void testParallelOffsets() {
+        HugePrimeSieve sieve = new HugePrimeSieve(new HugeInteger("1"), new HugeInteger("3000000"));
+        long[] offsets = sieve.offsets().toArray();
+        assertEquals(216816, offsets.length);
+        assertEquals(1, offsets[0]);
+        assertArrayEquals(offsets, sieve.parallelOffsets().toArray());
+        assertArrayEquals(primes(sieve), sieve.parallelPrimes().map(HugeInteger::toString).toArray(String[]::new));
+    }
+    
+    @Test(expected=IllegalArgumentException.class)
+    public void testNegativeLowerBound() {
+        new HugePrimeSieve(HugeInteger.MINUS_ONE, HugeInteger.ONE);
+    }
+    
+    @Test(expected=IllegalArgumentException.class)
+    public void testInvertedBounds() {
+        new HugePrimeSieve(HugeInteger.ONE, HugeInteger.ZERO);
+    }
+    
+    @Test(expected=IllegalArgumentException.class)
+    public void testWindowTooLong() {
+        new HugePrimeSieve(HugeInteger.ZERO, HugeInteger.MAX_VALUE);
+    }
+}
@@ -0,0 +1,461 @@
+/**
+ * The primality tests of {@code HugeInteger}.
+ *
+ * A number is first divided by the primes less than 1000, which decides every number less than a
+ * million and rejects most composites. The others are submitted to the Baillie-PSW test: a strong
+ * probable prime test to base 2 (Miller-Rabin) followed by a strong Lucas probable prime test with
+ * Selfridge's parameters. No composite passes both tests below {@code 2^64}, where the result is
+ * exact, and no composite is known to pass them at all. Above {@code 2^64}, a certainty greater than 64
+ * adds Miller-Rabin tests to random bases, each of which a composite passes with a probability less
+ * than 1/4. Every modular product is computed in Montgomery form by {@code HugeModulus}.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+final class HugePrimes
+{
+    /**
+     * The primes less than 1000.
+     */
+    static final int[] SMALL_PRIMES;
+
+    /**
+     * The square of 1000: a number less than it with no factor in {@code SMALL_PRIMES} is prime.
+     */
+    private static final int TRIAL_DIVISION_LIMIT = 1_000_000;
+
+    /**
+     * The certainty of the Baillie-PSW test, beyond which random bases are tested.
+     */
+    private static final int BAILLIE_PSW_CERTAINTY = 64;
+
+    /**
+     * The certainty of {@code nextProbablePrime}, that of {@code BigInteger}.
+     */
+    private static final int DEFAULT_CERTAINTY = 100;
+
+    /**
+     * The number of parameters of the Lucas test tried before checking whether the number is a square.
+     */
+    private static final int SQUARE_CHECK_ATTEMPTS = 10;
+
+    static
+    {
+        boolean[] isComposite = new boolean[1000];
+        int[] primes = new int[1000];
+        int count = 0;
+
+        for (int n = 2; n < isComposite.length; n++)
+        {
+            if (!isComposite[n])
+            {
+                primes[count++] = n;
+
+                for (int multiple = n * n; multiple < isComposite.length; multiple += n)
+                {
+                    isComposite[multiple] = true;
+                }
+            }
+        }
+
+        SMALL_PRIMES = Arrays.copyOf(primes, count);
+    }
+
+    /**
+     * This private constructor prevents the instantiation of the class.
+     */
+    private HugePrimes()
+    {
+    }
+
+    // Private methods of class HugePrimes.
+
+    /**
+     * This private static method divides a number by the small primes.
+     *
+     * @param int[] The limbs of the number, greater than 1.
+     * @return 1 if the number is prime, -1 if it's composite and 0 if it's undecided.
+     */
+    private static int trialDivision(int[] value)
+    {
+        boolean isSmall = value.length == 1 && Integer.compareUnsigned(value[0], TRIAL_DIVISION_LIMIT) < 0;
+        int result = isSmall ? 1 : 0;
+
+        for (int index = 0; index < SMALL_PRIMES.length && result != -1; index++)
+        {
+            int prime = SMALL_PRIMES[index];
+
+            if (isSmall && prime * prime > value[0])
+            {
+                break;
+            }
+
+            if (HugeModulus.remainder(value, prime) == 0 && !(value.length == 1 && value[0] == prime))
+            {
+                result = -1;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * This private static method shifts a number in limbs to the right.
+     *
+     * @param int[] The limbs of the number.
+     * @param int The number of bits, less than 32 times the number of limbs.
+     * @return A new array with the limbs of the shifted number.
+     */
+    private static int[] shiftRight(int[] value, int bits)
+    {
+        int[] result = new int[value.length];
+        int limbs = bits >>> 5;
+        int shift = bits & 31;
+
+        for (int n = 0; n + limbs < value.length; n++)
+        {
+            int low = value[n + limbs] >>> shift;
+            int high = shift == 0 || n + limbs + 1 >= value.length ? 0 : value[n + limbs + 1] << (32 - shift);
+            result[n] = low | high;
+        }
+
+        return result;
+    }
+
+    /**
+     * This private static method returns the number of trailing zero bits of a non-zero number in limbs.
+     *
+     * @param int[] The limbs of the number.
+     * @return The number of trailing zero bits.
+     */
+    private static int trailingZeros(int[] value)
+    {
+        int n = 0;
+
+        for (; value[n] == 0; n++)
+            ;
+
+        return 32 * n + Integer.numberOfTrailingZeros(value[n]);
+    }
+
+    /**
+     * This private static method returns the Jacobi symbol of two small numbers.
+     *
+     * @param long The numerator, not negative.
+     * @param long The denominator, odd and positive.
+     * @return The Jacobi symbol: -1, 0 or 1.
+     */
+    private static int jacobi(long numerator, long denominator)
+    {
+        int result = 1;
+        numerator %= denominator;
+
+        while (numerator != 0)
+        {
+            for (; numerator % 2 == 0; numerator /= 2)
+            {
+                long residue = denominator % 8;
+
+                if (residue == 3 || residue == 5)
+                {
+                    result = -result;
+                }
+            }
+
+            long swap = numerator;
+            numerator = denominator;
+            denominator = swap;
+
+            if (numerator % 4 == 3 && denominator % 4 == 3)
+            {
+                result = -result;
+            }
+
+            numerator %= denominator;
+        }
+
+        return denominator == 1 ? result : 0;
+    }
+
+    /**
+     * This private static method returns the Jacobi symbol of a small number over a number in limbs.
+     *
+     * @param long The numerator. It may be negative.
+     * @param int[] The limbs of the denominator, odd and positive.
+     * @return The Jacobi symbol: -1, 0 or 1.
+     */
+    private static int jacobi(long numerator, int[] denominator)
+    {
+        int result = 1;
+        int residue = denominator[0] & 7;
+
+        if (numerator < 0)
+        {
+            numerator = -numerator;
+            result = (residue & 3) == 3 ? -result : result;
+        }
+
+        for (; numerator % 2 == 0; numerator /= 2)
+        {
+            result = residue == 3 || residue == 5 ? -result : result;
+        }
+
+        // Quadratic reciprocity turns the symbol into one of two small numbers.
+        if (numerator % 4 == 3 && (residue & 3) == 3)
+        {
+            result = -result;
+        }
+
+        return result * jacobi(HugeModulus.remainder(denominator, (int) numerator), numerator);
+    }
+
+    /**
+     * This private static method returns whether a positive {@code HugeInteger} is a perfect square, with
+     * Newton's method started from the square root of its double value.
+     *
+     * @param HugeInteger The number.
+     * @return {@code true} if the number is the square of an integer.
+     */
+    private static boolean isPerfectSquare(HugeInteger value)
+    {
+        HugeInteger two = HugeInteger.valueOf(2);
+        HugeInteger root = new HugeInteger(String.format(Locale.ROOT, "%.0f", Math.sqrt(Double.parseDouble(value.toString()))));
+
+        for (int n = 0; n < 2 && !root.isZero(); n++)
+        {
+            root = root.add(value.divide(root)).divide(two);
+        }
+
+        boolean result = false;
+
+        for (int offset = -1; offset <= 1 && !result; offset++)
+        {
+            HugeInteger candidate = root.add(HugeInteger.valueOf(offset));
+            HugeInteger square = candidate.tryMultiply(candidate);
+            result = square != null && square.isEqualTo(value);
+        }
+
+        return result;
+    }
+
+    /**
+     * This private static method tests whether a number is a strong probable prime to a base.
+     *
+     * @param HugeModulus The arithmetic modulo the number, odd and greater than the base.
+     * @param long The base.
+     * @return {@code true} if the number is a strong probable prime to the base.
+     */
+    private static boolean isStrongProbablePrime(HugeModulus modulus, long base)
+    {
+        int[] oneLess = modulus.modulus();
+        oneLess[0]--;
+        int twos = trailingZeros(oneLess);
+        int[] x = modulus.power(modulus.toMontgomery(base), shiftRight(oneLess, twos));
+        int[] one = modulus.one();
+        int[] minusOne = modulus.toMontgomery(-1);
+        boolean result = Arrays.equals(x, one) || Arrays.equals(x, minusOne);
+
+        for (int n = 1; n < twos && !result && !Arrays.equals(x, one); n++)
+        {
+            modulus.multiply(x, x, x);
+            result = Arrays.equals(x, minusOne);
+        }
+
+        return result;
+    }
+
+    /**
+     * This private static method tests whether a number is a strong Lucas probable prime, with the
+     * parameters of Selfridge's method A: the first {@code D} of 5, -7, 9, -11, ... whose Jacobi symbol
+     * over the number is -1, {@code P = 1} and {@code Q = (1 - D) / 4}.
+     *
+     * @param HugeModulus The arithmetic modulo the number, odd and greater than 1000.
+     * @param HugeInteger The number.
+     * @return {@code true} if the number is a strong Lucas probable prime.
+     */
+    private static boolean isStrongLucasProbablePrime(HugeModulus modulus, HugeInteger value)
+    {
+        int[] limbs = modulus.modulus();
+        long d = 5;
+        int symbol = jacobi(d, limbs);
+        boolean isComposite = false;
+
+        for (int attempt = 1; symbol != -1 && !isComposite; attempt++)
+        {
+            // A symbol of 0 means that |D|, less than the number, shares a factor with it.
+            isComposite = symbol == 0 || (attempt == SQUARE_CHECK_ATTEMPTS && isPerfectSquare(value));
+            d = d > 0 ? -d - 2 : -d + 2;
+            symbol = jacobi(d, limbs);
+        }
+
+        boolean result = false;
+
+        if (!isComposite)
+        {
+            // n + 1 = k 2^s, and U(k), V(k) and Q^k are computed from the most significant bit of k.
+            int[] oneMore = Arrays.copyOf(limbs, limbs.length + 1);
+
+            for (int n = 0; ++oneMore[n] == 0; n++)
+                ;
+
+            int twos = trailingZeros(oneMore);
+            int[] k = shiftRight(oneMore, twos);
+            int[] dResidue = modulus.toMontgomery(d);
+            int[] q = modulus.toMontgomery((1 - d) / 4);
+            int[] u = modulus.one();
+            int[] v = modulus.one();
+            int[] qPower = q.clone();
+            int[] product = new int[limbs.length];
+            int bit = 32 * k.length - 1;
+
+            for (; (k[bit >>> 5] >>> (bit & 31) & 1) == 0; bit--)
+                ;
+
+            for (bit--; bit >= 0; bit--)
+            {
+                // U(2k) = U(k) V(k), V(2k) = V(k)^2 - 2 Q^k
+                modulus.multiply(u, v, u);
+                modulus.multiply(v, v, v);
+                modulus.subtract(v, qPower, v);
+                modulus.subtract(v, qPower, v);
+                modulus.multiply(qPower, qPower, qPower);
+
+                if ((k[bit >>> 5] >>> (bit & 31) & 1) != 0)
+                {
+                    // U(k + 1) = (U(k) + V(k)) / 2, V(k + 1) = (D U(k) + V(k)) / 2
+                    modulus.multiply(dResidue, u, product);
+                    modulus.add(u, v, u);
+                    modulus.half(u, u);
+                    modulus.add(product, v, v);
+                    modulus.half(v, v);
+                    modulus.multiply(qPower, q, qPower);
+                }
+            }
+
+            result = HugeModulus.isZero(u) || HugeModulus.isZero(v);
+
+            // V(2k) = V(k)^2 - 2 Q^k, for the other powers of two of n + 1.
+            for (int n = 1; n < twos && !result; n++)
+            {
+                modulus.multiply(v, v, v);
+                modulus.subtract(v, qPower, v);
+                modulus.subtract(v, qPower, v);
+                modulus.multiply(qPower, qPower, qPower);
+                result = HugeModulus.isZero(v);
+            }
+        }
+
+        return result;
+    }
+
+    // Static methods of class HugePrimes.
+
+    /**
+     * This static method tests whether the absolute value of a {@code HugeInteger} is probably prime.
+     *
+     * @param HugeInteger The number.
+     * @param int The certainty: a composite passes the test with a probability less than {@code 2^-certainty}.
+     * @return {@code true} if the number is probably prime, always if the certainty is not positive.
+     */
+    static boolean isProbablePrime(HugeInteger value, int certainty)
+    {
+        int[] limbs = HugeModulus.toLimbs(value);
+        boolean result;
+
+        if (certainty <= 0)
+        {
+            result = true;
+        }
+        else if (limbs.length == 1 && Integer.compareUnsigned(limbs[0], 2) < 0)
+        {
+            result = false;
+        }
+        else
+        {
+            int trialDivision = trialDivision(limbs);
+
+            if (trialDivision != 0)
+            {
+                result = trialDivision == 1;
+            }
+            else
+            {
+                HugeModulus modulus = new HugeModulus(limbs);
+                HugeInteger magnitude = HugeInteger.abs(value);
+                result = isStrongProbablePrime(modulus, 2) && isStrongLucasProbablePrime(modulus, magnitude);
+
+                if (limbs.length > 2)
+                {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+
+                    for (int round = 0; 2 * round < certainty - BAILLIE_PSW_CERTAINTY && result; round++)
+                    {
+                        result = isStrongProbablePrime(modulus, random.nextLong(3, Long.MAX_VALUE));
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * This static method returns the least probable prime greater than a {@code HugeInteger}. The
+     * candidates are sieved by the small primes, whose residues are computed once, before the test.
+     *
+     * @param HugeInteger The number, not negative.
+     * @return The least number greater than the input that passes {@code isProbablePrime(100)}.
+     * @throws ArithmeticException If the number is negative or if the prime exceeds 40 digits.
+     */
+    static HugeInteger nextProbablePrime(HugeInteger value)
+    {
+        if (value.isNegative())
+        {
+            throw new ArithmeticException("Negative HugeInteger: " + value);
+        }
+
+        HugeInteger result = null;
+        HugeInteger two = HugeInteger.valueOf(2);
+
+        if (value.isLessThan(two))
+        {
+            result = two;
+        }
+        else
+        {
+            HugeInteger start = value.add(HugeInteger.valueOf(value.mod10() % 2 == 0 ? 1 : 2), OverflowPolicy.THROW);
+            int[] limbs = HugeModulus.toLimbs(start);
+            boolean isLarge = limbs.length > 1 || Integer.compareUnsigned(limbs[0], SMALL_PRIMES[SMALL_PRIMES.length - 1]) > 0;
+            int[] residues = new int[SMALL_PRIMES.length];
+
+            for (int index = 1; index < SMALL_PRIMES.length; index++)
+            {
+                residues[index] = HugeModulus.remainder(limbs, SMALL_PRIMES[index]);
+            }
+
+            for (long offset = 0; result == null; offset += 2)
+            {
+                boolean isCandidate = true;
+
+                // The sieve would reject the small primes themselves, which are tested directly.
+                for (int index = 1; index < SMALL_PRIMES.length && isCandidate && isLarge; index++)
+                {
+                    isCandidate = (residues[index] + offset) % SMALL_PRIMES[index] != 0;
+                }
+
+                if (isCandidate)
+                {
+                    HugeInteger candidate = start.add(HugeInteger.valueOf(offset), OverflowPolicy.THROW);
+                    result = isProbablePrime(candidate, DEFAULT_CERTAINTY) ? candidate : null;
+                }
+            }
+        }
+
+        return result;
+    }
+}
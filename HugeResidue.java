@@ -0,0 +1,461 @@
+/**
+ * An immutable integer represented by its residues modulo five fixed primes of 30 bits, a residue
+ * number system.
+ *
+ * The product {@code M} of the primes has 150 bits, and a {@code HugeResidue} represents the
+ * integers from {@code -M/2} to {@code M/2}, which include every {@code HugeInteger} with about
+ * 5 digits to spare. Additions, subtractions and multiplications work on every residue
+ * independently, with no carries between them, so they take a constant time whatever the value.
+ * Comparisons and decimal output need the value itself, which {@code toHugeInteger} recovers with
+ * the Chinese remainder theorem in the form of Garner's algorithm.
+ *
+ * The arithmetic wraps modulo {@code M}: a result outside the range of {@code M} is silently taken
+ * for another one. {@code toHugeInteger} detects the results that exceed 40 digits but are still in
+ * the range of {@code M}, so the intermediate values of a computation may exceed 40 digits, but not
+ * 45. {@code HugeResidueArray} stores many residues in a layout suited to bulk arithmetic.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.util.Arrays;
+
+public final class HugeResidue
+{
+    /**
+     * The primes of the residues, the greatest five primes less than {@code 2^30}. The sum of two
+     * residues fits in an int and their product in a long.
+     */
+    static final int[] PRIMES = {1_073_741_789, 1_073_741_783, 1_073_741_741, 1_073_741_723, 1_073_741_719};
+
+    /**
+     * The number of residues of a value.
+     */
+    static final int LANES = PRIMES.length;
+
+    /**
+     * The base of the limbs used to convert between residues and decimal digits, and its number of digits.
+     */
+    private static final long LIMB_BASE = 1_000_000_000L;
+    private static final int LIMB_DIGITS = 9;
+
+    /**
+     * The number of limbs of the product of the primes, which has 46 digits.
+     */
+    private static final int LIMBS = 6;
+
+    /**
+     * The values of {@code PRIMES[j]^-1} modulo {@code PRIMES[i]}, for {@code j < i}.
+     */
+    private static final long[][] INVERSES = new long[LANES][LANES];
+
+    /**
+     * The limbs of the product of the primes and of its half, rounded up.
+     */
+    private static final int[] MODULUS_LIMBS = new int[LIMBS];
+    private static final int[] HALF_MODULUS_LIMBS;
+
+    static
+    {
+        for (int i = 0; i < LANES; i++)
+        {
+            for (int j = 0; j < i; j++)
+            {
+                INVERSES[i][j] = modPow(PRIMES[j] % PRIMES[i], PRIMES[i] - 2, PRIMES[i]);
+            }
+        }
+
+        MODULUS_LIMBS[0] = 1;
+
+        for (int prime : PRIMES)
+        {
+            multiplyAddLimbs(MODULUS_LIMBS, prime, 0);
+        }
+
+        // The product of odd primes is odd, so its half rounded up is (M + 1) / 2.
+        HALF_MODULUS_LIMBS = MODULUS_LIMBS.clone();
+        addLimbs(HALF_MODULUS_LIMBS, 1);
+        long remainder = 0;
+
+        for (int n = LIMBS - 1; n >= 0; n--)
+        {
+            long current = remainder * LIMB_BASE + HALF_MODULUS_LIMBS[n];
+            HALF_MODULUS_LIMBS[n] = (int) (current / 2);
+            remainder = current % 2;
+        }
+    }
+
+    public static final HugeResidue ZERO = new HugeResidue(new int[LANES]);
+    public static final HugeResidue ONE = toResidue(HugeInteger.ONE);
+
+    /**
+     * The residue modulo every prime, from 0 to the prime minus one.
+     */
+    private final int[] residues;
+
+    // Constructors for class HugeResidue.
+
+    /**
+     * This private constructor initializes a {@code HugeResidue} with the input residues, which it keeps.
+     *
+     * @param int[] The residue modulo every prime.
+     */
+    private HugeResidue(int[] residues)
+    {
+        this.residues = residues;
+    }
+
+    // Private methods of class HugeResidue.
+
+    /**
+     * This private static method returns a power modulo a number.
+     *
+     * @param long The base, less than the modulus.
+     * @param long The exponent.
+     * @param long The modulus, less than {@code 2^31}.
+     * @return The power.
+     */
+    private static long modPow(long base, long exponent, long modulus)
+    {
+        long result = 1;
+
+        for (; exponent > 0; exponent >>= 1)
+        {
+            if ((exponent & 1) != 0)
+            {
+                result = result * base % modulus;
+            }
+
+            base = base * base % modulus;
+        }
+
+        return result;
+    }
+
+    /**
+     * This private static method multiplies limbs by a factor and adds a number to the product.
+     *
+     * @param int[] The limbs in little-endian order, which receive the result.
+     * @param long The factor, less than {@code 2^31}.
+     * @param long The addend, less than {@code 2^31}.
+     */
+    private static void multiplyAddLimbs(int[] limbs, long factor, long addend)
+    {
+        long carry = addend;
+
+        for (int n = 0; n < limbs.length; n++)
+        {
+            long current = limbs[n] * factor + carry;
+            carry = current / LIMB_BASE;
+            limbs[n] = (int) (current - carry * LIMB_BASE);
+        }
+    }
+
+    /**
+     * This private static method adds a small number to limbs.
+     *
+     * @param int[] The limbs in little-endian order, which receive the result.
+     * @param long The addend, less than the base of the limbs.
+     */
+    private static void addLimbs(int[] limbs, long addend)
+    {
+        for (int n = 0; n < limbs.length && addend != 0; n++)
+        {
+            long current = limbs[n] + addend;
+            addend = current / LIMB_BASE;
+            limbs[n] = (int) (current - addend * LIMB_BASE);
+        }
+    }
+
+    /**
+     * This private static method compares two numbers in limbs.
+     *
+     * @param int[] The limbs of the first number.
+     * @param int[] The limbs of the second number, as many as those of the first.
+     * @return -1, 0 or 1 as the first number is less than, equal to or greater than the second.
+     */
+    private static int compareLimbs(int[] first, int[] second)
+    {
+        int result = 0;
+
+        for (int n = first.length - 1; n >= 0 && result == 0; n--)
+        {
+            result = Integer.compare(first[n], second[n]);
+        }
+
+        return result;
+    }
+
+    // Static methods of class HugeResidue.
+
+    /**
+     * This package-private static method stores the residues of a {@code HugeInteger} in an array.
+     *
+     * @param HugeInteger The value.
+     * @param int[] The array that receives the residue modulo every prime.
+     */
+    static void residues(HugeInteger value, int[] target)
+    {
+        int[] digits = value.digits;
+        Arrays.fill(target, 0);
+
+        // Horner's rule on chunks of nine digits, from the most significant one.
+        for (int end = digits.length; end > 0; end -= LIMB_DIGITS)
+        {
+            int start = Math.max(0, end - LIMB_DIGITS);
+            long chunk = 0;
+            long scale = 1;
+
+            for (int n = end - 1; n >= start; n--)
+            {
+                chunk = 10 * chunk + digits[n];
+                scale *= 10;
+            }
+
+            for (int lane = 0; lane < LANES; lane++)
+            {
+                target[lane] = (int) ((target[lane] * scale + chunk) % PRIMES[lane]);
+            }
+        }
+
+        if (value.isNegative())
+        {
+            for (int lane = 0; lane < LANES; lane++)
+            {
+                target[lane] = target[lane] == 0 ? 0 : PRIMES[lane] - target[lane];
+            }
+        }
+    }
+
+    /**
+     * This package-private static method recovers the value of residues with Garner's algorithm.
+     *
+     * @param int[] The residue modulo every prime.
+     * @param OverflowPolicy The policy to apply if the value exceeds 40 digits, or {@code null} to return {@code null}.
+     * @return The value, from {@code -M/2} to {@code M/2}.
+     * @throws ArithmeticException If the value exceeds 40 digits and the policy is {@code THROW}.
+     */
+    static HugeInteger fromResidues(int[] residues, OverflowPolicy policy)
+    {
+        // The mixed-radix digits: the value is v0 + p0 (v1 + p1 (v2 + ...)), with every vi less than pi.
+        long[] mixed = new long[LANES];
+
+        for (int i = 0; i < LANES; i++)
+        {
+            long digit = residues[i];
+
+            for (int j = 0; j < i; j++)
+            {
+                digit = (digit - mixed[j] % PRIMES[i] + PRIMES[i]) % PRIMES[i] * INVERSES[i][j] % PRIMES[i];
+            }
+
+            mixed[i] = digit;
+        }
+
+        int[] limbs = new int[LIMBS];
+
+        for (int i = LANES - 1; i >= 0; i--)
+        {
+            multiplyAddLimbs(limbs, PRIMES[i], mixed[i]);
+        }
+
+        int signum = 1;
+
+        if (compareLimbs(limbs, HALF_MODULUS_LIMBS) >= 0)
+        {
+            // The value is M minus the absolute value of a negative number.
+            long borrow = 0;
+
+            for (int n = 0; n < LIMBS; n++)
+            {
+                long difference = MODULUS_LIMBS[n] - limbs[n] - borrow;
+                borrow = difference < 0 ? 1 : 0;
+                limbs[n] = (int) (difference + borrow * LIMB_BASE);
+            }
+
+            signum = -1;
+        }
+
+        int[] digits = new int[LIMBS * LIMB_DIGITS];
+
+        for (int n = 0; n < digits.length; n++)
+        {
+            digits[n] = limbs[n / LIMB_DIGITS] % 10;
+            limbs[n / LIMB_DIGITS] /= 10;
+        }
+
+        return HugeInteger.valueOf(signum, digits, policy);
+    }
+
+    /**
+     * This package-private static method creates a {@code HugeResidue} from residues computed by a
+     * companion class. The array is kept by the new {@code HugeResidue}, so it must not be modified afterwards.
+     *
+     * @param int[] The residue modulo every prime, reduced.
+     * @return The {@code HugeResidue} with the input residues.
+     */
+    static HugeResidue valueOf(int[] residues)
+    {
+        return new HugeResidue(residues);
+    }
+
+    /**
+     * This static method returns the {@code HugeResidue} of a {@code HugeInteger}.
+     *
+     * @param HugeInteger The value.
+     * @return The {@code HugeResidue} with the same value.
+     */
+    public static HugeResidue toResidue(HugeInteger value)
+    {
+        int[] residues = new int[LANES];
+        residues(value, residues);
+        return new HugeResidue(residues);
+    }
+
+    // Public methods of class HugeResidue.
+
+    /**
+     * This public method returns the value of the {@code HugeResidue}, applying the overflow policy of
+     * the current context if it exceeds 40 digits.
+     *
+     * @return The value as a {@code HugeInteger}.
+     * @throws ArithmeticException If the value exceeds 40 digits and the policy is {@code THROW}.
+     */
+    public HugeInteger toHugeInteger()
+    {
+        return toHugeInteger(OverflowPolicy.current());
+    }
+
+    /**
+     * This public method returns the value of the {@code HugeResidue}, applying the input overflow
+     * policy if it exceeds 40 digits.
+     *
+     * @param OverflowPolicy The policy to apply if the value exceeds 40 digits.
+     * @return The value as a {@code HugeInteger}.
+     * @throws ArithmeticException If the value exceeds 40 digits and the policy is {@code THROW}.
+     * @throws NullPointerException If the policy is {@code null}.
+     */
+    public HugeInteger toHugeInteger(OverflowPolicy policy)
+    {
+        if (policy == null)
+        {
+            throw new NullPointerException("Overflow policy is null");
+        }
+
+        return fromResidues(residues, policy);
+    }
+
+    /**
+     * This public method returns the residue of the value modulo one of the primes.
+     *
+     * @param int The index of the prime, from 0 to 4.
+     * @return The residue, from 0 to the prime minus one.
+     * @throws ArrayIndexOutOfBoundsException If the index is not the one of a prime.
+     */
+    public int residue(int lane)
+    {
+        return residues[lane];
+    }
+
+    /**
+     * This public method returns whether the value is zero.
+     *
+     * @return {@code true} if every residue is zero.
+     */
+    public boolean isZero()
+    {
+        boolean result = true;
+
+        for (int lane = 0; lane < LANES && result; lane++)
+        {
+            result = residues[lane] == 0;
+        }
+
+        return result;
+    }
+
+    /**
+     * This public method returns whether the value is equal to the value of another {@code HugeResidue}.
+     * Unlike the other comparisons, equality doesn't need the value itself.
+     *
+     * @param HugeResidue The compared {@code HugeResidue}.
+     * @return {@code true} if the values are equal.
+     */
+    public boolean isEqualTo(HugeResidue compared)
+    {
+        return Arrays.equals(residues, compared.residues);
+    }
+
+    /**
+     * This public method returns the sum of the value and the value of another {@code HugeResidue}.
+     *
+     * @param HugeResidue The addend.
+     * @return The sum, modulo the product of the primes.
+     */
+    public HugeResidue add(HugeResidue addend)
+    {
+        int[] result = new int[LANES];
+
+        for (int lane = 0; lane < LANES; lane++)
+        {
+            int sum = residues[lane] + addend.residues[lane];
+            result[lane] = sum >= PRIMES[lane] ? sum - PRIMES[lane] : sum;
+        }
+
+        return new HugeResidue(result);
+    }
+
+    /**
+     * This public method returns the difference of the value and the value of another {@code HugeResidue}.
+     *
+     * @param HugeResidue The subtrahend.
+     * @return The difference, modulo the product of the primes.
+     */
+    public HugeResidue subtract(HugeResidue subtrahend)
+    {
+        int[] result = new int[LANES];
+
+        for (int lane = 0; lane < LANES; lane++)
+        {
+            int difference = residues[lane] - subtrahend.residues[lane];
+            result[lane] = difference < 0 ? difference + PRIMES[lane] : difference;
+        }
+
+        return new HugeResidue(result);
+    }
+
+    /**
+     * This public method returns the product of the value and the value of another {@code HugeResidue}.
+     *
+     * @param HugeResidue The multiplicand.
+     * @return The product, modulo the product of the primes.
+     */
+    public HugeResidue multiply(HugeResidue multiplicand)
+    {
+        int[] result = new int[LANES];
+
+        for (int lane = 0; lane < LANES; lane++)
+        {
+            result[lane] = (int) ((long) residues[lane] * multiplicand.residues[lane] % PRIMES[lane]);
+        }
+
+        return new HugeResidue(result);
+    }
+
+    /**
+     * This public method returns the opposite of the value.
+     *
+     * @return The opposite.
+     */
+    public HugeResidue negate()
+    {
+        int[] result = new int[LANES];
+
+        for (int lane = 0; lane < LANES; lane++)
+        {
+            result[lane] = residues[lane] == 0 ? 0 : PRIMES[lane] - residues[lane];
+        }
+
+        return new HugeResidue(result);
+    }
+}
@@ -0,0 +1,349 @@
+/**
+ * A fixed-length array of {@code HugeResidues} for bulk arithmetic.
+ *
+ * The residues are stored as a structure of arrays: one primitive array per prime, holding the
+ * residue of every element modulo that prime. The element-wise operations run lane by lane over
+ * contiguous ints, with the modular reduction of additions and subtractions written without branches,
+ * so the JIT can vectorize them, and no {@code HugeResidue} is created. The lanes are independent, so
+ * the parallel operations split the work by lane and by block of elements in the common
+ * {@code ForkJoinPool}. An array is not thread-safe.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.util.stream.IntStream;
+
+public class HugeResidueArray
+{
+    /**
+     * The number of elements of a block of the parallel operations.
+     */
+    private static final int BLOCK_SIZE = 1 << 14;
+
+    private static final int ADD = 0;
+    private static final int SUBTRACT = 1;
+    private static final int MULTIPLY = 2;
+
+    /**
+     * The residues of the elements: {@code lanes[lane][index]} is the residue of element {@code index}
+     * modulo {@code HugeResidue.PRIMES[lane]}.
+     */
+    private final int[][] lanes;
+    private final int length;
+
+    // Constructors for class HugeResidueArray.
+
+    /**
+     * This constructor initializes an array of zeros.
+     *
+     * @param int The number of elements.
+     * @throws NegativeArraySizeException If the length is negative.
+     */
+    public HugeResidueArray(int length)
+    {
+        this.lanes = new int[HugeResidue.LANES][length];
+        this.length = length;
+    }
+
+    /**
+     * This constructor initializes an array with the residues of the input {@code HugeIntegers}.
+     *
+     * @param HugeInteger[] The values of the elements.
+     */
+    public HugeResidueArray(HugeInteger[] values)
+    {
+        this(values.length);
+
+        for (int index = 0; index < length; index++)
+        {
+            set(index, values[index]);
+        }
+    }
+
+    // Private methods of class HugeResidueArray.
+
+    /**
+     * This private method checks that another array has the same length.
+     *
+     * @param HugeResidueArray The other array.
+     * @throws IllegalArgumentException If the lengths are different.
+     */
+    private void checkLength(HugeResidueArray other)
+    {
+        if (other.length != length)
+        {
+            throw new IllegalArgumentException("Different lengths: " + length + " and " + other.length);
+        }
+    }
+
+    /**
+     * This private static method applies an operation to a range of a lane.
+     *
+     * @param int The operation.
+     * @param int[] The residues of the first operands, which receive the results.
+     * @param int[] The residues of the second operands.
+     * @param int The prime of the lane.
+     * @param int The index of the first element.
+     * @param int The index after the last element.
+     */
+    private static void apply(int operation, int[] target, int[] operand, int prime, int from, int to)
+    {
+        if (operation == ADD)
+        {
+            for (int index = from; index < to; index++)
+            {
+                // The sum is reduced with a mask: (prime - 1 - sum) >> 31 is -1 if the sum reaches the prime.
+                int sum = target[index] + operand[index];
+                target[index] = sum - (prime & ((prime - 1 - sum) >> 31));
+            }
+        }
+        else if (operation == SUBTRACT)
+        {
+            for (int index = from; index < to; index++)
+            {
+                int difference = target[index] - operand[index];
+                target[index] = difference + (prime & (difference >> 31));
+            }
+        }
+        else
+        {
+            for (int index = from; index < to; index++)
+            {
+                target[index] = (int) ((long) target[index] * operand[index] % prime);
+            }
+        }
+    }
+
+    /**
+     * This private method applies an operation element by element with another array.
+     *
+     * @param int The operation.
+     * @param HugeResidueArray The second operands.
+     * @param boolean Whether the lanes and blocks are processed in parallel.
+     */
+    private void apply(int operation, HugeResidueArray other, boolean isParallel)
+    {
+        checkLength(other);
+        int blocks = isParallel ? (length + BLOCK_SIZE - 1) / BLOCK_SIZE : 1;
+        IntStream tasks = IntStream.range(0, HugeResidue.LANES * blocks);
+
+        (isParallel ? tasks.parallel() : tasks).forEach(task ->
+        {
+            int lane = task / blocks;
+            int block = task % blocks;
+            int from = isParallel ? block * BLOCK_SIZE : 0;
+            int to = isParallel ? Math.min(length, from + BLOCK_SIZE) : length;
+            apply(operation, lanes[lane], other.lanes[lane], HugeResidue.PRIMES[lane], from, to);
+        });
+    }
+
+    /**
+     * This private method returns the sum of the elements.
+     *
+     * @param boolean Whether the lanes and blocks are summed in parallel.
+     * @return The sum, modulo the product of the primes.
+     */
+    private HugeResidue sum(boolean isParallel)
+    {
+        int blocks = isParallel ? (length + BLOCK_SIZE - 1) / BLOCK_SIZE : 1;
+        long[] partialSums = new long[HugeResidue.LANES * blocks];
+        IntStream tasks = IntStream.range(0, partialSums.length);
+
+        (isParallel ? tasks.parallel() : tasks).forEach(task ->
+        {
+            int[] lane = lanes[task / blocks];
+            int from = isParallel ? task % blocks * BLOCK_SIZE : 0;
+            int to = isParallel ? Math.min(length, from + BLOCK_SIZE) : length;
+            long sum = 0;
+
+            for (int index = from; index < to; index++)
+            {
+                sum += lane[index];
+            }
+
+            partialSums[task] = sum;
+        });
+
+        int[] residues = new int[HugeResidue.LANES];
+
+        for (int lane = 0; lane < HugeResidue.LANES; lane++)
+        {
+            // A long holds the sum of 2^33 residues of 30 bits, more than the length of an array.
+            long sum = 0;
+
+            for (int block = 0; block < blocks; block++)
+            {
+                sum += partialSums[lane * blocks + block];
+            }
+
+            residues[lane] = (int) (sum % HugeResidue.PRIMES[lane]);
+        }
+
+        return HugeResidue.valueOf(residues);
+    }
+
+    // Public methods of class HugeResidueArray.
+
+    /**
+     * This public method returns the number of elements.
+     *
+     * @return The length of the array.
+     */
+    public int length()
+    {
+        return length;
+    }
+
+    /**
+     * This public method sets an element to the residues of a {@code HugeInteger}.
+     *
+     * @param int The index of the element.
+     * @param HugeInteger The value.
+     * @throws ArrayIndexOutOfBoundsException If the index is out of the array.
+     */
+    public void set(int index, HugeInteger value)
+    {
+        int[] residues = new int[HugeResidue.LANES];
+        HugeResidue.residues(value, residues);
+
+        for (int lane = 0; lane < HugeResidue.LANES; lane++)
+        {
+            lanes[lane][index] = residues[lane];
+        }
+    }
+
+    /**
+     * This public method sets an element to a {@code HugeResidue}.
+     *
+     * @param int The index of the element.
+     * @param HugeResidue The value.
+     * @throws ArrayIndexOutOfBoundsException If the index is out of the array.
+     */
+    public void set(int index, HugeResidue value)
+    {
+        for (int lane = 0; lane < HugeResidue.LANES; lane++)
+        {
+            lanes[lane][index] = value.residue(lane);
+        }
+    }
+
+    /**
+     * This public method returns an element.
+     *
+     * @param int The index of the element.
+     * @return The element as a {@code HugeResidue}.
+     * @throws ArrayIndexOutOfBoundsException If the index is out of the array.
+     */
+    public HugeResidue get(int index)
+    {
+        int[] residues = new int[HugeResidue.LANES];
+
+        for (int lane = 0; lane < HugeResidue.LANES; lane++)
+        {
+            residues[lane] = lanes[lane][index];
+        }
+
+        return HugeResidue.valueOf(residues);
+    }
+
+    /**
+     * This public method returns the value of an element, applying the overflow policy of the current
+     * context if it exceeds 40 digits.
+     *
+     * @param int The index of the element.
+     * @return The value as a {@code HugeInteger}.
+     * @throws ArrayIndexOutOfBoundsException If the index is out of the array.
+     * @throws ArithmeticException If the value exceeds 40 digits and the policy is {@code THROW}.
+     */
+    public HugeInteger toHugeInteger(int index)
+    {
+        return get(index).toHugeInteger();
+    }
+
+    /**
+     * This public method adds the elements of another array to the elements of this one.
+     *
+     * @param HugeResidueArray The addends.
+     * @throws IllegalArgumentException If the arrays have different lengths.
+     */
+    public void add(HugeResidueArray addends)
+    {
+        apply(ADD, addends, false);
+    }
+
+    /**
+     * This public method subtracts the elements of another array from the elements of this one.
+     *
+     * @param HugeResidueArray The subtrahends.
+     * @throws IllegalArgumentException If the arrays have different lengths.
+     */
+    public void subtract(HugeResidueArray subtrahends)
+    {
+        apply(SUBTRACT, subtrahends, false);
+    }
+
+    /**
+     * This public method multiplies the elements of this array by the elements of another one.
+     *
+     * @param HugeResidueArray The multiplicands.
+     * @throws IllegalArgumentException If the arrays have different lengths.
+     */
+    public void multiply(HugeResidueArray multiplicands)
+    {
+        apply(MULTIPLY, multiplicands, false);
+    }
+
+    /**
+     * This public method adds the elements of another array to the elements of this one in parallel.
+     *
+     * @param HugeResidueArray The addends.
+     * @throws IllegalArgumentException If the arrays have different lengths.
+     */
+    public void parallelAdd(HugeResidueArray addends)
+    {
+        apply(ADD, addends, true);
+    }
+
+    /**
+     * This public method subtracts the elements of another array from the elements of this one in parallel.
+     *
+     * @param HugeResidueArray The subtrahends.
+     * @throws IllegalArgumentException If the arrays have different lengths.
+     */
+    public void parallelSubtract(HugeResidueArray subtrahends)
+    {
+        apply(SUBTRACT, subtrahends, true);
+    }
+
+    /**
+     * This public method multiplies the elements of this array by the elements of another one in parallel.
+     *
+     * @param HugeResidueArray The multiplicands.
+     * @throws IllegalArgumentException If the arrays have different lengths.
+     */
+    public void parallelMultiply(HugeResidueArray multiplicands)
+    {
+        apply(MULTIPLY, multiplicands, true);
+    }
+
+    /**
+     * This public method returns the sum of the elements.
+     *
+     * @return The sum, modulo the product of the primes.
+     */
+    public HugeResidue sum()
+    {
+        return sum(false);
+    }
+
+    /**
+     * This public method returns the sum of the elements, summing blocks of every lane in parallel.
+     *
+     * @return The sum, modulo the product of the primes.
+     */
+    public HugeResidue parallelSum()
+    {
+        return sum(true);
+    }
+}
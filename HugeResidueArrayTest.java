@@ -0,0 +1,84 @@
+/**
+ * Tests of the class HugeResidueArray.
+ * 
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class HugeResidueArrayTest {
+
+    private static HugeInteger[] randomValues(int length, long seed) {
+        Random random = new Random(seed);
+        HugeInteger[] values = new HugeInteger[length];
+        
+        for (int n = 0; n < length; n++) {
+            values[n] = new HugeInteger((random.nextBoolean() ? "-" : "") + (1 + random.nextInt(999_999_999)) + random.nextInt(1_000_000_000));
+        }
+        
+        return values;
+    }
+    
+    @Test
+    public void testElementWiseOperations() {
+        int length = 40_000;
+        HugeInteger[] first = randomValues(length, 1);
+        HugeInteger[] second = randomValues(length, 2);
+        HugeResidueArray sums = new HugeResidueArray(first);
+        HugeResidueArray differences = new HugeResidueArray(first);
+        HugeResidueArray products = new HugeResidueArray(first);
+        HugeResidueArray parallelProducts = new HugeResidueArray(first);
+        HugeResidueArray operands = new HugeResidueArray(second);
+        
+        sums.add(operands);
+        differences.parallelSubtract(operands);
+        products.multiply(operands);
+        parallelProducts.parallelMultiply(operands);
+        
+        for (int n = 0; n < length; n++) {
+            HugeInteger product = first[n].multiply(second[n]);
+            assertEquals(first[n].add(second[n]).toString(), sums.toHugeInteger(n).toString());
+            assertEquals(first[n].subtract(second[n]).toString(), differences.toHugeInteger(n).toString());
+            assertEquals(product.toString(), products.toHugeInteger(n).toString());
+            assertEquals(product.toString(), parallelProducts.toHugeInteger(n).toString());
+        }
+    }
+    
+    @Test
+    public void testSum() {
+        HugeInteger[] values = randomValues(50_000, 3);
+        HugeResidueArray array = new HugeResidueArray(values);
+        HugeInteger expected = HugeInteger.ZERO;
+        
+        for (HugeInteger value : values) {
+            expected = expected.add(value);
+        }
+        
+        assertEquals(expected.toString(), array.sum().toHugeInteger().toString());
+        assertEquals(expected.toString(), array.parallelSum().toHugeInteger().toString());
+    }
+    
+    @Test
+    public void testSetAndGet() {
+        HugeResidueArray array = new HugeResidueArray(3);
+        HugeInteger value = new HugeInteger("-9876543210987654321098765432109876543210");
+        
+        array.set(1, value);
+        array.set(2, HugeResidue.toResidue(value).negate());
+        
+        assertEquals(3, array.length());
+        assertEquals("0", array.toHugeInteger(0).toString());
+        assertEquals(value.toString(), array.get(1).toHugeInteger().toString());
+        assertEquals(HugeInteger.opposite(value).toString(), array.toHugeInteger(2).toString());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testDifferentLengths() {
+        new HugeResidueArray(2).add(new HugeResidueArray(3));
+    }
+}
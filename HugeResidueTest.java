@@ -0,0 +1,92 @@
+/**
+ * Tests of the class HugeResidue.
+ * 
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class HugeResidueTest {
+
+    private static HugeInteger random(Random random, int maxDigits) {
+        StringBuilder digits = new StringBuilder(random.nextBoolean() ? "-" : "");
+        int count = 1 + random.nextInt(maxDigits);
+        
+        for (int n = 0; n < count; n++) {
+            digits.append((char) ('0' + random.nextInt(10)));
+        }
+        
+        return new HugeInteger(digits.toString());
+    }
+    
+    @Test
+    public void testRoundTrip() {
+        Random random = new Random(1);
+        
+        for (int n = 0; n < 2000; n++) {
+            HugeInteger value = random(random, 40);
+            assertEquals(value.toString(), HugeResidue.toResidue(value).toHugeInteger().toString());
+        }
+        
+        assertEquals(HugeInteger.MAX_VALUE.toString(), HugeResidue.toResidue(HugeInteger.MAX_VALUE).toHugeInteger().toString());
+        assertEquals(HugeInteger.MIN_VALUE.toString(), HugeResidue.toResidue(HugeInteger.MIN_VALUE).toHugeInteger().toString());
+        assertTrue(HugeResidue.toResidue(HugeInteger.ZERO).isZero());
+    }
+    
+    @Test
+    public void testArithmetic() {
+        Random random = new Random(2);
+        
+        for (int n = 0; n < 2000; n++) {
+            HugeInteger first = random(random, 20);
+            HugeInteger second = random(random, 20);
+            HugeResidue firstResidue = HugeResidue.toResidue(first);
+            HugeResidue secondResidue = HugeResidue.toResidue(second);
+            
+            assertEquals(first.add(second).toString(), firstResidue.add(secondResidue).toHugeInteger().toString());
+            assertEquals(first.subtract(second).toString(), firstResidue.subtract(secondResidue).toHugeInteger().toString());
+            assertEquals(first.multiply(second).toString(), firstResidue.multiply(secondResidue).toHugeInteger().toString());
+            assertEquals(HugeInteger.opposite(first).toString(), firstResidue.negate().toHugeInteger().toString());
+        }
+    }
+    
+    @Test
+    public void testIntermediateValuesBeyondFortyDigits() {
+        HugeResidue max = HugeResidue.toResidue(HugeInteger.MAX_VALUE);
+        HugeResidue thousand = HugeResidue.toResidue(new HugeInteger("1000"));
+        HugeResidue result = max.multiply(thousand).subtract(max.multiply(thousand)).add(max);
+        
+        assertEquals(HugeInteger.MAX_VALUE.toString(), result.toHugeInteger().toString());
+    }
+    
+    @Test(expected = ArithmeticException.class)
+    public void testOverflow() {
+        HugeResidue.toResidue(HugeInteger.MAX_VALUE).add(HugeResidue.ONE).toHugeInteger(OverflowPolicy.THROW);
+    }
+    
+    @Test
+    public void testOverflowPolicies() {
+        HugeResidue overflow = HugeResidue.toResidue(HugeInteger.MIN_VALUE).multiply(HugeResidue.toResidue(new HugeInteger("100")));
+        BigInteger exact = new BigInteger(HugeInteger.MIN_VALUE.toString()).multiply(BigInteger.valueOf(100));
+        
+        assertEquals(HugeInteger.MIN_VALUE.toString(), overflow.toHugeInteger(OverflowPolicy.SATURATE).toString());
+        assertEquals("-" + exact.abs().mod(BigInteger.TEN.pow(40)), overflow.toHugeInteger(OverflowPolicy.WRAP).toString());
+    }
+    
+    @Test
+    public void testIsEqualTo() {
+        HugeResidue first = HugeResidue.toResidue(new HugeInteger("-123456789012345678901234567890"));
+        HugeResidue second = HugeResidue.toResidue(new HugeInteger("123456789012345678901234567890")).negate();
+        
+        assertTrue(first.isEqualTo(second));
+        assertFalse(first.isEqualTo(second.add(HugeResidue.ONE)));
+    }
+}
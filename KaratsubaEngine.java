@@ -0,0 +1,300 @@
+/**
+ * An {@code ArithmeticEngine} that multiplies long operands with Karatsuba's algorithm, splitting the
+ * sub-products of very long operands across a {@code ForkJoinPool}. The other operations, and the
+ * products of short operands, are those of the packed-limb engine.
+ *
+ * Karatsuba's algorithm replaces the four half-size products of a multiplication by three, so its cost
+ * grows as {@code n^1.585} instead of {@code n^2}. The three sub-products are independent, so when the
+ * operands are longer than the parallelism threshold they are computed as fork-join tasks, down to
+ * sub-products of a few thousand digits. Operands of very different lengths are split in two products
+ * of the longest operand's halves by the shortest one, which are also independent.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+public class KaratsubaEngine extends PackedLimbEngine
+{
+    /**
+     * The default length in digits of the shortest operand from which {@code multiply} runs in parallel.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 50_000;
+
+    /**
+     * The length in limbs of the shortest operand below which a product is computed with the schoolbook kernel.
+     */
+    private static final int KARATSUBA_LIMBS = 40;
+
+    /**
+     * The length in limbs of the longest operand below which a parallel product computes its sub-products
+     * in the current thread.
+     */
+    private static final int FORK_LIMBS = 512;
+
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+
+    // Constructors for class KaratsubaEngine.
+
+    /**
+     * This constructor initializes an engine that runs the products of at least
+     * {@code DEFAULT_PARALLEL_THRESHOLD} digits in the common {@code ForkJoinPool}.
+     */
+    public KaratsubaEngine()
+    {
+        this(ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * This constructor initializes an engine that runs the long products in the input pool.
+     *
+     * @param ForkJoinPool The pool of the parallel products.
+     * @param int The length in digits of the shortest operand from which {@code multiply} runs in parallel.
+     * @throws NullPointerException If the pool is {@code null}.
+     * @throws IllegalArgumentException If the threshold is not positive.
+     */
+    public KaratsubaEngine(ForkJoinPool pool, int parallelThreshold)
+    {
+        if (pool == null)
+        {
+            throw new NullPointerException("pool");
+        }
+
+        if (parallelThreshold < 1)
+        {
+            throw new IllegalArgumentException("Non-positive parallel threshold: " + parallelThreshold);
+        }
+
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * A product of two numbers in limbs, computed by Karatsuba's algorithm.
+     */
+    private static final class Product extends RecursiveTask<int[]>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] first;
+        private final int[] second;
+
+        /**
+         * The length in limbs of the longest operand from which the sub-products are forked.
+         */
+        private final int forkLimbs;
+
+        // Constructors for class Product.
+
+        /**
+         * This constructor initializes a product.
+         *
+         * @param int[] The limbs of the multiplier, in little-endian order.
+         * @param int[] The limbs of the multiplicand, in little-endian order.
+         * @param int The length in limbs from which the sub-products are forked.
+         */
+        Product(int[] first, int[] second, int forkLimbs)
+        {
+            this.first = first;
+            this.second = second;
+            this.forkLimbs = forkLimbs;
+        }
+
+        // Private methods of class Product.
+
+        /**
+         * This private method computes sub-products, forking them if this product is long enough.
+         *
+         * @param Product[] The sub-products.
+         */
+        private void solve(Product... products)
+        {
+            if (Math.max(first.length, second.length) >= forkLimbs)
+            {
+                ForkJoinTask.invokeAll(products);
+            }
+            else
+            {
+                for (Product product : products)
+                {
+                    product.complete(product.compute());
+                }
+            }
+        }
+
+        // Methods of class Product.
+
+        @Override
+        protected int[] compute()
+        {
+            int[] longer = first.length >= second.length ? first : second;
+            int[] shorter = longer == first ? second : first;
+            int[] result;
+
+            if (shorter.length < KARATSUBA_LIMBS)
+            {
+                result = multiplyLimbs(longer, shorter);
+            }
+            else
+            {
+                int half = (longer.length + 1) / 2;
+                int[] longerLow = Arrays.copyOf(longer, half);
+                int[] longerHigh = Arrays.copyOfRange(longer, half, longer.length);
+                result = new int[longer.length + shorter.length];
+
+                if (shorter.length <= half)
+                {
+                    // (h B + l) s = h s B + l s
+                    Product low = new Product(longerLow, shorter, forkLimbs);
+                    Product high = new Product(longerHigh, shorter, forkLimbs);
+                    solve(low, high);
+                    addShifted(result, low.getRawResult(), 0);
+                    addShifted(result, high.getRawResult(), half);
+                }
+                else
+                {
+                    // (h1 B + l1)(h2 B + l2) = h1 h2 B^2 + ((h1 + l1)(h2 + l2) - h1 h2 - l1 l2) B + l1 l2
+                    int[] shorterLow = Arrays.copyOf(shorter, half);
+                    int[] shorterHigh = Arrays.copyOfRange(shorter, half, shorter.length);
+                    Product low = new Product(longerLow, shorterLow, forkLimbs);
+                    Product high = new Product(longerHigh, shorterHigh, forkLimbs);
+                    Product middle = new Product(addLimbs(longerLow, longerHigh), addLimbs(shorterLow, shorterHigh),
+                                                 forkLimbs);
+                    solve(low, high, middle);
+
+                    int[] cross = middle.getRawResult();
+                    subtractLimbs(cross, low.getRawResult());
+                    subtractLimbs(cross, high.getRawResult());
+                    addShifted(result, low.getRawResult(), 0);
+                    addShifted(result, cross, half);
+                    addShifted(result, high.getRawResult(), 2 * half);
+                }
+            }
+
+            return result;
+        }
+    }
+
+    // Private methods of class KaratsubaEngine.
+
+    /**
+     * This private static method adds two numbers in limbs.
+     *
+     * @param int[] The limbs of the first addend, at least as many as those of the second.
+     * @param int[] The limbs of the second addend.
+     * @return The limbs of the sum, one more than those of the first addend.
+     */
+    private static int[] addLimbs(int[] first, int[] second)
+    {
+        int[] result = new int[first.length + 1];
+        long carry = 0;
+
+        for (int n = 0; n < first.length; n++)
+        {
+            long limb = first[n] + (n < second.length ? second[n] : 0) + carry;
+            carry = limb >= BASE ? 1 : 0;
+            result[n] = (int) (limb - carry * BASE);
+        }
+
+        result[first.length] = (int) carry;
+        return result;
+    }
+
+    /**
+     * This private static method subtracts a number in limbs from another one, not less than it.
+     *
+     * @param int[] The limbs of the minuend. They receive the difference.
+     * @param int[] The limbs of the subtrahend. The limbs beyond those of the minuend must be zero.
+     */
+    private static void subtractLimbs(int[] minuend, int[] subtrahend)
+    {
+        long borrow = 0;
+        int n = 0;
+
+        for (; n < minuend.length && (n < subtrahend.length || borrow != 0); n++)
+        {
+            long limb = minuend[n] - (n < subtrahend.length ? subtrahend[n] : 0) - borrow;
+            borrow = limb < 0 ? 1 : 0;
+            minuend[n] = (int) (limb + borrow * BASE);
+        }
+    }
+
+    /**
+     * This private static method adds a number in limbs, shifted by some limbs, to another one.
+     *
+     * @param int[] The limbs of the target number, which receive the sum. The sum must fit in them.
+     * @param int[] The limbs of the added number. The limbs beyond the target must be zero.
+     * @param int The number of limbs of the shift.
+     */
+    private static void addShifted(int[] target, int[] source, int offset)
+    {
+        long carry = 0;
+        int index = offset;
+
+        for (int n = 0; n < source.length && index < target.length; n++, index++)
+        {
+            long limb = target[index] + (long) source[n] + carry;
+            carry = limb >= BASE ? 1 : 0;
+            target[index] = (int) (limb - carry * BASE);
+        }
+
+        for (; carry != 0 && index < target.length; index++)
+        {
+            long limb = target[index] + carry;
+            carry = limb >= BASE ? 1 : 0;
+            target[index] = (int) (limb - carry * BASE);
+        }
+    }
+
+    // Public methods of class KaratsubaEngine.
+
+    @Override
+    public String name()
+    {
+        return "Karatsuba";
+    }
+
+    /**
+     * This method multiplies two magnitudes, in parallel if both are at least as long as the parallelism
+     * threshold of the engine and in the current thread otherwise.
+     *
+     * @param int[] The multiplier.
+     * @param int[] The multiplicand.
+     * @return The product.
+     */
+    @Override
+    public int[] multiply(int[] multiplier, int[] multiplicand)
+    {
+        int[] result;
+
+        if (Math.min(multiplier.length, multiplicand.length) >= parallelThreshold)
+        {
+            result = parallelMultiply(multiplier, multiplicand);
+        }
+        else
+        {
+            int[] product = new Product(pack(multiplier), pack(multiplicand), Integer.MAX_VALUE).compute();
+            result = unpack(product, product.length);
+        }
+
+        return result;
+    }
+
+    /**
+     * This method multiplies two magnitudes in the pool of the engine, whatever their length.
+     *
+     * @param int[] The multiplier.
+     * @param int[] The multiplicand.
+     * @return The product.
+     */
+    public int[] parallelMultiply(int[] multiplier, int[] multiplicand)
+    {
+        int[] product = pool.invoke(new Product(pack(multiplier), pack(multiplicand), FORK_LIMBS));
+        return unpack(product, product.length);
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ * Tests of the class KaratsubaEngine.
+ * 
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+public class KaratsubaEngineTest {
+
+    @Test
+    public void testMultiply() {
+        Random random = new Random(7);
+        KaratsubaEngine engine = new KaratsubaEngine();
+        
+        for (int n = 0; n < 40; n++) {
+            BigInteger first = new BigInteger(1 + random.nextInt(20_000), random);
+            BigInteger second = new BigInteger(1 + random.nextInt(n % 2 == 0 ? 20_000 : 2_000), random);
+            
+            assertArrayEquals(ArithmeticEngineTest.magnitude(first.multiply(second)),
+                engine.multiply(ArithmeticEngineTest.magnitude(first), ArithmeticEngineTest.magnitude(second)));
+        }
+    }
+    
+    @Test
+    public void testMultiplyNines() {
+        BigInteger nines = BigInteger.TEN.pow(9_001).subtract(BigInteger.ONE);
+        KaratsubaEngine engine = new KaratsubaEngine();
+        
+        assertArrayEquals(ArithmeticEngineTest.magnitude(nines.multiply(nines)),
+            engine.multiply(ArithmeticEngineTest.magnitude(nines), ArithmeticEngineTest.magnitude(nines)));
+    }
+    
+    @Test
+    public void testParallelMultiply() {
+        Random random = new Random(11);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        KaratsubaEngine engine = new KaratsubaEngine(pool, 5_000);
+        
+        try {
+            for (int n = 0; n < 6; n++) {
+                BigInteger first = new BigInteger(30_000 + random.nextInt(30_000), random);
+                BigInteger second = new BigInteger(20_000 + random.nextInt(40_000), random);
+                int[] expected = ArithmeticEngineTest.magnitude(first.multiply(second));
+                int[] firstDigits = ArithmeticEngineTest.magnitude(first);
+                int[] secondDigits = ArithmeticEngineTest.magnitude(second);
+                
+                assertArrayEquals(expected, engine.multiply(firstDigits, secondDigits));
+                assertArrayEquals(expected, engine.parallelMultiply(firstDigits, secondDigits));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveThreshold() {
+        new KaratsubaEngine(ForkJoinPool.commonPool(), 0);
+    }
+}
@@ -0,0 +1,600 @@
+/**
+ * A mutable companion of {@code HugeInteger} for iterative algorithms.
+ *
+ * The arithmetic methods of a {@code MutableHugeInteger} change its value in place and reuse its
+ * digits buffers, which grow as needed, so a loop over thousands of steps creates no garbage.
+ * Intermediate values may exceed 40 digits; only the conversion to a {@code HugeInteger} verifies
+ * the capacity. A {@code MutableHugeInteger} is not thread-safe.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.util.Arrays;
+
+public class MutableHugeInteger
+{
+    /**
+     * The greatest number of digits, the greatest length of an array that every JVM can allocate.
+     */
+    private static final int MAX_LENGTH = Integer.MAX_VALUE - 8;
+
+    /**
+     * The digits of the absolute value in little-endian order. Only the first {@code length}
+     * elements are significant and the last of them is never zero.
+     */
+    private int[] digits;
+    private int length;
+    private int signum;
+
+    /**
+     * A buffer reused by the operations that can't work directly on {@code digits}.
+     */
+    private int[] scratch;
+
+    // Constructors for class MutableHugeInteger.
+
+    /**
+     * This constructor initializes the {@code MutableHugeInteger} to zero.
+     */
+    public MutableHugeInteger()
+    {
+        digits = new int[HugeInteger.MAX_DIGITS];
+        scratch = new int[0];
+        length = 0;
+        signum = 0;
+    }
+
+    /**
+     * This constructor initializes the {@code MutableHugeInteger} with the value of the input {@code HugeInteger}.
+     *
+     * @param HugeInteger The initial value.
+     */
+    public MutableHugeInteger(HugeInteger value)
+    {
+        this();
+        set(value);
+    }
+
+    // Private methods of class MutableHugeInteger.
+
+    /**
+     * This private method makes sure that the digits buffer can hold the input number of digits,
+     * keeping the current digits.
+     *
+     * @param int The required capacity.
+     */
+    private void ensureCapacity(int capacity)
+    {
+        if (digits.length < capacity)
+        {
+            digits = Arrays.copyOf(digits, Math.max(capacity, 2 * digits.length));
+        }
+    }
+
+    /**
+     * This private method makes sure that the scratch buffer can hold the input number of digits.
+     * The contents of the scratch buffer are not kept.
+     *
+     * @param int The required capacity.
+     */
+    private void ensureScratchCapacity(int capacity)
+    {
+        if (scratch.length < capacity)
+        {
+            scratch = new int[Math.max(capacity, 2 * scratch.length)];
+        }
+    }
+
+    /**
+     * This private method decreases the length to skip the most significant zero digits and sets
+     * the signum to zero if no digits are left.
+     */
+    private void normalize()
+    {
+        for (; length > 0 && digits[length - 1] == 0; length--)
+            ;
+
+        if (length == 0)
+        {
+            signum = 0;
+        }
+    }
+
+    /**
+     * This private method adds to this {@code MutableHugeInteger} the value represented by the inputs.
+     *
+     * @param int The signum of the other value.
+     * @param int[] The digits of the other value in little-endian order.
+     * @param int The number of significant digits of the other value.
+     */
+    private void add(int otherSignum, int[] otherDigits, int otherLength)
+    {
+        if (otherSignum == 0)
+        {
+            return;
+        }
+
+        if (signum == 0 || signum == otherSignum)
+        {
+            // Same signum: add the absolute values.
+            int maxLength = Math.max(length, otherLength);
+            ensureCapacity(maxLength + 1);
+            int carry = 0;
+
+            for (int n = 0; n < maxLength; n++)
+            {
+                int sum = (n < length ? digits[n] : 0) + (n < otherLength ? otherDigits[n] : 0) + carry;
+                carry = sum > 9 ? 1 : 0;
+                digits[n] = sum - 10 * carry;
+            }
+
+            digits[maxLength] = carry;
+            length = maxLength + 1;
+            signum = otherSignum;
+            normalize();
+        }
+        else
+        {
+            int compare = compareAbsoluteValues(digits, length, otherDigits, otherLength);
+
+            if (compare == 0)
+            {
+                setZero();
+            }
+            else
+            {
+                // Different signums: subtract the smaller absolute value from the greater.
+                int maxLength = Math.max(length, otherLength);
+                ensureCapacity(maxLength);
+                int borrow = 0;
+
+                for (int n = 0; n < maxLength; n++)
+                {
+                    int thisDigit = n < length ? digits[n] : 0;
+                    int otherDigit = n < otherLength ? otherDigits[n] : 0;
+                    int diff = compare > 0 ? thisDigit - otherDigit - borrow : otherDigit - thisDigit - borrow;
+                    borrow = diff < 0 ? 1 : 0;
+                    digits[n] = diff + 10 * borrow;
+                }
+
+                length = maxLength;
+                signum = compare > 0 ? signum : otherSignum;
+                normalize();
+            }
+        }
+    }
+
+    /**
+     * This private method multiplies this {@code MutableHugeInteger} by the value represented by the inputs.
+     *
+     * @param int The signum of the other value.
+     * @param int[] The digits of the other value in little-endian order.
+     * @param int The number of significant digits of the other value.
+     */
+    private void multiply(int otherSignum, int[] otherDigits, int otherLength)
+    {
+        if (signum == 0 || otherSignum == 0)
+        {
+            setZero();
+            return;
+        }
+
+        int totalLength = length + otherLength;
+        ensureScratchCapacity(totalLength);
+        Arrays.fill(scratch, 0, totalLength, 0);
+
+        for (int i = 0; i < otherLength; i++)
+        {
+            int factor = otherDigits[i];
+            int carry = 0;
+
+            if (factor != 0)
+            {
+                for (int j = 0; j < length; j++)
+                {
+                    int product = scratch[i + j] + factor * digits[j] + carry;
+                    carry = product / 10;
+                    scratch[i + j] = product - 10 * carry;
+                }
+            }
+
+            scratch[i + length] = carry;
+        }
+
+        // The product is in the scratch buffer: swap the buffers.
+        int[] temp = digits;
+        digits = scratch;
+        scratch = temp;
+        length = totalLength;
+        signum *= otherSignum;
+        normalize();
+    }
+
+    /**
+     * This private method divides this {@code MutableHugeInteger} by the value represented by the inputs.
+     * The quotient is truncated towards zero, as in {@code HugeInteger.divide}.
+     *
+     * @param int The signum of the divisor.
+     * @param int[] The digits of the divisor in little-endian order.
+     * @param int The number of significant digits of the divisor.
+     * @throws ArithmeticException Division by zero if the divisor is zero.
+     */
+    private void divide(int otherSignum, int[] otherDigits, int otherLength)
+    {
+        if (otherSignum == 0)
+        {
+            throw new ArithmeticException("Division by Zero.");
+        }
+
+        if (signum == 0)
+        {
+            return;
+        }
+
+        int resultSignum = signum * otherSignum;
+        ensureScratchCapacity(otherLength + 1);
+        int[] remainder = scratch;
+        int remainderLength = 0;
+
+        // Long division: bring down one digit at a time and subtract the divisor while possible.
+        // Each quotient digit replaces the dividend digit that was brought down.
+        for (int index = length - 1; index >= 0; index--)
+        {
+            if (remainderLength > 0 || digits[index] != 0)
+            {
+                System.arraycopy(remainder, 0, remainder, 1, remainderLength);
+                remainder[0] = digits[index];
+                remainderLength++;
+            }
+
+            int quotientDigit = 0;
+
+            while (compareAbsoluteValues(remainder, remainderLength, otherDigits, otherLength) >= 0)
+            {
+                int borrow = 0;
+
+                for (int n = 0; n < remainderLength; n++)
+                {
+                    int diff = remainder[n] - (n < otherLength ? otherDigits[n] : 0) - borrow;
+                    borrow = diff < 0 ? 1 : 0;
+                    remainder[n] = diff + 10 * borrow;
+                }
+
+                for (; remainderLength > 0 && remainder[remainderLength - 1] == 0; remainderLength--)
+                    ;
+
+                quotientDigit++;
+            }
+
+            digits[index] = quotientDigit;
+        }
+
+        signum = resultSignum;
+        normalize();
+    }
+
+    /**
+     * This private static method compares two absolute values represented by digits arrays.
+     *
+     * @param int[] The digits of the first value in little-endian order.
+     * @param int The number of significant digits of the first value.
+     * @param int[] The digits of the second value in little-endian order.
+     * @param int The number of significant digits of the second value.
+     * @return {@code -1} if the first is less than the second, {@code 0} if they are equal and
+     *         {@code 1} if the first is greater.
+     */
+    private static int compareAbsoluteValues(int[] first, int firstLength, int[] second, int secondLength)
+    {
+        int comparisonResult;
+
+        if (firstLength != secondLength)
+        {
+            comparisonResult = firstLength < secondLength ? -1 : 1;
+        }
+        else
+        {
+            int firstNotEqual = firstLength - 1;
+
+            for (; firstNotEqual >= 0 && first[firstNotEqual] == second[firstNotEqual]; firstNotEqual--)
+                ;
+
+            if (firstNotEqual < 0)
+            {
+                comparisonResult = 0;
+            }
+            else
+            {
+                comparisonResult = first[firstNotEqual] < second[firstNotEqual] ? -1 : 1;
+            }
+        }
+
+        return comparisonResult;
+    }
+
+    // Methods of class MutableHugeInteger.
+
+    /**
+     * This method compares the absolute value of this {@code MutableHugeInteger} with the absolute value
+     * of the input {@code HugeInteger}.
+     *
+     * @param HugeInteger The {@code HugeInteger} to be compared.
+     * @return {@code -1} if the absolute value of this is less than the other, {@code 0} if they are
+     *         equal and {@code 1} if it is greater.
+     */
+    int compareAbsoluteValue(HugeInteger other)
+    {
+        return compareAbsoluteValues(digits, length, other.digits, other.digits.length);
+    }
+
+    /**
+     * This method appends a decimal digit to the absolute value of this {@code MutableHugeInteger}, that is,
+     * it multiplies the absolute value by ten and adds the digit to it. A zero value becomes positive if the
+     * digit is not zero.
+     *
+     * @param int The digit to append, from 0 to 9.
+     */
+    void appendDigit(int digit)
+    {
+        if (signum == 0)
+        {
+            digits[0] = digit;
+            length = 1;
+            signum = 1;
+        }
+        else
+        {
+            ensureCapacity(length + 1);
+            System.arraycopy(digits, 0, digits, 1, length);
+            digits[0] = digit;
+            length++;
+        }
+
+        normalize();
+    }
+
+    // Public methods of class MutableHugeInteger.
+
+    /**
+     * This public method sets the value of this {@code MutableHugeInteger} to the value of the input {@code HugeInteger}.
+     *
+     * @param HugeInteger The new value.
+     */
+    public void set(HugeInteger value)
+    {
+        ensureCapacity(value.digits.length);
+        System.arraycopy(value.digits, 0, digits, 0, value.digits.length);
+        length = value.digits.length;
+        signum = value.getSignum();
+    }
+
+    /**
+     * This public method sets the value of this {@code MutableHugeInteger} to the value of the input
+     * {@code MutableHugeInteger}.
+     *
+     * @param MutableHugeInteger The new value.
+     */
+    public void set(MutableHugeInteger value)
+    {
+        ensureCapacity(value.length);
+        System.arraycopy(value.digits, 0, digits, 0, value.length);
+        length = value.length;
+        signum = value.signum;
+    }
+
+    /**
+     * This public method sets the value of this {@code MutableHugeInteger} to zero.
+     */
+    public void setZero()
+    {
+        length = 0;
+        signum = 0;
+    }
+
+    /**
+     * This public method returns the value of the signum function of this {@code MutableHugeInteger}.
+     *
+     * @return {@code -1} for a negative value, {@code 1} for a positive value and {@code 0} for zero.
+     */
+    public int getSignum()
+    {
+        return signum;
+    }
+
+    /**
+     * This public method returns {@code true} if this {@code MutableHugeInteger} is equal to {@code zero}
+     * and {@code false} if not.
+     *
+     * @return {@code true} if the value is zero and {@code false} if not.
+     */
+    public boolean isZero()
+    {
+        return signum == 0;
+    }
+
+    /**
+     * This public method returns the number of digits of the absolute value of this {@code MutableHugeInteger}.
+     * Zero has no digits.
+     *
+     * @return The number of digits of the absolute value.
+     */
+    public int digitCount()
+    {
+        return length;
+    }
+
+    /**
+     * This public method adds the input {@code HugeInteger} to this {@code MutableHugeInteger}.
+     *
+     * @param HugeInteger The {@code HugeInteger} to be added.
+     */
+    public void addInPlace(HugeInteger addend)
+    {
+        add(addend.getSignum(), addend.digits, addend.digits.length);
+    }
+
+    /**
+     * This public method adds the input {@code MutableHugeInteger} to this {@code MutableHugeInteger}.
+     *
+     * @param MutableHugeInteger The {@code MutableHugeInteger} to be added. It may be this one.
+     */
+    public void addInPlace(MutableHugeInteger addend)
+    {
+        add(addend.signum, addend.digits, addend.length);
+    }
+
+    /**
+     * This public method subtracts the input {@code HugeInteger} from this {@code MutableHugeInteger}.
+     *
+     * @param HugeInteger The {@code HugeInteger} to be subtracted.
+     */
+    public void subtractInPlace(HugeInteger subtrahend)
+    {
+        add(-1 * subtrahend.getSignum(), subtrahend.digits, subtrahend.digits.length);
+    }
+
+    /**
+     * This public method subtracts the input {@code MutableHugeInteger} from this {@code MutableHugeInteger}.
+     *
+     * @param MutableHugeInteger The {@code MutableHugeInteger} to be subtracted. It may be this one.
+     */
+    public void subtractInPlace(MutableHugeInteger subtrahend)
+    {
+        add(-1 * subtrahend.signum, subtrahend.digits, subtrahend.length);
+    }
+
+    /**
+     * This public method multiplies this {@code MutableHugeInteger} by the input {@code HugeInteger}.
+     *
+     * @param HugeInteger The {@code HugeInteger} to multiply this {@code MutableHugeInteger}.
+     */
+    public void multiplyInPlace(HugeInteger multiplicand)
+    {
+        multiply(multiplicand.getSignum(), multiplicand.digits, multiplicand.digits.length);
+    }
+
+    /**
+     * This public method multiplies this {@code MutableHugeInteger} by the input {@code MutableHugeInteger}.
+     *
+     * @param MutableHugeInteger The {@code MutableHugeInteger} to multiply this one. It may be this one.
+     */
+    public void multiplyInPlace(MutableHugeInteger multiplicand)
+    {
+        multiply(multiplicand.signum, multiplicand.digits, multiplicand.length);
+    }
+
+    /**
+     * This public method performs the integer division of this {@code MutableHugeInteger} by the input
+     * {@code HugeInteger}. The quotient is truncated towards zero.
+     *
+     * @param HugeInteger The {@code HugeInteger} to divide this {@code MutableHugeInteger}.
+     * @throws ArithmeticException Division by zero if the divisor is zero.
+     */
+    public void divideInPlace(HugeInteger divisor)
+    {
+        divide(divisor.getSignum(), divisor.digits, divisor.digits.length);
+    }
+
+    /**
+     * This public method performs the integer division of this {@code MutableHugeInteger} by the input
+     * {@code MutableHugeInteger}. The quotient is truncated towards zero.
+     *
+     * @param MutableHugeInteger The {@code MutableHugeInteger} to divide this one. It may be this one.
+     * @throws ArithmeticException Division by zero if the divisor is zero.
+     */
+    public void divideInPlace(MutableHugeInteger divisor)
+    {
+        if (divisor == this)
+        {
+            divide(divisor.signum, Arrays.copyOf(divisor.digits, divisor.length), divisor.length);
+        }
+        else
+        {
+            divide(divisor.signum, divisor.digits, divisor.length);
+        }
+    }
+
+    /**
+     * This public method multiplies this {@code MutableHugeInteger} by a power of ten by shifting its digits.
+     * A negative exponent divides it by a power of ten, truncating towards zero.
+     *
+     * @param int The exponent of the power of ten.
+     * @throws ArithmeticException If the result has more digits than an array can hold.
+     */
+    public void shiftDecimalInPlace(int exponent)
+    {
+        if (signum == 0 || exponent == 0)
+        {
+            return;
+        }
+
+        if (exponent > 0)
+        {
+            if ((long) length + exponent > MAX_LENGTH)
+            {
+                throw new ArithmeticException("Overflow! The shift exceeds the capacity of a MutableHugeInteger.");
+            }
+
+            ensureCapacity(length + exponent);
+            System.arraycopy(digits, 0, digits, exponent, length);
+            Arrays.fill(digits, 0, exponent, 0);
+            length += exponent;
+        }
+        else if (-(long) exponent >= length)
+        {
+            setZero();
+        }
+        else
+        {
+            System.arraycopy(digits, -exponent, digits, 0, length + exponent);
+            length += exponent;
+        }
+    }
+
+    /**
+     * This public method returns a {@code HugeInteger} with the value of this {@code MutableHugeInteger}.
+     * Overflow is handled according to the {@code OverflowPolicy} of the current context.
+     *
+     * @return A {@code HugeInteger} with the same value.
+     * @throws ArithmeticException If the value is greater than 40 digits and the policy is {@code THROW}.
+     */
+    public HugeInteger toHugeInteger()
+    {
+        return HugeInteger.valueOf(signum, Arrays.copyOf(digits, length), OverflowPolicy.current());
+    }
+
+    /**
+     * This public method returns the String representation of this {@code MutableHugeInteger}.
+     * A {@code minus} sign is added if the value is negative.
+     *
+     * @return String representation of this {@code MutableHugeInteger}.
+     */
+    @Override
+    public String toString()
+    {
+        String result;
+
+        if (isZero())
+        {
+            result = "0";
+        }
+        else
+        {
+            StringBuilder buffer = new StringBuilder(length + 1);
+
+            if (signum == -1)
+            {
+                buffer.append('-');
+            }
+
+            for (int index = length - 1; index >= 0; index--)
+            {
+                buffer.append((char) ('0' + digits[index]));
+            }
+
+            result = buffer.toString();
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * Tests of the class MutableHugeInteger.
+ * 
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+ 
+import org.junit.Test;
+ 
+public class MutableHugeIntegerTest {
+     
+    private static String MAX_NUM = "9999999999999999999999999999999999999999";
+ 
+    @Test
+    public void testConversion() {
+        assertEquals("0", new MutableHugeInteger().toHugeInteger().toString());
+        assertEquals(MAX_NUM, new MutableHugeInteger(new HugeInteger(MAX_NUM)).toHugeInteger().toString());
+        assertEquals("-1240", new MutableHugeInteger(new HugeInteger("-1240")).toString());
+    }
+ 
+    @Test
+    public void testAddInPlace() {
+        MutableHugeInteger value = new MutableHugeInteger(new HugeInteger("1239"));
+        value.addInPlace(new HugeInteger("1240"));
+        assertEquals("2479", value.toString());
+        value.addInPlace(new HugeInteger("-2480"));
+        assertEquals("-1", value.toString());
+        value.addInPlace(HugeInteger.ONE);
+        assertTrue(value.isZero());
+        value.addInPlace(new HugeInteger(MAX_NUM));
+        value.addInPlace(value);
+        assertEquals("1" + MAX_NUM.substring(1) + "8", value.toString());
+    }
+ 
+    @Test
+    public void testSubtractInPlace() {
+        MutableHugeInteger value = new MutableHugeInteger(new HugeInteger("1240"));
+        value.subtractInPlace(new HugeInteger("1239"));
+        assertEquals("1", value.toString());
+        value.subtractInPlace(new HugeInteger("1240"));
+        assertEquals("-1239", value.toString());
+        value.subtractInPlace(value);
+        assertEquals("0", value.toString());
+    }
+ 
+    @Test
+    public void testMultiplyInPlace() {
+        MutableHugeInteger value = new MutableHugeInteger(new HugeInteger("1240"));
+        value.multiplyInPlace(new HugeInteger("-1239"));
+        assertEquals("-1536360", value.toString());
+        value.set(new HugeInteger(MAX_NUM));
+        value.multiplyInPlace(value);
+        assertEquals("9999999999999999999999999999999999999998" + "0000000000000000000000000000000000000001", value.toString());
+        value.multiplyInPlace(HugeInteger.ZERO);
+        assertTrue(value.isZero());
+    }
+ 
+    @Test
+    public void testDivideInPlace() {
+        MutableHugeInteger value = new MutableHugeInteger(new HugeInteger("-1536360"));
+        value.divideInPlace(new HugeInteger("1239"));
+        assertEquals("-1240", value.toString());
+        value.divideInPlace(new HugeInteger("-7"));
+        assertEquals("177", value.toString());
+        value.divideInPlace(new HugeInteger("1240"));
+        assertEquals("0", value.toString());
+        value.set(new HugeInteger(MAX_NUM));
+        value.divideInPlace(new HugeInteger("1240"));
+        assertEquals(new HugeInteger(MAX_NUM).divide(new HugeInteger("1240")).toString(), value.toString());
+    }
+ 
+    @Test(expected=ArithmeticException.class)
+    public void testDivideInPlaceByZero() {
+        new MutableHugeInteger(HugeInteger.ONE).divideInPlace(HugeInteger.ZERO);
+    }
+ 
+    @Test
+    public void testShiftDecimalInPlace() {
+        MutableHugeInteger value = new MutableHugeInteger(new HugeInteger("-1240"));
+        value.shiftDecimalInPlace(3);
+        assertEquals("-1240000", value.toString());
+        value.shiftDecimalInPlace(-4);
+        assertEquals("-124", value.toString());
+        value.shiftDecimalInPlace(-3);
+        assertEquals("0", value.toString());
+    }
+ 
+    @Test
+    public void testShiftDecimalInPlaceMinValue() {
+        MutableHugeInteger value = new MutableHugeInteger(new HugeInteger("12345"));
+        value.shiftDecimalInPlace(Integer.MIN_VALUE);
+        assertEquals("0", value.toString());
+    }
+ 
+    @Test(expected=ArithmeticException.class)
+    public void testShiftDecimalInPlaceTooLarge() {
+        MutableHugeInteger value = new MutableHugeInteger(new HugeInteger("12345"));
+        value.shiftDecimalInPlace(Integer.MAX_VALUE - 2);
+    }
+ 
+    @Test(expected=ArithmeticException.class)
+    public void testToHugeIntegerOverflow() {
+        MutableHugeInteger value = new MutableHugeInteger(new HugeInteger(MAX_NUM));
+        value.shiftDecimalInPlace(1);
+        value.toHugeInteger();
+    }
+}
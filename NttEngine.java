@@ -0,0 +1,404 @@
+/**
+ * An {@code ArithmeticEngine} that multiplies very long operands with number-theoretic transforms.
+ * Shorter products are those of the Karatsuba engine, and the other operations those of the
+ * packed-limb engine.
+ *
+ * The operands are packed in limbs of nine decimal digits and their convolution is computed modulo
+ * three primes of the form {@code c 2^k + 1} that have roots of unity of order {@code 2^23}, with
+ * transforms whose cost grows as {@code n log n}. A coefficient of the convolution is less than the
+ * product of the primes, so the Chinese remainder theorem, in the form of Garner's algorithm,
+ * recovers it exactly from its three residues before the carries are propagated. The modular
+ * products use Montgomery's reduction, so the transforms have no divisions.
+ *
+ * The transforms are limited to {@code 2^23} limbs, about 37 million digits for the product; longer
+ * products are computed with Karatsuba's algorithm.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.util.concurrent.ForkJoinPool;
+
+public class NttEngine extends KaratsubaEngine
+{
+    /**
+     * The default length in digits of the shortest operand from which products are computed by transforms.
+     */
+    public static final int DEFAULT_NTT_THRESHOLD = 25_000;
+
+    private static final int MAX_TRANSFORM_LENGTH = 1 << 23;
+
+    private static final Modulus[] MODULI =
+    {
+        new Modulus(998_244_353), new Modulus(167_772_161), new Modulus(469_762_049)
+    };
+
+    private final int nttThreshold;
+
+    // Constructors for class NttEngine.
+
+    /**
+     * This constructor initializes an engine with the default thresholds.
+     */
+    public NttEngine()
+    {
+        this(ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD, DEFAULT_NTT_THRESHOLD);
+    }
+
+    /**
+     * This constructor initializes an engine with the input pool and thresholds.
+     *
+     * @param ForkJoinPool The pool of the parallel Karatsuba products.
+     * @param int The length in digits of the shortest operand from which Karatsuba products run in parallel.
+     * @param int The length in digits of the shortest operand from which products are computed by transforms.
+     * @throws NullPointerException If the pool is {@code null}.
+     * @throws IllegalArgumentException If a threshold is not positive.
+     */
+    public NttEngine(ForkJoinPool pool, int parallelThreshold, int nttThreshold)
+    {
+        super(pool, parallelThreshold);
+
+        if (nttThreshold < 1)
+        {
+            throw new IllegalArgumentException("Non-positive NTT threshold: " + nttThreshold);
+        }
+
+        this.nttThreshold = nttThreshold;
+    }
+
+    /**
+     * The arithmetic modulo a prime less than {@code 2^30}, in Montgomery form with {@code R = 2^32}.
+     */
+    private static final class Modulus
+    {
+        /**
+         * The generator of the multiplicative group of the three primes.
+         */
+        private static final int GENERATOR = 3;
+
+        private final int prime;
+
+        /**
+         * The value of {@code -prime^-1} modulo {@code 2^32}.
+         */
+        private final int negativeInverse;
+
+        /**
+         * The value of {@code R^2} modulo the prime, which converts a residue to Montgomery form.
+         */
+        private final long rSquared;
+
+        // Constructors for class Modulus.
+
+        /**
+         * This constructor initializes the arithmetic modulo a prime.
+         *
+         * @param int The prime.
+         */
+        Modulus(int prime)
+        {
+            int inverse = prime;
+
+            // Every Newton iteration doubles the number of correct low bits of the inverse.
+            for (int n = 0; n < 5; n++)
+            {
+                inverse *= 2 - prime * inverse;
+            }
+
+            long r = (1L << 32) % prime;
+            this.prime = prime;
+            this.negativeInverse = -inverse;
+            this.rSquared = r * r % prime;
+        }
+
+        // Methods of class Modulus.
+
+        /**
+         * This method reduces a product of two residues in Montgomery form.
+         *
+         * @param long The product, less than {@code prime * 2^32}.
+         * @return The product divided by {@code R}, modulo the prime.
+         */
+        int reduce(long product)
+        {
+            long quotient = ((int) product * negativeInverse) & 0xFFFF_FFFFL;
+            long result = (product + quotient * prime) >>> 32;
+            return (int) (result >= prime ? result - prime : result);
+        }
+
+        /**
+         * This method multiplies two residues in Montgomery form.
+         *
+         * @param int The first residue.
+         * @param int The second residue.
+         * @return The product in Montgomery form.
+         */
+        int multiply(int first, int second)
+        {
+            return reduce((long) first * second);
+        }
+
+        /**
+         * This method converts a non-negative number to a residue in Montgomery form.
+         *
+         * @param long The number.
+         * @return The residue in Montgomery form.
+         */
+        int toMontgomery(long value)
+        {
+            return reduce(value % prime * rSquared);
+        }
+
+        /**
+         * This method raises a residue in Montgomery form to a power.
+         *
+         * @param int The residue.
+         * @param long The exponent.
+         * @return The power in Montgomery form.
+         */
+        int power(int base, long exponent)
+        {
+            int result = toMontgomery(1);
+
+            for (; exponent > 0; exponent >>= 1)
+            {
+                if ((exponent & 1) != 0)
+                {
+                    result = multiply(result, base);
+                }
+
+                base = multiply(base, base);
+            }
+
+            return result;
+        }
+
+        /**
+         * This method fills a table with the powers of a root of unity of the order of a transform stage.
+         *
+         * @param int[] The table, which receives the powers from 0 to {@code size / 2 - 1}.
+         * @param int The order of the root, a power of two.
+         * @param boolean {@code true} for the inverse root.
+         */
+        void roots(int[] roots, int size, boolean isInverse)
+        {
+            int root = power(toMontgomery(GENERATOR), (prime - 1) / size);
+
+            if (isInverse)
+            {
+                root = power(root, prime - 2);
+            }
+
+            roots[0] = toMontgomery(1);
+
+            for (int n = 1; n < size / 2; n++)
+            {
+                roots[n] = multiply(roots[n - 1], root);
+            }
+        }
+
+        /**
+         * This method transforms an array of residues in Montgomery form in place. The forward transform
+         * (Gentleman-Sande) leaves the values in bit-reversed order and the inverse one (Cooley-Tukey)
+         * takes them in that order, so a convolution never reorders its values.
+         *
+         * @param int[] The residues, whose length is a power of two.
+         * @param boolean {@code true} for the inverse transform, which includes the division by the length.
+         */
+        void transform(int[] values, boolean isInverse)
+        {
+            int length = values.length;
+            int[] roots = new int[Math.max(1, length / 2)];
+
+            for (int stage = 0; (2 << stage) <= length; stage++)
+            {
+                int size = isInverse ? 2 << stage : length >> stage;
+                int half = size / 2;
+                roots(roots, size, isInverse);
+
+                for (int start = 0; start < length; start += size)
+                {
+                    for (int n = 0; n < half; n++)
+                    {
+                        int first = values[start + n];
+                        int second = values[start + n + half];
+
+                        if (isInverse)
+                        {
+                            second = multiply(second, roots[n]);
+                        }
+
+                        int sum = first + second;
+                        int difference = first - second;
+                        values[start + n] = sum >= prime ? sum - prime : sum;
+                        difference = difference < 0 ? difference + prime : difference;
+                        values[start + n + half] = isInverse ? difference : multiply(difference, roots[n]);
+                    }
+                }
+            }
+
+            if (isInverse)
+            {
+                int scale = power(toMontgomery(length), prime - 2);
+
+                for (int n = 0; n < length; n++)
+                {
+                    values[n] = multiply(values[n], scale);
+                }
+            }
+        }
+
+        /**
+         * This method returns the convolution of two numbers in limbs modulo the prime.
+         *
+         * @param int[] The limbs of the first number.
+         * @param int[] The limbs of the second number.
+         * @param int The length of the transforms, a power of two not less than the length of the convolution.
+         * @return The coefficients of the convolution modulo the prime, not in Montgomery form.
+         */
+        int[] convolve(int[] first, int[] second, int length)
+        {
+            int[] firstValues = new int[length];
+            int[] secondValues = new int[length];
+
+            for (int n = 0; n < first.length; n++)
+            {
+                firstValues[n] = toMontgomery(first[n]);
+            }
+
+            for (int n = 0; n < second.length; n++)
+            {
+                secondValues[n] = toMontgomery(second[n]);
+            }
+
+            transform(firstValues, false);
+            transform(secondValues, false);
+
+            for (int n = 0; n < length; n++)
+            {
+                firstValues[n] = multiply(firstValues[n], secondValues[n]);
+            }
+
+            transform(firstValues, true);
+
+            for (int n = 0; n < length; n++)
+            {
+                firstValues[n] = reduce(firstValues[n]);
+            }
+
+            return firstValues;
+        }
+    }
+
+    // Private methods of class NttEngine.
+
+    /**
+     * This private static method returns a power modulo a number.
+     *
+     * @param long The base, less than the modulus.
+     * @param long The exponent.
+     * @param long The modulus, less than {@code 2^31}.
+     * @return The power.
+     */
+    private static long modPow(long base, long exponent, long modulus)
+    {
+        long result = 1;
+
+        for (; exponent > 0; exponent >>= 1)
+        {
+            if ((exponent & 1) != 0)
+            {
+                result = result * base % modulus;
+            }
+
+            base = base * base % modulus;
+        }
+
+        return result;
+    }
+
+    /**
+     * This private static method multiplies two numbers in limbs with number-theoretic transforms.
+     *
+     * @param int[] The limbs of the multiplier.
+     * @param int[] The limbs of the multiplicand.
+     * @param int The length of the transforms, a power of two not less than the limbs of the product.
+     * @return The limbs of the product, as many as the limbs of both operands.
+     */
+    private static int[] transformMultiply(int[] first, int[] second, int length)
+    {
+        int[][] residues = new int[MODULI.length][];
+
+        for (int n = 0; n < MODULI.length; n++)
+        {
+            residues[n] = MODULI[n].convolve(first, second, length);
+        }
+
+        long p1 = MODULI[0].prime;
+        long p2 = MODULI[1].prime;
+        long p3 = MODULI[2].prime;
+        long p1InverseModP2 = modPow(p1 % p2, p2 - 2, p2);
+        long p1InverseModP3 = modPow(p1 % p3, p3 - 2, p3);
+        long p2InverseModP3 = modPow(p2 % p3, p3 - 2, p3);
+        int[] result = new int[first.length + second.length];
+        long carry = 0;
+
+        for (int n = 0; n < result.length; n++)
+        {
+            // Garner's algorithm: the coefficient is v1 + p1 (v2 + p2 v3), with every vi less than pi.
+            long v1 = residues[0][n];
+            long v2 = (residues[1][n] - v1 % p2 + p2) % p2 * p1InverseModP2 % p2;
+            long v3 = ((residues[2][n] - v1 % p3 + p3) % p3 * p1InverseModP3 % p3 - v2 % p3 + p3) % p3
+                      * p2InverseModP3 % p3;
+            long high = v2 + p2 * v3;
+
+            // The coefficient exceeds a long, so p1 * high is split at the base before adding the carry.
+            long highLimb = high / BASE;
+            long low = v1 + p1 * (high - highLimb * BASE) + carry;
+            long limbCarry = low / BASE;
+            result[n] = (int) (low - limbCarry * BASE);
+            carry = limbCarry + p1 * highLimb;
+        }
+
+        return result;
+    }
+
+    // Public methods of class NttEngine.
+
+    @Override
+    public String name()
+    {
+        return "NTT";
+    }
+
+    /**
+     * This method multiplies two magnitudes with number-theoretic transforms if both are at least as
+     * long as the NTT threshold of the engine, and with Karatsuba's algorithm otherwise.
+     *
+     * @param int[] The multiplier.
+     * @param int[] The multiplicand.
+     * @return The product.
+     */
+    @Override
+    public int[] multiply(int[] multiplier, int[] multiplicand)
+    {
+        int[] result;
+        int limbs = (multiplier.length + LIMB_DIGITS - 1) / LIMB_DIGITS + (multiplicand.length + LIMB_DIGITS - 1) / LIMB_DIGITS;
+        int length = 1;
+
+        for (; length < limbs; length <<= 1)
+            ;
+
+        if (Math.min(multiplier.length, multiplicand.length) >= nttThreshold && length <= MAX_TRANSFORM_LENGTH)
+        {
+            int[] product = transformMultiply(pack(multiplier), pack(multiplicand), length);
+            result = unpack(product, product.length);
+        }
+        else
+        {
+            result = super.multiply(multiplier, multiplicand);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * Tests of the class NttEngine.
+ * 
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+public class NttEngineTest {
+
+    @Test
+    public void testTransformMultiply() {
+        Random random = new Random(3);
+        NttEngine engine = new NttEngine(ForkJoinPool.commonPool(), Integer.MAX_VALUE, 1);
+        
+        for (int n = 0; n < 200; n++) {
+            BigInteger first = new BigInteger(1 + random.nextInt(n % 10 == 0 ? 60_000 : 600), random);
+            BigInteger second = new BigInteger(1 + random.nextInt(600), random);
+            
+            assertArrayEquals(ArithmeticEngineTest.magnitude(first.multiply(second)),
+                engine.multiply(ArithmeticEngineTest.magnitude(first), ArithmeticEngineTest.magnitude(second)));
+        }
+    }
+    
+    @Test
+    public void testTransformMultiplyNines() {
+        BigInteger nines = BigInteger.TEN.pow(200_000).subtract(BigInteger.ONE);
+        NttEngine engine = new NttEngine();
+        
+        assertArrayEquals(ArithmeticEngineTest.magnitude(nines.multiply(nines)),
+            engine.multiply(ArithmeticEngineTest.magnitude(nines), ArithmeticEngineTest.magnitude(nines)));
+    }
+    
+    @Test
+    public void testShortOperands() {
+        NttEngine engine = new NttEngine();
+        
+        assertArrayEquals(new int[] {9, 8, 0, 1}, engine.multiply(new int[] {9, 9}, new int[] {1, 1}));
+        assertArrayEquals(new int[0], engine.multiply(new int[0], new int[] {7}));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveThreshold() {
+        new NttEngine(ForkJoinPool.commonPool(), 1, 0);
+    }
+}
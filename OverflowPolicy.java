@@ -0,0 +1,94 @@
+/**
+ * Policies that decide what happens when the result of an arithmetic operation of
+ * {@code HugeInteger} exceeds 40 digits.
+ *
+ * The policy can be chosen per call, with the overloads of {@code add}, {@code subtract}
+ * and {@code multiply} that take an {@code OverflowPolicy}, or per context, with
+ * {@code runWith} and {@code callWith}, which set the policy used by the overloads
+ * without one for the duration of an action in the current thread. The default policy
+ * of every thread is {@code THROW}.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.util.function.Supplier;
+
+public enum OverflowPolicy
+{
+    /**
+     * Throws an {@code ArithmeticException} when the result overflows.
+     */
+    THROW,
+
+    /**
+     * Returns {@code HugeInteger.MAX_VALUE} or {@code HugeInteger.MIN_VALUE}, according to
+     * the signum of the result, when the result overflows.
+     */
+    SATURATE,
+
+    /**
+     * Keeps the 40 least significant digits of the absolute value of the result, that is,
+     * the absolute value modulo 10^40, with the signum of the result.
+     */
+    WRAP;
+
+    /**
+     * The policy of the current context of each thread.
+     */
+    private static final ThreadLocal<OverflowPolicy> CONTEXT = ThreadLocal.withInitial(() -> THROW);
+
+    /**
+     * This static method returns the overflow policy of the current context of this thread.
+     *
+     * @return The policy used by the operations that don't take an explicit policy.
+     */
+    public static OverflowPolicy current()
+    {
+        return CONTEXT.get();
+    }
+
+    /**
+     * This static method runs the input action with the input policy as the policy of the
+     * current context of this thread. The previous policy is restored when the action ends.
+     *
+     * @param OverflowPolicy The policy to be used during the action.
+     * @param Runnable The action to run.
+     */
+    public static void runWith(OverflowPolicy policy, Runnable action)
+    {
+        callWith(policy, () ->
+        {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * This static method calls the input action with the input policy as the policy of the
+     * current context of this thread. The previous policy is restored when the action ends.
+     *
+     * @param OverflowPolicy The policy to be used during the action.
+     * @param Supplier The action to call.
+     * @return The value returned by the action.
+     */
+    public static <T> T callWith(OverflowPolicy policy, Supplier<T> action)
+    {
+        if (policy == null)
+        {
+            throw new NullPointerException("Overflow policy is null");
+        }
+
+        OverflowPolicy previous = CONTEXT.get();
+        CONTEXT.set(policy);
+
+        try
+        {
+            return action.get();
+        }
+        finally
+        {
+            CONTEXT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,337 @@
+/**
+ * An {@code ArithmeticEngine} that packs nine decimal digits in every limb, so that the kernels run
+ * in base {@code 10^9} with long arithmetic. A 40-digit operand has 5 limbs instead of 40 digits,
+ * so multiplications and divisions do about 64 times fewer limb operations than the schoolbook
+ * kernels, at the cost of packing the operands and unpacking the result. Divisions use Knuth's
+ * algorithm D, with a short division when the divisor has one limb.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.util.Arrays;
+
+public class PackedLimbEngine implements ArithmeticEngine
+{
+    static final int LIMB_DIGITS = 9;
+    static final long BASE = 1_000_000_000L;
+
+    // Methods of class PackedLimbEngine.
+
+    /**
+     * This package-private static method packs a magnitude in limbs of nine digits.
+     *
+     * @param int[] The magnitude.
+     * @return The limbs in little-endian order.
+     */
+    static int[] pack(int[] magnitude)
+    {
+        int[] result = new int[(magnitude.length + LIMB_DIGITS - 1) / LIMB_DIGITS];
+
+        for (int limb = 0; limb < result.length; limb++)
+        {
+            int value = 0;
+
+            for (int n = Math.min(magnitude.length, (limb + 1) * LIMB_DIGITS) - 1; n >= limb * LIMB_DIGITS; n--)
+            {
+                value = 10 * value + magnitude[n];
+            }
+
+            result[limb] = value;
+        }
+
+        return result;
+    }
+
+    /**
+     * This package-private static method unpacks limbs of nine digits to a magnitude without trailing zeros.
+     * The limbs are overwritten.
+     *
+     * @param int[] The limbs in little-endian order.
+     * @param int The number of limbs to unpack.
+     * @return The magnitude.
+     */
+    static int[] unpack(int[] limbs, int length)
+    {
+        for (; length > 0 && limbs[length - 1] == 0; length--)
+            ;
+
+        int digitCount = 0;
+
+        if (length > 0)
+        {
+            digitCount = LIMB_DIGITS * (length - 1);
+
+            for (int value = limbs[length - 1]; value != 0; value /= 10)
+            {
+                digitCount++;
+            }
+        }
+
+        int[] result = new int[digitCount];
+
+        for (int n = 0; n < digitCount; n++)
+        {
+            int limb = n / LIMB_DIGITS;
+            result[n] = limbs[limb] % 10;
+            limbs[limb] /= 10;
+        }
+
+        return result;
+    }
+
+    /**
+     * This package-private static method multiplies two numbers in limbs with the schoolbook algorithm.
+     *
+     * @param int[] The limbs of the multiplier.
+     * @param int[] The limbs of the multiplicand.
+     * @return The limbs of the product, as many as the limbs of both operands.
+     */
+    static int[] multiplyLimbs(int[] first, int[] second)
+    {
+        int[] product = new int[first.length + second.length];
+
+        for (int i = 0; i < second.length; i++)
+        {
+            long carry = 0;
+            long factor = second[i];
+
+            for (int j = 0; j < first.length; j++)
+            {
+                long limb = product[i + j] + first[j] * factor + carry;
+                carry = limb / BASE;
+                product[i + j] = (int) (limb - carry * BASE);
+            }
+
+            product[i + first.length] = (int) carry;
+        }
+
+        return product;
+    }
+
+    // Private methods of class PackedLimbEngine.
+
+    /**
+     * This private static method divides limbs by a one-limb divisor.
+     *
+     * @param int[] The dividend limbs. They receive the quotient.
+     * @param long The divisor, less than {@code 10^9}.
+     * @return The remainder.
+     */
+    private static long divideByLimb(int[] dividend, long divisor)
+    {
+        long remainder = 0;
+
+        for (int n = dividend.length - 1; n >= 0; n--)
+        {
+            long current = remainder * BASE + dividend[n];
+            dividend[n] = (int) (current / divisor);
+            remainder = current - dividend[n] * divisor;
+        }
+
+        return remainder;
+    }
+
+    /**
+     * This private static method multiplies limbs by a one-limb factor.
+     *
+     * @param int[] The limbs.
+     * @param long The factor, less than {@code 10^9}.
+     * @param int The length of the product, which must hold the final carry.
+     * @return The product.
+     */
+    private static int[] multiplyByLimb(int[] limbs, long factor, int length)
+    {
+        int[] result = new int[length];
+        long carry = 0;
+
+        for (int n = 0; n < limbs.length; n++)
+        {
+            long product = limbs[n] * factor + carry;
+            carry = product / BASE;
+            result[n] = (int) (product - carry * BASE);
+        }
+
+        if (carry != 0)
+        {
+            result[limbs.length] = (int) carry;
+        }
+
+        return result;
+    }
+
+    /**
+     * This private static method divides two magnitudes with Knuth's algorithm D in base {@code 10^9}.
+     *
+     * @param int[] The dividend.
+     * @param int[] The divisor, not zero.
+     * @param boolean {@code true} to return the remainder, {@code false} to return the quotient.
+     * @return The quotient or the remainder.
+     */
+    private static int[] divide(int[] dividend, int[] divisor, boolean isRemainder)
+    {
+        int[] u = pack(dividend);
+        int[] v = pack(divisor);
+        int n = v.length;
+        int[] result;
+
+        if (u.length < n)
+        {
+            result = isRemainder ? dividend.clone() : new int[0];
+        }
+        else if (n == 1)
+        {
+            long remainder = divideByLimb(u, v[0]);
+            result = isRemainder ? unpack(new int[] {(int) remainder}, 1) : unpack(u, u.length);
+        }
+        else
+        {
+            // Normalize so that the highest limb of the divisor is at least BASE / 2, which bounds
+            // the correction of every estimated quotient limb to two.
+            int m = u.length - n;
+            long factor = BASE / (v[n - 1] + 1L);
+            int[] un = multiplyByLimb(u, factor, u.length + 1);
+            int[] vn = multiplyByLimb(v, factor, n);
+            int[] quotient = new int[m + 1];
+            long high = vn[n - 1];
+            long next = vn[n - 2];
+
+            for (int j = m; j >= 0; j--)
+            {
+                long top = un[j + n] * BASE + un[j + n - 1];
+                long estimate = top / high;
+                long rest = top - estimate * high;
+
+                while (estimate >= BASE || estimate * next > rest * BASE + un[j + n - 2])
+                {
+                    estimate--;
+                    rest += high;
+
+                    if (rest >= BASE)
+                    {
+                        break;
+                    }
+                }
+
+                // Subtract estimate * divisor from the current window of the dividend.
+                long borrow = 0;
+                long carry = 0;
+
+                for (int i = 0; i < n; i++)
+                {
+                    long product = estimate * vn[i] + carry;
+                    carry = product / BASE;
+                    long difference = un[i + j] - (product - carry * BASE) - borrow;
+                    borrow = difference < 0 ? 1 : 0;
+                    un[i + j] = (int) (difference + borrow * BASE);
+                }
+
+                long difference = un[j + n] - carry - borrow;
+                borrow = difference < 0 ? 1 : 0;
+                un[j + n] = (int) (difference + borrow * BASE);
+
+                if (borrow != 0)
+                {
+                    // The estimate was one too large: add the divisor back.
+                    estimate--;
+                    long sum = 0;
+
+                    for (int i = 0; i < n; i++)
+                    {
+                        sum += un[i + j] + (long) vn[i];
+                        un[i + j] = (int) (sum % BASE);
+                        sum /= BASE;
+                    }
+
+                    un[j + n] = (int) ((un[j + n] + sum) % BASE);
+                }
+
+                quotient[j] = (int) estimate;
+            }
+
+            if (isRemainder)
+            {
+                int[] remainder = Arrays.copyOf(un, n);
+                divideByLimb(remainder, factor);
+                result = unpack(remainder, n);
+            }
+            else
+            {
+                result = unpack(quotient, m + 1);
+            }
+        }
+
+        return result;
+    }
+
+    // Public methods of class PackedLimbEngine.
+
+    @Override
+    public String name()
+    {
+        return "packed limbs";
+    }
+
+    @Override
+    public int[] add(int[] firstAddend, int[] secondAddend)
+    {
+        int[] first = pack(firstAddend);
+        int[] second = pack(secondAddend);
+
+        if (first.length < second.length)
+        {
+            int[] swap = first;
+            first = second;
+            second = swap;
+        }
+
+        int[] sum = new int[first.length + 1];
+        long carry = 0;
+
+        for (int n = 0; n < first.length; n++)
+        {
+            long limb = first[n] + (n < second.length ? second[n] : 0) + carry;
+            carry = limb >= BASE ? 1 : 0;
+            sum[n] = (int) (limb - carry * BASE);
+        }
+
+        sum[first.length] = (int) carry;
+        return unpack(sum, sum.length);
+    }
+
+    @Override
+    public int[] subtract(int[] minuend, int[] subtrahend)
+    {
+        int[] first = pack(minuend);
+        int[] second = pack(subtrahend);
+        long borrow = 0;
+
+        for (int n = 0; n < first.length; n++)
+        {
+            long limb = first[n] - (n < second.length ? second[n] : 0) - borrow;
+            borrow = limb < 0 ? 1 : 0;
+            first[n] = (int) (limb + borrow * BASE);
+        }
+
+        return unpack(first, first.length);
+    }
+
+    @Override
+    public int[] multiply(int[] multiplier, int[] multiplicand)
+    {
+        int[] product = multiplyLimbs(pack(multiplier), pack(multiplicand));
+        return unpack(product, product.length);
+    }
+
+    @Override
+    public int[] divide(int[] dividend, int[] divisor)
+    {
+        return divide(dividend, divisor, false);
+    }
+
+    @Override
+    public int[] remainder(int[] dividend, int[] divisor)
+    {
+        return divide(dividend, divisor, true);
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ * The reference {@code ArithmeticEngine}: the digit-by-digit schoolbook kernels of {@code HugeInteger},
+ * which work directly on the decimal digits with temporaries from the {@code ScratchArena}.
+ * Having no conversions, it's the fastest engine for the short operands of most operations.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+public class SchoolbookEngine implements ArithmeticEngine
+{
+    @Override
+    public String name()
+    {
+        return "schoolbook";
+    }
+
+    @Override
+    public int[] add(int[] firstAddend, int[] secondAddend)
+    {
+        return HugeInteger.intAdd(firstAddend, secondAddend);
+    }
+
+    @Override
+    public int[] subtract(int[] minuend, int[] subtrahend)
+    {
+        return HugeInteger.intSubtract(minuend, subtrahend, 1);
+    }
+
+    @Override
+    public int[] multiply(int[] multiplier, int[] multiplicand)
+    {
+        return multiplier.length == 0 || multiplicand.length == 0 ? new int[0] : HugeInteger.intMultiply(multiplier, multiplicand);
+    }
+
+    @Override
+    public int[] divide(int[] dividend, int[] divisor)
+    {
+        return HugeInteger.intDivide(dividend, divisor);
+    }
+
+    @Override
+    public int[] remainder(int[] dividend, int[] divisor)
+    {
+        return HugeInteger.intRemainder(dividend, divisor);
+    }
+}
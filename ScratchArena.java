@@ -0,0 +1,116 @@
+/**
+ * A per-thread arena of reusable int arrays for the temporary storage of the private
+ * arithmetic kernels of {@code HugeInteger}.
+ *
+ * Arrays are borrowed in stack order: a kernel takes a {@code mark()}, borrows the arrays it
+ * needs and gives them all back with {@code release(mark)} in a {@code finally} block, so the
+ * arena is reset after each operation and nested operations don't interfere. Only the final
+ * result of an operation, copied to an array of its exact length, escapes.
+ *
+ * The arena is kept in a plain {@code ThreadLocal}, never in a carrier thread, so it's safe
+ * with virtual threads: every virtual thread gets its own small arena, and arrays larger than
+ * {@code MAX_RETAINED_LENGTH} are not kept so that arenas of short-lived threads stay cheap.
+ *
+ * @author Carlos Revés
+ * @version 3.0
+ */
+
+import java.util.Arrays;
+
+final class ScratchArena
+{
+    /**
+     * The length of the largest array kept by the arena between operations.
+     */
+    private static final int MAX_RETAINED_LENGTH = 4096;
+
+    private static final ThreadLocal<ScratchArena> ARENA = ThreadLocal.withInitial(ScratchArena::new);
+
+    /**
+     * The arrays of the arena. The first {@code top} are borrowed.
+     */
+    private int[][] arrays;
+    private int top;
+
+    // Constructors for class ScratchArena.
+
+    /**
+     * This private constructor initializes an empty arena.
+     */
+    private ScratchArena()
+    {
+        arrays = new int[8][];
+        top = 0;
+    }
+
+    // Static methods of class ScratchArena.
+
+    /**
+     * This static method returns the arena of the current thread.
+     *
+     * @return The {@code ScratchArena} of the current thread.
+     */
+    static ScratchArena get()
+    {
+        return ARENA.get();
+    }
+
+    // Methods of class ScratchArena.
+
+    /**
+     * This method returns a mark of the current state of the arena, to be given to {@code release}.
+     *
+     * @return The mark.
+     */
+    int mark()
+    {
+        return top;
+    }
+
+    /**
+     * This method borrows an array filled with zeros whose length is at least the input length.
+     *
+     * @param int The minimum length of the array.
+     * @return An array filled with zeros.
+     */
+    int[] borrow(int length)
+    {
+        if (top == arrays.length)
+        {
+            arrays = Arrays.copyOf(arrays, 2 * arrays.length);
+        }
+
+        int[] array = arrays[top];
+
+        if (array == null || array.length < length)
+        {
+            array = new int[Math.max(length, 64)];
+            arrays[top] = array;
+        }
+        else
+        {
+            Arrays.fill(array, 0, length, 0);
+        }
+
+        top++;
+        return array;
+    }
+
+    /**
+     * This method gives back every array borrowed after the input mark was taken.
+     *
+     * @param int A mark returned by {@code mark()}.
+     */
+    void release(int mark)
+    {
+        for (int n = mark; n < top; n++)
+        {
+            if (arrays[n].length > MAX_RETAINED_LENGTH)
+            {
+                arrays[n] = null;
+            }
+        }
+
+        top = mark;
+    }
+}